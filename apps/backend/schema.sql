@@ -54,7 +54,8 @@ CREATE TABLE users (
     role        ENUM ('ADMIN', 'STUDENT', 'STAFF')                             NULL,
     deptNm      BIGINT                                                         NOT NULL,
     collegeNm   BIGINT                                                         NOT NULL,
-    univNm      BIGINT                                                         NOT NULL
+    univNm      BIGINT                                                         NOT NULL,
+    INDEX idx_users_univ_role_state (univNm, role, state)
 );
 
 -- scholarship
@@ -143,6 +144,9 @@ CREATE TABLE application (
     PRIMARY KEY (userNm, scholarshipNm)
 );
 
+-- 관리자 신청 목록 keyset 페이지 (applied_at DESC, userNm DESC, scholarshipNm DESC)
+CREATE INDEX idx_application_applied ON application (applied_at, userNm, scholarshipNm);
+
 -- applicationdocument
 CREATE TABLE applicationdocument (
     applicationDocumentNm BIGINT AUTO_INCREMENT            NOT NULL,
@@ -153,10 +157,13 @@ CREATE TABLE applicationdocument (
     content_type          VARCHAR(100)                     NULL,
     file_size             BIGINT                           NULL,
     checksum_sha256       VARCHAR(64)                      NULL COMMENT '파일 무결성 검증용 SHA-256 해시',
+    blob_id               BIGINT                           NULL COMMENT 'document_blob 참조 (NULL: 참조 집계 이전 업로드)',
     uploaded_at           TIMESTAMP DEFAULT CURRENT_TIMESTAMP NULL,
     PRIMARY KEY (applicationDocumentNm, userNm, scholarshipNm)
 );
 
+CREATE INDEX idx_ad_app ON applicationdocument (userNm, scholarshipNm);
+
 -- document (기존 방식으로 유지)
 CREATE TABLE document (
     DocumentNm    BIGINT       NOT NULL PRIMARY KEY,
@@ -193,10 +200,35 @@ CREATE TABLE exchange (
     exchangeNm   BIGINT                                   NOT NULL,
     userNm       VARCHAR(20)                                   NOT NULL,
     amount       INT                                      NULL,
-    state        ENUM ('PENDING', 'APPROVED', 'REJECTED') NULL,
+    state        ENUM ('PENDING', 'PROCESSING', 'APPROVED', 'REJECTED') NULL,
     applied_at   TIMESTAMP                                NULL,
     processed_at TIMESTAMP                                NULL,
-    PRIMARY KEY (exchangeNm, userNm)
+    bank_txn_no  VARCHAR(20)                              NULL COMMENT '입금 요청 기관거래고유번호 (멱등 키)',
+    PRIMARY KEY (exchangeNm, userNm),
+    INDEX idx_exchange_state_applied (state, applied_at),
+    INDEX idx_exchange_user_applied (userNm, applied_at, exchangeNm)
+);
+
+-- exchange_id_sequence (환전 번호 발급 블록 카운터, 단일 행)
+CREATE TABLE exchange_id_sequence (
+    id               TINYINT NOT NULL PRIMARY KEY,
+    next_exchange_nm BIGINT  NOT NULL
+);
+INSERT INTO exchange_id_sequence (id, next_exchange_nm) VALUES (1, 1);
+
+-- document_blob (MyBox/신청 서류가 공유하는 저장소 객체, 참조 수가 0 이 되면 객체 삭제)
+-- checksum_sha256 은 서버가 직접 계산한 경우에만 채운다 (같은 사용자의 같은 내용은 업로드 없이 재사용)
+CREATE TABLE document_blob (
+    id              BIGINT AUTO_INCREMENT                  NOT NULL PRIMARY KEY,
+    user_nm         VARCHAR(20)                            NOT NULL,
+    checksum_sha256 CHAR(64)                               NULL,
+    object_key_enc  VARBINARY(512)                         NOT NULL,
+    size_bytes      BIGINT                                 NULL,
+    s3_etag         VARCHAR(80)                            NULL,
+    ref_count       INT DEFAULT 0                          NOT NULL,
+    created_at      DATETIME DEFAULT CURRENT_TIMESTAMP     NOT NULL,
+    updated_at      DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NULL,
+    UNIQUE KEY uk_document_blob_checksum (user_nm, checksum_sha256)
 );
 
 -- mybox
@@ -208,6 +240,7 @@ CREATE TABLE mybox (
     content_type    VARCHAR(100)                           NULL,
     size_bytes      BIGINT                                 NULL,
     checksum_sha256 CHAR(64)                               NULL,
+    blob_id         BIGINT                                 NULL COMMENT 'document_blob 참조 (NULL: 참조 집계 이전 업로드)',
     created_at      DATETIME DEFAULT CURRENT_TIMESTAMP     NOT NULL,
     updated_at      DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NULL
 );
@@ -217,7 +250,7 @@ CREATE TABLE mybox_audit (
     id              BIGINT AUTO_INCREMENT                  NOT NULL PRIMARY KEY,
     mybox_id        BIGINT                                 NOT NULL,
     actor_userNm    VARCHAR(20)                            NULL,
-    action          ENUM ('CREATE', 'DOWNLOAD_URL_ISSUED', 'DELETE') NULL,
+    action          ENUM ('CREATE', 'DOWNLOAD_URL_ISSUED', 'DOWNLOAD', 'DELETE') NULL,
     object_key_enc  VARBINARY(512)                         NULL,
     file_name_enc   VARBINARY(512)                         NULL,
     size_bytes      BIGINT                                 NULL,
@@ -276,14 +309,154 @@ CREATE TABLE notification (
     related_id    BIGINT UNSIGNED                           NULL,
     is_read       BOOLEAN                                   NULL DEFAULT FALSE,
     action_route  VARCHAR(255)                              NULL,
+    dedup_key     VARCHAR(100)                              NULL,
     created_at    DATETIME DEFAULT CURRENT_TIMESTAMP        NOT NULL,
     updated_at    DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NULL,
-    INDEX idx_user_nm (user_nm),
-    INDEX idx_type (type),
-    INDEX idx_is_read (is_read),
+    UNIQUE KEY uk_notification_dedup (user_nm, dedup_key),
+    INDEX idx_notification_user_created (user_nm, created_at, id),
+    INDEX idx_notification_user_read_created (user_nm, is_read, created_at, id),
+    INDEX idx_notification_type_read_created (type, is_read, created_at),
     INDEX idx_created_at (created_at)
 ) CHARSET = utf8mb4;
 
+-- notification_archive (보존 기간이 지난 알림 보관, 압축 행 형식)
+CREATE TABLE notification_archive (
+    id            BIGINT UNSIGNED                           NOT NULL PRIMARY KEY,
+    user_nm       VARCHAR(20)                               NOT NULL,
+    type          ENUM('SCHOLARSHIP_RESULT', 'DEADLINE_REMINDER', 'NEW_SCHOLARSHIP', 'SCHOLARSHIP', 'SCHEDULE') NOT NULL,
+    title         VARCHAR(255)                              NOT NULL,
+    message       TEXT                                      NOT NULL,
+    related_id    BIGINT UNSIGNED                           NULL,
+    is_read       BOOLEAN                                   NULL,
+    action_route  VARCHAR(255)                              NULL,
+    dedup_key     VARCHAR(100)                              NULL,
+    created_at    DATETIME                                  NOT NULL,
+    updated_at    DATETIME                                  NULL,
+    archived_at   DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL,
+    INDEX idx_notification_archive_user (user_nm, created_at)
+) CHARSET = utf8mb4 ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+
+-- broadcast_notification (전체 사용자 공지, 사용자별 행 없이 조회 시점에 개인 알림과 합침)
+CREATE TABLE broadcast_notification (
+    id            BIGINT UNSIGNED AUTO_INCREMENT            NOT NULL PRIMARY KEY,
+    type          ENUM('SCHOLARSHIP_RESULT', 'DEADLINE_REMINDER', 'NEW_SCHOLARSHIP', 'SCHOLARSHIP', 'SCHEDULE') NOT NULL,
+    title         VARCHAR(255)                              NOT NULL,
+    message       TEXT                                      NOT NULL,
+    related_id    BIGINT UNSIGNED                           NULL,
+    action_route  VARCHAR(255)                              NULL,
+    dedup_key     VARCHAR(100)                              NOT NULL,
+    created_at    DATETIME DEFAULT CURRENT_TIMESTAMP        NOT NULL,
+    UNIQUE KEY uk_broadcast_dedup_key (dedup_key),
+    INDEX idx_broadcast_created (created_at, id)
+) CHARSET = utf8mb4;
+
+-- broadcast_read_watermark (모두 읽음 처리 시점의 최신 공지 ID, 이하 공지는 읽음)
+CREATE TABLE broadcast_read_watermark (
+    user_nm       VARCHAR(20)     NOT NULL PRIMARY KEY,
+    last_read_id  BIGINT UNSIGNED NOT NULL DEFAULT 0
+) CHARSET = utf8mb4;
+
+-- broadcast_receipt (워터마크 위 공지의 개별 읽음/숨김)
+CREATE TABLE broadcast_receipt (
+    user_nm       VARCHAR(20)                               NOT NULL,
+    broadcast_id  BIGINT UNSIGNED                           NOT NULL,
+    hidden        BOOLEAN DEFAULT FALSE                     NOT NULL,
+    created_at    DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL,
+    PRIMARY KEY (user_nm, broadcast_id),
+    INDEX idx_broadcast_receipt_broadcast (broadcast_id)
+) CHARSET = utf8mb4;
+
+-- notification_unread_counter (사용자별 읽지 않은 알림 수, 알림 변경과 같은 트랜잭션에서 갱신)
+CREATE TABLE notification_unread_counter (
+    user_nm      VARCHAR(20) NOT NULL PRIMARY KEY,
+    unread_count INT         NOT NULL DEFAULT 0,
+    updated_at   DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3)
+) CHARSET = utf8mb4;
+
+-- notification_outbox (WebSocket 전송 대기열)
+CREATE TABLE notification_outbox (
+    id              BIGINT UNSIGNED AUTO_INCREMENT            NOT NULL PRIMARY KEY,
+    destination     VARCHAR(255)                              NOT NULL,
+    user_nm         VARCHAR(20)                               NULL,
+    payload         TEXT                                      NOT NULL,
+    status          ENUM('PENDING', 'SENT', 'FAILED')         NOT NULL DEFAULT 'PENDING',
+    attempts        INT                                       NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL,
+    last_error      VARCHAR(500)                              NULL,
+    created_at      DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL,
+    sent_at         DATETIME(3)                               NULL,
+    INDEX idx_outbox_status_next (status, next_attempt_at)
+) CHARSET = utf8mb4;
+
+-- websocket_bus_message (db-bus 모드 인스턴스 간 WebSocket 메시지, 모든 인스턴스가 id 순으로 폴링)
+CREATE TABLE websocket_bus_message (
+    id              BIGINT UNSIGNED AUTO_INCREMENT            NOT NULL PRIMARY KEY,
+    destination     VARCHAR(255)                              NOT NULL,
+    user_nm         VARCHAR(20)                               NULL,
+    payload         TEXT                                      NOT NULL,
+    created_at      DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL,
+    INDEX idx_websocket_bus_created (created_at)
+) CHARSET = utf8mb4;
+
+-- scheduled_job (스케줄 작업 레지스트리 + 클러스터 단일 실행 리스)
+CREATE TABLE scheduled_job (
+    job_name         VARCHAR(100)                              NOT NULL PRIMARY KEY,
+    owner            VARCHAR(100)                              NULL,
+    lease_until      DATETIME(3)                               NULL,
+    last_started_at  DATETIME(3)                               NULL,
+    last_finished_at DATETIME(3)                               NULL,
+    last_status      VARCHAR(20)                               NULL,
+    last_error       VARCHAR(500)                              NULL,
+    last_duration_ms BIGINT                                    NULL
+) CHARSET = utf8mb4;
+
+-- cache_version (인스턴스 간 캐시 무효화 버전)
+CREATE TABLE cache_version (
+    cache_name VARCHAR(50) NOT NULL PRIMARY KEY,
+    version    BIGINT      NOT NULL DEFAULT 0,
+    updated_at DATETIME(3) NOT NULL
+) CHARSET = utf8mb4;
+
+-- bank_provisioning_job (회원가입 후 신한은행 회원/계좌 생성 작업 큐)
+CREATE TABLE bank_provisioning_job (
+    id              BIGINT UNSIGNED AUTO_INCREMENT                          NOT NULL PRIMARY KEY,
+    user_nm         VARCHAR(20)                                             NOT NULL,
+    user_id         VARCHAR(100)                                            NOT NULL,
+    status          ENUM('PENDING', 'RUNNING', 'DONE', 'FAILED')            NOT NULL DEFAULT 'PENDING',
+    attempts        INT                                                     NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(3)                                             NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    lease_until     DATETIME(3)                                             NULL,
+    user_key        VARCHAR(100)                                            NULL COMMENT '회원 생성 단계 결과',
+    account_no      VARCHAR(50)                                             NULL COMMENT '계좌 생성 단계 결과',
+    last_error      VARCHAR(500)                                            NULL,
+    created_at      DATETIME(3)                                             NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    finished_at     DATETIME(3)                                             NULL,
+    UNIQUE KEY uk_bank_provisioning_user (user_nm),
+    INDEX idx_bank_provisioning_status_next (status, next_attempt_at)
+) CHARSET = utf8mb4;
+
+-- mileage_ledger (마일리지 변동 원장, 추가만 함)
+CREATE TABLE mileage_ledger (
+    id         BIGINT UNSIGNED AUTO_INCREMENT                                                                NOT NULL PRIMARY KEY,
+    user_nm    VARCHAR(20)                                                                                   NOT NULL,
+    entry_type ENUM('EARN', 'EXCHANGE_HOLD', 'EXCHANGE_APPROVE', 'EXCHANGE_RELEASE', 'EXCHANGE_PAYOUT')     NOT NULL,
+    amount     INT                                                                                           NOT NULL,
+    ref_id     VARCHAR(40)                                                                                   NOT NULL COMMENT '마일리지 key 또는 exchangeNm',
+    created_at DATETIME(3)                                                                                   NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    UNIQUE KEY uk_mileage_ledger_ref (entry_type, ref_id, user_nm),
+    INDEX idx_mileage_ledger_user (user_nm, id)
+) CHARSET = utf8mb4;
+
+-- mileage_balance (사용자별 마일리지 잔액, 원장 기록과 같은 트랜잭션에서 갱신)
+CREATE TABLE mileage_balance (
+    user_nm       VARCHAR(20) NOT NULL PRIMARY KEY,
+    total         INT         NOT NULL DEFAULT 0 COMMENT '누적 적립',
+    pending       INT         NOT NULL DEFAULT 0 COMMENT '환전 대기/진행 중',
+    approved      INT         NOT NULL DEFAULT 0 COMMENT '환전 완료',
+    updated_at    DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+    reconciled_at DATETIME(3) NULL COMMENT '마지막 대사 시각'
+) CHARSET = utf8mb4;
+
 -- scholarship_bookmark
 CREATE TABLE scholarship_bookmark (
     id             BIGINT UNSIGNED AUTO_INCREMENT           NOT NULL PRIMARY KEY,
@@ -0,0 +1,77 @@
+package com.solsol.heycalendar.common;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solsol.heycalendar.domain.PaymentMethod;
+import com.solsol.heycalendar.domain.RecruitmentStatus;
+import com.solsol.heycalendar.domain.ScholarshipType;
+import com.solsol.heycalendar.dto.response.ScholarshipResponse;
+
+/**
+ * 장학금 목록 응답(ApiResponse&lt;List&lt;ScholarshipResponse&gt;&gt;) JSON 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+	@Param({"20", "500"})
+	public int size;
+
+	private ObjectMapper objectMapper;
+	private ApiResponse<List<ScholarshipResponse>> response;
+
+	@Setup
+	public void setUp() {
+		// 스프링 MVC 기본 설정과 같은 ObjectMapper
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		LocalDate today = LocalDate.now();
+		List<ScholarshipResponse> list = new ArrayList<>(size);
+		for (long id = 1; id <= size; id++) {
+			list.add(ScholarshipResponse.builder()
+				.id(id)
+				.scholarshipName("2025 성적우수 장학금 " + id)
+				.description("직전 학기 성적 우수자를 대상으로 하는 교내 장학금입니다. ".repeat(8))
+				.type(ScholarshipType.ACADEMIC)
+				.amount(1_500_000)
+				.numberOfRecipients(30)
+				.paymentMethod(PaymentMethod.LUMP_SUM)
+				.recruitmentStartDate(today.minusDays(10))
+				.recruitmentEndDate(today.plusDays(id % 40))
+				.recruitmentStatus(RecruitmentStatus.OPEN)
+				.category("성적우수")
+				.createdBy("admin")
+				.createdAt(LocalDateTime.now())
+				.updatedAt(LocalDateTime.now())
+				.build());
+		}
+		response = new ApiResponse<>(true, "OK", "OK", list);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws Exception {
+		return objectMapper.writeValueAsBytes(response);
+	}
+}
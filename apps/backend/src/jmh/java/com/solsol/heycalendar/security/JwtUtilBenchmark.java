@@ -0,0 +1,79 @@
+package com.solsol.heycalendar.security;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.solsol.heycalendar.config.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 인증 필터 경로의 토큰 파싱/검증 비용 (요청마다 실행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	private JwtUtil jwtUtil;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		JwtProperties props = new JwtProperties();
+		props.getJwt().setIssuer("heycalendar");
+		props.getJwt().setSecret("ThisIsAStrongSecretKey_ForHS256_AtLeast32Bytes_Long_2025_heycalendar");
+		props.getJwt().setAccessExpMin(30);
+		props.getJwt().setRefreshExpDays(7);
+
+		jwtUtil = new JwtUtil(props);
+		jwtUtil.init();
+
+		// AuthTokenService.createAccessToken 과 같은 클레임 구성
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("userId", "alice");
+		claims.put("userName", "홍길동");
+		claims.put("userNm", "20250001");
+		claims.put("role", "STUDENT");
+		claims.put("typ", "access");
+		claims.put("grade", 3);
+		claims.put("univName", "서울대학교");
+		claims.put("collegeName", "공과대학");
+		claims.put("deptName", "컴퓨터공학과");
+
+		Instant now = Instant.now();
+		accessToken = jwtUtil.sign("20250001", claims, Date.from(now), Date.from(now.plusSeconds(3600)));
+	}
+
+	@Benchmark
+	public Claims parse() {
+		return jwtUtil.parse(accessToken).getPayload();
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtUtil.validateToken(accessToken);
+	}
+
+	@Benchmark
+	public CustomUserPrincipal parseAccessTokenToPrincipal() {
+		return CustomUserPrincipal.fromClaims(jwtUtil.parseAccessToken(accessToken));
+	}
+}
@@ -0,0 +1,77 @@
+package com.solsol.heycalendar.service;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.solsol.heycalendar.dto.response.ApplicationResponse;
+import com.solsol.heycalendar.entity.Application;
+import com.solsol.heycalendar.entity.ApplicationState;
+import com.solsol.heycalendar.mapper.ApplicationDocumentMapper;
+import com.solsol.heycalendar.mapper.DocumentBlobMapper;
+
+/**
+ * 신청 목록 DTO 변환과 파일 크기 표시 비용 (문서 수 조회는 고정값 스텁)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationServiceBenchmark {
+
+	private ApplicationService applicationService;
+	private Application application;
+
+	@Setup
+	public void setUp() {
+		ApplicationDocumentMapper documentMapper = (ApplicationDocumentMapper) Proxy.newProxyInstance(
+			ApplicationDocumentMapper.class.getClassLoader(),
+			new Class<?>[] {ApplicationDocumentMapper.class},
+			(proxy, method, args) -> method.getReturnType() == int.class ? 2 : null);
+		DocumentBlobMapper blobMapper = (DocumentBlobMapper) Proxy.newProxyInstance(
+			DocumentBlobMapper.class.getClassLoader(),
+			new Class<?>[] {DocumentBlobMapper.class},
+			(proxy, method, args) -> method.getReturnType() == int.class ? 1 : null);
+		DocumentBlobService documentBlobService = new DocumentBlobService(blobMapper, null, null);
+
+		applicationService = new ApplicationService(null, documentMapper, null, null, null, null, documentBlobService);
+		application = Application.builder()
+			.userNm("20250001")
+			.scholarshipNm("7")
+			.state(ApplicationState.PENDING)
+			.appliedAt(LocalDateTime.now())
+			.reason("신청 사유")
+			.build();
+	}
+
+	@Benchmark
+	public ApplicationResponse convertToApplicationResponse() {
+		return applicationService.convertToApplicationResponse(application);
+	}
+
+	@Benchmark
+	public String formatFileSize(FileSize state) {
+		return ApplicationService.formatFileSize(state.fileSize);
+	}
+
+	@State(Scope.Benchmark)
+	public static class FileSize {
+
+		@Param({"512", "3145728", "5368709120"})
+		public long fileSize;
+	}
+}
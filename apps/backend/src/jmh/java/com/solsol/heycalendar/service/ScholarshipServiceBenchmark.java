@@ -0,0 +1,82 @@
+package com.solsol.heycalendar.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.solsol.heycalendar.domain.PaymentMethod;
+import com.solsol.heycalendar.domain.RecruitmentStatus;
+import com.solsol.heycalendar.domain.Scholarship;
+import com.solsol.heycalendar.domain.ScholarshipType;
+import com.solsol.heycalendar.dto.response.ScholarshipResponse;
+
+/**
+ * 장학금 요약/상세 DTO 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScholarshipServiceBenchmark {
+
+	private ScholarshipService scholarshipService;
+	private Scholarship scholarship;
+	private LocalDate today;
+	private String requiredDocumentsJson;
+
+	@Setup
+	public void setUp() {
+		// DTO 변환만 측정하므로 DB 의존성은 사용하지 않는다
+		scholarshipService = new ScholarshipService(null, null, null, null, null);
+		today = LocalDate.now();
+		scholarship = sampleScholarship(1L, today);
+		requiredDocumentsJson = "["
+			+ "{\"name\":\"성적증명서\",\"keywords\":[\"성적\",\"증명서\",\"transcript\"],\"required\":true},"
+			+ "{\"name\":\"재학증명서\",\"keywords\":[\"재학\",\"증명서\"],\"required\":true},"
+			+ "{\"name\":\"가족관계증명서\",\"keywords\":[\"가족\",\"관계\"],\"required\":false}"
+			+ "]";
+	}
+
+	@Benchmark
+	public ScholarshipResponse toSummaryResponse() {
+		return ScholarshipService.toSummaryResponse(scholarship, today);
+	}
+
+	@Benchmark
+	public List<ScholarshipResponse.RequiredDocumentDto> parseRequiredDocuments() {
+		return scholarshipService.parseRequiredDocuments(requiredDocumentsJson);
+	}
+
+	static Scholarship sampleScholarship(Long id, LocalDate today) {
+		return Scholarship.builder()
+			.id(id)
+			.scholarshipName("2025 성적우수 장학금 " + id)
+			.description("직전 학기 성적 우수자를 대상으로 하는 교내 장학금입니다. ".repeat(8))
+			.type(ScholarshipType.ACADEMIC)
+			.amount(1_500_000)
+			.numberOfRecipients(30)
+			.paymentMethod(PaymentMethod.LUMP_SUM)
+			.recruitmentStartDate(today.minusDays(10))
+			.recruitmentEndDate(today.plusDays(id % 40 - 10))
+			.recruitmentStatus(RecruitmentStatus.OPEN)
+			.category("성적우수")
+			.createdBy("admin")
+			.createdAt(LocalDateTime.now().minusDays(id))
+			.updatedAt(LocalDateTime.now())
+			.build();
+	}
+}
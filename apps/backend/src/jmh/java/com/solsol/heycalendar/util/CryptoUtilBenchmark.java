@@ -0,0 +1,78 @@
+package com.solsol.heycalendar.util;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 파일명/ObjectKey 암복호화 비용 (문서 목록 조회 시 건마다 실행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CryptoUtilBenchmark {
+
+	private CryptoUtil cryptoUtil;
+	private String plainText;
+	private String encrypted;
+	private byte[] encryptedBytes;
+	// 문서 목록 한 페이지 분량
+	private List<byte[]> encryptedPage;
+
+	@Setup
+	public void setUp() {
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		cryptoUtil = new CryptoUtil(Base64.getEncoder().encodeToString(key), new SimpleMeterRegistry());
+
+		plainText = "documents/20250001/7/3f2b9c1e-4a6d-4f0e-9b1a-2c3d4e5f6a7b_성적증명서.pdf";
+		encrypted = cryptoUtil.encrypt(plainText);
+		encryptedBytes = cryptoUtil.encryptToBytes(plainText);
+		encryptedPage = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			encryptedPage.add(cryptoUtil.encryptToBytes(plainText + i));
+		}
+	}
+
+	@Benchmark
+	public String encrypt() {
+		return cryptoUtil.encrypt(plainText);
+	}
+
+	@Benchmark
+	public String decrypt() {
+		return cryptoUtil.decrypt(encrypted);
+	}
+
+	@Benchmark
+	public byte[] encryptToBytes() {
+		return cryptoUtil.encryptToBytes(plainText);
+	}
+
+	@Benchmark
+	public String decryptBytes() {
+		return cryptoUtil.decryptBytes(encryptedBytes);
+	}
+
+	@Benchmark
+	public List<String> decryptAllPage() {
+		return cryptoUtil.decryptAll(encryptedPage);
+	}
+}
@@ -0,0 +1,78 @@
+package com.solsol.heycalendar.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.solsol.heycalendar.logging.MdcTaskDecorator;
+
+/**
+ * 비동기 작업용 실행기 설정.
+ * 요청 스레드에서 떼어내야 하는 알림 팬아웃 등은 notificationExecutor 에서 실행한다.
+ * 회원가입 후 신한은행 회원/계좌 생성은 bankProvisioningExecutor 에서 실행한다.
+ * 관리자 일괄 환전의 건별 입금은 settlementExecutor 에서 실행한다.
+ * 모든 실행기는 호출 스레드의 MDC(requestId)를 작업 스레드로 넘긴다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+	@Bean(name = "notificationExecutor")
+	public ThreadPoolTaskExecutor notificationExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("notification-");
+		// 큐가 가득 차면 호출 스레드에서 실행해 알림이 유실되지 않도록 한다
+		executor.setTaskDecorator(new MdcTaskDecorator());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 은행 연동 작업 워커. 작업은 빈 워커 수만큼만 가져오므로 큐에 오래 머무르지 않는다.
+	 */
+	@Bean(name = "bankProvisioningExecutor")
+	public ThreadPoolTaskExecutor bankProvisioningExecutor(
+			@Value("${bank.provisioning.workers:4}") int workers) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(workers);
+		executor.setThreadNamePrefix("bank-provisioning-");
+		executor.setTaskDecorator(new MdcTaskDecorator());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 일괄 환전 입금 워커. 스레드 수가 곧 은행 입금 동시 호출 수이므로
+	 * shinhan.client.max-concurrent-calls 보다 작게 둔다.
+	 */
+	@Bean(name = "settlementExecutor")
+	public ThreadPoolTaskExecutor settlementExecutor(
+			@Value("${exchange.settlement.concurrency:6}") int concurrency) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(concurrency);
+		executor.setMaxPoolSize(concurrency);
+		executor.setQueueCapacity(1000);
+		executor.setThreadNamePrefix("settlement-");
+		executor.setTaskDecorator(new MdcTaskDecorator());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+}
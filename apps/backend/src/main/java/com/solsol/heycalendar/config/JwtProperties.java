@@ -14,6 +14,7 @@ public class JwtProperties {
 
 	private Jwt jwt = new Jwt();
 	private Cors cors = new Cors();
+	private PrincipalCache principalCache = new PrincipalCache();
 
 	@Getter
 	@Setter
@@ -35,4 +36,17 @@ public class JwtProperties {
 	public static class Cors {
 		private String allowedOrigins;
 	}
+
+	/**
+	 * 인증 필터의 사용자 정보 캐시.
+	 * 비활성화하면 매 요청 토큰 클레임만으로 사용자 정보를 만들고(DB 조회 없음),
+	 * 활성화하면 DB 에서 읽은 사용자 정보를 ttl 동안 재사용해 권한/비밀번호 변경을 반영한다.
+	 */
+	@Getter
+	@Setter
+	public static class PrincipalCache {
+		private boolean enabled = true;
+		private int ttlSeconds = 300;
+		private int maxEntries = 10000;
+	}
 }
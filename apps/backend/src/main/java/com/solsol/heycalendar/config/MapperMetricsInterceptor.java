@@ -0,0 +1,68 @@
+package com.solsol.heycalendar.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 모든 *Mapper 호출 시간 측정 (mybatis.mapper{mapper, method, command, outcome}).
+ * 매퍼 메서드 수만큼만 태그 조합이 생기므로 Timer 는 구문 ID 별로 한 번 만들어 재사용한다.
+ */
+@Intercepts({
+	@Signature(type = Executor.class, method = "query",
+		args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+	@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+	static final String METRIC_NAME = "mybatis.mapper";
+
+	private final MeterRegistry registry;
+	private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+	private final Map<String, Timer> errorTimers = new ConcurrentHashMap<>();
+
+	public MapperMetricsInterceptor(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+		long startedAt = System.nanoTime();
+		try {
+			Object result = invocation.proceed();
+			timer(successTimers, statement, "SUCCESS").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			return result;
+		} catch (Throwable e) {
+			timer(errorTimers, statement, "ERROR").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			throw e;
+		}
+	}
+
+	private Timer timer(Map<String, Timer> timers, MappedStatement statement, String outcome) {
+		return timers.computeIfAbsent(statement.getId(), id -> {
+			// com.solsol.heycalendar.mapper.UserMapper.findByUserNm -> UserMapper / findByUserNm
+			int methodDot = id.lastIndexOf('.');
+			String namespace = methodDot < 0 ? "" : id.substring(0, methodDot);
+			return Timer.builder(METRIC_NAME)
+				.description("MyBatis 매퍼 호출 시간")
+				.tag("mapper", namespace.substring(namespace.lastIndexOf('.') + 1))
+				.tag("method", id.substring(methodDot + 1))
+				.tag("command", statement.getSqlCommandType().name())
+				.tag("outcome", outcome)
+				.register(registry);
+		});
+	}
+}
@@ -0,0 +1,42 @@
+package com.solsol.heycalendar.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.solsol.heycalendar.logging.CategoryRateLimitFilter;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer 계측 설정 (/actuator/prometheus).
+ * 매퍼 호출은 MyBatis 인터셉터로, @Timed 가 붙은 빈 메서드는 TimedAspect 로 측정한다.
+ * HikariCP 풀, JVM, HTTP 요청, @Scheduled 실행 시간은 Spring Boot 자동 계측을 쓴다.
+ * 백분위 히스토그램 대상은 application.properties 의 management.metrics.distribution 설정으로 정한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry registry) {
+		return new TimedAspect(registry);
+	}
+
+	/**
+	 * 카테고리별 초당 제한으로 버린 로그 건수
+	 */
+	@Bean
+	public MeterBinder loggingMetrics() {
+		return registry -> FunctionCounter.builder("logging.events.rate.limited", CategoryRateLimitFilter.class,
+				type -> CategoryRateLimitFilter.droppedCount())
+			.description("카테고리별 초당 제한으로 버린 로그 건수")
+			.register(registry);
+	}
+
+	@Bean
+	public MapperMetricsInterceptor mapperMetricsInterceptor(MeterRegistry registry) {
+		return new MapperMetricsInterceptor(registry);
+	}
+}
@@ -0,0 +1,44 @@
+package com.solsol.heycalendar.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.solsol.heycalendar.domain.NotificationType;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 알림 보존 기간 정책 (타입별 읽은/읽지 않은 알림 보존 일수, 배치 크기)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.retention")
+public class NotificationRetentionProperties {
+
+	private boolean enabled = true;
+
+	// 한 트랜잭션에서 보관/삭제할 행 수 (행 잠금 시간 상한)
+	private int batchSize = 500;
+	// 배치 사이 대기 - 알림 쓰기와 복제 지연에 여유를 준다
+	private long batchPauseMs = 50;
+
+	// 같은 장학금의 더 최신 마감임박 알림이 있으면 이 일수가 지난 이전 알림을 정리 (0 이면 끔)
+	private int compactRemindersAfterDays = 3;
+
+	// 타입별 정책 (없는 타입은 보존)
+	private Map<NotificationType, Policy> policies = new EnumMap<>(NotificationType.class);
+
+	@Getter
+	@Setter
+	public static class Policy {
+		// 읽은 알림 보존 일수 (null 이면 보존)
+		private Integer readDays;
+		// 읽지 않은 알림 보존 일수 (null 이면 보존)
+		private Integer unreadDays;
+	}
+}
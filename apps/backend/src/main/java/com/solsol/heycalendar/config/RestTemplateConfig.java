@@ -2,13 +2,21 @@ package com.solsol.heycalendar.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 범용 RestTemplate (헬스체크 등). 신한은행 API 호출은 커넥션 풀을 쓰는 ShinhanBankClient 를 사용한다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
     public RestTemplate restTemplate() {
-        return new RestTemplate();
+        // 타임아웃이 없으면 느린 외부 서버가 요청 스레드를 무기한 붙잡는다
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(3000);
+        factory.setReadTimeout(5000);
+        return new RestTemplate(factory);
     }
-}
\ No newline at end of file
+}
@@ -46,12 +46,14 @@ public class SecurityConfig {
 				.requestMatchers("/api/public/**").permitAll()
 				.requestMatchers("/api/universities").permitAll()
 				.requestMatchers("/api/scholarships", "/api/scholarships/**").permitAll()
+				.requestMatchers("/api/applications/admin/**").hasRole("ADMIN") // 관리자 목록/서류 presigned URL (아래 permitAll 보다 먼저)
 				.requestMatchers("/api/applications", "/api/applications/**").permitAll() // Admin 페이지가 접근할 수 있도록 허용
 				.requestMatchers("/ws/**").permitAll() // WebSocket endpoints
 				.requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
 				.requestMatchers("/v3/api-docs/**", "/api-docs/**").permitAll()
 				.requestMatchers("/swagger-ui/index.html").permitAll()
-				.requestMatchers("/actuator/health").permitAll()
+				.requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+				.requestMatchers("/actuator/prometheus").permitAll() // 내부망 Prometheus 스크레이프 (외부 노출은 게이트웨이에서 차단)
 				.requestMatchers("/api/admin/**").hasRole("ADMIN")
 				.requestMatchers("/api/student/**").hasRole("STUDENT")
 				.requestMatchers("/api/staff/**").hasRole("STAFF")
@@ -0,0 +1,42 @@
+package com.solsol.heycalendar.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 신한은행 API HTTP 클라이언트 설정 (커넥션 풀, 타임아웃, 동시 호출 제한)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shinhan.client")
+public class ShinhanClientProperties {
+
+	private String baseUrl = "https://finopenapi.ssafy.io";
+
+	private int connectTimeoutMs = 2000;
+	// 풀에서 커넥션을 빌릴 때 최대 대기
+	private int connectionRequestTimeoutMs = 1000;
+	// API 별 설정이 없을 때 응답 대기
+	private int readTimeoutMs = 5000;
+	// API 이름(apiName) 별 응답 대기 (예: createDemandDepositAccount=10000)
+	private Map<String, Integer> readTimeouts = new HashMap<>();
+
+	private int maxConnections = 20;
+	private int idleEvictSeconds = 30;
+
+	// 동시에 진행할 수 있는 은행 호출 수 (bulkhead)
+	private int maxConcurrentCalls = 10;
+	// 동시 호출 한도가 찼을 때 자리를 기다리는 시간
+	private int bulkheadWaitMs = 200;
+
+	public int readTimeoutFor(String apiName) {
+		return readTimeouts.getOrDefault(apiName, readTimeoutMs);
+	}
+}
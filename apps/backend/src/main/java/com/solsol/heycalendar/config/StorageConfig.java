@@ -0,0 +1,28 @@
+package com.solsol.heycalendar.config;
+
+import com.solsol.heycalendar.storage.LocalObjectStorage;
+import com.solsol.heycalendar.storage.ObjectStorage;
+import com.solsol.heycalendar.storage.S3ObjectStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.nio.file.Path;
+
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "storage", name = "mode", havingValue = "s3", matchIfMissing = true)
+    public ObjectStorage s3ObjectStorage(S3Client s3Client, @Value("${AWS_S3_BUCKET}") String bucketName) {
+        return new S3ObjectStorage(s3Client, bucketName);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "storage", name = "mode", havingValue = "local")
+    public ObjectStorage localObjectStorage(StorageProperties properties) {
+        return new LocalObjectStorage(Path.of(properties.getLocal().getRoot()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.solsol.heycalendar.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 서류 객체 저장소와 업로드/다운로드 프록시 설정.
+ *
+ * s3: AWS S3 (AWS_S3_BUCKET)
+ * local: 로컬 파일시스템 대체 저장소 - S3 없이 프록시 업로드/다운로드를 개발/테스트할 때
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage")
+public class StorageProperties {
+
+	public enum Mode { S3, LOCAL }
+
+	private Mode mode = Mode.S3;
+
+	private final Local local = new Local();
+	private final Proxy proxy = new Proxy();
+
+	@Getter
+	@Setter
+	public static class Local {
+		private String root = "./data/object-storage";
+	}
+
+	@Getter
+	@Setter
+	public static class Proxy {
+		// 멀티파트 파트 크기 = 요청 하나가 잡는 direct 버퍼 크기 (S3 는 5MB 미만이면 5MB 로 올린다)
+		private DataSize partSize = DataSize.ofMegabytes(8);
+		// 동시에 진행할 수 있는 프록시 업로드 수 (버퍼 풀 크기, 최대 off-heap 사용량 = partSize x buffers)
+		private int buffers = 8;
+		// 버퍼가 모두 사용 중일 때 기다리는 시간
+		private long bufferWaitMs = 2000;
+	}
+}
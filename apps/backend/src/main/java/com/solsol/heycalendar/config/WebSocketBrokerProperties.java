@@ -0,0 +1,67 @@
+package com.solsol.heycalendar.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * STOMP 브로커 모드와 하트비트/채널 스레드 풀 설정.
+ *
+ * simple: JVM 안 메모리 브로커 (단일 인스턴스)
+ * relay: 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등)로 중계 - 인스턴스 수와 관계없이 전달
+ * db-bus: 메모리 브로커 + DB 메시지 버스 - 모든 인스턴스가 버스를 폴링해 자기 세션에 전달 (외부 브로커 대체용)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "websocket.broker")
+public class WebSocketBrokerProperties {
+
+	public enum Mode { SIMPLE, RELAY, DB_BUS }
+
+	private Mode mode = Mode.SIMPLE;
+
+	// 서버 -> 클라이언트 / 클라이언트 -> 서버 하트비트 간격 (0 이면 끔)
+	private long heartbeatSendMs = 10000;
+	private long heartbeatReceiveMs = 10000;
+
+	private final Relay relay = new Relay();
+	private final ChannelPool inbound = new ChannelPool();
+	private final ChannelPool outbound = new ChannelPool();
+	private final Bus bus = new Bus();
+
+	@Getter
+	@Setter
+	public static class Relay {
+		private String host = "localhost";
+		private int port = 61613;
+		private String virtualHost;
+		// 클라이언트 연결마다 브로커에 여는 세션 계정
+		private String clientLogin = "guest";
+		private String clientPasscode = "guest";
+		// 서버가 메시지를 발행할 때 쓰는 공유 시스템 세션 계정
+		private String systemLogin = "guest";
+		private String systemPasscode = "guest";
+	}
+
+	@Getter
+	@Setter
+	public static class ChannelPool {
+		private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+		private int maxPoolSize = Integer.MAX_VALUE;
+		private int queueCapacity = Integer.MAX_VALUE;
+	}
+
+	@Getter
+	@Setter
+	public static class Bus {
+		// 한 번에 읽어 전달할 버스 메시지 수
+		private int batchSize = 500;
+		// 모든 인스턴스가 읽었을 만큼 지난 메시지 삭제 기준
+		private int retentionSeconds = 300;
+		// 다른 인스턴스 트랜잭션에서 늦게 커밋된 (더 작은 id 의) 메시지를 다시 찾는 시간 창
+		private int reorderWindowSeconds = 10;
+	}
+}
@@ -1,8 +1,13 @@
 package com.solsol.heycalendar.config;
 
+import com.solsol.heycalendar.security.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -10,14 +15,61 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 여러 인스턴스가 외부 브로커를 공유할 때 사용자 목적지/세션 레지스트리를 나누는 토픽
+    static final String USER_DESTINATION_BROADCAST = "/topic/unresolved-user-destination";
+    static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+
+    private final WebSocketBrokerProperties properties;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // 클라이언트에서 구독할 수 있는 prefix
-        config.enableSimpleBroker("/topic", "/queue");
+        long[] heartbeat = {properties.getHeartbeatSendMs(), properties.getHeartbeatReceiveMs()};
+
+        if (properties.getMode() == WebSocketBrokerProperties.Mode.RELAY) {
+            // 외부 브로커 TCP 연결은 reactor-netty 가 필요하다
+            if (!ClassUtils.isPresent("reactor.netty.tcp.TcpClient", getClass().getClassLoader())) {
+                throw new IllegalStateException("websocket.broker.mode=relay 는 reactor-netty 가 필요합니다.");
+            }
+            WebSocketBrokerProperties.Relay relay = properties.getRelay();
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relay.getHost())
+                    .setRelayPort(relay.getPort())
+                    .setVirtualHost(relay.getVirtualHost())
+                    .setClientLogin(relay.getClientLogin())
+                    .setClientPasscode(relay.getClientPasscode())
+                    .setSystemLogin(relay.getSystemLogin())
+                    .setSystemPasscode(relay.getSystemPasscode())
+                    .setSystemHeartbeatSendInterval(heartbeat[0])
+                    .setSystemHeartbeatReceiveInterval(heartbeat[1])
+                    .setUserDestinationBroadcast(USER_DESTINATION_BROADCAST)
+                    .setUserRegistryBroadcast(USER_REGISTRY_BROADCAST);
+            log.info("STOMP 브로커 중계 모드 - {}:{}", relay.getHost(), relay.getPort());
+        } else {
+            // 클라이언트에서 구독할 수 있는 prefix (db-bus 모드도 인스턴스 안 전달은 메모리 브로커)
+            config.enableSimpleBroker("/topic", "/queue")
+                    .setHeartbeatValue(heartbeat)
+                    .setTaskScheduler(heartbeatScheduler());
+            log.info("STOMP 메모리 브로커 모드 - {}", properties.getMode());
+        }
         // 클라이언트에서 서버로 메시지를 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
+        // convertAndSendToUser 목적지 (/user/queue/notifications -> 세션별 큐)
+        config.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        applyPool(registration, properties.getInbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        applyPool(registration, properties.getOutbound());
     }
 
     @Override
@@ -31,4 +83,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*");
     }
-}
\ No newline at end of file
+
+    private void applyPool(ChannelRegistration registration, WebSocketBrokerProperties.ChannelPool pool) {
+        registration.taskExecutor()
+                .corePoolSize(pool.getCorePoolSize())
+                .maxPoolSize(pool.getMaxPoolSize())
+                .queueCapacity(pool.getQueueCapacity());
+    }
+
+    /**
+     * 메모리 브로커 하트비트 전용 스케줄러 (빈으로 등록하면 @Scheduled 기본 스케줄러를 대신하게 되므로 내부에서만 사용)
+     */
+    private ThreadPoolTaskScheduler heartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
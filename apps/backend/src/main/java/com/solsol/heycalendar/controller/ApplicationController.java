@@ -7,6 +7,7 @@ import com.solsol.heycalendar.dto.request.ApplicationReviewRequest;
 import com.solsol.heycalendar.dto.response.ApplicationDetailResponse;
 import com.solsol.heycalendar.dto.response.ApplicationDocumentResponse;
 import com.solsol.heycalendar.dto.response.ApplicationResponse;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
 import com.solsol.heycalendar.entity.ApplicationState;
 import com.solsol.heycalendar.dto.request.DocumentUploadRequest;
 import com.solsol.heycalendar.dto.response.DocumentUploadResponse;
@@ -45,6 +46,20 @@ public class ApplicationController {
         return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", "OK", applications));
     }
 
+    @Operation(summary = "관리자 장학금 신청 목록 페이지 조회", description = "신청일시 내림차순 커서 기반 페이지로 신청 목록과 제출서류를 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @GetMapping("/admin/page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ApplicationResponse>>> getApplicationsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", "OK", applicationService.getApplicationsPage(cursor, size)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cursor for application page: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, e.getMessage(), "INVALID_REQUEST", null));
+        }
+    }
+
     @Operation(summary = "사용자별 장학금 신청 내역 조회", description = "특정 사용자가 신청한 장학금 목록을 조회합니다.")
     @GetMapping("/user/{userNm}")
     public ResponseEntity<List<ApplicationResponse>> getApplicationsByUser(
@@ -203,6 +218,16 @@ public class ApplicationController {
         return ResponseEntity.ok(new ApiResponse<>(true, "Admin 다운로드 URL이 생성되었습니다.", "OK", downloadUrl));
     }
 
+    @Operation(summary = "장학금 신청 서류 다운로드 URL 일괄 생성 (Admin용)", description = "신청 한 건의 모든 서류 Presigned URL을 documentNm 별로 한 번에 생성합니다.")
+    @GetMapping("/admin/documents/download-urls")
+    public ResponseEntity<ApiResponse<Map<String, String>>> generateApplicationDocumentDownloadUrlsForAdmin(
+            @RequestParam String userNm,
+            @RequestParam String scholarshipNm) {
+
+        Map<String, String> downloadUrls = documentService.generateApplicationDocumentDownloadUrls(userNm, scholarshipNm);
+        return ResponseEntity.ok(new ApiResponse<>(true, "Admin 다운로드 URL이 생성되었습니다.", "OK", downloadUrls));
+    }
+
     /* === New User APIs with header authentication === */
 
     @Operation(summary = "장학금 신청 (사용자)", description = "사용자가 장학금을 신청합니다.")
@@ -84,7 +84,7 @@ public class AuthController {
 	}
 
 	/**
-	 * 회원가입을 처리합니다. 신한은행 API와 연동하여 사용자 계정 및 계좌를 생성합니다.
+	 * 회원가입을 처리합니다. 신한은행 계정 및 계좌 생성은 비동기로 처리됩니다.
 	 *
 	 * @param signupRequest 회원가입 요청 DTO
 	 * @return ResponseEntity<ApiResponse<SignupResponse>>
@@ -92,7 +92,7 @@ public class AuthController {
 	@PostMapping("/signup")
 	@Operation(
 		summary = "회원가입", 
-		description = "신한은행 API와 연동하여 사용자 계정 및 계좌를 생성합니다.",
+		description = "사용자 계정을 생성하고 신한은행 회원/계좌 생성을 예약합니다. 진행 상태는 /api/user/me/bank-provisioning 또는 알림으로 확인합니다.",
 		security = {}
 	)
 	@ApiResponses(value = {
@@ -9,12 +9,20 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -89,6 +97,72 @@ public class DocumentController {
         }
     }
 
+    @Operation(summary = "서류 업로드 (서버 프록시)",
+            description = "요청 본문(파일 바이트)을 서버가 S3 로 스트리밍 업로드하고 크기/SHA-256 을 직접 검증합니다. 파일명은 X-File-Name 헤더(URL 인코딩)로 보냅니다. "
+                    + "X-Content-SHA256 헤더로 체크섬을 알려 주면 이미 올린 같은 파일은 S3 에 다시 올리지 않습니다.")
+    @PutMapping("/upload")
+    public ResponseEntity<ApiResponse<DocumentListResponse>> uploadViaProxy(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader("X-File-Name") String encodedFileName,
+            @RequestHeader(value = "X-Content-SHA256", required = false) String checksum,
+            HttpServletRequest request) {
+
+        try {
+            String userNm = userDetails.getUsername();
+            String fileName = URLDecoder.decode(encodedFileName, StandardCharsets.UTF_8);
+            DocumentListResponse response = documentService.uploadDocumentViaProxy(userNm, fileName,
+                    request.getContentType(), request.getContentLengthLong(), checksum, request.getInputStream());
+
+            return ResponseEntity.ok(ApiResponse.success("서류 업로드가 완료되었습니다.", response));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 - userNm: {}, error: {}", userDetails.getUsername(), e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (IllegalStateException e) {
+            log.warn("프록시 업로드 거절 - userNm: {}, error: {}", userDetails.getUsername(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error("UPLOAD_UNAVAILABLE", e.getMessage()));
+        } catch (Exception e) {
+            log.error("프록시 업로드 실패 - userNm: {}", userDetails.getUsername(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("INTERNAL_ERROR", "서류 업로드에 실패했습니다."));
+        }
+    }
+
+    @Operation(summary = "서류 다운로드 (서버 프록시)", description = "서류 본문을 서버를 거쳐 스트리밍으로 내려받습니다.")
+    @GetMapping("/{documentId}/content")
+    public ResponseEntity<StreamingResponseBody> downloadViaProxy(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long documentId) {
+
+        try {
+            DocumentService.DocumentContent content = documentService.openDocumentContent(userDetails.getUsername(), documentId);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentDisposition(ContentDisposition.attachment()
+                    .filename(content.fileName(), StandardCharsets.UTF_8)
+                    .build());
+            headers.setContentType(content.contentType() != null
+                    ? MediaType.parseMediaType(content.contentType())
+                    : MediaType.APPLICATION_OCTET_STREAM);
+            if (content.sizeBytes() != null) {
+                headers.setContentLength(content.sizeBytes());
+            }
+            StreamingResponseBody body = out -> documentService.streamDocument(content, out);
+            return new ResponseEntity<>(body, headers, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 - userNm: {}, documentId: {}, error: {}",
+                    userDetails.getUsername(), documentId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("프록시 다운로드 실패 - userNm: {}, documentId: {}",
+                    userDetails.getUsername(), documentId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @Operation(summary = "내 서류 목록 조회", description = "사용자의 서류 목록을 조회합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<DocumentListResponse>>> getMyDocuments(
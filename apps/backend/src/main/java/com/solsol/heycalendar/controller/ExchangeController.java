@@ -1,16 +1,25 @@
 package com.solsol.heycalendar.controller;
 
 import com.solsol.heycalendar.domain.Exchange;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.solsol.heycalendar.domain.ExchangeState;
+import com.solsol.heycalendar.dto.request.ExchangeSettlementRequest;
 import com.solsol.heycalendar.service.ExchangeService;
+import com.solsol.heycalendar.service.ExchangeSettlementService;
 import com.solsol.heycalendar.service.ShinhanBankService.BalanceInquiryResponse;
 import com.solsol.heycalendar.service.ShinhanBankService.TransactionHistoryResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +32,10 @@ import java.util.Map;
 public class ExchangeController {
     
     private final ExchangeService exchangeService;
+    private final ExchangeSettlementService exchangeSettlementService;
+    private final ObjectMapper objectMapper;
+    
+    private static final int STREAM_FLUSH_BYTES = 8192;
     
     /**
      * 환전 신청
@@ -117,13 +130,20 @@ public class ExchangeController {
     
     /**
      * 같은 대학 사용자들의 마일리지 조회 (관리자용)
+     * 전체 대학을 조회하는 관리자(999번 대학)는 행을 DB 에서 읽는 대로 JSON 으로 나눠 내려보낸다.
      */
     @GetMapping("/admin/university-mileages")
     public ResponseEntity<?> getUniversityUsersMileage(Authentication authentication) {
         try {
             String adminUserNm = ((com.solsol.heycalendar.security.CustomUserPrincipal) authentication.getPrincipal()).getUserNm();
+            ExchangeService.AdminUniversityScope scope = exchangeService.resolveAdminScope(adminUserNm);
+            
+            if (scope.allUniversities()) {
+                StreamingResponseBody body = out -> writeUniversityMileages(out, scope);
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+            }
             
-            Map<String, Object> result = exchangeService.getUniversityUsersMileage(adminUserNm);
+            Map<String, Object> result = exchangeService.getUniversityUsersMileage(scope);
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -136,6 +156,30 @@ public class ExchangeController {
         }
     }
     
+    /**
+     * 같은 대학 사용자들의 마일리지 페이지 조회 (관리자용)
+     * sort: available(사용 가능 마일리지 내림차순, 기본값) / userNm(학번 오름차순), 다음 페이지는 응답의 nextCursor 로 요청
+     */
+    @GetMapping("/admin/university-mileages/page")
+    public ResponseEntity<?> getUniversityUsersMileagePage(@RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(required = false) String sort,
+                                                           Authentication authentication) {
+        try {
+            String adminUserNm = ((com.solsol.heycalendar.security.CustomUserPrincipal) authentication.getPrincipal()).getUserNm();
+            ExchangeService.AdminUniversityScope scope = exchangeService.resolveAdminScope(adminUserNm);
+            
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", exchangeService.getUniversityUsersMileagePage(scope, cursor, size, sort)
+            ));
+            
+        } catch (Exception e) {
+            log.error("대학 사용자 마일리지 페이지 조회 실패", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
     /**
      * 마일리지 환전 처리 (관리자용)
      */
@@ -237,4 +281,63 @@ public class ExchangeController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+    
+    /**
+     * 마일리지 일괄 환전 (관리자용)
+     * 건별 결과를 끝나는 순서대로 한 줄씩(NDJSON) 내려보내고, 마지막 줄에 집계를 보낸다.
+     */
+    @PostMapping(value = "/admin/settlements", produces = "application/x-ndjson")
+    public ResponseEntity<?> settleExchanges(@RequestBody ExchangeSettlementRequest request, Authentication authentication) {
+        String adminUserNm = ((com.solsol.heycalendar.security.CustomUserPrincipal) authentication.getPrincipal()).getUserNm();
+        try {
+            exchangeSettlementService.validate(request);
+            exchangeSettlementService.requireAdmin(adminUserNm);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(Map.of("error", e.getMessage()));
+        }
+        
+        StreamingResponseBody body = out -> {
+            ExchangeSettlementService.SettlementSummary summary = exchangeSettlementService.settle(
+                request, adminUserNm, result -> writeLine(out, result));
+            writeLine(out, Map.of("summary", summary));
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+    
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊어도 남은 건은 계속 처리된다 (결과는 환전 내역에 남음)
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    // {"success":true,"data":{"universityNm":..,"users":[..],"totalUsers":..}} 을 행 단위로 작성
+    private void writeUniversityMileages(OutputStream out, ExchangeService.AdminUniversityScope scope) throws IOException {
+        try (JsonGenerator json = objectMapper.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeBooleanField("success", true);
+            json.writeObjectFieldStart("data");
+            json.writeObjectField("universityNm", scope.univNm());
+            json.writeArrayFieldStart("users");
+            int totalUsers = exchangeService.streamUniversityUsersMileage(scope, row -> {
+                try {
+                    json.writeObject(row);
+                    // 버퍼가 찰 때마다 내보내 청크 단위로 전송
+                    if (json.getOutputBuffered() >= STREAM_FLUSH_BYTES) {
+                        json.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            json.writeEndArray();
+            json.writeNumberField("totalUsers", totalUsers);
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+    }
 }
@@ -7,10 +7,23 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestTemplate;
 
+import com.solsol.heycalendar.domain.ScheduledJob;
+import com.solsol.heycalendar.service.AffiliationDirectory;
+import com.solsol.heycalendar.service.BankProvisioningService;
+import com.solsol.heycalendar.service.DocumentBlobService;
+import com.solsol.heycalendar.service.DocumentProxyService;
+import com.solsol.heycalendar.service.JobLeaseService;
+import com.solsol.heycalendar.service.MileageLedgerService;
+import com.solsol.heycalendar.service.NotificationRetentionService;
+import com.solsol.heycalendar.service.PresignedUrlService;
+import com.solsol.heycalendar.service.RealtimeMessenger;
+import com.solsol.heycalendar.service.ShinhanBankClient;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -26,6 +39,16 @@ public class HealthController {
     private String accountTypeUniqueNo;
     
     private final RestTemplate restTemplate;
+    private final JobLeaseService jobLeaseService;
+    private final ShinhanBankClient shinhanBankClient;
+    private final BankProvisioningService bankProvisioningService;
+    private final MileageLedgerService mileageLedgerService;
+    private final AffiliationDirectory affiliationDirectory;
+    private final NotificationRetentionService notificationRetentionService;
+    private final RealtimeMessenger realtimeMessenger;
+    private final PresignedUrlService presignedUrlService;
+    private final DocumentProxyService documentProxyService;
+    private final DocumentBlobService documentBlobService;
     
     private static final String SHINHAN_API_BASE_URL = "https://finopenapi.ssafy.io";
     
@@ -77,6 +100,54 @@ public class HealthController {
         }
     }
     
+    /**
+     * 신한은행 API 클라이언트 커넥션 풀 / API 별 호출 통계
+     */
+    @GetMapping("/shinhan/client")
+    public ResponseEntity<ShinhanBankClient.Stats> getShinhanClientStats() {
+        return ResponseEntity.ok(shinhanBankClient.getStats());
+    }
+    
+    /**
+     * 신한은행 회원/계좌 생성 작업 큐 통계
+     */
+    @GetMapping("/bank-provisioning")
+    public ResponseEntity<BankProvisioningService.ProvisioningStats> getBankProvisioningStats() {
+        return ResponseEntity.ok(bankProvisioningService.getStats());
+    }
+    
+    /**
+     * 마일리지 잔액 대사 통계 (마지막 실행 결과, 바로잡은 잔액 수)
+     */
+    @GetMapping("/mileage-ledger")
+    public ResponseEntity<MileageLedgerService.ReconcileStats> getMileageLedgerStats() {
+        return ResponseEntity.ok(mileageLedgerService.getStats());
+    }
+    
+    /**
+     * 대학/단과대/학과 소속 정보 스냅샷 통계 (적중률, 적재 건수, 버전)
+     */
+    @GetMapping("/affiliation")
+    public ResponseEntity<AffiliationDirectory.CacheStats> getAffiliationStats() {
+        return ResponseEntity.ok(affiliationDirectory.getStats());
+    }
+    
+    /**
+     * 알림 보존 기간 정리 통계 (규칙별 삭제 건수, 알림/보관 테이블 크기)
+     */
+    @GetMapping("/notification-retention")
+    public ResponseEntity<NotificationRetentionService.RetentionStats> getNotificationRetentionStats() {
+        return ResponseEntity.ok(notificationRetentionService.getStats());
+    }
+    
+    /**
+     * WebSocket 브로커 모드와 전송 통계 (접속 사용자 수, 발행/버스 전달 건수)
+     */
+    @GetMapping("/websocket")
+    public ResponseEntity<RealtimeMessenger.MessengerStats> getWebSocketStats() {
+        return ResponseEntity.ok(realtimeMessenger.getStats());
+    }
+    
     /**
      * 전체 시스템 헬스체크
      */
@@ -97,4 +168,43 @@ public class HealthController {
         
         return ResponseEntity.ok(status);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 스케줄 작업 레지스트리 (리스 보유 인스턴스, 마지막 실행 결과)
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<Map<String, Object>> getScheduledJobs() {
+        Map<String, Object> result = new HashMap<>();
+        List<ScheduledJob> jobs = jobLeaseService.getJobs();
+        
+        result.put("instance", jobLeaseService.getOwner());
+        result.put("jobs", jobs);
+        result.put("timestamp", java.time.LocalDateTime.now().toString());
+        
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * S3 다운로드 Presigned URL 캐시 적중/발급 통계
+     */
+    @GetMapping("/presign")
+    public ResponseEntity<PresignedUrlService.PresignStats> getPresignStats() {
+        return ResponseEntity.ok(presignedUrlService.getStats());
+    }
+
+    /**
+     * 서류 업로드 프록시 버퍼 풀 현황
+     */
+    @GetMapping("/document-proxy")
+    public ResponseEntity<DocumentProxyService.ProxyStats> getDocumentProxyStats() {
+        return ResponseEntity.ok(documentProxyService.getStats());
+    }
+
+    /**
+     * 서류 중복 제거 (재사용 횟수/절약한 업로드 바이트/참조가 사라져 지운 객체 수)
+     */
+    @GetMapping("/document-blob")
+    public ResponseEntity<DocumentBlobService.BlobStats> getDocumentBlobStats() {
+        return ResponseEntity.ok(documentBlobService.getStats());
+    }
+}
@@ -4,6 +4,7 @@ import com.solsol.heycalendar.common.ApiResponse;
 import com.solsol.heycalendar.dto.request.ExchangeApprovalRequest;
 import com.solsol.heycalendar.dto.request.ExchangeRequest;
 import com.solsol.heycalendar.dto.request.MileageRequest;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
 import com.solsol.heycalendar.dto.response.ExchangeResponse;
 import com.solsol.heycalendar.dto.response.MileageResponse;
 import com.solsol.heycalendar.dto.response.UserMileageResponse;
@@ -40,6 +41,40 @@ public class MileageController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    @Operation(summary = "현재 사용자 마일리지 적립 내역 페이지 조회", description = "최신순 커서 기반 페이지로 적립 내역을 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @GetMapping("/mileages/my/history")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MileageResponse>>> getMyMileageHistory(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
+        try {
+            return ResponseEntity.ok(ApiResponse.ok(
+                    mileageService.getMileageHistoryPage(principal.getUserNm(), cursor, size)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cursor for mileage history: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, e.getMessage(), "INVALID_REQUEST", null));
+        }
+    }
+
+    @Operation(summary = "현재 사용자 환전 내역 페이지 조회", description = "최신순 커서 기반 페이지로 환전 신청 내역을 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @GetMapping("/mileages/my/exchanges")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ExchangeResponse>>> getMyExchangeHistory(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
+        try {
+            return ResponseEntity.ok(ApiResponse.ok(
+                    mileageService.getExchangeHistoryPage(principal.getUserNm(), cursor, size)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cursor for exchange history: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, e.getMessage(), "INVALID_REQUEST", null));
+        }
+    }
+
     @Operation(summary = "사용자 마일리지 내역 조회", description = "특정 사용자의 마일리지 적립/사용 내역과 잘러 잔액을 조회합니다.")
     @GetMapping("/mileages/user/{userNm}")
     public ResponseEntity<UserMileageResponse> getUserMileage(@PathVariable String userNm) {
@@ -3,6 +3,8 @@ package com.solsol.heycalendar.controller;
 import com.solsol.heycalendar.common.ApiResponse;
 import com.solsol.heycalendar.domain.Notification;
 import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
+import com.solsol.heycalendar.service.NotificationOutboxDispatcher;
 import com.solsol.heycalendar.service.NotificationService;
 import com.solsol.heycalendar.service.DeadlineReminderService;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,7 @@ public class NotificationController {
     
     private final NotificationService notificationService;
     private final DeadlineReminderService deadlineReminderService;
+    private final NotificationOutboxDispatcher outboxDispatcher;
 
     /**
      * 사용자의 모든 알림 조회
@@ -40,6 +43,31 @@ public class NotificationController {
         }
     }
 
+    /**
+     * 알림함 최신순 커서 페이지 (nextCursor 로 다음 페이지 조회)
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<ApiResponse<CursorPageResponse<Notification>>> getInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            Authentication authentication) {
+        try {
+            com.solsol.heycalendar.security.CustomUserPrincipal principal = 
+                (com.solsol.heycalendar.security.CustomUserPrincipal) authentication.getPrincipal();
+            String userNm = principal.getUserNm();
+            CursorPageResponse<Notification> page = notificationService.getInbox(userNm, cursor, size, unreadOnly);
+            return ResponseEntity.ok(ApiResponse.success("알림함 조회 성공", page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_CURSOR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error getting notification inbox", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("NOTIFICATION_ERROR", "알림함 조회 중 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 타입별 알림 조회
      */
@@ -104,7 +132,12 @@ public class NotificationController {
             @PathVariable Long notificationId,
             Authentication authentication) {
         try {
-            notificationService.markAsRead(notificationId);
+            com.solsol.heycalendar.security.CustomUserPrincipal principal = 
+                (com.solsol.heycalendar.security.CustomUserPrincipal) authentication.getPrincipal();
+            if (!notificationService.markAsRead(principal.getUserNm(), notificationId)) {
+                return ResponseEntity.status(404)
+                    .body(ApiResponse.error("NOTIFICATION_NOT_FOUND", "알림을 찾을 수 없습니다."));
+            }
             return ResponseEntity.ok(ApiResponse.success("알림을 읽음 처리했습니다.", "SUCCESS"));
         } catch (Exception e) {
             log.error("Error marking notification as read", e);
@@ -139,7 +172,12 @@ public class NotificationController {
             @PathVariable Long notificationId,
             Authentication authentication) {
         try {
-            notificationService.deleteNotification(notificationId);
+            com.solsol.heycalendar.security.CustomUserPrincipal principal = 
+                (com.solsol.heycalendar.security.CustomUserPrincipal) authentication.getPrincipal();
+            if (!notificationService.deleteNotification(principal.getUserNm(), notificationId)) {
+                return ResponseEntity.status(404)
+                    .body(ApiResponse.error("NOTIFICATION_NOT_FOUND", "알림을 찾을 수 없습니다."));
+            }
             return ResponseEntity.ok(ApiResponse.success("알림을 삭제했습니다.", "SUCCESS"));
         } catch (Exception e) {
             log.error("Error deleting notification", e);
@@ -148,6 +186,50 @@ public class NotificationController {
         }
     }
 
+    /**
+     * 공지 알림 읽음 처리
+     */
+    @PutMapping("/broadcasts/{broadcastId}/read")
+    public ResponseEntity<ApiResponse<String>> markBroadcastAsRead(
+            @PathVariable Long broadcastId,
+            Authentication authentication) {
+        try {
+            com.solsol.heycalendar.security.CustomUserPrincipal principal = 
+                (com.solsol.heycalendar.security.CustomUserPrincipal) authentication.getPrincipal();
+            if (!notificationService.markBroadcastAsRead(principal.getUserNm(), broadcastId)) {
+                return ResponseEntity.status(404)
+                    .body(ApiResponse.error("NOTIFICATION_NOT_FOUND", "공지 알림을 찾을 수 없습니다."));
+            }
+            return ResponseEntity.ok(ApiResponse.success("알림을 읽음 처리했습니다.", "SUCCESS"));
+        } catch (Exception e) {
+            log.error("Error marking broadcast notification as read", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("NOTIFICATION_ERROR", "알림 읽음 처리 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 공지 알림 삭제 (사용자 목록에서 숨김)
+     */
+    @DeleteMapping("/broadcasts/{broadcastId}")
+    public ResponseEntity<ApiResponse<String>> hideBroadcast(
+            @PathVariable Long broadcastId,
+            Authentication authentication) {
+        try {
+            com.solsol.heycalendar.security.CustomUserPrincipal principal = 
+                (com.solsol.heycalendar.security.CustomUserPrincipal) authentication.getPrincipal();
+            if (!notificationService.hideBroadcast(principal.getUserNm(), broadcastId)) {
+                return ResponseEntity.status(404)
+                    .body(ApiResponse.error("NOTIFICATION_NOT_FOUND", "공지 알림을 찾을 수 없습니다."));
+            }
+            return ResponseEntity.ok(ApiResponse.success("알림을 삭제했습니다.", "SUCCESS"));
+        } catch (Exception e) {
+            log.error("Error hiding broadcast notification", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("NOTIFICATION_ERROR", "알림 삭제 중 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 장학금 선정 결과 알림 생성 (관리자용)
      */
@@ -209,14 +291,28 @@ public class NotificationController {
      * 마감임박 알림 시스템 수동 실행 (테스트용)
      */
     @PostMapping("/deadline-reminders/check")
-    public ResponseEntity<ApiResponse<String>> checkDeadlineReminders() {
+    public ResponseEntity<ApiResponse<DeadlineReminderService.ReminderRunResult>> checkDeadlineReminders() {
         try {
-            deadlineReminderService.manualCheckDeadlineReminders();
-            return ResponseEntity.ok(ApiResponse.success("마감임박 알림 체크를 완료했습니다.", "SUCCESS"));
+            DeadlineReminderService.ReminderRunResult result = deadlineReminderService.manualCheckDeadlineReminders();
+            return ResponseEntity.ok(ApiResponse.success("마감임박 알림 체크를 완료했습니다.", result));
         } catch (Exception e) {
             log.error("Error checking deadline reminders", e);
             return ResponseEntity.internalServerError()
                 .body(ApiResponse.error("NOTIFICATION_ERROR", "마감임박 알림 체크 중 오류가 발생했습니다."));
         }
     }
+
+    /**
+     * 실시간 알림 아웃박스 상태 조회 (대기열 길이, 전송 지연)
+     */
+    @GetMapping("/outbox/stats")
+    public ResponseEntity<ApiResponse<NotificationOutboxDispatcher.OutboxStats>> getOutboxStats() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("아웃박스 상태 조회 성공", outboxDispatcher.getStats()));
+        } catch (Exception e) {
+            log.error("Error getting outbox stats", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("NOTIFICATION_ERROR", "아웃박스 상태 조회 중 오류가 발생했습니다."));
+        }
+    }
 }
\ No newline at end of file
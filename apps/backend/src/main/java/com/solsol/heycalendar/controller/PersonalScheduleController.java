@@ -42,7 +42,6 @@ public class PersonalScheduleController {
 
     @PostMapping("/delete")
     public ResponseEntity<String> delete(@Valid @RequestBody PersonalScheduleDeleteRequest req) {
-        System.out.println("delete operate");
         int deleted = service.deleteByUserNmAndScheduleName(req.getUserNm(), req.getScheduleName());
         if (deleted == 0) return ResponseEntity.notFound().build();
         return ResponseEntity.ok("ok"); // text/plain "ok"
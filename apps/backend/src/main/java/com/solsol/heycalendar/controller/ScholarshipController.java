@@ -11,6 +11,7 @@ import com.solsol.heycalendar.common.ApiResponse;
 import com.solsol.heycalendar.dto.request.ScholarshipRequest;
 import com.solsol.heycalendar.dto.response.ScholarshipResponse;
 import com.solsol.heycalendar.security.CustomUserPrincipal;
+import com.solsol.heycalendar.service.ScholarshipCatalogCache;
 import com.solsol.heycalendar.service.ScholarshipService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,7 +33,6 @@ public class ScholarshipController {
 	@Operation(summary = "장학금 전체 목록")
 	@GetMapping
 	public ResponseEntity<ApiResponse<List<ScholarshipResponse>>> getAll() {
-		System.out.println("getAll");
 		return ResponseEntity.ok(new ApiResponse<>(true, "OK", "OK", service.getAllScholarships()));
 	}
 
@@ -52,6 +52,12 @@ public class ScholarshipController {
 		}
 	}
 
+	@Operation(summary = "장학금 목록 캐시 통계")
+	@GetMapping("/cache/stats")
+	public ResponseEntity<ApiResponse<ScholarshipCatalogCache.CacheStats>> getCatalogCacheStats() {
+		return ResponseEntity.ok(new ApiResponse<>(true, "OK", "OK", service.getCatalogCacheStats()));
+	}
+
 	@Operation(summary = "장학금 상세")
 	@GetMapping("/{id}")
 	public ResponseEntity<ApiResponse<ScholarshipResponse>> get(@PathVariable Long id) {
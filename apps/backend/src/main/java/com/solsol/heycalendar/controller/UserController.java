@@ -11,8 +11,10 @@ import org.springframework.web.bind.annotation.RestController;
 import com.solsol.heycalendar.common.ApiResponse;
 import com.solsol.heycalendar.dto.request.PasswordChangeRequest;
 import com.solsol.heycalendar.dto.request.UserInfoUpdateRequest;
+import com.solsol.heycalendar.dto.response.BankProvisioningStatusResponse;
 import com.solsol.heycalendar.dto.response.UserInfoResponse;
 import com.solsol.heycalendar.security.CustomUserPrincipal;
+import com.solsol.heycalendar.service.BankProvisioningService;
 import com.solsol.heycalendar.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
     private final UserService userService;
+    private final BankProvisioningService bankProvisioningService;
 
     @Operation(
         summary = "내 정보 조회",
@@ -40,6 +43,18 @@ public class UserController {
         return ResponseEntity.ok(new ApiResponse<>(true, "user info retrieved successfully.", "OK", userInfo));
     }
 
+    @Operation(
+        summary = "계좌 생성 진행 상태 조회",
+        description = "회원가입 시 요청한 신한은행 회원/계좌 생성 작업의 진행 상태를 조회합니다."
+    )
+    @GetMapping("/me/bank-provisioning")
+    public ResponseEntity<ApiResponse<BankProvisioningStatusResponse>> getBankProvisioningStatus(Authentication authentication) {
+        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
+        BankProvisioningStatusResponse status = bankProvisioningService.getStatus(principal.getUserNm());
+
+        return ResponseEntity.ok(new ApiResponse<>(true, "OK", "OK", status));
+    }
+
     @Operation(
         summary = "내 정보 수정",
         description = "사용자의 기본 정보(이름, 학과 등)를 수정합니다."
@@ -0,0 +1,31 @@
+package com.solsol.heycalendar.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원가입 후 신한은행 회원/계좌 생성 작업.
+ * 단계별 결과(userKey, accountNo)를 저장해 재시도 시 끝난 단계는 다시 호출하지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankProvisioningJob {
+    private Long id;
+    private String userNm;
+    private String userId;
+    private String status;          // PENDING, RUNNING, DONE, FAILED
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime leaseUntil;
+    private String userKey;
+    private String accountNo;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
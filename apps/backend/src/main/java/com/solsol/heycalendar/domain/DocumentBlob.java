@@ -0,0 +1,27 @@
+package com.solsol.heycalendar.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * MyBox/신청 서류가 함께 가리키는 저장소 객체 (사용자별, 참조 수 집계).
+ * checksumSha256 은 서버가 직접 계산한 경우에만 있으며, 같은 사용자의 같은 내용이면 이 객체를 재사용한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentBlob {
+    private Long id;
+    private String userNm;
+    private String checksumSha256;
+    private byte[] objectKeyEnc;
+    private Long sizeBytes;
+    private String s3Etag;
+    private int refCount;
+    private LocalDateTime createdAt;
+}
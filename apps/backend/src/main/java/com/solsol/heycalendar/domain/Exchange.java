@@ -23,4 +23,5 @@ public class Exchange {
     private LocalDateTime appliedAt;
     private LocalDateTime processedAt;
     private String reason;
+    private String bankTxnNo;
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ package com.solsol.heycalendar.domain;
  */
 public enum ExchangeState {
     PENDING("PENDING"),
+    PROCESSING("PROCESSING"),   // 마일리지 차감 후 은행 입금 결과 대기
     APPROVED("APPROVED"),
     REJECTED("REJECTED");
 
@@ -0,0 +1,37 @@
+package com.solsol.heycalendar.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 마일리지 잔액 (mileage_balance 한 행).
+ * 대사 조회에서는 history* 에 mileage/exchange 내역으로 다시 계산한 값이 함께 담긴다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MileageBalance {
+    private String userNm;
+    private Integer total;
+    private Integer pending;
+    private Integer approved;
+    private LocalDateTime updatedAt;
+    private LocalDateTime reconciledAt;
+
+    private Integer historyTotal;
+    private Integer historyPending;
+    private Integer historyApproved;
+
+    public int getAvailable() {
+        return Math.max(0, total - pending - approved);
+    }
+
+    public boolean matchesHistory() {
+        return total.equals(historyTotal) && pending.equals(historyPending) && approved.equals(historyApproved);
+    }
+}
@@ -0,0 +1,24 @@
+package com.solsol.heycalendar.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 원장 항목 (추가만 하며 수정/삭제하지 않는다)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MileageLedgerEntry {
+    private Long id;
+    private String userNm;
+    private MileageLedgerEntryType entryType;
+    private Integer amount;
+    private String refId;           // 적립은 mileage key, 환전은 exchangeNm
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package com.solsol.heycalendar.domain;
+
+/**
+ * 마일리지 원장 항목 유형과 잔액(total/pending/approved) 변동 방향
+ */
+public enum MileageLedgerEntryType {
+    EARN(1, 0, 0),               // 적립
+    EXCHANGE_HOLD(0, 1, 0),      // 환전 신청 (대기/진행 중)
+    EXCHANGE_APPROVE(0, -1, 1),  // 대기 중 환전 승인
+    EXCHANGE_RELEASE(0, -1, 0),  // 대기 중 환전 거절/취소
+    EXCHANGE_PAYOUT(0, 0, 1);    // 대기 없이 바로 승인된 환전 (관리자 직접 환전)
+
+    private final int totalSign;
+    private final int pendingSign;
+    private final int approvedSign;
+
+    MileageLedgerEntryType(int totalSign, int pendingSign, int approvedSign) {
+        this.totalSign = totalSign;
+        this.pendingSign = pendingSign;
+        this.approvedSign = approvedSign;
+    }
+
+    public int totalDelta(int amount) {
+        return totalSign * amount;
+    }
+
+    public int pendingDelta(int amount) {
+        return pendingSign * amount;
+    }
+
+    public int approvedDelta(int amount) {
+        return approvedSign * amount;
+    }
+}
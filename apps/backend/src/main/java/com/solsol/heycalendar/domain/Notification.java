@@ -20,6 +20,9 @@ public class Notification {
     private Long relatedId;
     private Boolean isRead;
     private String actionRoute;
+    private String dedupKey;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // broadcast_notification 행 (전체 공지, userNm 은 조회한 사용자이고 isRead 는 조회 시 계산)
+    private boolean broadcast;
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.solsol.heycalendar.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간(WebSocket) 전송 대기 메시지.
+ * 알림과 같은 트랜잭션에서 저장되고 커밋 이후 디스패처가 전송한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+    private Long id;
+    private String destination;
+    private String userNm;          // 있으면 사용자 목적지 (convertAndSendToUser)
+    private String payload;
+    private String status;          // PENDING, SENT, FAILED
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+}
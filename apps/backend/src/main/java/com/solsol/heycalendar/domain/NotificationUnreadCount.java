@@ -0,0 +1,18 @@
+package com.solsol.heycalendar.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 읽지 않은 알림 수 (notification_unread_counter 행, 배지 실시간 전송 메시지)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationUnreadCount {
+    private String userNm;
+    private int unreadCount;
+}
@@ -0,0 +1,27 @@
+package com.solsol.heycalendar.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 레지스트리 행.
+ * 클러스터 단일 실행을 위한 리스(owner, leaseUntil)와 마지막 실행 결과를 함께 보관한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJob {
+    private String jobName;
+    private String owner;
+    private LocalDateTime leaseUntil;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastFinishedAt;
+    private String lastStatus;      // RUNNING, SUCCESS, FAILED
+    private String lastError;
+    private Long lastDurationMs;
+}
@@ -0,0 +1,20 @@
+package com.solsol.heycalendar.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 테이블 크기 (information_schema 추정치)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TableSize {
+    private String tableName;
+    private long estimatedRows;
+    private long dataBytes;
+    private long indexBytes;
+}
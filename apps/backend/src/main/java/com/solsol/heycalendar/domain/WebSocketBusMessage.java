@@ -0,0 +1,24 @@
+package com.solsol.heycalendar.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 간 WebSocket 메시지 버스 행 (db-bus 모드).
+ * 모든 인스턴스가 id 순서로 읽어 자기 세션에 전달한다. userNm 이 있으면 사용자 목적지로 보낸다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebSocketBusMessage {
+    private Long id;
+    private String destination;
+    private String userNm;
+    private String payload;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package com.solsol.heycalendar.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 마일리지 일괄 환전 요청 DTO
+ * - items: 지정한 사용자/금액을 바로 환전
+ * - allPending: 대기 중인 환전 신청(PENDING)을 오래된 순으로 최대 limit 건 처리
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeSettlementRequest {
+
+    private List<Item> items;
+
+    private boolean allPending;
+
+    private Integer limit;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String userNm;
+        private Integer amount;
+    }
+}
@@ -40,7 +40,7 @@ public class SignupRequest {
     
     // 자동 계산되는 필드들
     @Schema(hidden = true)
-    private Long collegeNm; // 대학에 따라 자동 설정
+    private Long collegeNm; // 학과에 따라 자동 설정
     
     @Schema(hidden = true)
     private int grade = 1; // 기본값 1학년
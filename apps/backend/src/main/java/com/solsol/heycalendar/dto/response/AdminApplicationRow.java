@@ -0,0 +1,37 @@
+package com.solsol.heycalendar.dto.response;
+
+import com.solsol.heycalendar.entity.ApplicationState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 신청 목록 조인 조회 결과 행 (신청 1건 x 제출서류 1건, 서류가 없으면 서류 컬럼은 null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminApplicationRow {
+	private String userNm;
+	private Long scholarshipNm;
+	private String scholarshipName;
+	private Integer scholarshipAmount;
+	private String scholarshipType;
+	private String scholarshipDescription;
+	private String userName;
+	private String departmentName;
+	private String collegeName;
+	private String universityName;
+	private ApplicationState state;
+	private LocalDateTime appliedAt;
+	private String reason;
+	private Boolean mileagePaid;
+
+	private String documentNm;
+	private byte[] fileNameEnc;
+	private String contentType;
+	private Long fileSize;
+	private LocalDateTime uploadedAt;
+}
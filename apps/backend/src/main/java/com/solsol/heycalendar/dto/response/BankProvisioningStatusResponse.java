@@ -0,0 +1,28 @@
+package com.solsol.heycalendar.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "신한은행 회원/계좌 생성 진행 상태")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankProvisioningStatusResponse {
+    @Schema(description = "진행 상태 (NOT_REQUESTED, PENDING, RUNNING, DONE, FAILED)", example = "PENDING")
+    private String status;
+
+    @Schema(description = "시도 횟수", example = "1")
+    private Integer attempts;
+
+    @Schema(description = "다음 시도 예정 시각 (PENDING 일 때)")
+    private LocalDateTime nextAttemptAt;
+
+    @Schema(description = "생성된 계좌번호 (DONE 일 때)", example = "1234567890123")
+    private String accountNm;
+}
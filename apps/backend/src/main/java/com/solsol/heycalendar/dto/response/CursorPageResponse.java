@@ -0,0 +1,29 @@
+package com.solsol.heycalendar.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ */
+@Schema(description = "커서 기반 페이지 응답")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    @Schema(description = "페이지 항목")
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.solsol.heycalendar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 마감임박 알림 대상 행 (찜 + 장학금 조인 결과)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadlineReminderTarget {
+	private String userNm;
+	private Long scholarshipId;
+	private String scholarshipName;
+	private LocalDate recruitmentEndDate;
+}
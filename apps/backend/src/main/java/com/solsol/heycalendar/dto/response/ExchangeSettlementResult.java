@@ -0,0 +1,27 @@
+package com.solsol.heycalendar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 환전 건별 결과
+ * - SETTLED: 차감 및 입금 완료
+ * - FAILED: 입금되지 않았고 차감한 마일리지는 되돌림
+ * - UNKNOWN: 입금 결과 불명 (PROCESSING 상태로 남기고 bankTxnNo 로 대사)
+ * - SKIPPED: 처리하지 않음 (사용자/계좌 없음, 잔액 부족, 이미 처리된 신청 등)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeSettlementResult {
+    private String exchangeNm;
+    private String userNm;
+    private Integer amount;
+    private String status;
+    private String message;
+    private String bankTxnNo;
+    private Long elapsedMillis;
+}
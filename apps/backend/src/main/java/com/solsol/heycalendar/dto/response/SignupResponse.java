@@ -21,9 +21,12 @@ public class SignupResponse {
     @Schema(description = "사용자 실명", example = "홍길동")
     private String userName;
     
-    @Schema(description = "신한은행 사용자키", example = "abc123def456")
+    @Schema(description = "신한은행 사용자키 (계좌 생성 완료 후 조회 가능)", example = "abc123def456")
     private String userKey;
     
     @Schema(description = "생성된 계좌번호", example = "1234567890123")
     private String accountNm;
+
+    @Schema(description = "신한은행 계좌 생성 진행 상태 (NOT_REQUESTED, PENDING). 완료 여부는 /api/user/me/bank-provisioning 또는 알림으로 확인", example = "PENDING")
+    private String bankProvisioningStatus;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.solsol.heycalendar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자 대학 마일리지 현황 한 행 (학생 1명, 환전 대기 금액은 집계 쿼리에서 합산)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniversityMileageRow {
+    private String userNm;
+    private String userName;
+    private String userId;
+    private Integer totalMileage;       // users.userMileage
+    private Integer availableMileage;   // totalMileage - pendingExchange (0 미만은 0)
+    private Integer pendingExchange;    // PENDING 환전 신청 합계
+}
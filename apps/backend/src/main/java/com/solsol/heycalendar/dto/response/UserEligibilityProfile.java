@@ -0,0 +1,26 @@
+package com.solsol.heycalendar.dto.response;
+
+import java.math.BigDecimal;
+
+import com.solsol.heycalendar.domain.State;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장학금 자격 판정용 사용자 정보 (학년, 평점, 학적 상태, 소속 학과/단과대명)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEligibilityProfile {
+	private String userNm;
+	private Integer grade;
+	private BigDecimal gpa;
+	private State state;
+	private String departmentName;
+	private String collegeName;
+}
@@ -22,4 +22,7 @@ public class UserMileageResponse {
     private Integer pendingExchange;
     private List<MileageResponse> mileageHistory;
     private List<ExchangeResponse> exchangeHistory;
+    // 최근 내역 이후 페이지 커서 (더 없으면 null)
+    private String mileageHistoryNextCursor;
+    private String exchangeHistoryNextCursor;
 }
\ No newline at end of file
@@ -24,5 +24,6 @@ public class ApplicationDocument {
     private String contentType;          // MIME type of the file
     private Long fileSize;              // File size in bytes
     private String checksumSha256;       // 파일 무결성 검증용 SHA-256 해시
+    private Long blobId;                 // document_blob 참조 (참조 집계 이전 업로드는 null)
     private LocalDateTime uploadedAt;    // 업로드 시간
 }
\ No newline at end of file
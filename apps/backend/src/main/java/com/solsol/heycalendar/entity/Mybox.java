@@ -20,6 +20,7 @@ public class Mybox {
     private String contentType;
     private Long sizeBytes;
     private String checksumSha256;
+    private Long blobId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
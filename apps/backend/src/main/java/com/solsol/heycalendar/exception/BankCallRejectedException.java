@@ -0,0 +1,16 @@
+package com.solsol.heycalendar.exception;
+
+/**
+ * 신한은행 API 요청을 보내기 전에 거절한 경우 (동시 호출 한도 초과, 대기 중 인터럽트).
+ * 요청이 은행에 도달하지 않았으므로 호출자는 결과가 확실히 반영되지 않았다고 보고 되돌릴 수 있다.
+ */
+public class BankCallRejectedException extends IllegalStateException {
+
+	public BankCallRejectedException(String message) {
+		super(message);
+	}
+
+	public BankCallRejectedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
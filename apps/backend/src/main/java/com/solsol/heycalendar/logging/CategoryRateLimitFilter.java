@@ -0,0 +1,112 @@
+package com.solsol.heycalendar.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * 카테고리(로거 이름 접두사)별 초당 로그 건수 제한.
+ *
+ * WARN 미만 이벤트만 대상으로, 1초 구간마다 한도를 넘는 이벤트는 메시지를 만들기 전에 버린다.
+ * 레벨에서 이미 꺼진 이벤트와 isXxxEnabled() 확인은 세지 않는다.
+ * logback-spring.xml 에서 &lt;limit&gt;접두사=초당건수&lt;/limit&gt; 로 설정하며, 가장 긴 접두사가 적용된다.
+ * 같은 카테고리의 로거들은 한도를 함께 쓴다.
+ */
+public class CategoryRateLimitFilter extends TurboFilter {
+
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final Window UNLIMITED = new Window(Integer.MAX_VALUE);
+
+    private final Map<String, Integer> limits = new ConcurrentHashMap<>();
+    private final Map<String, Window> windowsByCategory = new ConcurrentHashMap<>();
+    private final Map<String, Window> windowsByLogger = new ConcurrentHashMap<>();
+    private LongSupplier clock = System::currentTimeMillis;
+
+    /**
+     * 한도 추가 ("com.solsol.heycalendar.service.NotificationService=50")
+     */
+    public void addLimit(String spec) {
+        int eq = spec.lastIndexOf('=');
+        if (eq <= 0) {
+            throw new IllegalArgumentException("로그 한도 형식 오류 (접두사=초당건수): " + spec);
+        }
+        int perSecond = Integer.parseInt(spec.substring(eq + 1).trim());
+        if (perSecond < 0) {
+            throw new IllegalArgumentException("로그 한도는 0 이상이어야 합니다: " + spec);
+        }
+        limits.put(spec.substring(0, eq).trim(), perSecond);
+        windowsByLogger.clear();
+    }
+
+    /**
+     * 한도 초과로 버린 누적 건수 (Micrometer logging.events.rate.limited)
+     */
+    public static long droppedCount() {
+        return DROPPED.get();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windowsByLogger.computeIfAbsent(logger.getName(), this::resolve);
+        if (window == UNLIMITED || window.tryAcquire(clock.getAsLong())) {
+            return FilterReply.NEUTRAL;
+        }
+        DROPPED.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    private Window resolve(String loggerName) {
+        String category = null;
+        for (String prefix : limits.keySet()) {
+            boolean matches = loggerName.equals(prefix) || loggerName.startsWith(prefix + ".");
+            if (matches && (category == null || prefix.length() > category.length())) {
+                category = prefix;
+            }
+        }
+        if (category == null) {
+            return UNLIMITED;
+        }
+        int perSecond = limits.get(category);
+        return windowsByCategory.computeIfAbsent(category, c -> new Window(perSecond));
+    }
+
+    /**
+     * 1초 고정 구간 카운터
+     */
+    static final class Window {
+
+        private final int perSecond;
+        private final AtomicLong second = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicInteger count = new AtomicInteger();
+
+        Window(int perSecond) {
+            this.perSecond = perSecond;
+        }
+
+        boolean tryAcquire(long nowMillis) {
+            long now = nowMillis / 1000;
+            long current = second.get();
+            if (now != current && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= perSecond;
+        }
+    }
+}
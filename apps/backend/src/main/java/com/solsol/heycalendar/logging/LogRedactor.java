@@ -0,0 +1,59 @@
+package com.solsol.heycalendar.logging;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로그 출력 직전 마스킹 규칙.
+ *
+ * 키/토큰/비밀번호 값("apiKey":"..", userKey: .., Authorization: Bearer ..)과 S3 presigned URL 서명 파라미터는 통째로 가리고,
+ * 계좌번호는 끝 4자리만 남긴다. 10~16자리 숫자는 accountNo/accountNm/계좌 같은 키 뒤에 올 때만 계좌로 보고
+ * (exchangeNm, 타임스탬프 같은 긴 숫자는 그대로), 은행 형식의 하이픈 구분 번호는 위치와 상관없이 가린다.
+ * 한 패턴으로 한 번만 훑으며, 가릴 값이 없으면 입력 문자열을 그대로 돌려준다.
+ */
+public final class LogRedactor {
+
+    static final String MASK = "****";
+
+    private static final Pattern SENSITIVE = Pattern.compile(
+            "(?<secret>(?i:\"?(?:api[_-]?key|user[_-]?key|secret|password|passwd|token|authorization)\"?\\s*[:=]\\s*\"?)"
+                    + "(?i:bearer\\s+)?)[^\\s\",&}]+"
+                    + "|(?<amz>X-Amz-(?:Signature|Credential|Security-Token)=)[^&\\s\"]+"
+                    + "|(?<accountKey>(?:(?i:\"?\\w*account[_-]?(?:no|nm|num|number)\"?)|계좌(?:번호)?)\\s*[:=]\\s*\"?)"
+                    + "(?<keyedAccount>\\d{3,6}-\\d{2,6}-\\d{3,8}|\\d{10,16})(?![\\d-])"
+                    + "|(?<![\\d-])(?<account>\\d{3,6}-\\d{2,6}-\\d{3,8})(?![\\d-])");
+
+    private LogRedactor() {
+    }
+
+    public static String redact(String message) {
+        if (message == null || message.isEmpty()) {
+            return message;
+        }
+        Matcher matcher = SENSITIVE.matcher(message);
+        if (!matcher.find()) {
+            return message;
+        }
+        StringBuilder sb = new StringBuilder(message.length());
+        do {
+            String replacement;
+            if (matcher.group("secret") != null) {
+                replacement = matcher.group("secret") + MASK;
+            } else if (matcher.group("amz") != null) {
+                replacement = matcher.group("amz") + MASK;
+            } else if (matcher.group("accountKey") != null) {
+                replacement = matcher.group("accountKey") + maskAccount(matcher.group("keyedAccount"));
+            } else {
+                replacement = maskAccount(matcher.group("account"));
+            }
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        } while (matcher.find());
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    private static String maskAccount(String account) {
+        String digits = account.replace("-", "");
+        return MASK + digits.substring(digits.length() - 4);
+    }
+}
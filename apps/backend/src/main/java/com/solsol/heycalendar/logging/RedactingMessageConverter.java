@@ -0,0 +1,15 @@
+package com.solsol.heycalendar.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 텍스트 패턴용 %maskedMsg 변환기 (logback-spring.xml conversionRule)
+ */
+public class RedactingMessageConverter extends MessageConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return LogRedactor.redact(event.getFormattedMessage());
+    }
+}
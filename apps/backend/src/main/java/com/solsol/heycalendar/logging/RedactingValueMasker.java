@@ -0,0 +1,20 @@
+package com.solsol.heycalendar.logging;
+
+import com.fasterxml.jackson.core.JsonStreamContext;
+import net.logstash.logback.mask.ValueMasker;
+
+/**
+ * JSON 출력용 마스킹 (LogstashEncoder 의 MaskingJsonGeneratorDecorator 에 등록).
+ * 문자열 필드에 LogRedactor 규칙을 적용하고, 바뀐 것이 없으면 null 을 돌려 원래 값을 쓰게 한다.
+ */
+public class RedactingValueMasker implements ValueMasker {
+
+    @Override
+    public Object mask(JsonStreamContext context, Object value) {
+        if (!(value instanceof String text)) {
+            return null;
+        }
+        String redacted = LogRedactor.redact(text);
+        return redacted == text ? null : redacted;
+    }
+}
@@ -1,10 +1,14 @@
 package com.solsol.heycalendar.mapper;
 
+import com.solsol.heycalendar.dto.response.AdminApplicationRow;
 import com.solsol.heycalendar.dto.response.ApplicationStatusRow;
 import com.solsol.heycalendar.entity.Application;
 import com.solsol.heycalendar.dto.response.ApplicationResponse;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDateTime;
 
 import java.util.List;
 
@@ -135,6 +139,23 @@ public interface ApplicationMapper {
      */
     List<ApplicationResponse> findAllApplicationsWithScholarship();
 
+    /**
+     * 관리자 신청 목록 한 페이지를 제출서류/마일리지 지급 여부와 함께 한 번의 조인 쿼리로 조회.
+     * 행은 (applied_at DESC, userNm DESC, scholarshipNm DESC) 순서로 handler 에 하나씩 전달된다.
+     * 커서 값이 모두 null 이면 첫 페이지.
+     * @param cursorAppliedAt 이전 페이지 마지막 신청의 신청일시
+     * @param cursorUserNm 이전 페이지 마지막 신청의 사용자
+     * @param cursorScholarshipNm 이전 페이지 마지막 신청의 장학금 ID
+     * @param limit 조회할 신청 건수
+     * @param handler 행 처리기
+     */
+    void streamAdminApplicationPage(
+            @Param("cursorAppliedAt") LocalDateTime cursorAppliedAt,
+            @Param("cursorUserNm") String cursorUserNm,
+            @Param("cursorScholarshipNm") Long cursorScholarshipNm,
+            @Param("limit") int limit,
+            ResultHandler<AdminApplicationRow> handler);
+
     /**
      * Find applications by scholarship with user information
      * @param scholarshipNm Scholarship ID
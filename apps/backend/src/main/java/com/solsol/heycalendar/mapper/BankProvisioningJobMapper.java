@@ -0,0 +1,40 @@
+package com.solsol.heycalendar.mapper;
+
+import com.solsol.heycalendar.domain.BankProvisioningJob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface BankProvisioningJobMapper {
+
+    // 작업 등록 (사용자당 1건)
+    void insert(BankProvisioningJob job);
+
+    // 실행할 작업을 잠금과 함께 조회 - 대기 중이고 시각이 된 작업 + 리스가 끝난 실행 중 작업 (다른 인스턴스가 잡은 행은 건너뜀)
+    List<BankProvisioningJob> findDueForUpdate(@Param("limit") int limit);
+
+    // 실행 시작 표시 (시도 횟수 증가, 리스 설정)
+    int markRunning(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 단계별 결과 저장
+    int saveUserKey(@Param("id") Long id, @Param("userKey") String userKey);
+
+    int saveAccountNo(@Param("id") Long id, @Param("accountNo") String accountNo);
+
+    // 완료 처리
+    int markDone(@Param("id") Long id);
+
+    // 실패 시 재시도 예약 (최대 시도 초과 또는 재시도 불가 오류면 FAILED)
+    int markFailed(@Param("id") Long id,
+                   @Param("status") String status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+
+    BankProvisioningJob findByUserNm(@Param("userNm") String userNm);
+
+    // 대기/실행 중인 작업 수
+    int countActive();
+}
@@ -0,0 +1,57 @@
+package com.solsol.heycalendar.mapper;
+
+import com.solsol.heycalendar.domain.Notification;
+import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.domain.NotificationUnreadCount;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface BroadcastNotificationMapper {
+
+    // 전체 공지 생성 (dedup_key 중복은 무시)
+    void insert(Notification notification);
+
+    // 같은 dedup_key 공지 존재 여부
+    boolean existsByDedupKey(@Param("dedupKey") String dedupKey);
+
+    // 사용자 기준 공지 keyset 페이지 (읽음 여부는 워터마크/영수증으로 계산, 숨긴 공지 제외)
+    List<Notification> findPageForUser(@Param("userNm") String userNm,
+                                       @Param("visibleSince") LocalDateTime visibleSince,
+                                       @Param("type") NotificationType type,
+                                       @Param("unreadOnly") boolean unreadOnly,
+                                       @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                       @Param("beforeId") Long beforeId,
+                                       @Param("limit") int limit);
+
+    // 사용자의 읽지 않은 공지 수
+    int countUnreadForUser(@Param("userNm") String userNm, @Param("visibleSince") LocalDateTime visibleSince);
+
+    // 여러 사용자의 읽지 않은 공지 수 (0 건인 사용자는 없음)
+    List<NotificationUnreadCount> countUnreadForUsers(@Param("userNms") List<String> userNms,
+                                                      @Param("visibleSince") LocalDateTime visibleSince);
+
+    // 공지 단건 (노출 기간 안의 공지만)
+    Notification findVisibleById(@Param("id") Long id, @Param("visibleSince") LocalDateTime visibleSince);
+
+    // 읽음/숨김 영수증 (이미 있으면 숨김만 누적)
+    int upsertReceipt(@Param("userNm") String userNm, @Param("broadcastId") Long broadcastId,
+                      @Param("hidden") boolean hidden);
+
+    // 읽음 워터마크를 현재 최신 공지로 올린다
+    void advanceWatermark(@Param("userNm") String userNm);
+
+    // 워터마크 아래로 내려간 읽음 영수증 정리 (숨김 영수증은 유지)
+    int deleteReceiptsCoveredByWatermark(@Param("userNm") String userNm);
+
+    // 노출 기간이 지난 공지 ID
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 공지와 영수증 삭제
+    int deleteReceiptsByBroadcastIds(@Param("ids") List<Long> ids);
+
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
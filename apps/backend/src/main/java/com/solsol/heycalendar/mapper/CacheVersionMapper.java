@@ -0,0 +1,17 @@
+package com.solsol.heycalendar.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 인스턴스 간 캐시 무효화용 버전 카운터
+ */
+@Mapper
+public interface CacheVersionMapper {
+
+	// 현재 버전 (행이 없으면 null)
+	Long findVersion(@Param("cacheName") String cacheName);
+
+	// 버전 1 증가 (행이 없으면 생성)
+	void bump(@Param("cacheName") String cacheName);
+}
@@ -12,6 +12,13 @@ import java.util.List;
 @Mapper
 public interface CollegeMapper {
     
+    /**
+     * Find all colleges of every university
+     * 
+     * @return List of colleges ordered by university and name
+     */
+    List<College> findAll();
+    
     /**
      * Find all colleges by university
      * 
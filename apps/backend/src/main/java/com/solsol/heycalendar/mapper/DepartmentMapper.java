@@ -12,6 +12,13 @@ import java.util.List;
 @Mapper
 public interface DepartmentMapper {
     
+    /**
+     * Find all departments of every university
+     * 
+     * @return List of departments ordered by university, college and name
+     */
+    List<Department> findAll();
+    
     /**
      * Find all departments by college
      * 
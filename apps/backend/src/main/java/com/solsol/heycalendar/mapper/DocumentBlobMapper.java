@@ -0,0 +1,27 @@
+package com.solsol.heycalendar.mapper;
+
+import com.solsol.heycalendar.domain.DocumentBlob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface DocumentBlobMapper {
+
+    // 새 blob 등록 (refCount 는 호출 측 값 그대로)
+    void insert(DocumentBlob blob);
+
+    // 같은 사용자의 서버 검증 체크섬 blob
+    DocumentBlob findByChecksum(@Param("userNm") String userNm, @Param("checksumSha256") String checksumSha256);
+
+    // 위와 같되 행 잠금 (등록 시 동시 업로드 직렬화)
+    DocumentBlob findByChecksumForUpdate(@Param("userNm") String userNm, @Param("checksumSha256") String checksumSha256);
+
+    DocumentBlob findByIdForUpdate(@Param("id") Long id);
+
+    // 참조 +1 (이미 0 이 되어 지워진 blob 이면 0 반환)
+    int incrementRef(@Param("id") Long id);
+
+    int decrementRef(@Param("id") Long id);
+
+    int delete(@Param("id") Long id);
+}
@@ -17,6 +17,13 @@ public interface EligibilityMapper {
 	 * @return 자격요건 목록
 	 */
 	List<Eligibility> findByScholarshipNm(@Param("scholarshipNm") Long scholarshipNm);
+
+	/**
+	 * 전체 자격요건 목록을 조회합니다. (장학금 카탈로그 자격 규칙 컴파일용)
+	 *
+	 * @return 장학금 ID 순 자격요건 목록
+	 */
+	List<Eligibility> findAll();
 	
 	/**
 	 * ID로 자격요건을 조회합니다.
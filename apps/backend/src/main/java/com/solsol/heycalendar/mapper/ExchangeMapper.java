@@ -5,6 +5,7 @@ import com.solsol.heycalendar.domain.ExchangeState;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -44,6 +45,20 @@ public interface ExchangeMapper {
      * @return List of exchange records
      */
     List<Exchange> findByUserNm(@Param("userNm") String userNm);
+
+    /**
+     * Find a page of exchange records by user name, newest first
+     *
+     * @param userNm User name
+     * @param beforeAppliedAt Applied time of the last record on the previous page (null for the first page)
+     * @param beforeExchangeNm Exchange ID of the last record on the previous page
+     * @param limit Maximum number of records
+     * @return List of exchange records
+     */
+    List<Exchange> findPageByUserNm(@Param("userNm") String userNm,
+                                    @Param("beforeAppliedAt") LocalDateTime beforeAppliedAt,
+                                    @Param("beforeExchangeNm") String beforeExchangeNm,
+                                    @Param("limit") int limit);
     
     /**
      * Find all exchange records
@@ -77,4 +92,51 @@ public interface ExchangeMapper {
      * @return Total exchange amount
      */
     Integer calculateTotalByUserNmAndState(@Param("userNm") String userNm, @Param("state") ExchangeState state);
-}
\ No newline at end of file
+
+    /**
+     * Find PENDING exchange records for bulk settlement (oldest first)
+     *
+     * @param limit Max rows
+     * @return List of exchange records
+     */
+    List<Exchange> findPendingForSettlement(@Param("limit") int limit);
+
+    /**
+     * Move a PENDING exchange to PROCESSING with the bank transaction number (0 if already taken)
+     *
+     * @param exchangeNm Exchange number
+     * @param userNm User name
+     * @param bankTxnNo Institution transaction unique number for the deposit
+     * @return Number of affected rows
+     */
+    int claimPending(@Param("exchangeNm") String exchangeNm,
+                     @Param("userNm") String userNm,
+                     @Param("bankTxnNo") String bankTxnNo);
+
+    /**
+     * Finish a PROCESSING exchange (APPROVED, REJECTED, or back to PENDING)
+     *
+     * @param exchangeNm Exchange number
+     * @param userNm User name
+     * @param state Next state
+     * @return Number of affected rows
+     */
+    int finishProcessing(@Param("exchangeNm") String exchangeNm,
+                         @Param("userNm") String userNm,
+                         @Param("state") ExchangeState state);
+
+    /**
+     * Reserve the next block of exchange numbers (exchange_id_sequence.next_exchange_nm += count)
+     *
+     * @param count Block size
+     * @return Number of affected rows (0 if the sequence row is missing)
+     */
+    int reserveExchangeNms(@Param("count") int count);
+
+    /**
+     * LAST_INSERT_ID() of this connection (end of the block reserved by reserveExchangeNms, exclusive)
+     *
+     * @return Last insert id
+     */
+    Long findLastInsertId();
+}
@@ -0,0 +1,43 @@
+package com.solsol.heycalendar.mapper;
+
+import com.solsol.heycalendar.domain.MileageBalance;
+import com.solsol.heycalendar.domain.MileageLedgerEntry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface MileageLedgerMapper {
+
+    // 원장 항목 추가 (같은 유형/원천 건이 이미 있으면 중복 키 오류)
+    void insertEntry(MileageLedgerEntry entry);
+
+    // 잔액 증감 (행이 없으면 0)
+    int applyDelta(@Param("userNm") String userNm,
+                   @Param("total") int total,
+                   @Param("pending") int pending,
+                   @Param("approved") int approved);
+
+    // 사용 가능 잔액이 충분할 때만 환전 대기 금액 증가 (동시 신청에도 초과 신청 불가)
+    int holdIfAvailable(@Param("userNm") String userNm, @Param("amount") int amount);
+
+    // 사용 가능 잔액이 충분할 때만 승인 금액 증가 (대기 없이 바로 지급하는 관리자 환전)
+    int payoutIfAvailable(@Param("userNm") String userNm, @Param("amount") int amount);
+
+    // 잔액 행이 없는 사용자의 잔액을 mileage/exchange 내역으로 만든다 (이미 있으면 무시)
+    int seedFromHistory(@Param("userNm") String userNm);
+
+    MileageBalance findBalance(@Param("userNm") String userNm);
+
+    // 잔액 행이 없는 사용자의 잔액을 내역으로 계산 (저장하지 않음)
+    MileageBalance computeFromHistory(@Param("userNm") String userNm);
+
+    // 대사: userNm 순 keyset 으로 잔액 행과 내역 합계를 함께 조회
+    List<MileageBalance> findBalancesWithHistory(@Param("afterUserNm") String afterUserNm, @Param("limit") int limit);
+
+    // 대사 불일치 시 잔액을 내역 기준으로 다시 계산
+    int rebuildFromHistory(@Param("userNm") String userNm);
+
+    int markReconciled(@Param("userNms") List<String> userNms);
+}
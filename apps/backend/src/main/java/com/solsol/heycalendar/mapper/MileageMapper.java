@@ -27,6 +27,18 @@ public interface MileageMapper {
      * @return List of mileage records
      */
     List<Mileage> findByUserNm(@Param("userNm") String userNm);
+
+    /**
+     * Find a page of mileage records by user name, newest first
+     *
+     * @param userNm User name
+     * @param beforeKey Key of the last record on the previous page (null for the first page)
+     * @param limit Maximum number of records
+     * @return List of mileage records
+     */
+    List<Mileage> findPageByUserNm(@Param("userNm") String userNm,
+                                   @Param("beforeKey") Long beforeKey,
+                                   @Param("limit") int limit);
     
     /**
      * Find mileage record by primary key
@@ -9,15 +9,15 @@ import java.util.List;
 public interface MyboxMapper {
 
     @Insert("""
-            INSERT INTO mybox (userNm, object_key_enc, file_name_enc, content_type, size_bytes, checksum_sha256)
-            VALUES (#{userNm}, #{objectKeyEnc}, #{fileNameEnc}, #{contentType}, #{sizeBytes}, #{checksumSha256})
+            INSERT INTO mybox (userNm, object_key_enc, file_name_enc, content_type, size_bytes, checksum_sha256, blob_id)
+            VALUES (#{userNm}, #{objectKeyEnc}, #{fileNameEnc}, #{contentType}, #{sizeBytes}, #{checksumSha256}, #{blobId})
             """)
     @Options(useGeneratedKeys = true, keyProperty = "id")
     void insertDocument(Mybox mybox);
 
     @Select("""
             SELECT id, userNm, object_key_enc as objectKeyEnc, file_name_enc as fileNameEnc, 
-                   content_type as contentType, size_bytes as sizeBytes, checksum_sha256 as checksumSha256,
+                   content_type as contentType, size_bytes as sizeBytes, checksum_sha256 as checksumSha256, blob_id as blobId,
                    created_at as createdAt, updated_at as updatedAt
             FROM mybox 
             WHERE userNm = #{userNm} 
@@ -27,13 +27,16 @@ public interface MyboxMapper {
 
     @Select("""
             SELECT id, userNm, object_key_enc as objectKeyEnc, file_name_enc as fileNameEnc, 
-                   content_type as contentType, size_bytes as sizeBytes, checksum_sha256 as checksumSha256,
+                   content_type as contentType, size_bytes as sizeBytes, checksum_sha256 as checksumSha256, blob_id as blobId,
                    created_at as createdAt, updated_at as updatedAt
             FROM mybox 
             WHERE id = #{id} AND userNm = #{userNm}
             """)
     Mybox findByIdAndUserNm(@Param("id") Long id, @Param("userNm") String userNm);
 
+    @Update("UPDATE mybox SET blob_id = #{blobId} WHERE id = #{id}")
+    void updateBlobId(@Param("id") Long id, @Param("blobId") Long blobId);
+
     @Delete("DELETE FROM mybox WHERE id = #{id}")
     void deleteById(Long id);
 
@@ -46,4 +49,17 @@ public interface MyboxMapper {
                        @Param("action") String action,
                        @Param("objectKeyEnc") byte[] objectKeyEnc,
                        @Param("fileNameEnc") byte[] fileNameEnc);
+
+    /**
+     * 저장소가 확인한 크기/체크섬/ETag 를 함께 남기는 감사 로그
+     */
+    @Insert("""
+            INSERT INTO mybox_audit (mybox_id, actor_userNm, action, object_key_enc, file_name_enc,
+                                     size_bytes, checksum_sha256, s3_etag)
+            VALUES (#{mybox.id}, #{mybox.userNm}, #{action}, #{mybox.objectKeyEnc}, #{mybox.fileNameEnc},
+                    #{mybox.sizeBytes}, #{mybox.checksumSha256}, #{s3Etag})
+            """)
+    void insertObjectAuditLog(@Param("mybox") Mybox mybox,
+                              @Param("action") String action,
+                              @Param("s3Etag") String s3Etag);
 }
@@ -2,9 +2,12 @@ package com.solsol.heycalendar.mapper;
 
 import com.solsol.heycalendar.domain.Notification;
 import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.domain.NotificationUnreadCount;
+import com.solsol.heycalendar.domain.TableSize;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -22,23 +25,67 @@ public interface NotificationMapper {
     // 읽지 않은 알림 조회
     List<Notification> findUnreadByUser(@Param("userNm") String userNm);
     
-    // 알림 읽음 처리
-    void markAsRead(@Param("id") Long id);
+    // 알림함 keyset 페이지 (created_at DESC, id DESC, before* 가 null 이면 첫 페이지)
+    List<Notification> findInboxPage(@Param("userNm") String userNm,
+                                     @Param("unreadOnly") boolean unreadOnly,
+                                     @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                     @Param("beforeId") Long beforeId,
+                                     @Param("limit") int limit);
     
-    // 모든 알림 읽음 처리
-    void markAllAsReadByUser(@Param("userNm") String userNm);
+    // 사용자 본인 알림 단건 조회 (읽음 처리와 삭제가 겹치지 않도록 행 잠금)
+    Notification findByIdForUpdate(@Param("id") Long id, @Param("userNm") String userNm);
     
-    // 읽지 않은 알림 개수
+    // 알림 읽음 처리 (본인의 읽지 않은 알림일 때만, 변경된 행 수 반환)
+    int markAsRead(@Param("id") Long id, @Param("userNm") String userNm);
+    
+    // 모든 알림 읽음 처리 (읽지 않은 알림만, 변경된 행 수 반환)
+    int markAllAsReadByUser(@Param("userNm") String userNm);
+    
+    // 읽지 않은 알림 개수 (카운터 행이 없을 때만 사용)
     int countUnreadByUser(@Param("userNm") String userNm);
     
-    // 알림 삭제
-    void delete(@Param("id") Long id);
+    // 사용자 본인 알림 삭제
+    int delete(@Param("id") Long id, @Param("userNm") String userNm);
+    
+    // 읽지 않은 알림 카운터 증감 (행이 없으면 생성, 0 미만으로 내려가지 않음)
+    void adjustUnreadCount(@Param("userNm") String userNm, @Param("delta") int delta);
+    
+    // 주어진 사용자의 카운터를 알림 테이블 기준으로 다시 계산 (일괄 생성 후)
+    void refreshUnreadCounts(@Param("userNms") List<String> userNms);
+    
+    // 읽지 않은 알림 카운터 (행이 없으면 null)
+    Integer findUnreadCount(@Param("userNm") String userNm);
+    
+    // 여러 사용자의 읽지 않은 알림 카운터
+    List<NotificationUnreadCount> findUnreadCounts(@Param("userNms") List<String> userNms);
+    
+    // 보존 기간이 지난 알림 배치 (생성 시각 순 keyset, 행 잠금)
+    // supersededOnly 이면 같은 사용자/장학금의 더 최신 같은 타입 알림이 있는 행만
+    List<Notification> findRetentionBatchForUpdate(@Param("type") NotificationType type,
+                                                   @Param("isRead") boolean isRead,
+                                                   @Param("cutoff") LocalDateTime cutoff,
+                                                   @Param("supersededOnly") boolean supersededOnly,
+                                                   @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                   @Param("afterId") Long afterId,
+                                                   @Param("limit") int limit);
+    
+    // 알림을 notification_archive 로 복사
+    int archiveByIds(@Param("ids") List<Long> ids);
+    
+    // 알림 일괄 삭제
+    int deleteByIds(@Param("ids") List<Long> ids);
+    
+    // notification / notification_archive 테이블 크기
+    List<TableSize> findTableSizes();
     
     // 중복 알림 체크
     boolean existsByUserAndTypeAndRelatedId(@Param("userNm") String userNm, 
                                           @Param("type") NotificationType type, 
                                           @Param("relatedId") Long relatedId);
     
+    // 알림 일괄 생성 (user_nm + dedup_key 중복은 무시)
+    int insertBatch(@Param("list") List<Notification> notifications);
+    
     // 오늘 생성된 특정 타입의 알림 중복 체크
     boolean existsByUserAndTypeAndRelatedIdToday(@Param("userNm") String userNm, 
                                                @Param("type") NotificationType type, 
@@ -0,0 +1,34 @@
+package com.solsol.heycalendar.mapper;
+
+import com.solsol.heycalendar.domain.NotificationOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface NotificationOutboxMapper {
+    
+    // 전송 대기 메시지 저장
+    void insert(NotificationOutbox outbox);
+    
+    // 전송 시각이 된 대기 메시지를 잠금과 함께 조회 (다른 인스턴스가 잡은 행은 건너뜀)
+    List<NotificationOutbox> findDueForUpdate(@Param("limit") int limit);
+    
+    // 전송 완료 처리
+    int markSent(@Param("ids") List<Long> ids);
+    
+    // 전송 실패 시 재시도 예약 (최대 시도 초과 시 FAILED)
+    int markFailed(@Param("id") Long id,
+                   @Param("status") String status,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+    
+    // 보존 기간이 지난 전송 완료 메시지 삭제 (배치 단위)
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    // 대기 중인 메시지 수
+    int countPending();
+}
@@ -0,0 +1,29 @@
+package com.solsol.heycalendar.mapper;
+
+import com.solsol.heycalendar.domain.ScheduledJob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface ScheduledJobMapper {
+    
+    // 작업 등록 (이미 있으면 무시)
+    void register(@Param("jobName") String jobName);
+    
+    // 리스 획득: 비어 있거나 만료됐거나 내가 가진 리스면 갱신 (1 이면 획득)
+    int tryAcquire(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("leaseSeconds") long leaseSeconds);
+    
+    // 실행 결과 기록 (리스는 만료 시각까지 유지)
+    int release(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("status") String status,
+                @Param("error") String error,
+                @Param("durationMs") long durationMs);
+    
+    // 등록된 작업 목록
+    List<ScheduledJob> findAll();
+}
@@ -2,9 +2,11 @@ package com.solsol.heycalendar.mapper;
 
 import com.solsol.heycalendar.domain.ScholarshipBookmark;
 import com.solsol.heycalendar.domain.Scholarship;
+import com.solsol.heycalendar.dto.response.DeadlineReminderTarget;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -27,4 +29,8 @@ public interface ScholarshipBookmarkMapper {
     
     // 특정 장학금을 찜한 모든 사용자 조회 (스케줄러용)
     List<ScholarshipBookmark> findByScholarshipId(@Param("scholarshipId") Long scholarshipId);
-}
\ No newline at end of file
+    
+    // 마감일이 endDates 중 하나인 모집중 장학금의 찜 사용자 중 오늘 알림을 아직 받지 않은 대상 (스케줄러용)
+    List<DeadlineReminderTarget> findDeadlineReminderTargets(@Param("endDates") List<LocalDate> endDates,
+                                                             @Param("dedupSuffix") String dedupSuffix);
+}
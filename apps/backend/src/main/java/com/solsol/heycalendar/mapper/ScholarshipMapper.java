@@ -15,6 +15,7 @@ public interface ScholarshipMapper {
 
 	// --- scholarship ---
 	List<Scholarship> findAll();
+	List<Scholarship> findAllForCatalog();                  // 목록/필터용 요약 컬럼만
 	List<Scholarship> findByFilters(@Param("status") String status,
 		@Param("category") String category);
 	Scholarship findById(@Param("id") Long id);
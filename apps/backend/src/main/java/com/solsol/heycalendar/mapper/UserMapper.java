@@ -5,8 +5,11 @@ import java.util.Optional;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import com.solsol.heycalendar.domain.User;
+import com.solsol.heycalendar.dto.response.UniversityMileageRow;
+import com.solsol.heycalendar.dto.response.UserEligibilityProfile;
 import com.solsol.heycalendar.dto.request.UserInfoUpdateRequest;
 
 /**
@@ -36,8 +39,28 @@ public interface UserMapper {
 	int insertUser(User user);
 	
 	List<String> findAllActiveUserNames();
+
+	// 장학금 자격 판정용: 학년/평점/학적 상태와 소속 학과/단과대명
+	UserEligibilityProfile findEligibilityProfile(@Param("userNm") String userNm);
 	
 	// 마일리지 관련 메서드
 	int updateUserMileage(@Param("userNm") String userNm, @Param("mileageAmount") Integer mileageAmount);
 	int addUserMileage(@Param("userNm") String userNm, @Param("mileageAmount") Integer mileageAmount);
+
+	// 잔액이 충분할 때만 차감 (부족하면 0 반환) - 읽고 쓰는 사이의 경쟁 없이 SQL 한 번으로 처리
+	int debitUserMileage(@Param("userNm") String userNm, @Param("mileageAmount") Integer mileageAmount);
+
+	// 일괄 처리용 다건 조회
+	List<User> findByUserNms(@Param("userNms") List<String> userNms);
+
+	// 관리자 대학 마일리지 현황: 재학 중인 학생별 마일리지와 환전 대기 합계를 한 번의 집계 쿼리로 조회 (univNm 이 null 이면 전체 대학)
+	// 행은 (availableMileage DESC, userNm) 순서로 handler 에 하나씩 전달된다
+	void streamUniversityStudentMileages(@Param("univNm") Long univNm, ResultHandler<UniversityMileageRow> handler);
+
+	// 위 집계의 keyset 페이지 (sort: available - 사용 가능 마일리지 내림차순, userNm - 학번 오름차순 / 커서가 null 이면 첫 페이지)
+	List<UniversityMileageRow> findUniversityStudentMileagePage(@Param("univNm") Long univNm,
+		@Param("sort") String sort,
+		@Param("cursorAvailable") Integer cursorAvailable,
+		@Param("cursorUserNm") String cursorUserNm,
+		@Param("limit") int limit);
 }
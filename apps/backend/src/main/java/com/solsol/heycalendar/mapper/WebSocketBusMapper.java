@@ -0,0 +1,26 @@
+package com.solsol.heycalendar.mapper;
+
+import com.solsol.heycalendar.domain.WebSocketBusMessage;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface WebSocketBusMapper {
+
+    // 버스 메시지 발행
+    void insert(WebSocketBusMessage message);
+
+    // 현재 마지막 메시지 ID (없으면 0) - 새로 뜬 인스턴스는 이후 메시지부터 읽는다
+    long findMaxId();
+
+    // pageAfterId 이후 메시지 중 afterId 보다 크거나 최근 windowSeconds 안에 쓰인 것 (id 순)
+    List<WebSocketBusMessage> findAfterOrRecent(@Param("pageAfterId") long pageAfterId,
+                                                @Param("afterId") long afterId,
+                                                @Param("windowSeconds") int windowSeconds,
+                                                @Param("limit") int limit);
+
+    // 보존 시간이 지난 메시지 삭제
+    int deleteOlderThan(@Param("seconds") int seconds, @Param("limit") int limit);
+}
@@ -33,4 +33,18 @@ public class CustomUserDetailsService implements UserDetailsService {
 
 		return CustomUserPrincipal.create(user);
 	}
+
+	/**
+	 * 학번(userNm)으로 사용자 정보를 로드 (인증 필터의 사용자 정보 캐시 미스 시 사용)
+	 *
+	 * @param userNm 조회할 사용자의 학번
+	 * @return 조회된 사용자의 정보를 담은 CustomUserPrincipal 객체
+	 * @throws UsernameNotFoundException 해당 학번의 사용자를 찾을 수 없을 경우
+	 */
+	public CustomUserPrincipal loadUserByUserNm(String userNm) throws UsernameNotFoundException {
+		User user = userMapper.findByUserNm(userNm)
+			.orElseThrow(() -> new UsernameNotFoundException("user not found: " + userNm));
+
+		return CustomUserPrincipal.create(user);
+	}
 }
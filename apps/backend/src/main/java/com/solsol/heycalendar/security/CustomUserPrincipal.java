@@ -9,6 +9,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import com.solsol.heycalendar.domain.User;
 
+import io.jsonwebtoken.Claims;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -30,6 +31,10 @@ public class CustomUserPrincipal implements UserDetails {
 	private Long univNm;       // 대학교 (BIGINT)
 	private Integer grade;     // 학년 (INT)
 
+	private String univName;    // 대학교명 (토큰 클레임)
+	private String collegeName; // 단과대학명 (토큰 클레임)
+	private String deptName;    // 학과명 (토큰 클레임)
+
 	/**
 	 * User 엔티티 객체를 기반으로 CustomUserPrincipal 객체를 생성
 	 *
@@ -42,7 +47,33 @@ public class CustomUserPrincipal implements UserDetails {
 			user.getDeptNm(),
 			user.getCollegeNm(),
 			user.getUnivNm(),
-			user.getGrade());
+			user.getGrade(),
+			null, null, null);
+	}
+
+	/**
+	 * 검증이 끝난 액세스 토큰 클레임으로 CustomUserPrincipal 객체를 생성 (DB 조회 없음).
+	 * 토큰에는 소속 ID 대신 이름만 있으므로 deptNm/collegeNm/univNm 은 null
+	 *
+	 * @param claims AuthTokenService.createAccessToken 이 만든 클레임
+	 * @return 생성된 CustomUserPrincipal 객체
+	 */
+	public static CustomUserPrincipal fromClaims(Claims claims) {
+		String userNm = claims.get("userNm", String.class);
+		String role = claims.get("role", String.class);
+		return new CustomUserPrincipal(
+			userNm != null ? userNm : claims.getSubject(),
+			claims.get("userId", String.class),
+			null,
+			claims.get("userName", String.class),
+			role != null ? role : "STUDENT",
+			null,
+			null,
+			null,
+			claims.get("grade", Integer.class),
+			claims.get("univName", String.class),
+			claims.get("collegeName", String.class),
+			claims.get("deptName", String.class));
 	}
 
 	@Override
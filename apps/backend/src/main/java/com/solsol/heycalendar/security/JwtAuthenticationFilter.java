@@ -4,7 +4,6 @@ import java.io.IOException;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -12,6 +11,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.solsol.heycalendar.config.JwtProperties;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,11 +30,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final JwtUtil jwtUtil;
 	private final CustomUserDetailsService userDetailsService;
 	private final JwtProperties jwtProperties;
+	private final PrincipalCache principalCache;
 
 	/**
 	 * 실제 필터링 로직을 수행
-	 * 요청 헤더에서 JWT 토큰을 추출하고, 유효성을 검사한 뒤,
-	 * 해당 사용자의 인증 정보를 SecurityContext에 설정
+	 * 요청 헤더에서 JWT 토큰을 추출해 한 번만 파싱/검증하고,
+	 * 사용자 정보 캐시(또는 토큰 클레임)로 인증 정보를 만들어 SecurityContext에 설정
 	 *
 	 * @param request      HTTP 요청
 	 * @param response     HTTP 응답
@@ -49,13 +50,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		try {
 			String jwt = getJwtFromRequest(request);
 
-			if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-				String userId = jwtUtil.extractUserId(jwt);
+			Claims claims = StringUtils.hasText(jwt) ? jwtUtil.parseAccessToken(jwt) : null;
 
-				UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+			if (claims != null) {
+				CustomUserPrincipal principal = resolvePrincipal(claims);
 
 				UsernamePasswordAuthenticationToken authentication =
-					new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+					new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
 				authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
 				SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -67,6 +68,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	/**
+	 * 캐시가 켜져 있으면 캐시(미스 시 DB)에서, 꺼져 있으면 토큰 클레임만으로 사용자 정보 생성
+	 */
+	private CustomUserPrincipal resolvePrincipal(Claims claims) {
+		if (!principalCache.isEnabled()) {
+			return CustomUserPrincipal.fromClaims(claims);
+		}
+		return principalCache.get(claims.getSubject(), userDetailsService::loadUserByUserNm);
+	}
+
 	/**
 	 * HttpServletRequest에서 'Authorization' 헤더를 파싱하여 JWT 토큰을 추출
 	 *
@@ -12,6 +12,7 @@ import com.solsol.heycalendar.config.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -32,12 +33,16 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtUtil {
 	private final JwtProperties props;
 	private SecretKey secretKey;
+	private JwtParser parser;
 
-	/** JWT 서명에 사용할 키 생성 */
+	/** JWT 서명에 사용할 키와 검증용 파서 생성 (파서는 불변이라 재사용) */
 	@PostConstruct
 	void init() {
 		byte[] bytes = props.getJwt().getSecret().getBytes(StandardCharsets.UTF_8);
 		this.secretKey = Keys.hmacShaKeyFor(bytes);
+		this.parser = Jwts.parser()
+			.verifyWith(secretKey)
+			.build();
 	}
 	private SecretKey key() { return this.secretKey; }
 
@@ -68,10 +73,19 @@ public class JwtUtil {
 
 	/** 서명된 JWS 파싱 */
 	public Jws<Claims> parse(String token) {
-		return Jwts.parser()
-			.verifyWith(key()) // ✅ SecretKey 필요
-			.build()
-			.parseSignedClaims(token);
+		return parser.parseSignedClaims(token);
+	}
+
+	/**
+	 * 액세스 토큰을 한 번만 파싱/서명 검증해 클레임 반환.
+	 * 유효하지 않거나 액세스 토큰(typ=access)이 아니면 null
+	 */
+	public Claims parseAccessToken(String token) {
+		Claims claims = verify(token);
+		if (claims == null || !"access".equals(claims.get("typ", String.class))) {
+			return null;
+		}
+		return claims;
 	}
 
 	public String extractUserId(String token) {
@@ -89,9 +103,12 @@ public class JwtUtil {
 	}
 
 	public boolean validateToken(String token) {
+		return verify(token) != null;
+	}
+
+	private Claims verify(String token) {
 		try {
-			parse(token);
-			return true;
+			return parse(token).getPayload();
 		} catch (WeakKeyException e) {
 			log.warn("Weak JWT Secret Key.", e);
 		} catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
@@ -103,7 +120,7 @@ public class JwtUtil {
 		} catch (IllegalArgumentException e) {
 			log.info("JWT claims string is empty.", e);
 		}
-		return false;
+		return null;
 	}
 
 	public boolean isAccess(String token) {
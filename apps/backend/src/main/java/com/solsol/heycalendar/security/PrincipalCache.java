@@ -0,0 +1,112 @@
+package com.solsol.heycalendar.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.solsol.heycalendar.config.JwtProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 필터용 사용자 정보(CustomUserPrincipal) 캐시. userNm 기준, TTL + 최대 개수 제한.
+ *
+ * 권한/비밀번호/소속 변경과 로그아웃 시 evict 로 즉시 버리고,
+ * 다른 인스턴스의 항목은 TTL 이 지나면 DB 에서 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+	private final boolean enabled;
+	private final long ttlMillis;
+	private final int maxEntries;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	public PrincipalCache(JwtProperties props) {
+		JwtProperties.PrincipalCache config = props.getPrincipalCache();
+		this.enabled = config.isEnabled();
+		this.ttlMillis = config.getTtlSeconds() * 1000L;
+		this.maxEntries = config.getMaxEntries();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 캐시된 사용자 정보를 반환하고, 없거나 만료되었으면 loader 로 읽어 저장
+	 */
+	public CustomUserPrincipal get(String userNm, Function<String, CustomUserPrincipal> loader) {
+		long now = System.currentTimeMillis();
+		Entry entry = entries.get(userNm);
+		if (entry != null && entry.expiresAt() > now) {
+			hits.incrementAndGet();
+			return entry.principal();
+		}
+
+		misses.incrementAndGet();
+		CustomUserPrincipal principal = loader.apply(userNm);
+		if (entries.size() >= maxEntries) {
+			purgeExpired(now);
+		}
+		// 정리 후에도 가득 차 있으면 저장하지 않는다 (메모리 상한)
+		if (entries.size() < maxEntries) {
+			entries.put(userNm, new Entry(principal, now + ttlMillis));
+		}
+		return principal;
+	}
+
+	/**
+	 * 사용자 정보 변경/로그아웃 시 해당 사용자 항목 제거.
+	 * 트랜잭션 안이면 커밋 후에 제거해 커밋 전 값이 다시 캐시되지 않게 한다.
+	 */
+	public void evict(String userNm) {
+		if (userNm == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					remove(userNm);
+				}
+			});
+		} else {
+			remove(userNm);
+		}
+	}
+
+	private void remove(String userNm) {
+		if (entries.remove(userNm) != null) {
+			evictions.incrementAndGet();
+			log.debug("사용자 정보 캐시 제거 - userNm: {}", userNm);
+		}
+	}
+
+	public Stats getStats() {
+		return new Stats(enabled, entries.size(), hits.get(), misses.get(), evictions.get());
+	}
+
+	private void purgeExpired(long now) {
+		entries.values().removeIf(e -> e.expiresAt() <= now);
+	}
+
+	private record Entry(CustomUserPrincipal principal, long expiresAt) {
+	}
+
+	/**
+	 * 캐시 통계
+	 */
+	public record Stats(boolean enabled, int size, long hits, long misses, long evictions) {
+	}
+}
@@ -0,0 +1,76 @@
+package com.solsol.heycalendar.security;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.solsol.heycalendar.config.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP CONNECT 프레임의 JWT 로 세션 사용자를 정해 /user/queue/... 사용자 목적지 라우팅에 쓰이게 하는 인터셉터.
+ * 토큰이 없거나 유효하지 않은 연결은 공개 토픽만 구독할 수 있고,
+ * 다른 사용자의 큐를 직접 구독하지 못하도록 /queue/... 직접 구독은 거부한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+	private static final String DIRECT_QUEUE_PREFIX = "/queue/";
+
+	private final JwtUtil jwtUtil;
+	private final JwtProperties jwtProperties;
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null || accessor.getCommand() == null) {
+			return message;
+		}
+
+		if (accessor.getCommand() == StompCommand.CONNECT) {
+			CustomUserPrincipal principal = authenticate(accessor);
+			if (principal != null) {
+				accessor.setUser(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+			}
+		} else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+			String destination = accessor.getDestination();
+			if (destination != null && destination.startsWith(DIRECT_QUEUE_PREFIX)) {
+				throw new MessageDeliveryException("사용자 큐는 /user" + destination + " 로 구독해야 합니다.");
+			}
+		}
+		return message;
+	}
+
+	/**
+	 * CONNECT 헤더(HTTP 와 같은 이름/접두사)의 액세스 토큰 검증, 없거나 유효하지 않으면 null
+	 */
+	private CustomUserPrincipal authenticate(StompHeaderAccessor accessor) {
+		String headerName = jwtProperties.getJwt().getHeaderString();
+		String prefix = jwtProperties.getJwt().getNormalizedTokenPrefix();
+		if (!StringUtils.hasText(headerName) || !StringUtils.hasText(prefix)) return null;
+
+		String headerVal = accessor.getFirstNativeHeader(headerName);
+		if (!StringUtils.hasText(headerVal) || !headerVal.toLowerCase().startsWith(prefix.toLowerCase())) return null;
+
+		String token = headerVal.substring(prefix.length()).stripLeading();
+		try {
+			Claims claims = StringUtils.hasText(token) ? jwtUtil.parseAccessToken(token) : null;
+			return claims != null ? CustomUserPrincipal.fromClaims(claims) : null;
+		} catch (Exception ex) {
+			log.warn("WebSocket 연결 토큰 검증 실패: {}", ex.getMessage());
+			return null;
+		}
+	}
+}
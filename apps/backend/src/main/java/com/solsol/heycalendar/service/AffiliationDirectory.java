@@ -0,0 +1,311 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.College;
+import com.solsol.heycalendar.domain.Department;
+import com.solsol.heycalendar.domain.University;
+import com.solsol.heycalendar.mapper.CacheVersionMapper;
+import com.solsol.heycalendar.mapper.CollegeMapper;
+import com.solsol.heycalendar.mapper.DepartmentMapper;
+import com.solsol.heycalendar.mapper.UniversityMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대학/단과대/학과 소속 정보 인메모리 디렉터리.
+ *
+ * 세 테이블을 각각 쿼리 한 번으로 읽어 ID 로 색인한 불변 스냅샷을 만들고,
+ * 계층 조회·이름 조회·회원가입 소속 검증은 모두 스냅샷에서 응답한다.
+ * 기동 직후 미리 적재하며, 대학/단과대/학과 변경 시 cache_version 을 같은 트랜잭션에서 올리고
+ * 커밋 후 로컬 스냅샷을 버린다. 다른 인스턴스는 버전 행을 주기적으로 확인한다.
+ */
+@Slf4j
+@Service
+public class AffiliationDirectory {
+
+    static final String CACHE_NAME = "affiliation";
+
+    private final UniversityMapper universityMapper;
+    private final CollegeMapper collegeMapper;
+    private final DepartmentMapper departmentMapper;
+    private final CacheVersionMapper cacheVersionMapper;
+    private final Object loadLock = new Object();
+
+    private volatile Snapshot snapshot;
+    // 로드 중에 무효화가 일어나면 로드 결과를 버리기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile long lastLoadMillis;
+
+    public AffiliationDirectory(UniversityMapper universityMapper,
+                                CollegeMapper collegeMapper,
+                                DepartmentMapper departmentMapper,
+                                CacheVersionMapper cacheVersionMapper) {
+        this.universityMapper = universityMapper;
+        this.collegeMapper = collegeMapper;
+        this.departmentMapper = departmentMapper;
+        this.cacheVersionMapper = cacheVersionMapper;
+    }
+
+    /**
+     * 기동 직후 스냅샷 적재 (실패해도 첫 조회 때 다시 시도한다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            get();
+        } catch (Exception e) {
+            log.warn("소속 정보 디렉터리 사전 적재 실패 - 첫 조회 때 다시 적재", e);
+        }
+    }
+
+    /**
+     * 현재 스냅샷 (없으면 DB 에서 다시 만든다)
+     */
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            hits.incrementAndGet();
+            return current;
+        }
+
+        misses.incrementAndGet();
+        synchronized (loadLock) {
+            current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            long loadGeneration = generation.get();
+            Snapshot loaded = load();
+            if (generation.get() == loadGeneration) {
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    public String getUniversityName(Long univNm) {
+        University university = univNm == null ? null : get().university(String.valueOf(univNm));
+        return university == null ? null : university.getUnivName();
+    }
+
+    public String getCollegeName(Long univNm, Long collegeNm) {
+        College college = (univNm == null || collegeNm == null) ? null :
+            get().college(String.valueOf(univNm), String.valueOf(collegeNm));
+        return college == null ? null : college.getName();
+    }
+
+    public String getDepartmentName(Long univNm, Long collegeNm, Long deptNm) {
+        Department department = (univNm == null || collegeNm == null || deptNm == null) ? null :
+            get().department(String.valueOf(univNm), String.valueOf(collegeNm), String.valueOf(deptNm));
+        return department == null ? null : department.getName();
+    }
+
+    /**
+     * 회원가입 소속 검증. 학과 번호는 단과대마다 매겨지므로 대학 안에서 하나로 정해질 때만 단과대를 결정한다.
+     *
+     * @return 대학에 속한 학과 (단과대 번호 포함)
+     * @throws IllegalArgumentException 대학이 없거나, 대학에 해당 학과가 없거나, 여러 단과대에 같은 번호가 있는 경우
+     */
+    public Department resolveDepartment(Long univNm, Long deptNm) {
+        if (univNm == null || deptNm == null) {
+            throw new IllegalArgumentException("University and department are required");
+        }
+        Snapshot current = get();
+        String univKey = String.valueOf(univNm);
+        if (current.university(univKey) == null) {
+            throw new IllegalArgumentException("Unknown university: " + univNm);
+        }
+        List<Department> candidates = current.departmentsByUniversityDept()
+            .getOrDefault(key(univKey, String.valueOf(deptNm)), List.of());
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("Unknown department " + deptNm + " in university " + univNm);
+        }
+        if (candidates.size() > 1) {
+            throw new IllegalArgumentException("Department " + deptNm + " is ambiguous in university " + univNm);
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * 소속 정보 변경 알림. 호출한 쓰기 트랜잭션 안에서 버전을 올리고, 커밋 후 로컬 스냅샷을 버린다.
+     */
+    public void invalidate() {
+        cacheVersionMapper.bump(CACHE_NAME);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal();
+                }
+            });
+        } else {
+            evictLocal();
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 올린 버전 확인 (PK 조회 1회)
+     */
+    @Scheduled(fixedDelayString = "${affiliation.cache.version-poll-ms:5000}")
+    public void pollVersion() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        try {
+            if (currentVersion() != current.version()) {
+                log.debug("소속 정보 버전 변경 감지 - 로컬 스냅샷 폐기 (v{})", current.version());
+                evictLocal();
+            }
+        } catch (Exception e) {
+            log.warn("소속 정보 버전 확인 실패", e);
+        }
+    }
+
+    public CacheStats getStats() {
+        Snapshot current = snapshot;
+        return new CacheStats(
+            hits.get(),
+            misses.get(),
+            loads.get(),
+            invalidations.get(),
+            current == null ? 0 : current.universities().size(),
+            current == null ? 0 : current.collegesById().size(),
+            current == null ? 0 : current.departmentsById().size(),
+            current == null ? -1 : current.version(),
+            lastLoadMillis
+        );
+    }
+
+    private void evictLocal() {
+        generation.incrementAndGet();
+        snapshot = null;
+        invalidations.incrementAndGet();
+    }
+
+    private Snapshot load() {
+        long startedAt = System.nanoTime();
+        // 버전을 먼저 읽어야 로드 도중의 변경이 다음 폴링에서 감지된다
+        long version = currentVersion();
+        List<University> universities = universityMapper.findAll();
+        List<College> colleges = collegeMapper.findAll();
+        List<Department> departments = departmentMapper.findAll();
+
+        Map<String, University> universitiesById = new HashMap<>();
+        for (University u : universities) {
+            universitiesById.put(u.getUnivNm(), u);
+        }
+
+        // 쿼리 정렬(이름순)을 유지하도록 LinkedHashMap 으로 묶는다
+        Map<String, College> collegesById = new HashMap<>();
+        Map<String, List<College>> collegesByUniversity = new LinkedHashMap<>();
+        for (College c : colleges) {
+            collegesById.put(key(c.getUnivNm(), c.getCollegeNm()), c);
+            collegesByUniversity.computeIfAbsent(c.getUnivNm(), k -> new ArrayList<>()).add(c);
+        }
+
+        Map<String, Department> departmentsById = new HashMap<>();
+        Map<String, List<Department>> departmentsByCollege = new LinkedHashMap<>();
+        Map<String, List<Department>> departmentsByUniversityDept = new HashMap<>();
+        for (Department d : departments) {
+            departmentsById.put(key(d.getUnivNm(), d.getCollegeNm(), d.getDeptNm()), d);
+            departmentsByCollege.computeIfAbsent(key(d.getUnivNm(), d.getCollegeNm()), k -> new ArrayList<>()).add(d);
+            departmentsByUniversityDept.computeIfAbsent(key(d.getUnivNm(), d.getDeptNm()), k -> new ArrayList<>()).add(d);
+        }
+
+        Snapshot loaded = new Snapshot(
+            version,
+            List.copyOf(universities),
+            Map.copyOf(universitiesById),
+            Map.copyOf(collegesById),
+            copyGroups(collegesByUniversity),
+            Map.copyOf(departmentsById),
+            copyGroups(departmentsByCollege),
+            copyGroups(departmentsByUniversityDept)
+        );
+
+        loads.incrementAndGet();
+        lastLoadMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("소속 정보 스냅샷 로드 - 대학 {}, 단과대 {}, 학과 {}, v{}, {}ms",
+            universities.size(), colleges.size(), departments.size(), version, lastLoadMillis);
+        return loaded;
+    }
+
+    private long currentVersion() {
+        Long version = cacheVersionMapper.findVersion(CACHE_NAME);
+        return version == null ? 0 : version;
+    }
+
+    private static <T> Map<String, List<T>> copyGroups(Map<String, List<T>> groups) {
+        Map<String, List<T>> copy = new HashMap<>();
+        groups.forEach((k, v) -> copy.put(k, List.copyOf(v)));
+        return Map.copyOf(copy);
+    }
+
+    static String key(String... ids) {
+        return String.join(":", ids);
+    }
+
+    /**
+     * 불변 소속 정보 스냅샷. 복합 키는 "대학:단과대(:학과)" 형식이며 목록은 이름순이다.
+     */
+    public record Snapshot(long version,
+                           List<University> universities,
+                           Map<String, University> universitiesById,
+                           Map<String, College> collegesById,
+                           Map<String, List<College>> collegesByUniversity,
+                           Map<String, Department> departmentsById,
+                           Map<String, List<Department>> departmentsByCollege,
+                           Map<String, List<Department>> departmentsByUniversityDept) {
+
+        public University university(String univNm) {
+            return univNm == null ? null : universitiesById.get(univNm);
+        }
+
+        public College college(String univNm, String collegeNm) {
+            return collegesById.get(key(univNm, collegeNm));
+        }
+
+        public Department department(String univNm, String collegeNm, String deptNm) {
+            return departmentsById.get(key(univNm, collegeNm, deptNm));
+        }
+
+        public List<College> colleges(String univNm) {
+            return collegesByUniversity.getOrDefault(univNm, List.of());
+        }
+
+        public List<Department> departments(String univNm, String collegeNm) {
+            return departmentsByCollege.getOrDefault(key(univNm, collegeNm), List.of());
+        }
+    }
+
+    /**
+     * 캐시 적중/미스와 로드 통계
+     */
+    public record CacheStats(long hits, long misses, long loads, long invalidations,
+                             int universities, int colleges, int departments,
+                             long version, long lastLoadMillis) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.solsol.heycalendar.service;
 import com.solsol.heycalendar.dto.request.ApplicationDocumentRequest;
 import com.solsol.heycalendar.dto.request.ApplicationRequest;
 import com.solsol.heycalendar.dto.request.ApplicationReviewRequest;
+import com.solsol.heycalendar.dto.response.AdminApplicationRow;
 import com.solsol.heycalendar.dto.response.ApplicationDetailResponse;
 import com.solsol.heycalendar.dto.response.ApplicationDocumentResponse;
 import com.solsol.heycalendar.dto.response.ApplicationResponse;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
 import com.solsol.heycalendar.entity.Application;
 import com.solsol.heycalendar.entity.ApplicationDocument;
 import com.solsol.heycalendar.entity.ApplicationState;
@@ -13,20 +15,19 @@ import com.solsol.heycalendar.mapper.ApplicationDocumentMapper;
 import com.solsol.heycalendar.mapper.ApplicationMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Value;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import com.solsol.heycalendar.dto.request.MileageRequest;
 import com.solsol.heycalendar.service.MileageService;
 import com.solsol.heycalendar.util.CryptoUtil;
@@ -43,47 +44,84 @@ public class ApplicationService {
 
     private final ApplicationMapper applicationMapper;
     private final ApplicationDocumentMapper applicationDocumentMapper;
-    private final S3Presigner s3Presigner;
+    private final PresignedUrlService presignedUrlService;
     private final MileageService mileageService;
     private final CryptoUtil cryptoUtil;
     private final NotificationService notificationService;
+    private final DocumentBlobService documentBlobService;
 
-    @Value("${AWS_S3_BUCKET}")
-    private String bucketName;
+    // 관리자 신청 목록 페이지 크기
+    static final int ADMIN_PAGE_DEFAULT_SIZE = 50;
+    static final int ADMIN_PAGE_MAX_SIZE = 200;
 
     /**
      * Get all applications with scholarship information (Admin)
+     * 기존 전체 목록 API 호환용 - keyset 페이지를 끝까지 이어 붙인다 (신청마다 서류/마일리지를 따로 조회하지 않음)
      */
     @Transactional(readOnly = true)
     public List<ApplicationResponse> getAllApplications() {
         log.debug("Fetching all applications with scholarship information");
-        List<ApplicationResponse> applications = applicationMapper.findAllApplicationsWithScholarship();
-        
-        // 각 application에 대해 관련 documents 및 마일리지 지급 상태 조회
-        for (ApplicationResponse application : applications) {
-            // Documents 조회
-            List<ApplicationDocument> documents = applicationDocumentMapper.findDocumentsByUserAndScholarship(
-                application.getUserNm(), String.valueOf(application.getScholarshipNm())
-            );
-            
-            // ApplicationDocument를 Response로 변환 (암호화된 상태 - presigned URL은 별도 API로 처리)
-            List<ApplicationDocumentResponse> documentResponses = documents.stream()
-                    .map(this::convertToApplicationDocumentResponse)
-                    .collect(Collectors.toList());
-            
-            application.setDocuments(documentResponses);
-            
-            // 마일리지 지급 상태 확인
-            boolean mileagePaid = mileageService.isMileagePaid(
-                application.getUserNm(), 
-                application.getScholarshipNm()
-            );
-            application.setMileagePaid(mileagePaid);
-        }
-        
+        List<ApplicationResponse> applications = new ArrayList<>();
+        String cursor = null;
+        CursorPageResponse<ApplicationResponse> page;
+        do {
+            page = getApplicationsPage(cursor, ADMIN_PAGE_MAX_SIZE);
+            applications.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
         return applications;
     }
 
+    /**
+     * 관리자 신청 목록 keyset 페이지 조회.
+     * 신청/제출서류/마일리지 지급 여부를 조인 쿼리 한 번으로 읽고, 행을 스트리밍으로 받아 신청 단위로 묶는다.
+     * 파일명은 페이지 단위로 일괄 복호화하며, 다운로드 URL 은 목록에서 만들지 않고
+     * 관리자 다운로드 URL API 에서 필요할 때 발급한다.
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 200)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ApplicationResponse> getApplicationsPage(String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? ADMIN_PAGE_DEFAULT_SIZE : Math.min(size, ADMIN_PAGE_MAX_SIZE);
+        AdminApplicationCursor after = AdminApplicationCursor.decode(cursor);
+
+        AdminApplicationPageAssembler assembler = new AdminApplicationPageAssembler();
+        // 다음 페이지 존재 여부 확인용으로 1건 더 읽는다
+        applicationMapper.streamAdminApplicationPage(
+                after == null ? null : after.appliedAt(),
+                after == null ? null : after.userNm(),
+                after == null ? null : after.scholarshipNm(),
+                pageSize + 1,
+                assembler);
+
+        List<ApplicationResponse> items = assembler.applications;
+        boolean hasNext = items.size() > pageSize;
+        if (hasNext) {
+            items = items.subList(0, pageSize);
+        }
+
+        List<String> fileNames = cryptoUtil.decryptAll(assembler.fileNameEncs);
+        for (int i = 0; i < assembler.documents.size(); i++) {
+            String fileName = fileNames.get(i);
+            if (fileName == null && assembler.fileNameEncs.get(i) != null) {
+                fileName = "encrypted_file";
+            }
+            assembler.documents.get(i).setOriginalFileName(fileName);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            ApplicationResponse last = items.get(items.size() - 1);
+            nextCursor = new AdminApplicationCursor(last.getAppliedAt(), last.getUserNm(), last.getScholarshipNm()).encode();
+        }
+
+        return CursorPageResponse.<ApplicationResponse>builder()
+                .items(new ArrayList<>(items))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     /**
      * Get applications by user
      */
@@ -130,6 +168,14 @@ public class ApplicationService {
             throw new IllegalStateException("심사가 완료된 신청은 취소할 수 없습니다.");
         }
 
+        // 서류 행은 FK CASCADE로 지워지므로 공유 blob 참조는 여기서 먼저 반납한다
+        List<ApplicationDocument> documents = applicationDocumentMapper.findDocumentsByUserAndScholarship(userNm, scholarshipNm);
+        for (ApplicationDocument document : documents) {
+            if (document.getBlobId() != null && documentBlobService.release(document.getBlobId())) {
+                presignedUrlService.evict(document.getObjectKeyEnc());
+            }
+        }
+
         // FK CASCADE 제약조건으로 인해 ApplicationDocument도 자동으로 삭제됨
         applicationMapper.deleteApplication(userNm, scholarshipNm);
         log.info("✅ 장학금 신청 취소 완료 - userNm: {}, scholarshipNm: {} (관련 서류도 CASCADE로 자동 삭제)", userNm, scholarshipNm);
@@ -162,9 +208,7 @@ public class ApplicationService {
 
         // Get documents for this application
         List<ApplicationDocument> documents = applicationDocumentMapper.findDocumentsByUserAndScholarship(userNm, scholarshipNm);
-        List<ApplicationDocumentResponse> documentResponses = documents.stream()
-                .map(this::convertToApplicationDocumentResponse)
-                .collect(Collectors.toList());
+        List<ApplicationDocumentResponse> documentResponses = convertToApplicationDocumentResponses(documents);
         
         // 암호화된 데이터이므로 presigned URL은 별도 API로 처리
         // ApplicationController의 generateApplicationDocumentDownloadUrlForAdmin 사용
@@ -391,9 +435,7 @@ public class ApplicationService {
         getApplicationOrThrow(userNm, scholarshipNm);
 
         List<ApplicationDocument> documents = applicationDocumentMapper.findDocumentsByUserAndScholarship(userNm, scholarshipNm);
-        return documents.stream()
-                .map(this::convertToApplicationDocumentResponse)
-                .collect(Collectors.toList());
+        return convertToApplicationDocumentResponses(documents);
     }
 
     /**
@@ -412,6 +454,10 @@ public class ApplicationService {
         }
 
         applicationDocumentMapper.deleteDocument(documentNm, userNm, scholarshipNm);
+        // MyBox 원본과 공유하는 S3 객체라 마지막 참조일 때만 지운다
+        if (document.getBlobId() != null && documentBlobService.release(document.getBlobId())) {
+            presignedUrlService.evict(document.getObjectKeyEnc());
+        }
         log.info("document deleted successfully: {} for user: {} and scholarship: {}", documentNm, userNm, scholarshipNm);
     }
 
@@ -454,7 +500,7 @@ public class ApplicationService {
     /**
      * Convert Application entity to ApplicationResponse DTO
      */
-    private ApplicationResponse convertToApplicationResponse(Application application) {
+    ApplicationResponse convertToApplicationResponse(Application application) {
         // Count documents for this application
         int documentCount = applicationDocumentMapper.countDocumentsByUserAndScholarship(
                 application.getUserNm(), application.getScholarshipNm());
@@ -479,31 +525,46 @@ public class ApplicationService {
         String originalFileName = null;
         if (document.getFileNameEnc() != null) {
             try {
-                originalFileName = cryptoUtil.decrypt(new String(document.getFileNameEnc()));
+                originalFileName = cryptoUtil.decryptBytes(document.getFileNameEnc());
                 log.debug("Decrypted filename: {} -> {}", document.getApplicationDocumentNm(), originalFileName);
             } catch (Exception e) {
                 log.warn("Failed to decrypt filename for document: {}", document.getApplicationDocumentNm(), e);
                 originalFileName = "encrypted_file";
             }
         }
-        
-        // 암호화된 S3 ObjectKey 복호화 후 Presigned URL 생성
-        String fileUrl = null;
-        if (document.getObjectKeyEnc() != null) {
-            try {
-                String decryptedObjectKey = cryptoUtil.decrypt(new String(document.getObjectKeyEnc()));
-                fileUrl = generatePresignedUrlForObjectKey(decryptedObjectKey);
-                log.debug("Generated presigned URL for document: {}", document.getApplicationDocumentNm());
-            } catch (Exception e) {
-                log.warn("Failed to generate presigned URL for document: {}", document.getApplicationDocumentNm(), e);
+
+        return toApplicationDocumentResponse(document, originalFileName);
+    }
+
+    /**
+     * 목록 변환 - 파일명만 한 번에 일괄 복호화.
+     * 다운로드 URL 은 목록에서 만들지 않고 다운로드 URL API(단건/일괄)에서 요청 시 발급한다.
+     */
+    private List<ApplicationDocumentResponse> convertToApplicationDocumentResponses(List<ApplicationDocument> documents) {
+        if (documents.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> fileNames = cryptoUtil.decryptAll(documents.stream().map(ApplicationDocument::getFileNameEnc).toList());
+
+        List<ApplicationDocumentResponse> responses = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            ApplicationDocument document = documents.get(i);
+            String originalFileName = fileNames.get(i);
+            if (originalFileName == null && document.getFileNameEnc() != null) {
+                originalFileName = "encrypted_file";
             }
+            responses.add(toApplicationDocumentResponse(document, originalFileName));
         }
-        
+        return responses;
+    }
+
+    private ApplicationDocumentResponse toApplicationDocumentResponse(ApplicationDocument document,
+                                                                      String originalFileName) {
         return ApplicationDocumentResponse.builder()
                 .applicationDocumentNm(document.getApplicationDocumentNm())
                 .userNm(document.getUserNm())
                 .scholarshipNm(document.getScholarshipNm())
-                .fileUrl(fileUrl)
+                .fileUrl(null) // 다운로드 시 download-url API 로 발급
                 .uploadedAt(document.getUploadedAt())
                 .originalFileName(originalFileName)
                 .fileSize(document.getFileSize())
@@ -516,7 +577,7 @@ public class ApplicationService {
     /**
      * Format file size for display
      */
-    private String formatFileSize(Long fileSize) {
+    static String formatFileSize(Long fileSize) {
         if (fileSize == null || fileSize <= 0) {
             return "Unknown";
         }
@@ -533,35 +594,6 @@ public class ApplicationService {
         return String.format("%.1f %s", size, units[unitIndex]);
     }
 
-    /**
-     * Generate presigned URL for S3 object key
-     */
-    private String generatePresignedUrlForObjectKey(String objectKey) {
-        try {
-            log.info("🔄 Presigned URL 생성 시작 - Object Key: {}", objectKey);
-            
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .build();
-
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(10)) // 10분 유효
-                    .getObjectRequest(getObjectRequest)
-                    .build();
-
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-            String presignedUrl = presignedRequest.url().toString();
-            
-            log.info("✅ Presigned URL 생성 완료: {}", presignedUrl.substring(0, Math.min(presignedUrl.length(), 100)) + "...");
-            return presignedUrl;
-            
-        } catch (Exception e) {
-            log.error("❌ Presigned URL 생성 실패 - Object Key: {}", objectKey, e);
-            throw new RuntimeException("Presigned URL 생성에 실패했습니다.", e);
-        }
-    }
-
     /**
      * Generate presigned URL for application document download
      * @deprecated 이 메소드는 암호화되지 않은 fileUrl을 사용하므로 사용하지 마세요.
@@ -576,22 +608,7 @@ public class ApplicationService {
             String objectKey = extractObjectKeyFromS3Url(fileUrl);
             log.info("🔑 추출된 Object Key: {}", objectKey);
             
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .build();
-
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(10)) // 10분 유효
-                    .getObjectRequest(getObjectRequest)
-                    .build();
-
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-            String presignedUrl = presignedRequest.url().toString();
-            
-            log.info("✅ Presigned URL 생성 완료: {}", presignedUrl.substring(0, Math.min(presignedUrl.length(), 100)) + "...");
-            
-            return presignedUrl;
+            return presignedUrlService.presignGetForKey(objectKey);
             
         } catch (Exception e) {
             log.error("❌ Application document download URL 생성 실패 - fileUrl: {}", fileUrl, e);
@@ -717,4 +734,85 @@ public class ApplicationService {
             throw new RuntimeException("서류 반려에 실패했습니다: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * 조인 결과 행(신청 x 서류)을 신청 단위 응답으로 묶는다. 행은 신청 키 순서로 연속해서 들어온다.
+     */
+    private static final class AdminApplicationPageAssembler implements ResultHandler<AdminApplicationRow> {
+
+        private final List<ApplicationResponse> applications = new ArrayList<>();
+        // 일괄 복호화 대상 - documents 와 같은 순서
+        private final List<ApplicationDocumentResponse> documents = new ArrayList<>();
+        private final List<byte[]> fileNameEncs = new ArrayList<>();
+        private ApplicationResponse current;
+
+        @Override
+        public void handleResult(ResultContext<? extends AdminApplicationRow> context) {
+            AdminApplicationRow row = context.getResultObject();
+            if (current == null
+                    || !current.getUserNm().equals(row.getUserNm())
+                    || !current.getScholarshipNm().equals(row.getScholarshipNm())) {
+                current = ApplicationResponse.builder()
+                        .userNm(row.getUserNm())
+                        .scholarshipNm(row.getScholarshipNm())
+                        .scholarshipName(row.getScholarshipName())
+                        .scholarshipAmount(row.getScholarshipAmount())
+                        .scholarshipType(row.getScholarshipType())
+                        .scholarshipDescription(row.getScholarshipDescription())
+                        .userName(row.getUserName())
+                        .departmentName(row.getDepartmentName())
+                        .collegeName(row.getCollegeName())
+                        .universityName(row.getUniversityName())
+                        .state(row.getState())
+                        .appliedAt(row.getAppliedAt())
+                        .reason(row.getReason())
+                        .applicationDate(row.getAppliedAt())
+                        .applicationState(row.getState())
+                        .mileagePaid(Boolean.TRUE.equals(row.getMileagePaid()))
+                        .documents(new ArrayList<>())
+                        .build();
+                applications.add(current);
+            }
+
+            if (row.getDocumentNm() != null) {
+                ApplicationDocumentResponse document = ApplicationDocumentResponse.builder()
+                        .applicationDocumentNm(row.getDocumentNm())
+                        .userNm(row.getUserNm())
+                        .scholarshipNm(String.valueOf(row.getScholarshipNm()))
+                        .uploadedAt(row.getUploadedAt())
+                        .fileSize(row.getFileSize())
+                        .contentType(row.getContentType())
+                        .formattedFileSize(formatFileSize(row.getFileSize()))
+                        .build();
+                current.getDocuments().add(document);
+                documents.add(document);
+                fileNameEncs.add(row.getFileNameEnc());
+            }
+        }
+    }
+
+    /**
+     * 관리자 신청 목록 커서 - 마지막 신청의 (applied_at, userNm, scholarshipNm)
+     */
+    record AdminApplicationCursor(LocalDateTime appliedAt, String userNm, Long scholarshipNm) {
+
+        String encode() {
+            String raw = (appliedAt == null ? "" : appliedAt.toString()) + "|" + scholarshipNm + "|" + userNm;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static AdminApplicationCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 3);
+                LocalDateTime appliedAt = parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]);
+                return new AdminApplicationCursor(appliedAt, parts[2], Long.valueOf(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
 }
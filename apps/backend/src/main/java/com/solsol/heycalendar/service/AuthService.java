@@ -1,5 +1,6 @@
 package com.solsol.heycalendar.service;
 
+import com.solsol.heycalendar.domain.Department;
 import com.solsol.heycalendar.domain.RefreshToken;
 import com.solsol.heycalendar.domain.User;
 import com.solsol.heycalendar.dto.request.AuthRequest;
@@ -17,6 +18,7 @@ import com.solsol.heycalendar.mapper.UserMapper;
 import com.solsol.heycalendar.security.AuthTokenService;
 import com.solsol.heycalendar.security.CustomUserPrincipal;
 import com.solsol.heycalendar.security.JwtUtil;
+import com.solsol.heycalendar.security.PrincipalCache;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -52,7 +54,9 @@ public class AuthService {
 	private final UserMapper userMapper;
 	private final RefreshTokenMapper refreshTokenMapper;
 	private final PasswordEncoder passwordEncoder;
-	private final ShinhanBankService shinhanBankService;
+	private final BankProvisioningService bankProvisioningService;
+	private final PrincipalCache principalCache;
+	private final AffiliationDirectory affiliationDirectory;
 
 	/**
 	 * 사용자 로그인을 처리하고 토큰을 발급
@@ -190,8 +194,9 @@ public class AuthService {
 
 		try {
 			if (jwtUtil.validateToken(refreshTokenString) && jwtUtil.isRefresh(refreshTokenString)) {
-				String jti = jwtUtil.parse(refreshTokenString).getPayload().getId();
-				refreshTokenMapper.revokeByToken(jti);
+				Claims claims = jwtUtil.parse(refreshTokenString).getPayload();
+				refreshTokenMapper.revokeByToken(claims.getId());
+				principalCache.evict(claims.getSubject());
 			}
 		} catch (Exception e) {
 			// 로그아웃 시 발생하는 토큰 관련 오류는 무시합니다.
@@ -258,6 +263,7 @@ public class AuthService {
 
 		// 3) 토큰 제거
 		userMapper.clearUserKeyByUserKey(token);
+		principalCache.evict(user.getUserNm());
 
 		// 4) (선택) 해당 사용자의 모든 활성 리프레시 토큰 무효화 → 강제 재로그인 유도
 		try {
@@ -288,35 +294,27 @@ public class AuthService {
 	}
 
 	/**
-	 * 회원가입 처리 및 신한은행 계정 생성
+	 * 회원가입 처리 및 신한은행 계정 생성 예약
+	 * - 은행 회원/계좌 생성은 작업 큐에서 비동기로 처리하고, 결과는 알림과 상태 조회 API 로 확인한다
 	 */
 	public SignupResponse signup(SignupRequest request) {
 		log.info("Starting signup process for userId: {}", request.getUserId());
 
 		// 1단계: 기본 회원가입 처리 (트랜잭션)
 		String userId = createBasicUser(request);
-		
-		// 2단계: 신한은행 연동 (STUDENT일 때만)
+
+		// 2단계: 신한은행 연동 작업 등록 (STUDENT일 때만)
+		String bankProvisioningStatus = "NOT_REQUESTED";
 		if ("STUDENT".equals(request.getRole()) && request.isAccountCreationConsent()) {
-			try {
-				shinhanBankService.createMemberAndAccount(userId, request.getUserNm());
-				log.info("Shinhan Bank integration completed for userId: {}", userId);
-			} catch (Exception e) {
-				log.warn("Shinhan Bank integration failed for userId: {}, but signup continues. Error: {}", 
-					userId, e.getMessage());
-			}
+			bankProvisioningService.enqueue(userId, request.getUserNm());
+			bankProvisioningStatus = "PENDING";
 		}
 
-		// 3단계: 최종 사용자 정보 조회
-		User finalUser = userMapper.findByUserId(userId)
-				.orElseThrow(() -> new IllegalStateException("Failed to retrieve created user"));
-
 		SignupResponse response = SignupResponse.builder()
-				.userNm(finalUser.getUserNm())
-				.userId(finalUser.getUserId())
-				.userName(finalUser.getUserName())
-				.userKey(finalUser.getUserKey())
-				.accountNm(finalUser.getAccountNm())
+				.userNm(request.getUserNm())
+				.userId(userId)
+				.userName(request.getUserName())
+				.bankProvisioningStatus(bankProvisioningStatus)
 				.build();
 
 		log.info("Signup completed successfully for userId: {}", request.getUserId());
@@ -355,9 +353,10 @@ public class AuthService {
 			collegeNmValue = 999L;
 			gradeValue = 0;
 		} else {
-			// 학생은 입력받은 학과 정보 사용
-			deptNmValue = request.getDeptNm() != null ? request.getDeptNm() : 999L;
-			collegeNmValue = mapUniversityToCollege(request.getUnivNm());
+			// 학생은 입력받은 대학/학과를 소속 정보 디렉터리로 검증하고 단과대학은 학과에서 결정
+			Department department = affiliationDirectory.resolveDepartment(request.getUnivNm(), request.getDeptNm());
+			deptNmValue = Long.valueOf(department.getDeptNm());
+			collegeNmValue = Long.valueOf(department.getCollegeNm());
 			gradeValue = request.getGrade();
 		}
 
@@ -382,24 +381,4 @@ public class AuthService {
 		
 		return request.getUserId();
 	}
-
-	/**
-	 * 대학교 번호에 따른 단과대학 매핑 (하드코딩)
-	 */
-	private Long mapUniversityToCollege(Long univNm) {
-		// 실제 프로젝트에서는 DB에서 조회하거나 별도 매핑 테이블 사용
-		switch (univNm.intValue()) {
-			case 1: return 1L; // 서울대학교 -> 공과대학
-			case 2: return 2L; // 연세대학교 -> 공과대학
-			case 3: return 3L; // 고려대학교 -> 공과대학
-			case 4: return 4L; // 한양대학교 -> 공과대학
-			case 5: return 5L; // 성균관대학교 -> 공과대학
-			case 6: return 6L; // 경희대학교 -> 공과대학
-			case 7: return 7L; // 중앙대학교 -> 공과대학
-			case 8: return 8L; // 한국외국어대학교 -> 공과대학
-			case 9: return 9L; // 서강대학교 -> 공과대학
-			case 10: return 10L; // 이화여자대학교 -> 공과대학
-			default: return 1L; // 기본값
-		}
-	}
 }
@@ -0,0 +1,275 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.BankProvisioningJob;
+import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.domain.User;
+import com.solsol.heycalendar.dto.response.BankProvisioningStatusResponse;
+import com.solsol.heycalendar.mapper.BankProvisioningJobMapper;
+import com.solsol.heycalendar.mapper.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원가입 후 신한은행 회원/계좌 생성 작업 큐.
+ *
+ * 회원가입은 bank_provisioning_job 에 행만 저장하고 바로 응답하며, 은행 호출은 bankProvisioningExecutor 에서 실행한다.
+ * 단계별 결과(userKey, 계좌번호)를 작업 행에 바로 저장하므로 재시도 시 끝난 단계는 다시 호출하지 않는다.
+ * 실행 중 인스턴스가 죽으면 리스가 끝난 뒤 다른 워커가 이어서 처리한다.
+ * 완료/최종 실패는 알림(/user/queue/notifications)으로 알리고, 클라이언트는 상태 API 로도 확인할 수 있다.
+ */
+@Slf4j
+@Service
+public class BankProvisioningService {
+
+    static final int MAX_ATTEMPTS = 10;
+    static final long LEASE_SECONDS = 120;
+    static final String ACCOUNT_ROUTE = "/Menu/AccountView";
+
+    private final BankProvisioningJobMapper jobMapper;
+    private final UserMapper userMapper;
+    private final ShinhanBankService shinhanBankService;
+    private final NotificationService notificationService;
+    private final TaskExecutor bankProvisioningExecutor;
+    private final TransactionTemplate jobTransaction;
+    private final int workers;
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public BankProvisioningService(BankProvisioningJobMapper jobMapper,
+                                   UserMapper userMapper,
+                                   ShinhanBankService shinhanBankService,
+                                   NotificationService notificationService,
+                                   @Qualifier("bankProvisioningExecutor") TaskExecutor bankProvisioningExecutor,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${bank.provisioning.workers:4}") int workers) {
+        this.jobMapper = jobMapper;
+        this.userMapper = userMapper;
+        this.shinhanBankService = shinhanBankService;
+        this.notificationService = notificationService;
+        this.bankProvisioningExecutor = bankProvisioningExecutor;
+        this.jobTransaction = new TransactionTemplate(transactionManager);
+        this.jobTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.workers = workers;
+    }
+
+    /**
+     * 계좌 생성 작업 등록. 호출자 트랜잭션이 있으면 커밋 후 워커를 깨운다.
+     */
+    public void enqueue(String userId, String userNm) {
+        jobMapper.insert(BankProvisioningJob.builder()
+                .userId(userId)
+                .userNm(userNm)
+                .build());
+        log.info("신한은행 연동 작업 등록 - userNm: {}", userNm);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 작업 분배를 실행기에 제출
+     */
+    public void wakeUp() {
+        try {
+            bankProvisioningExecutor.execute(this::drain);
+        } catch (Exception e) {
+            // 제출 실패 시 다음 폴링에서 처리된다
+            log.warn("신한은행 연동 작업 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 깨우기가 유실된 작업, 재시도 예약 작업, 리스가 끝난 작업 처리
+     */
+    @Scheduled(fixedDelayString = "${bank.provisioning.poll-ms:2000}")
+    public void poll() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.warn("신한은행 연동 작업 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 빈 워커 수만큼만 작업을 가져와 실행기에 제출 (가져간 작업은 리스 동안 다른 인스턴스가 잡지 않는다)
+     */
+    void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            drainRequested.set(true);
+            return;
+        }
+        try {
+            do {
+                drainRequested.set(false);
+                int free = workers - inFlight.get();
+                if (free <= 0) {
+                    break;
+                }
+                List<BankProvisioningJob> claimed = claim(free);
+                for (BankProvisioningJob job : claimed) {
+                    inFlight.incrementAndGet();
+                    bankProvisioningExecutor.execute(() -> process(job));
+                }
+            } while (drainRequested.get() && inFlight.get() < workers);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private List<BankProvisioningJob> claim(int limit) {
+        List<BankProvisioningJob> claimed = jobTransaction.execute(status -> {
+            List<BankProvisioningJob> due = jobMapper.findDueForUpdate(limit);
+            if (!due.isEmpty()) {
+                jobMapper.markRunning(due.stream().map(BankProvisioningJob::getId).toList(),
+                        LocalDateTime.now().plusSeconds(LEASE_SECONDS));
+            }
+            return due;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /**
+     * 작업 1건 실행. 은행 호출은 트랜잭션 밖에서 하고, 끝난 단계는 바로 저장한다.
+     */
+    void process(BankProvisioningJob job) {
+        try {
+            String userKey = job.getUserKey();
+            if (userKey == null) {
+                userKey = shinhanBankService.createMember(job.getUserId());
+                jobMapper.saveUserKey(job.getId(), userKey);
+            }
+
+            String accountNo = job.getAccountNo();
+            if (accountNo == null) {
+                accountNo = shinhanBankService.createAccount(userKey);
+                jobMapper.saveAccountNo(job.getId(), accountNo);
+            }
+
+            complete(job, userKey, accountNo);
+        } catch (Exception e) {
+            handleFailure(job, e);
+        } finally {
+            inFlight.decrementAndGet();
+            // 빈 워커가 생겼으므로 대기 중인 작업을 이어서 가져간다
+            wakeUp();
+        }
+    }
+
+    private void complete(BankProvisioningJob job, String userKey, String accountNo) {
+        jobTransaction.executeWithoutResult(status -> {
+            int updated = userMapper.updateUserKeyAndAccountByUserId(job.getUserId(), userKey, accountNo);
+            if (updated != 1) {
+                throw new IllegalStateException("Failed to update user with userKey and accountNo: " + job.getUserId());
+            }
+            jobMapper.markDone(job.getId());
+            notificationService.createNotification(job.getUserNm(), NotificationType.SCHEDULE,
+                    "계좌 개설이 완료되었습니다",
+                    "신한은행 계좌가 개설되었습니다. 이제 마일리지를 현금으로 전환할 수 있습니다.",
+                    null, ACCOUNT_ROUTE);
+        });
+        completed.incrementAndGet();
+        log.info("신한은행 연동 완료 - userNm: {}, 시도: {}회", job.getUserNm(), attemptsOf(job));
+    }
+
+    private void handleFailure(BankProvisioningJob job, Exception cause) {
+        int attempts = attemptsOf(job);
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+
+        try {
+            // 입력값 오류(이메일 형식 등)는 재시도해도 같은 결과이므로 바로 실패 처리
+            if (attempts >= MAX_ATTEMPTS || cause instanceof IllegalArgumentException) {
+                String finalError = error;
+                jobTransaction.executeWithoutResult(status -> {
+                    jobMapper.markFailed(job.getId(), "FAILED", LocalDateTime.now(), finalError);
+                    notificationService.createNotification(job.getUserNm(), NotificationType.SCHEDULE,
+                            "계좌 개설에 실패했습니다",
+                            "신한은행 계좌 개설에 실패했습니다. 잠시 후 다시 시도하거나 관리자에게 문의해 주세요.",
+                            null, ACCOUNT_ROUTE);
+                });
+                failed.incrementAndGet();
+                log.error("신한은행 연동 최종 실패 - userNm: {}, 시도: {}회, 오류: {}", job.getUserNm(), attempts, error);
+                return;
+            }
+
+            LocalDateTime nextAttemptAt = LocalDateTime.now()
+                    .plusSeconds(NotificationOutboxDispatcher.backoffSeconds(attempts));
+            jobMapper.markFailed(job.getId(), "PENDING", nextAttemptAt, error);
+            retried.incrementAndGet();
+            log.warn("신한은행 연동 실패, 재시도 예약 - userNm: {}, 시도: {}회, 다음 시도: {}, 오류: {}",
+                    job.getUserNm(), attempts, nextAttemptAt, error);
+        } catch (Exception e) {
+            // 상태 저장에 실패해도 리스가 끝나면 다시 실행된다
+            log.error("신한은행 연동 실패 상태 저장 실패 - userNm: {}", job.getUserNm(), e);
+        }
+    }
+
+    /**
+     * 사용자의 계좌 생성 진행 상태
+     */
+    public BankProvisioningStatusResponse getStatus(String userNm) {
+        BankProvisioningJob job = jobMapper.findByUserNm(userNm);
+        if (job == null) {
+            // 작업 큐 도입 전 가입자는 계좌 보유 여부로 판단
+            String accountNm = userMapper.findByUserNm(userNm).map(User::getAccountNm).orElse(null);
+            return BankProvisioningStatusResponse.builder()
+                    .status(accountNm != null ? "DONE" : "NOT_REQUESTED")
+                    .attempts(0)
+                    .accountNm(accountNm)
+                    .build();
+        }
+
+        return BankProvisioningStatusResponse.builder()
+                .status(job.getStatus())
+                .attempts(job.getAttempts())
+                .nextAttemptAt("PENDING".equals(job.getStatus()) ? job.getNextAttemptAt() : null)
+                .accountNm("DONE".equals(job.getStatus()) ? job.getAccountNo() : null)
+                .build();
+    }
+
+    /**
+     * 대기 작업 수와 처리 통계
+     */
+    public ProvisioningStats getStats() {
+        return new ProvisioningStats(jobMapper.countActive(), inFlight.get(), completed.get(), retried.get(), failed.get());
+    }
+
+    // findDueForUpdate 로 읽은 값은 markRunning 전 시도 횟수
+    private static int attemptsOf(BankProvisioningJob job) {
+        return (job.getAttempts() == null ? 0 : job.getAttempts()) + 1;
+    }
+
+    public record ProvisioningStats(int active, int inFlight, long completed, long retried, long failed) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Notification;
+import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.domain.NotificationUnreadCount;
+import com.solsol.heycalendar.mapper.BroadcastNotificationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 사용자 대상 공지 알림 (fan-out-on-read).
+ *
+ * 새 장학금 공지는 broadcast_notification 에 한 행만 저장하고, 사용자별 상태는
+ * 읽음 워터마크(모두 읽음)와 영수증(개별 읽음/숨김)으로만 남긴다.
+ * 알림 목록과 읽지 않은 수는 조회 시점에 개인 알림과 합친다.
+ * 대상은 개별 알림을 보내던 때와 같이 재학(ENROLLED) 중이고 공지 이전에 가입한 사용자로 한정한다.
+ * 노출 기간(visible-days)이 지난 공지는 목록과 카운트에서 빠지고 보존 기간 정리 작업이 삭제한다.
+ */
+@Slf4j
+@Service
+public class BroadcastNotificationService {
+
+    static final String NEW_SCHOLARSHIP_TOPIC = "/topic/new-scholarships";
+
+    private final BroadcastNotificationMapper broadcastMapper;
+    private final NotificationOutboxDispatcher outboxDispatcher;
+    private final int visibleDays;
+
+    public BroadcastNotificationService(BroadcastNotificationMapper broadcastMapper,
+                                        NotificationOutboxDispatcher outboxDispatcher,
+                                        @Value("${notification.broadcast.visible-days:90}") int visibleDays) {
+        this.broadcastMapper = broadcastMapper;
+        this.outboxDispatcher = outboxDispatcher;
+        this.visibleDays = visibleDays;
+    }
+
+    /**
+     * 새 장학금 공지 한 건 저장 + 토픽 전송 등록 (호출자 트랜잭션, 이미 있으면 false)
+     */
+    @Transactional
+    public boolean publishNewScholarship(Long scholarshipId, String scholarshipName, int amount) {
+        Notification notification = NotificationService.newScholarshipNotification(null, scholarshipId, scholarshipName, amount);
+        if (broadcastMapper.existsByDedupKey(notification.getDedupKey())) {
+            log.debug("이미 존재하는 새 장학금 공지 - 장학금ID: {}", scholarshipId);
+            return false;
+        }
+
+        broadcastMapper.insert(notification);
+        outboxDispatcher.enqueue(NEW_SCHOLARSHIP_TOPIC, notification);
+        log.info("새 장학금 공지 등록 - 장학금ID: {}", scholarshipId);
+        return true;
+    }
+
+    /**
+     * 사용자 기준 공지 keyset 페이지 (type 이 null 이면 전체)
+     */
+    public List<Notification> getPage(String userNm, NotificationType type, boolean unreadOnly,
+                                      LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        return broadcastMapper.findPageForUser(userNm, visibleSince(), type, unreadOnly, beforeCreatedAt, beforeId, limit);
+    }
+
+    /**
+     * 사용자의 읽지 않은 공지 수
+     */
+    public int countUnread(String userNm) {
+        return broadcastMapper.countUnreadForUser(userNm, visibleSince());
+    }
+
+    /**
+     * 여러 사용자의 읽지 않은 공지 수 (0 건인 사용자는 결과에 없음)
+     */
+    public Map<String, Integer> countUnread(Collection<String> userNms) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (userNms.isEmpty()) {
+            return counts;
+        }
+        for (NotificationUnreadCount count : broadcastMapper.countUnreadForUsers(
+                new ArrayList<>(new LinkedHashSet<>(userNms)), visibleSince())) {
+            counts.put(count.getUserNm(), count.getUnreadCount());
+        }
+        return counts;
+    }
+
+    /**
+     * 공지 한 건 읽음 처리 (노출 기간이 지났거나 없는 공지면 false)
+     */
+    @Transactional
+    public boolean markAsRead(String userNm, Long broadcastId) {
+        return saveReceipt(userNm, broadcastId, false);
+    }
+
+    /**
+     * 공지 한 건 숨김 (사용자 알림 목록에서 삭제한 것처럼 보이고 읽음으로 센다)
+     */
+    @Transactional
+    public boolean hide(String userNm, Long broadcastId) {
+        return saveReceipt(userNm, broadcastId, true);
+    }
+
+    /**
+     * 모든 공지 읽음 처리 - 워터마크를 올리고 그 아래 읽음 영수증은 지운다
+     */
+    @Transactional
+    public void markAllAsRead(String userNm) {
+        broadcastMapper.advanceWatermark(userNm);
+        broadcastMapper.deleteReceiptsCoveredByWatermark(userNm);
+    }
+
+    /**
+     * 노출 기간이 지난 공지를 영수증과 함께 최대 limit 건 삭제 (호출자 트랜잭션)
+     */
+    public int purgeExpired(LocalDateTime now, int limit) {
+        List<Long> ids = broadcastMapper.findExpiredIds(now.minusDays(visibleDays), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        broadcastMapper.deleteReceiptsByBroadcastIds(ids);
+        return broadcastMapper.deleteByIds(ids);
+    }
+
+    LocalDateTime visibleSince() {
+        return LocalDateTime.now().minusDays(visibleDays);
+    }
+
+    private boolean saveReceipt(String userNm, Long broadcastId, boolean hidden) {
+        if (broadcastMapper.findVisibleById(broadcastId, visibleSince()) == null) {
+            return false;
+        }
+        broadcastMapper.upsertReceipt(userNm, broadcastId, hidden);
+        return true;
+    }
+}
@@ -1,89 +1,153 @@
 package com.solsol.heycalendar.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.solsol.heycalendar.domain.Scholarship;
-import com.solsol.heycalendar.domain.ScholarshipBookmark;
-import com.solsol.heycalendar.mapper.ScholarshipMapper;
+import com.solsol.heycalendar.domain.Notification;
+import com.solsol.heycalendar.dto.response.DeadlineReminderTarget;
+import com.solsol.heycalendar.mapper.NotificationMapper;
 import com.solsol.heycalendar.mapper.ScholarshipBookmarkMapper;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 마감임박(D-3, D-1) 알림 엔진.
+ *
+ * 찜 + 장학금 조인 한 번으로 오늘 알림을 아직 받지 않은 대상을 구하고
+ * (uk_notification_dedup 기반 anti-join), 청크 단위 다중 행 INSERT 로 저장하고 읽지 않은 알림 카운터를 맞춘 뒤
+ * 커밋된 청크의 WebSocket 전송은 비동기 단계에 넘긴다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DeadlineReminderService {
 
-    private final ScholarshipMapper scholarshipMapper;
+    static final String JOB_NAME = "deadline-reminders";
+    static final int[] REMINDER_DAYS = {3, 1};
+    static final int CHUNK_SIZE = 1000;
+
     private final ScholarshipBookmarkMapper scholarshipBookmarkMapper;
-    private final NotificationService notificationService;
+    private final NotificationMapper notificationMapper;
+    private final NotificationFanoutService notificationFanoutService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate chunkTransaction;
+
+    private volatile ReminderRunResult lastRun;
+
+    public DeadlineReminderService(ScholarshipBookmarkMapper scholarshipBookmarkMapper,
+                                   NotificationMapper notificationMapper,
+                                   NotificationFanoutService notificationFanoutService,
+                                   NotificationUnreadCounter unreadCounter,
+                                   JobLeaseService jobLeaseService,
+                                   PlatformTransactionManager transactionManager) {
+        this.scholarshipBookmarkMapper = scholarshipBookmarkMapper;
+        this.notificationMapper = notificationMapper;
+        this.notificationFanoutService = notificationFanoutService;
+        this.unreadCounter = unreadCounter;
+        this.jobLeaseService = jobLeaseService;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
-     * 매일 오전 9시에 마감임박 장학금 체크 및 알림 전송
+     * 매일 오전 9시에 마감임박 장학금 체크 및 알림 전송 (클러스터에서 한 인스턴스만 실행)
      */
     @Scheduled(cron = "0 0 9 * * *")
     public void checkDeadlineReminders() {
-        log.info("마감임박 알림 체크 시작");
-        
-        LocalDate today = LocalDate.now();
-        LocalDate tomorrow = today.plusDays(1);
-        
         try {
-            // 내일 마감되는 장학금 조회 (1일 전 알림)
-            List<Scholarship> upcomingDeadlines = scholarshipMapper.findScholarshipsEndingOn(tomorrow);
-            
-            log.info("내일 마감 장학금 수: {}", upcomingDeadlines.size());
-            
-            for (Scholarship scholarship : upcomingDeadlines) {
-                // 해당 장학금을 찜한 사용자들에게 알림 전송
-                sendDeadlineRemindersForScholarship(scholarship);
-            }
-            
+            jobLeaseService.runExclusive(JOB_NAME, Duration.ofMinutes(30), () -> runReminders(LocalDate.now()));
         } catch (Exception e) {
             log.error("마감임박 알림 체크 중 오류 발생", e);
         }
-        
-        log.info("마감임박 알림 체크 완료");
     }
 
     /**
-     * 특정 장학금을 찜한 사용자들에게 마감임박 알림 전송
+     * 기준일의 마감임박 알림 생성
      */
-    private void sendDeadlineRemindersForScholarship(Scholarship scholarship) {
-        try {
-            // 해당 장학금을 찜한 사용자들 조회
-            List<ScholarshipBookmark> bookmarks = scholarshipBookmarkMapper.findByScholarshipId(scholarship.getId());
-            
-            log.info("장학금 '{}' - 찜한 사용자 수: {}", scholarship.getScholarshipName(), bookmarks.size());
-            
-            for (ScholarshipBookmark bookmark : bookmarks) {
-                // 각 사용자에게 마감임박 알림 전송 (1일 전)
-                notificationService.createDeadlineReminderNotification(
-                    bookmark.getUserNm(),
-                    scholarship.getId(),
-                    scholarship.getScholarshipName(),
-                    1
-                );
-            }
-            
-            log.info("장학금 '{}' 마감임박 알림 전송 완료 - 대상: {}명", 
-                scholarship.getScholarshipName(), bookmarks.size());
-                
-        } catch (Exception e) {
-            log.error("장학금 '{}'에 대한 마감임박 알림 전송 실패", scholarship.getScholarshipName(), e);
+    public ReminderRunResult runReminders(LocalDate today) {
+        long startedAt = System.nanoTime();
+        log.info("마감임박 알림 체크 시작 - 기준일: {}", today);
+
+        List<LocalDate> endDates = new ArrayList<>(REMINDER_DAYS.length);
+        for (int days : REMINDER_DAYS) {
+            endDates.add(today.plusDays(days));
         }
+
+        List<DeadlineReminderTarget> targets = scholarshipBookmarkMapper.findDeadlineReminderTargets(
+            endDates, NotificationService.deadlineReminderDedupSuffix(today));
+        long queriedAt = System.nanoTime();
+
+        int created = 0;
+        for (int from = 0; from < targets.size(); from += CHUNK_SIZE) {
+            List<DeadlineReminderTarget> chunk = targets.subList(from, Math.min(from + CHUNK_SIZE, targets.size()));
+            List<Notification> rows = toNotifications(chunk, today);
+
+            chunkTransaction.executeWithoutResult(status -> {
+                notificationMapper.insertBatch(rows);
+                unreadCounter.refresh(rows.stream().map(Notification::getUserNm).toList());
+            });
+
+            // 커밋된 청크만 비동기로 전송
+            notificationFanoutService.pushToUsersAsync(rows);
+            created += rows.size();
+        }
+
+        ReminderRunResult result = new ReminderRunResult(
+            today,
+            targets.size(),
+            created,
+            (queriedAt - startedAt) / 1_000_000,
+            (System.nanoTime() - startedAt) / 1_000_000
+        );
+        lastRun = result;
+
+        log.info("마감임박 알림 체크 완료 - 대상 {}건, 생성 {}건, 조회 {}ms, 전체 {}ms",
+            result.targets(), result.created(), result.queryMillis(), result.elapsedMillis());
+        return result;
+    }
+
+    private List<Notification> toNotifications(List<DeadlineReminderTarget> targets, LocalDate today) {
+        List<Notification> rows = new ArrayList<>(targets.size());
+        for (DeadlineReminderTarget target : targets) {
+            int daysLeft = (int) ChronoUnit.DAYS.between(today, target.getRecruitmentEndDate());
+            rows.add(NotificationService.deadlineReminderNotification(
+                target.getUserNm(),
+                target.getScholarshipId(),
+                target.getScholarshipName(),
+                daysLeft,
+                today
+            ));
+        }
+        return rows;
     }
 
     /**
      * 수동으로 마감임박 알림 체크 (테스트용)
      */
-    public void manualCheckDeadlineReminders() {
+    public ReminderRunResult manualCheckDeadlineReminders() {
         log.info("수동 마감임박 알림 체크 시작");
-        checkDeadlineReminders();
+        return runReminders(LocalDate.now());
+    }
+
+    /**
+     * 마지막 실행 결과 (실행 전이면 null)
+     */
+    public ReminderRunResult getLastRun() {
+        return lastRun;
+    }
+
+    /**
+     * 실행별 처리 건수와 소요 시간
+     */
+    public record ReminderRunResult(LocalDate runDate, int targets, int created,
+                                    long queryMillis, long elapsedMillis) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.DocumentBlob;
+import com.solsol.heycalendar.mapper.DocumentBlobMapper;
+import com.solsol.heycalendar.storage.ObjectStorage;
+import com.solsol.heycalendar.util.CryptoUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서류 저장소 객체 참조 집계 (document_blob).
+ *
+ * MyBox 서류와 거기서 복사한 신청 서류는 같은 저장소 객체를 가리키고, 객체는 마지막 참조가 사라질 때만 지운다.
+ * 서버가 SHA-256 을 직접 계산한 객체는 (사용자, 체크섬) 으로 찾아 같은 내용의 재업로드에 다시 쓴다.
+ * 클라이언트가 알려 준 체크섬(presigned 업로드)은 중복 판단에 쓰지 않는다.
+ * 중복 범위를 사용자 단위로 두어 다른 사용자의 파일 존재 여부가 드러나지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentBlobService {
+
+    private final DocumentBlobMapper blobMapper;
+    private final ObjectStorage objectStorage;
+    private final CryptoUtil cryptoUtil;
+
+    private final AtomicLong dedupHits = new AtomicLong();
+    private final AtomicLong dedupBytes = new AtomicLong();
+    private final AtomicLong objectsDeleted = new AtomicLong();
+
+    /**
+     * 같은 사용자가 같은 내용(서버 검증 체크섬)으로 이미 올린 객체 (없으면 null)
+     */
+    public DocumentBlob findVerified(String userNm, String checksumSha256) {
+        return blobMapper.findByChecksum(userNm, checksumSha256);
+    }
+
+    /**
+     * 서버가 체크섬을 확인한 새 객체 등록. 같은 내용이 이미 있으면 기존 객체의 참조를 늘리고
+     * deduplicated=true 를 돌려준다 (이때 방금 올린 객체는 호출 측이 지운다).
+     */
+    @Transactional
+    public Registration registerVerified(String userNm, String checksumSha256, byte[] objectKeyEnc, long sizeBytes, String etag) {
+        DocumentBlob existing = blobMapper.findByChecksumForUpdate(userNm, checksumSha256);
+        if (existing != null) {
+            blobMapper.incrementRef(existing.getId());
+            recordDedup(existing);
+            return new Registration(existing, true);
+        }
+        DocumentBlob blob = DocumentBlob.builder()
+                .userNm(userNm)
+                .checksumSha256(checksumSha256)
+                .objectKeyEnc(objectKeyEnc)
+                .sizeBytes(sizeBytes)
+                .s3Etag(etag)
+                .refCount(1)
+                .build();
+        blobMapper.insert(blob);
+        return new Registration(blob, false);
+    }
+
+    /**
+     * 체크섬을 확인하지 못한 객체 등록 (presigned 업로드, 참조 집계 이전 MyBox 서류). 중복 판단 대상이 아니다.
+     */
+    @Transactional
+    public DocumentBlob registerUnverified(String userNm, byte[] objectKeyEnc, Long sizeBytes, String etag) {
+        DocumentBlob blob = DocumentBlob.builder()
+                .userNm(userNm)
+                .objectKeyEnc(objectKeyEnc)
+                .sizeBytes(sizeBytes)
+                .s3Etag(etag)
+                .refCount(1)
+                .build();
+        blobMapper.insert(blob);
+        return blob;
+    }
+
+    /**
+     * 기존 객체 재사용 (업로드 없이 참조만 추가)
+     */
+    @Transactional
+    public void retain(DocumentBlob blob) {
+        if (blobMapper.incrementRef(blob.getId()) == 0) {
+            throw new IllegalStateException("이미 삭제된 파일입니다. 다시 업로드해 주세요.");
+        }
+        recordDedup(blob);
+    }
+
+    /**
+     * 신청서 복사처럼 같은 사용자의 같은 객체를 한 번 더 가리킬 때
+     */
+    @Transactional
+    public void addReference(Long blobId) {
+        if (blobMapper.incrementRef(blobId) == 0) {
+            throw new IllegalStateException("이미 삭제된 파일입니다.");
+        }
+    }
+
+    /**
+     * 참조 하나 해제. 마지막 참조였으면 blob 행을 지우고 커밋 후 저장소 객체를 지운다 (지웠으면 true).
+     */
+    @Transactional
+    public boolean release(Long blobId) {
+        DocumentBlob blob = blobMapper.findByIdForUpdate(blobId);
+        if (blob == null) {
+            log.warn("참조 해제 대상 blob 이 없습니다 - blobId: {}", blobId);
+            return false;
+        }
+        if (blob.getRefCount() > 1) {
+            blobMapper.decrementRef(blobId);
+            return false;
+        }
+        blobMapper.delete(blobId);
+        deleteObjectAfterCommit(blob.getObjectKeyEnc());
+        return true;
+    }
+
+    /**
+     * 중복 제거 통계
+     */
+    public BlobStats getStats() {
+        return new BlobStats(dedupHits.get(), dedupBytes.get(), objectsDeleted.get());
+    }
+
+    private void recordDedup(DocumentBlob blob) {
+        dedupHits.incrementAndGet();
+        if (blob.getSizeBytes() != null) {
+            dedupBytes.addAndGet(blob.getSizeBytes());
+        }
+    }
+
+    private void deleteObjectAfterCommit(byte[] objectKeyEnc) {
+        String objectKey = cryptoUtil.decryptBytes(objectKeyEnc);
+        Runnable delete = () -> {
+            try {
+                objectStorage.deleteObject(objectKey);
+                objectsDeleted.incrementAndGet();
+            } catch (Exception e) {
+                log.warn("참조가 없는 저장소 객체 삭제 실패 - 버킷 정리 대상", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete.run();
+                }
+            });
+        } else {
+            delete.run();
+        }
+    }
+
+    public record Registration(DocumentBlob blob, boolean deduplicated) {
+    }
+
+    public record BlobStats(long dedupHits, long dedupBytes, long objectsDeleted) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.config.StorageProperties;
+import com.solsol.heycalendar.storage.ObjectStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서류 업로드/다운로드 서버 프록시.
+ *
+ * 업로드 본문을 파트 크기의 direct 버퍼에 채워 저장소 멀티파트 업로드로 넘기면서 SHA-256 을 이어서 계산한다.
+ * 파일 전체를 힙에 올리지 않으며, 요청 하나가 쓰는 메모리는 버퍼 한 개다.
+ * 버퍼는 풀에서 빌려 쓰고 돌려놓는다. 풀이 비어 있으면 bufferWaitMs 만큼 기다린 뒤 거절한다 (동시 업로드 수 제한).
+ * 첫 버퍼 안에서 본문이 끝나면 멀티파트 없이 한 번에 올린다.
+ * 이미 저장된 내용으로 선언된 본문은 digest 로 같은 버퍼에 읽어 체크섬만 확인한다 (저장소 업로드 없음).
+ */
+@Slf4j
+@Service
+public class DocumentProxyService {
+
+    private final ObjectStorage objectStorage;
+    private final int partSize;
+    private final long bufferWaitMs;
+    private final Semaphore bufferPermits;
+    private final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+    private final Timer uploadTimer;
+    private final Timer downloadTimer;
+
+    public DocumentProxyService(ObjectStorage objectStorage, StorageProperties properties, MeterRegistry meterRegistry) {
+        StorageProperties.Proxy proxy = properties.getProxy();
+        this.objectStorage = objectStorage;
+        this.partSize = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(proxy.getPartSize().toBytes(), objectStorage.minPartSize()));
+        this.bufferWaitMs = proxy.getBufferWaitMs();
+        this.bufferPermits = new Semaphore(proxy.getBuffers());
+        this.uploadTimer = Timer.builder("s3.operation")
+                .description("S3 호출/presign 시간")
+                .tag("op", "proxyUpload")
+                .register(meterRegistry);
+        this.downloadTimer = Timer.builder("s3.operation")
+                .description("S3 호출/presign 시간")
+                .tag("op", "proxyDownload")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 본문을 끝까지 읽어 저장소에 올리고 서버가 확인한 크기/SHA-256/ETag 를 돌려준다.
+     * 빈 본문이거나 maxBytes 를 넘으면 IllegalArgumentException, 진행 중인 멀티파트는 취소한다.
+     */
+    public UploadResult upload(String objectKey, String contentType, InputStream body, long maxBytes) {
+        ByteBuffer buffer = acquireBuffer();
+        long start = System.nanoTime();
+        MessageDigest sha256 = sha256();
+        ReadableByteChannel channel = Channels.newChannel(body);
+        List<String> partETags = new ArrayList<>();
+        String uploadId = null;
+        long totalBytes = 0;
+        try {
+            while (true) {
+                buffer.clear();
+                boolean eof = fill(channel, buffer);
+                buffer.flip();
+                totalBytes += buffer.remaining();
+                checkSize(totalBytes, maxBytes, eof);
+                sha256.update(buffer.duplicate());
+
+                if (uploadId == null && eof) {
+                    String etag = objectStorage.putObject(objectKey, contentType, buffer);
+                    return new UploadResult(objectKey, totalBytes, HexFormat.of().formatHex(sha256.digest()), etag, 1);
+                }
+                if (uploadId == null) {
+                    uploadId = objectStorage.createMultipartUpload(objectKey, contentType);
+                }
+                // 본문 길이가 파트 크기의 배수면 마지막 읽기는 비어 있다
+                if (buffer.hasRemaining()) {
+                    partETags.add(objectStorage.uploadPart(objectKey, uploadId, partETags.size() + 1, buffer));
+                }
+                if (eof) {
+                    String etag = objectStorage.completeMultipartUpload(objectKey, uploadId, partETags);
+                    return new UploadResult(objectKey, totalBytes, HexFormat.of().formatHex(sha256.digest()), etag,
+                            partETags.size());
+                }
+            }
+        } catch (IOException e) {
+            abort(objectKey, uploadId);
+            throw new IllegalStateException("업로드 본문을 읽지 못했습니다.", e);
+        } catch (RuntimeException e) {
+            abort(objectKey, uploadId);
+            throw e;
+        } finally {
+            releaseBuffer(buffer);
+            uploadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 저장하지 않고 본문의 크기/SHA-256 만 계산한다 (선언된 체크섬이 이미 저장된 내용인지 확인할 때)
+     */
+    public Digest digest(InputStream body, long maxBytes) {
+        ByteBuffer buffer = acquireBuffer();
+        MessageDigest sha256 = sha256();
+        ReadableByteChannel channel = Channels.newChannel(body);
+        long totalBytes = 0;
+        try {
+            boolean eof = false;
+            while (!eof) {
+                buffer.clear();
+                eof = fill(channel, buffer);
+                buffer.flip();
+                totalBytes += buffer.remaining();
+                checkSize(totalBytes, maxBytes, eof);
+                sha256.update(buffer);
+            }
+            return new Digest(totalBytes, HexFormat.of().formatHex(sha256.digest()));
+        } catch (IOException e) {
+            throw new IllegalStateException("업로드 본문을 읽지 못했습니다.", e);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * 저장소 객체를 응답 스트림으로 그대로 흘려보낸다 (전송한 바이트 수 반환)
+     */
+    public long download(String objectKey, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        try (InputStream in = objectStorage.getObject(objectKey)) {
+            return in.transferTo(out);
+        } finally {
+            downloadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 버퍼 풀 사용 현황
+     */
+    public ProxyStats getStats() {
+        return new ProxyStats(partSize, bufferPermits.availablePermits(), bufferPool.size());
+    }
+
+    private ByteBuffer acquireBuffer() {
+        try {
+            if (!bufferPermits.tryAcquire(bufferWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("동시 업로드가 많아 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드 버퍼 대기 중 중단되었습니다.", e);
+        }
+        ByteBuffer buffer = bufferPool.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(partSize);
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        bufferPool.offer(buffer);
+        bufferPermits.release();
+    }
+
+    private void abort(String objectKey, String uploadId) {
+        if (uploadId != null) {
+            objectStorage.abortMultipartUpload(objectKey, uploadId);
+            log.warn("프록시 업로드 실패로 멀티파트 업로드 취소 - objectKey: {}", objectKey);
+        }
+    }
+
+    private static void checkSize(long totalBytes, long maxBytes, boolean eof) {
+        if (totalBytes > maxBytes) {
+            throw new IllegalArgumentException("파일 크기는 " + (maxBytes / (1024 * 1024)) + "MB를 초과할 수 없습니다.");
+        }
+        if (eof && totalBytes == 0) {
+            throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 버퍼가 찰 때까지 읽는다. 본문이 끝났으면 true.
+     */
+    private static boolean fill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record UploadResult(String objectKey, long sizeBytes, String checksumSha256, String etag, int parts) {
+    }
+
+    public record Digest(long sizeBytes, String checksumSha256) {
+    }
+
+    public record ProxyStats(int partSizeBytes, int availableBuffers, int pooledBuffers) {
+    }
+}
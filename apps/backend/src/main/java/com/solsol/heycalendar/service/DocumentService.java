@@ -1,5 +1,6 @@
 package com.solsol.heycalendar.service;
 
+import com.solsol.heycalendar.domain.DocumentBlob;
 import com.solsol.heycalendar.dto.request.DocumentUploadRequest;
 import com.solsol.heycalendar.dto.response.DocumentUploadResponse;
 import com.solsol.heycalendar.dto.response.DocumentListResponse;
@@ -7,23 +8,32 @@ import com.solsol.heycalendar.entity.Mybox;
 import com.solsol.heycalendar.entity.ApplicationDocument;
 import com.solsol.heycalendar.mapper.MyboxMapper;
 import com.solsol.heycalendar.mapper.ApplicationDocumentMapper;
+import com.solsol.heycalendar.storage.ObjectStorage;
 import com.solsol.heycalendar.util.CryptoUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.*;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -31,11 +41,16 @@ import java.util.UUID;
 @Slf4j
 public class DocumentService {
 
-    private final S3Client s3Client;
+    private final ObjectStorage objectStorage;
     private final S3Presigner s3Presigner;
     private final MyboxMapper myboxMapper;
     private final ApplicationDocumentMapper applicationDocumentMapper;
     private final CryptoUtil cryptoUtil;
+    private final PresignedUrlService presignedUrlService;
+    private final MeterRegistry meterRegistry;
+    private final DocumentProxyService documentProxyService;
+    private final TransactionTemplate transactionTemplate;
+    private final DocumentBlobService documentBlobService;
 
     @Value("${AWS_S3_BUCKET}")
     private String bucketName;
@@ -106,7 +121,7 @@ public class DocumentService {
                     .putObjectRequest(putObjectRequest)
                     .build();
 
-            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
+            PresignedPutObjectRequest presignedRequest = s3Timer("presignPut").record(() -> s3Presigner.presignPutObject(presignRequest));
 
             return DocumentUploadResponse.builder()
                     .uploadUrl(presignedRequest.url().toString())
@@ -161,39 +176,47 @@ public class DocumentService {
      */
     @Transactional
     private void completeUpload(String userNm, String scholarshipNm, String documentNm, String objectKey, DocumentUploadRequest request, String checksum, String mode) {
-        // S3에서 파일 존재 확인
-        if (!isFileExistsInS3(objectKey)) {
-            throw new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다.");
+        // S3에서 파일 존재 확인 (크기는 클라이언트 값이 아니라 S3 가 확인한 값을 저장한다)
+        ObjectStorage.StoredObject stored = findStoredObject(objectKey)
+                .orElseThrow(() -> new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다."));
+        if (request.getFileSize() != null && request.getFileSize() != stored.sizeBytes()) {
+            log.warn("업로드 파일 크기 불일치 - userNm: {}, 요청: {}, S3: {}", userNm, request.getFileSize(), stored.sizeBytes());
         }
 
         try {
             // 민감한 정보 암호화
-            String encryptedObjectKey = cryptoUtil.encrypt(objectKey);
-            String encryptedFileName = cryptoUtil.encrypt(request.getFileName());
+            byte[] encryptedObjectKey = cryptoUtil.encryptToBytes(objectKey);
+            byte[] encryptedFileName = cryptoUtil.encryptToBytes(request.getFileName());
+            // 클라이언트 체크섬은 검증되지 않았으므로 중복 판단 없이 참조 집계만 한다
+            DocumentBlob blob = documentBlobService.registerUnverified(userNm, encryptedObjectKey, stored.sizeBytes(), stored.etag());
 
             // 모드에 따라 DB에 저장
             if ("mybox".equals(mode)) {
                 Mybox mybox = Mybox.builder()
                         .userNm(userNm)
-                        .objectKeyEnc(encryptedObjectKey.getBytes())
-                        .fileNameEnc(encryptedFileName.getBytes())
+                        .objectKeyEnc(encryptedObjectKey)
+                        .fileNameEnc(encryptedFileName)
                         .contentType(request.getContentType())
-                        .sizeBytes(request.getFileSize())
+                        .sizeBytes(stored.sizeBytes())
                         .checksumSha256(checksum)
+                        .blobId(blob.getId())
                         .build();
 
                 myboxMapper.insertDocument(mybox);
+                // presigned 업로드의 체크섬은 클라이언트가 보낸 값이다 (서버 검증 값은 프록시 업로드에서만)
+                myboxMapper.insertObjectAuditLog(mybox, "CREATE", stored.etag());
                 log.info("MyBox 문서 업로드 완료 - userNm: {}, objectKey: {}", userNm, objectKey);
             } else if ("application".equals(mode)) {
                 ApplicationDocument applicationDocument = ApplicationDocument.builder()
                         .applicationDocumentNm(null) // AUTO_INCREMENT 사용
                         .userNm(userNm)
                         .scholarshipNm(scholarshipNm)
-                        .objectKeyEnc(encryptedObjectKey.getBytes())
-                        .fileNameEnc(encryptedFileName.getBytes())
+                        .objectKeyEnc(encryptedObjectKey)
+                        .fileNameEnc(encryptedFileName)
                         .contentType(request.getContentType())
-                        .fileSize(request.getFileSize())
+                        .fileSize(stored.sizeBytes())
                         .checksumSha256(checksum)
+                        .blobId(blob.getId())
                         .uploadedAt(java.time.LocalDateTime.now())
                         .build();
 
@@ -207,6 +230,135 @@ public class DocumentService {
         }
     }
 
+    /**
+     * 서버 프록시 업로드 (MyBox용).
+     * 본문을 저장소에 스트리밍 업로드하면서 크기/SHA-256 을 직접 계산하고, 저장소 ETag 와 함께 mybox/감사 로그에 남긴다.
+     * 선언한 체크섬(declaredChecksum)이 이미 올린 내용과 같으면 저장소 업로드 없이 본문의 체크섬만 확인해 기존 객체를 참조한다.
+     * 선언 없이 올렸더라도 같은 내용이 있으면 방금 올린 객체를 지우고 기존 객체를 참조한다.
+     * DB 저장에 실패하면 올린 객체를 지운다.
+     */
+    public DocumentListResponse uploadDocumentViaProxy(String userNm, String fileName, String contentType, long declaredSize,
+                                                       String declaredChecksum, InputStream body) {
+        String mediaType = contentType == null ? null : contentType.split(";")[0].trim().toLowerCase();
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("파일명이 필요합니다.");
+        }
+        if (!ALLOWED_DOCUMENT_TYPES.contains(mediaType)) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다.");
+        }
+        if (declaredSize > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("파일 크기는 50MB를 초과할 수 없습니다.");
+        }
+
+        DocumentBlob existing = declaredChecksum == null || declaredChecksum.isBlank()
+                ? null : documentBlobService.findVerified(userNm, declaredChecksum.trim().toLowerCase());
+        if (existing != null) {
+            return linkExistingBlob(userNm, fileName, mediaType, declaredSize, existing, body);
+        }
+
+        String objectKey = generateObjectKey(userNm, fileName, "documents");
+        DocumentProxyService.UploadResult uploaded = documentProxyService.upload(objectKey, mediaType, body, MAX_FILE_SIZE);
+        if (declaredSize >= 0 && declaredSize != uploaded.sizeBytes()) {
+            // Content-Length 와 실제로 받은 크기가 다르면 본문이 잘린 것이다
+            deleteObjectQuietly(objectKey);
+            throw new IllegalArgumentException("전송된 파일 크기가 요청 크기와 다릅니다.");
+        }
+
+        try {
+            byte[] encryptedFileName = cryptoUtil.encryptToBytes(fileName);
+            byte[] encryptedObjectKey = cryptoUtil.encryptToBytes(objectKey);
+            Mybox mybox = transactionTemplate.execute(status -> {
+                DocumentBlobService.Registration registration = documentBlobService.registerVerified(userNm,
+                        uploaded.checksumSha256(), encryptedObjectKey, uploaded.sizeBytes(), uploaded.etag());
+                return insertMyboxWithAudit(userNm, encryptedFileName, mediaType, registration.blob(), uploaded.etag());
+            });
+            if (!Arrays.equals(mybox.getObjectKeyEnc(), encryptedObjectKey)) {
+                // 같은 내용이 먼저 저장되어 있었다 - 방금 올린 객체는 쓰지 않는다
+                deleteObjectQuietly(objectKey);
+            }
+            log.info("MyBox 프록시 업로드 완료 - userNm: {}, documentId: {}, sizeBytes: {}, parts: {}",
+                    userNm, mybox.getId(), uploaded.sizeBytes(), uploaded.parts());
+            return toListResponse(mybox, fileName);
+
+        } catch (Exception e) {
+            deleteObjectQuietly(objectKey);
+            log.error("프록시 업로드 저장 실패 - userNm: {}", userNm, e);
+            throw new RuntimeException("문서 저장에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 이미 저장된 내용으로 선언된 업로드 - 본문은 체크섬만 계산하고 저장소에는 올리지 않는다
+     */
+    private DocumentListResponse linkExistingBlob(String userNm, String fileName, String mediaType, long declaredSize,
+                                                  DocumentBlob existing, InputStream body) {
+        DocumentProxyService.Digest digest = documentProxyService.digest(body, MAX_FILE_SIZE);
+        if (!digest.checksumSha256().equals(existing.getChecksumSha256())) {
+            throw new IllegalArgumentException("전송된 파일의 체크섬이 선언한 값과 다릅니다.");
+        }
+        if (declaredSize >= 0 && declaredSize != digest.sizeBytes()) {
+            throw new IllegalArgumentException("전송된 파일 크기가 요청 크기와 다릅니다.");
+        }
+
+        byte[] encryptedFileName = cryptoUtil.encryptToBytes(fileName);
+        Mybox mybox = transactionTemplate.execute(status -> {
+            documentBlobService.retain(existing);
+            return insertMyboxWithAudit(userNm, encryptedFileName, mediaType, existing, existing.getS3Etag());
+        });
+        log.info("MyBox 업로드 중복 제거 - userNm: {}, documentId: {}, blobId: {}, sizeBytes: {}",
+                userNm, mybox.getId(), existing.getId(), digest.sizeBytes());
+        return toListResponse(mybox, fileName);
+    }
+
+    private Mybox insertMyboxWithAudit(String userNm, byte[] encryptedFileName, String mediaType, DocumentBlob blob, String etag) {
+        Mybox mybox = Mybox.builder()
+                .userNm(userNm)
+                .objectKeyEnc(blob.getObjectKeyEnc())
+                .fileNameEnc(encryptedFileName)
+                .contentType(mediaType)
+                .sizeBytes(blob.getSizeBytes())
+                .checksumSha256(blob.getChecksumSha256())
+                .blobId(blob.getId())
+                .build();
+        myboxMapper.insertDocument(mybox);
+        myboxMapper.insertObjectAuditLog(mybox, "CREATE", etag);
+        return mybox;
+    }
+
+    private DocumentListResponse toListResponse(Mybox mybox, String fileName) {
+        return DocumentListResponse.builder()
+                .id(mybox.getId())
+                .fileName(fileName)
+                .contentType(mybox.getContentType())
+                .sizeBytes(mybox.getSizeBytes())
+                .createdAt(java.time.LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 프록시 다운로드 대상 조회 (본인 문서만). 응답 헤더를 먼저 쓸 수 있도록 스트리밍 전에 부른다.
+     */
+    public DocumentContent openDocumentContent(String userNm, Long documentId) {
+        Mybox document = myboxMapper.findByIdAndUserNm(documentId, userNm);
+        if (document == null) {
+            throw new IllegalArgumentException("문서를 찾을 수 없습니다.");
+        }
+        myboxMapper.insertAuditLog(documentId, userNm, "DOWNLOAD", null, null);
+        return new DocumentContent(cryptoUtil.decryptBytes(document.getObjectKeyEnc()),
+                cryptoUtil.decryptBytes(document.getFileNameEnc()),
+                document.getContentType(), document.getSizeBytes());
+    }
+
+    /**
+     * 프록시 다운로드 본문 전송
+     */
+    public void streamDocument(DocumentContent content, OutputStream out) throws IOException {
+        long sent = documentProxyService.download(content.objectKey(), out);
+        if (content.sizeBytes() != null && sent != content.sizeBytes()) {
+            log.warn("다운로드 크기 불일치 - 저장 크기: {}, 전송: {}", content.sizeBytes(), sent);
+        }
+    }
+
     /**
      * 사용자 서류 목록 조회
      */
@@ -214,24 +366,26 @@ public class DocumentService {
         try {
             List<Mybox> documents = myboxMapper.findByUserNm(userNm);
             
-            return documents.stream()
-                    .map(doc -> {
-                        try {
-                            String fileName = cryptoUtil.decrypt(new String(doc.getFileNameEnc()));
-                            return DocumentListResponse.builder()
-                                    .id(doc.getId())
-                                    .fileName(fileName)
-                                    .contentType(doc.getContentType())
-                                    .sizeBytes(doc.getSizeBytes())
-                                    .createdAt(doc.getCreatedAt())
-                                    .build();
-                        } catch (Exception e) {
-                            log.error("문서 정보 복호화 실패 - id: {}", doc.getId(), e);
-                            return null;
-                        }
-                    })
-                    .filter(doc -> doc != null)
-                    .toList();
+            // 파일명은 한 번에 일괄 복호화 (실패한 항목은 null)
+            List<String> fileNames = cryptoUtil.decryptAll(documents.stream().map(Mybox::getFileNameEnc).toList());
+
+            List<DocumentListResponse> responses = new ArrayList<>(documents.size());
+            for (int i = 0; i < documents.size(); i++) {
+                Mybox doc = documents.get(i);
+                String fileName = fileNames.get(i);
+                if (fileName == null) {
+                    log.error("문서 정보 복호화 실패 - id: {}", doc.getId());
+                    continue;
+                }
+                responses.add(DocumentListResponse.builder()
+                        .id(doc.getId())
+                        .fileName(fileName)
+                        .contentType(doc.getContentType())
+                        .sizeBytes(doc.getSizeBytes())
+                        .createdAt(doc.getCreatedAt())
+                        .build());
+            }
+            return responses;
 
         } catch (Exception e) {
             log.error("사용자 서류 목록 조회 실패 - userNm: {}", userNm, e);
@@ -249,24 +403,12 @@ public class DocumentService {
                 throw new IllegalArgumentException("문서를 찾을 수 없습니다.");
             }
 
-            String objectKey = cryptoUtil.decrypt(new String(document.getObjectKeyEnc()));
-
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .build();
-
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(10)) // 10분 유효
-                    .getObjectRequest(getObjectRequest)
-                    .build();
-
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
+            String downloadUrl = presignedUrlService.presignGet(document.getObjectKeyEnc());
 
-            // 감사 로그 기록
+            // 감사 로그 기록 (캐시된 URL 을 돌려준 경우도 발급으로 남긴다)
             myboxMapper.insertAuditLog(documentId, userNm, "DOWNLOAD_URL_ISSUED", null, null);
 
-            return presignedRequest.url().toString();
+            return downloadUrl;
 
         } catch (Exception e) {
             log.error("다운로드 URL 생성 실패 - userNm: {}, documentId: {}", userNm, documentId, e);
@@ -284,21 +426,7 @@ public class DocumentService {
                 throw new IllegalArgumentException("서류를 찾을 수 없습니다.");
             }
 
-            String objectKey = cryptoUtil.decrypt(new String(document.getObjectKeyEnc()));
-
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .build();
-
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(10)) // 10분 유효
-                    .getObjectRequest(getObjectRequest)
-                    .build();
-
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-
-            return presignedRequest.url().toString();
+            return presignedUrlService.presignGet(document.getObjectKeyEnc());
 
         } catch (Exception e) {
             log.error("장학금 신청 서류 다운로드 URL 생성 실패 - userNm: {}, scholarshipNm: {}, documentNm: {}", userNm, scholarshipNm, documentNm, e);
@@ -306,6 +434,20 @@ public class DocumentService {
         }
     }
 
+    /**
+     * 신청 한 건의 서류 다운로드 URL 일괄 발급 (documentNm -> URL, 발급 실패한 서류는 null)
+     */
+    public Map<String, String> generateApplicationDocumentDownloadUrls(String userNm, String scholarshipNm) {
+        List<ApplicationDocument> documents = applicationDocumentMapper.findDocumentsByUserAndScholarship(userNm, scholarshipNm);
+        List<String> urls = presignedUrlService.presignGetAll(documents.stream().map(ApplicationDocument::getObjectKeyEnc).toList());
+
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < documents.size(); i++) {
+            result.put(documents.get(i).getApplicationDocumentNm(), urls.get(i));
+        }
+        return result;
+    }
+
     /**
      * 서류 삭제
      */
@@ -317,16 +459,6 @@ public class DocumentService {
                 throw new IllegalArgumentException("문서를 찾을 수 없습니다.");
             }
 
-            String objectKey = cryptoUtil.decrypt(new String(document.getObjectKeyEnc()));
-
-            // S3에서 파일 삭제
-            DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .build();
-
-            s3Client.deleteObject(deleteRequest);
-
             // 감사 로그 기록
             myboxMapper.insertAuditLog(documentId, userNm, "DELETE", 
                     document.getObjectKeyEnc(), document.getFileNameEnc());
@@ -334,6 +466,19 @@ public class DocumentService {
             // DB에서 삭제
             myboxMapper.deleteById(documentId);
 
+            // S3 객체는 다른 서류(신청서 복사본, 같은 내용 업로드)가 더 이상 가리키지 않을 때만 삭제 (커밋 후)
+            boolean objectDeleted;
+            if (document.getBlobId() != null) {
+                objectDeleted = documentBlobService.release(document.getBlobId());
+            } else {
+                String objectKey = cryptoUtil.decryptBytes(document.getObjectKeyEnc());
+                s3Timer("deleteObject").record(() -> objectStorage.deleteObject(objectKey));
+                objectDeleted = true;
+            }
+            if (objectDeleted) {
+                presignedUrlService.evict(document.getObjectKeyEnc());
+            }
+
             log.info("문서 삭제 완료 - userNm: {}, documentId: {}", userNm, documentId);
 
         } catch (Exception e) {
@@ -368,6 +513,15 @@ public class DocumentService {
             
             // 2. 고유한 documentNm 생성
             String documentNm = generateUniqueDocumentName(userNm, scholarshipNm);
+
+            // 같은 S3 객체를 가리키게 되므로 참조를 하나 늘린다 (참조 집계 이전 서류는 이때 blob 으로 옮긴다)
+            Long blobId = myboxDocument.getBlobId();
+            if (blobId == null) {
+                blobId = documentBlobService.registerUnverified(userNm, myboxDocument.getObjectKeyEnc(),
+                        myboxDocument.getSizeBytes(), null).getId();
+                myboxMapper.updateBlobId(myboxDocument.getId(), blobId);
+            }
+            documentBlobService.addReference(blobId);
             
             // 3. ApplicationDocument에 복사 (암호화된 데이터 그대로)
             ApplicationDocument applicationDocument = ApplicationDocument.builder()
@@ -379,6 +533,7 @@ public class DocumentService {
                     .contentType(myboxDocument.getContentType())
                     .fileSize(myboxDocument.getSizeBytes())
                     .checksumSha256(myboxDocument.getChecksumSha256())
+                    .blobId(blobId)
                     .uploadedAt(java.time.LocalDateTime.now())
                     .build();
             
@@ -386,7 +541,7 @@ public class DocumentService {
             
             // 4. 복호화한 파일명으로 로깅
             try {
-                String originalFileName = cryptoUtil.decrypt(new String(myboxDocument.getFileNameEnc()));
+                String originalFileName = cryptoUtil.decryptBytes(myboxDocument.getFileNameEnc());
                 log.info("✅ MyBox 파일 복사 완료 - documentNm: {}, 원본 파일명: {}", documentNm, originalFileName);
             } catch (Exception e) {
                 log.info("✅ MyBox 파일 복사 완료 - documentNm: {} (파일명 복호화 실패)", documentNm);
@@ -410,23 +565,35 @@ public class DocumentService {
     }
 
     /**
-     * S3에서 파일 존재 확인
+     * S3에서 파일 존재 확인 (S3 가 확인한 크기/ETag)
      */
-    private boolean isFileExistsInS3(String key) {
+    private Optional<ObjectStorage.StoredObject> findStoredObject(String key) {
         try {
-            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-
-            s3Client.headObject(headObjectRequest);
-            return true;
-
-        } catch (NoSuchKeyException e) {
-            return false;
+            return Objects.requireNonNull(s3Timer("headObject").record(() -> objectStorage.headObject(key)));
         } catch (Exception e) {
             log.error("S3 파일 존재 확인 실패 - key: {}", key, e);
-            return false;
+            return Optional.empty();
         }
     }
+
+    private void deleteObjectQuietly(String key) {
+        try {
+            objectStorage.deleteObject(key);
+        } catch (Exception e) {
+            log.warn("업로드 정리 중 객체 삭제 실패 - key: {}", key, e);
+        }
+    }
+
+    /**
+     * S3 호출 시간 타이머 (s3.operation{op})
+     */
+    private Timer s3Timer(String op) {
+        return Timer.builder("s3.operation")
+                .description("S3 호출/presign 시간")
+                .tag("op", op)
+                .register(meterRegistry);
+    }
+
+    public record DocumentContent(String objectKey, String fileName, String contentType, Long sizeBytes) {
+    }
 }
@@ -0,0 +1,49 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.mapper.ExchangeMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 환전 번호(exchangeNm) 발급.
+ *
+ * exchange_id_sequence 행에서 번호 블록을 예약해 나눠 주므로 인스턴스가 여러 개여도 번호가 겹치지 않는다.
+ * 예약은 별도 트랜잭션으로 바로 커밋해 호출한 트랜잭션이 길어도 행 잠금을 오래 잡지 않는다.
+ * 앱이 exchangeNm 을 number 로 다루므로 2^53 아래의 증가 정수만 쓴다 (재시작 시 남은 블록은 건너뛴다).
+ */
+@Component
+public class ExchangeIdGenerator {
+
+    static final int BLOCK_SIZE = 100;
+
+    private final ExchangeMapper exchangeMapper;
+    private final TransactionTemplate reserveTransaction;
+
+    private long next;
+    private long limit;
+
+    public ExchangeIdGenerator(ExchangeMapper exchangeMapper, PlatformTransactionManager transactionManager) {
+        this.exchangeMapper = exchangeMapper;
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다음 환전 번호
+     */
+    public synchronized String next() {
+        if (next >= limit) {
+            Long blockEnd = reserveTransaction.execute(status -> {
+                if (exchangeMapper.reserveExchangeNms(BLOCK_SIZE) != 1) {
+                    throw new IllegalStateException("exchange_id_sequence 행이 없습니다");
+                }
+                return exchangeMapper.findLastInsertId();
+            });
+            limit = blockEnd;
+            next = blockEnd - BLOCK_SIZE;
+        }
+        return String.valueOf(next++);
+    }
+}
@@ -2,6 +2,8 @@ package com.solsol.heycalendar.service;
 
 import com.solsol.heycalendar.domain.Exchange;
 import com.solsol.heycalendar.domain.ExchangeState;
+import com.solsol.heycalendar.domain.MileageBalance;
+import com.solsol.heycalendar.domain.MileageLedgerEntryType;
 import com.solsol.heycalendar.domain.User;
 import com.solsol.heycalendar.domain.Role;
 import com.solsol.heycalendar.mapper.ExchangeMapper;
@@ -9,17 +11,21 @@ import com.solsol.heycalendar.mapper.UserMapper;
 import com.solsol.heycalendar.service.ShinhanBankService.BalanceInquiryResponse;
 import com.solsol.heycalendar.service.ShinhanBankService.TransactionHistoryResponse;
 import com.solsol.heycalendar.service.ShinhanBankService.DepositResponse;
-import com.solsol.heycalendar.dto.response.UserMileageResponse;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
+import com.solsol.heycalendar.dto.response.UniversityMileageRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -27,11 +33,19 @@ import java.util.Map;
 @Transactional
 public class ExchangeService {
     
+    // 999번 대학(미지정대학교) 관리자는 모든 사용자 처리 가능
+    private static final long ALL_UNIVERSITIES = 999L;
+    static final String SORT_AVAILABLE = "available";
+    static final String SORT_USER_NM = "userNm";
+    static final int MILEAGE_PAGE_DEFAULT_SIZE = 100;
+    static final int MILEAGE_PAGE_MAX_SIZE = 500;
+    
     private final ExchangeMapper exchangeMapper;
     private final UserMapper userMapper;
     private final ShinhanBankService shinhanBankService;
-    private final MileageService mileageService;
+    private final MileageLedgerService mileageLedgerService;
     private final NotificationService notificationService;
+    private final ExchangeIdGenerator exchangeIdGenerator;
     
     /**
      * 사용자 환전 신청
@@ -44,14 +58,16 @@ public class ExchangeService {
             User user = userMapper.findByUserNm(userNm)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userNm));
             
-            // 마일리지 충분한지 확인
-            UserMileageResponse userMileage = mileageService.getUserMileage(userNm);
-            if (userMileage.getAvailableMileage() < amount) {
-                throw new IllegalArgumentException("보유 마일리지가 부족합니다. 보유: " + userMileage.getAvailableMileage() + ", 신청: " + amount);
+            // 사용 가능 마일리지 확보 (잔액 행 조건부 UPDATE)
+            String exchangeNm = exchangeIdGenerator.next();
+            if (!mileageLedgerService.tryHold(userNm, amount, exchangeNm)) {
+                int available = mileageLedgerService.getBalance(userNm).getAvailable();
+                throw new IllegalArgumentException("보유 마일리지가 부족합니다. 보유: " + available + ", 신청: " + amount);
             }
             
             // 환전 신청 생성
             Exchange exchange = new Exchange();
+            exchange.setExchangeNm(exchangeNm);
             exchange.setUserNm(userNm);
             exchange.setAmount(amount);
             exchange.setState(ExchangeState.PENDING);
@@ -109,9 +125,9 @@ public class ExchangeService {
     private void processApprovedExchange(Exchange exchange, User user, String adminUserNm) {
         try {
             // 1. 마일리지 차감 (실제 차감은 Exchange에 APPROVED 상태로 반영됨)
-            UserMileageResponse currentMileage = mileageService.getUserMileage(user.getUserNm());
+            MileageBalance currentMileage = mileageLedgerService.getBalance(user.getUserNm());
             log.info("✅ 마일리지 차감 처리 - userNm: {}, 사용 가능: {}, 환전 금액: {}", 
-                    user.getUserNm(), currentMileage.getAvailableMileage(), exchange.getAmount());
+                    user.getUserNm(), currentMileage.getAvailable(), exchange.getAmount());
             
             // 2. 신한은행 계좌 입금
             if (user.getUserKey() != null && user.getAccountNm() != null) {
@@ -131,6 +147,8 @@ public class ExchangeService {
             exchange.setState(ExchangeState.APPROVED);
             exchange.setProcessedAt(LocalDateTime.now());
             exchangeMapper.update(exchange);
+            mileageLedgerService.record(exchange.getUserNm(), MileageLedgerEntryType.EXCHANGE_APPROVE,
+                    exchange.getAmount(), exchange.getExchangeNm());
             
             // 4. 알림 발송
             notificationService.sendExchangeCompletedNotification(user.getUserNm(), exchange.getAmount());
@@ -149,6 +167,8 @@ public class ExchangeService {
             exchange.setState(ExchangeState.REJECTED);
             exchange.setProcessedAt(LocalDateTime.now());
             exchangeMapper.update(exchange);
+            mileageLedgerService.record(exchange.getUserNm(), MileageLedgerEntryType.EXCHANGE_RELEASE,
+                    exchange.getAmount(), exchange.getExchangeNm());
             
             // 환전 거절 알림 발송
             notificationService.sendExchangeRejectedNotification(exchange.getUserNm(), exchange.getAmount());
@@ -255,70 +275,93 @@ public class ExchangeService {
     }
     
     /**
-     * 같은 대학 사용자들의 마일리지 조회 (관리자용)
+     * 관리자가 조회할 수 있는 대학 범위 (999번 대학(미지정대학교) 관리자는 전체 대학)
      */
-    public Map<String, Object> getUniversityUsersMileage(String adminUserNm) {
+    @Transactional(readOnly = true)
+    public AdminUniversityScope resolveAdminScope(String adminUserNm) {
+        User admin = userMapper.findByUserNm(adminUserNm)
+            .orElseThrow(() -> new IllegalArgumentException("관리자를 찾을 수 없습니다: " + adminUserNm));
+        boolean allUniversities = admin.getUnivNm() == null || admin.getUnivNm() == ALL_UNIVERSITIES;
+        return new AdminUniversityScope(admin.getUnivNm(), allUniversities);
+    }
+    
+    /**
+     * 같은 대학 사용자들의 마일리지 조회 (관리자용) - 학생별 마일리지와 환전 대기 합계를 집계 쿼리 한 번으로 조회
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUniversityUsersMileage(AdminUniversityScope scope) {
         try {
-            log.info("🎓 대학 사용자 마일리지 조회 - adminUserNm: {}", adminUserNm);
-            
-            // 관리자 정보 조회
-            User admin = userMapper.findByUserNm(adminUserNm)
-                .orElseThrow(() -> new IllegalArgumentException("관리자를 찾을 수 없습니다: " + adminUserNm));
-            
-            // 같은 대학의 사용자들 조회 - 현재는 모든 활성 사용자 조회
-            // TODO: 대학별 필터링 기능 추가 필요
-            List<String> allUserNames = userMapper.findAllActiveUserNames();
-            
-            // 각 사용자의 마일리지 정보 조회 (user.userMileage 직접 사용)
-            List<Map<String, Object>> userMileages = new ArrayList<>();
-            for (String userNm : allUserNames) {
-                try {
-                    User user = userMapper.findByUserNm(userNm).orElse(null);
-                    if (user != null) {
-                        log.info("🔍 사용자 정보 확인 - userNm: {}, univNm: {}, role: {}, admin univNm: {}", 
-                                userNm, user.getUnivNm(), user.getRole(), admin.getUnivNm());
-                    }
-                    // STUDENT 역할 체크 및 대학 필터링 (999번 대학은 모든 사용자 처리 가능)
-                    if (user != null && user.getRole() != null && user.getRole().toString().equals("STUDENT")
-                        && (admin.getUnivNm() == null || admin.getUnivNm().equals(999) || user.getUnivNm() == null || user.getUnivNm().equals(admin.getUnivNm()))) {
-                        // 환전 대기 중인 마일리지 계산
-                        List<Exchange> pendingExchanges = exchangeMapper.findByUserNmAndState(userNm, ExchangeState.PENDING);
-                        Integer pendingAmount = pendingExchanges.stream()
-                                .mapToInt(Exchange::getAmount)
-                                .sum();
-                        
-                        // 사용자의 총 마일리지 (user.userMileage 컬럼에서 조회)
-                        Integer totalMileage = user.getUserMileage() != null ? user.getUserMileage() : 0;
-                        Integer availableMileage = Math.max(0, totalMileage - pendingAmount);
-                        
-                        Map<String, Object> userInfo = new HashMap<>();
-                        userInfo.put("userNm", user.getUserNm());
-                        userInfo.put("userName", user.getUserName());
-                        userInfo.put("userId", user.getUserId());
-                        userInfo.put("totalMileage", totalMileage);
-                        userInfo.put("availableMileage", availableMileage);
-                        userInfo.put("pendingExchange", pendingAmount);
-                        
-                        userMileages.add(userInfo);
-                    }
-                } catch (Exception e) {
-                    log.warn("사용자 정보 조회 실패: {}", userNm, e);
-                }
-            }
+            List<UniversityMileageRow> users = new ArrayList<>();
+            streamUniversityUsersMileage(scope, users::add);
+            log.info("🎓 대학 사용자 마일리지 조회 - univNm: {}, 사용자: {}명", scope.univNm(), users.size());
             
             Map<String, Object> result = new HashMap<>();
-            result.put("universityNm", admin.getUnivNm());
-            result.put("users", userMileages);
-            result.put("totalUsers", userMileages.size());
-            
+            result.put("universityNm", scope.univNm());
+            result.put("users", users);
+            result.put("totalUsers", users.size());
             return result;
             
         } catch (Exception e) {
-            log.error("❌ 대학 사용자 마일리지 조회 실패 - adminUserNm: {}, error: {}", adminUserNm, e.getMessage(), e);
+            log.error("❌ 대학 사용자 마일리지 조회 실패 - univNm: {}, error: {}", scope.univNm(), e.getMessage(), e);
             throw new RuntimeException("대학 사용자 마일리지 조회에 실패했습니다: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * 대학 사용자 마일리지를 사용 가능 마일리지 내림차순으로 한 행씩 전달 (결과를 메모리에 모으지 않음)
+     *
+     * @return 전달한 사용자 수
+     */
+    @Transactional(readOnly = true)
+    public int streamUniversityUsersMileage(AdminUniversityScope scope, Consumer<UniversityMileageRow> consumer) {
+        int[] count = {0};
+        userMapper.streamUniversityStudentMileages(scope.filterUnivNm(), context -> {
+            consumer.accept(context.getResultObject());
+            count[0]++;
+        });
+        return count[0];
+    }
+    
+    /**
+     * 대학 사용자 마일리지 keyset 페이지 (관리자용)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 500)
+     * @param sort available(사용 가능 마일리지 내림차순, 기본값) 또는 userNm(학번 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UniversityMileageRow> getUniversityUsersMileagePage(AdminUniversityScope scope, String cursor,
+                                                                                   Integer size, String sort) {
+        String sortKey = sort == null || sort.isBlank() ? SORT_AVAILABLE : sort;
+        if (!SORT_AVAILABLE.equals(sortKey) && !SORT_USER_NM.equals(sortKey)) {
+            throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + sort);
+        }
+        int pageSize = size == null || size <= 0 ? MILEAGE_PAGE_DEFAULT_SIZE : Math.min(size, MILEAGE_PAGE_MAX_SIZE);
+        UniversityMileageCursor after = UniversityMileageCursor.decode(cursor);
+        
+        // 다음 페이지 존재 여부 확인용으로 1건 더 읽는다
+        List<UniversityMileageRow> rows = userMapper.findUniversityStudentMileagePage(scope.filterUnivNm(), sortKey,
+                after == null ? null : after.availableMileage(),
+                after == null ? null : after.userNm(),
+                pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        
+        String nextCursor = null;
+        if (hasNext) {
+            UniversityMileageRow last = rows.get(rows.size() - 1);
+            nextCursor = new UniversityMileageCursor(last.getAvailableMileage(), last.getUserNm()).encode();
+        }
+        
+        return CursorPageResponse.<UniversityMileageRow>builder()
+                .items(new ArrayList<>(rows))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+    
     /**
      * 마일리지를 돈으로 환전 처리 (관리자용)
      */
@@ -361,8 +404,7 @@ public class ExchangeService {
             
             // 환전 신청 생성 및 자동 승인
             Exchange exchange = new Exchange();
-            // exchangeNm 생성 (bigint 타입으로 - 숫자만 사용)
-            String exchangeNm = String.valueOf(System.currentTimeMillis() % 10000000000L);
+            String exchangeNm = exchangeIdGenerator.next();
             exchange.setExchangeNm(exchangeNm);
             exchange.setUserNm(targetUserNm);
             exchange.setAmount(mileageAmount);
@@ -370,13 +412,19 @@ public class ExchangeService {
             exchange.setAppliedAt(LocalDateTime.now());
             exchange.setProcessedAt(LocalDateTime.now());
             
+            // 사용자 신청으로 대기 중인 금액은 지급하지 않도록 원장의 사용 가능 잔액에서 확보 (환전 행보다 먼저)
+            if (!mileageLedgerService.tryPayout(targetUserNm, mileageAmount, exchangeNm)) {
+                int available = mileageLedgerService.getBalance(targetUserNm).getAvailable();
+                throw new IllegalArgumentException("보유 마일리지가 부족합니다. 사용 가능: " + available + ", 신청: " + mileageAmount);
+            }
             exchangeMapper.insert(exchange);
             
-            // 사용자 마일리지에서 차감
-            Integer newMileage = currentMileage - mileageAmount;
-            userMapper.updateUserMileage(targetUserNm, newMileage);
-            log.info("✅ 사용자 마일리지 차감 완료 - userNm: {}, 기존: {}P, 차감: {}P, 잔여: {}P", 
-                    targetUserNm, currentMileage, mileageAmount, newMileage);
+            // 사용자 마일리지에서 차감 (동시 요청에도 잔액 아래로 내려가지 않도록 조건부 UPDATE)
+            if (userMapper.debitUserMileage(targetUserNm, mileageAmount) != 1) {
+                throw new IllegalArgumentException("보유 마일리지가 부족합니다. 신청: " + mileageAmount);
+            }
+            log.info("✅ 사용자 마일리지 차감 완료 - userNm: {}, 기존: {}P, 차감: {}P", 
+                    targetUserNm, currentMileage, mileageAmount);
             
             // 계좌 입금 처리
             if (targetUser.getUserKey() != null && targetUser.getAccountNm() != null) {
@@ -409,4 +457,38 @@ public class ExchangeService {
             throw new RuntimeException("마일리지 환전 처리에 실패했습니다: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 관리자 조회 범위
+     *
+     * @param univNm 관리자 소속 대학
+     * @param allUniversities 전체 대학 조회 여부
+     */
+    public record AdminUniversityScope(Long univNm, boolean allUniversities) {
+        
+        Long filterUnivNm() {
+            return allUniversities ? null : univNm;
+        }
+    }
+    
+    record UniversityMileageCursor(Integer availableMileage, String userNm) {
+        
+        String encode() {
+            String raw = availableMileage + "|" + userNm;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        static UniversityMileageCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 2);
+                return new UniversityMileageCursor(Integer.valueOf(parts[0]), parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
+}
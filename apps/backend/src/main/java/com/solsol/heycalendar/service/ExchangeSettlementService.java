@@ -0,0 +1,380 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Exchange;
+import com.solsol.heycalendar.domain.ExchangeState;
+import com.solsol.heycalendar.domain.MileageLedgerEntryType;
+import com.solsol.heycalendar.domain.User;
+import com.solsol.heycalendar.dto.request.ExchangeSettlementRequest;
+import com.solsol.heycalendar.dto.response.ExchangeSettlementResult;
+import com.solsol.heycalendar.exception.BankCallRejectedException;
+import com.solsol.heycalendar.mapper.ExchangeMapper;
+import com.solsol.heycalendar.mapper.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 마일리지 일괄 환전.
+ *
+ * 건마다 짧은 트랜잭션에서 환전 행을 PROCESSING 으로 만들고 마일리지를 조건부 UPDATE 로 차감한 뒤,
+ * 은행 입금은 트랜잭션 밖에서 settlementExecutor 로 병렬 호출한다 (동시 호출 수 = 워커 수).
+ * 입금 요청의 기관거래고유번호는 호출 전에 환전 행에 저장해 두어 결과가 불명확한 건을 대사할 수 있다.
+ * 입금되지 않은 것이 확실한 실패(4xx, 동시 호출 한도 초과)만 차감을 되돌리고,
+ * 타임아웃 등 결과를 알 수 없는 건은 PROCESSING 으로 남겨 중복 입금을 막는다.
+ */
+@Slf4j
+@Service
+public class ExchangeSettlementService {
+
+    public static final int MAX_BATCH = 1000;
+    static final int DEFAULT_PENDING_LIMIT = 200;
+    // 999번 대학(미지정대학교) 관리자는 모든 사용자 처리 가능
+    private static final long ALL_UNIVERSITIES = 999L;
+
+    private final ExchangeMapper exchangeMapper;
+    private final UserMapper userMapper;
+    private final ShinhanBankService shinhanBankService;
+    private final NotificationService notificationService;
+    private final MileageLedgerService mileageLedgerService;
+    private final ExchangeIdGenerator exchangeIdGenerator;
+    private final TaskExecutor settlementExecutor;
+    private final TransactionTemplate itemTransaction;
+
+    public ExchangeSettlementService(ExchangeMapper exchangeMapper,
+                                     UserMapper userMapper,
+                                     ShinhanBankService shinhanBankService,
+                                     NotificationService notificationService,
+                                     MileageLedgerService mileageLedgerService,
+                                     ExchangeIdGenerator exchangeIdGenerator,
+                                     @Qualifier("settlementExecutor") TaskExecutor settlementExecutor,
+                                     PlatformTransactionManager transactionManager) {
+        this.exchangeMapper = exchangeMapper;
+        this.userMapper = userMapper;
+        this.shinhanBankService = shinhanBankService;
+        this.notificationService = notificationService;
+        this.mileageLedgerService = mileageLedgerService;
+        this.exchangeIdGenerator = exchangeIdGenerator;
+        this.settlementExecutor = settlementExecutor;
+        this.itemTransaction = new TransactionTemplate(transactionManager);
+        this.itemTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 요청 형식 검증 (스트리밍 응답을 시작하기 전에 호출)
+     */
+    public void validate(ExchangeSettlementRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("일괄 환전 요청이 비어 있습니다");
+        }
+        if (request.isAllPending()) {
+            if (request.getLimit() != null && (request.getLimit() <= 0 || request.getLimit() > MAX_BATCH)) {
+                throw new IllegalArgumentException("limit 은 1 ~ " + MAX_BATCH + " 사이여야 합니다");
+            }
+            return;
+        }
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("환전할 사용자 목록이 비어 있습니다");
+        }
+        if (request.getItems().size() > MAX_BATCH) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH + "건까지 처리할 수 있습니다");
+        }
+    }
+
+    /**
+     * 처리 관리자 조회. 대학 범위를 확인할 수 없으면 배치 전체를 거절한다 (스트리밍 응답을 시작하기 전에도 호출)
+     */
+    public User requireAdmin(String adminUserNm) {
+        if (adminUserNm == null || adminUserNm.isBlank()) {
+            throw new IllegalArgumentException("관리자 정보가 없습니다");
+        }
+        return userMapper.findByUserNm(adminUserNm)
+                .orElseThrow(() -> new IllegalArgumentException("관리자를 찾을 수 없습니다: " + adminUserNm));
+    }
+
+    /**
+     * 일괄 환전 실행. 건별 결과는 끝나는 순서대로 listener 로 전달한다 (호출 스레드에서 호출).
+     */
+    public SettlementSummary settle(ExchangeSettlementRequest request, String adminUserNm,
+                                    Consumer<ExchangeSettlementResult> listener) {
+        validate(request);
+        User admin = requireAdmin(adminUserNm);
+        long startedAt = System.nanoTime();
+
+        List<SettlementTask> tasks = plan(request);
+        Map<String, User> users = loadUsers(tasks);
+
+        log.info("💱 일괄 환전 시작 - admin: {}, 대상: {}건, allPending: {}", adminUserNm, tasks.size(), request.isAllPending());
+
+        SummaryCounter counter = new SummaryCounter();
+        CompletionService<ExchangeSettlementResult> completion = new ExecutorCompletionService<>(settlementExecutor);
+        int submitted = 0;
+        for (SettlementTask task : tasks) {
+            User user = users.get(task.userNm());
+            String rejection = precheck(task, user, admin);
+            if (rejection != null) {
+                counter.emit(result(task, "SKIPPED", rejection, null, 0), listener);
+                continue;
+            }
+            completion.submit(() -> settleOne(task, user));
+            submitted++;
+        }
+
+        for (int i = 0; i < submitted; i++) {
+            counter.emit(take(completion), listener);
+        }
+
+        SettlementSummary summary = counter.summary((System.nanoTime() - startedAt) / 1_000_000);
+        log.info("✅ 일괄 환전 완료 - admin: {}, {}", adminUserNm, summary);
+        return summary;
+    }
+
+    private List<SettlementTask> plan(ExchangeSettlementRequest request) {
+        if (request.isAllPending()) {
+            int limit = request.getLimit() == null ? DEFAULT_PENDING_LIMIT : request.getLimit();
+            return exchangeMapper.findPendingForSettlement(limit).stream()
+                    .map(e -> new SettlementTask(e.getExchangeNm(), e.getUserNm(), e.getAmount(), true))
+                    .toList();
+        }
+        return request.getItems().stream()
+                .map(item -> new SettlementTask(exchangeIdGenerator.next(), item.getUserNm(), item.getAmount(), false))
+                .toList();
+    }
+
+    private Map<String, User> loadUsers(List<SettlementTask> tasks) {
+        List<String> userNms = tasks.stream()
+                .map(SettlementTask::userNm)
+                .filter(userNm -> userNm != null && !userNm.isBlank())
+                .distinct()
+                .toList();
+        if (userNms.isEmpty()) {
+            return Map.of();
+        }
+        return userMapper.findByUserNms(userNms).stream()
+                .collect(Collectors.toMap(User::getUserNm, Function.identity(), (a, b) -> a));
+    }
+
+    private String precheck(SettlementTask task, User user, User admin) {
+        if (task.amount() == null || task.amount() <= 0) {
+            return "환전 금액이 올바르지 않습니다";
+        }
+        if (user == null) {
+            return "사용자를 찾을 수 없습니다";
+        }
+        if (user.getUserKey() == null || user.getAccountNm() == null) {
+            return "사용자의 계좌 정보가 없습니다";
+        }
+        if (admin.getUnivNm() != null && user.getUnivNm() != null
+                && admin.getUnivNm() != ALL_UNIVERSITIES && !admin.getUnivNm().equals(user.getUnivNm())) {
+            return "다른 대학의 사용자는 처리할 수 없습니다";
+        }
+        return null;
+    }
+
+    /**
+     * 1건 처리: 차감(+PROCESSING) → 입금 → 완료. 워커 스레드에서 실행된다.
+     * 사용자 신청 건은 원장의 대기 금액을 승인으로 옮길 뿐 users.userMileage 를 차감하지 않는다 (개별 승인과 동일).
+     */
+    ExchangeSettlementResult settleOne(SettlementTask task, User user) {
+        long startedAt = System.nanoTime();
+        String txnNo = shinhanBankService.generateInstitutionTransactionUniqueNo();
+
+        // 1) 환전 행 PROCESSING + 마일리지 차감 (같은 트랜잭션)
+        String rejection;
+        try {
+            rejection = itemTransaction.execute(status -> {
+                if (task.fromPending()) {
+                    if (exchangeMapper.claimPending(task.exchangeNm(), task.userNm(), txnNo) != 1) {
+                        return "이미 처리 중이거나 처리된 환전 신청입니다";
+                    }
+                } else {
+                    // 사용자 신청으로 이미 대기 중인 금액까지 지급하지 않도록 원장의 사용 가능 잔액에서 먼저 확보
+                    if (!mileageLedgerService.tryHold(task.userNm(), task.amount(), task.exchangeNm())) {
+                        status.setRollbackOnly();
+                        return "보유 마일리지가 부족합니다";
+                    }
+                    exchangeMapper.insert(Exchange.builder()
+                            .exchangeNm(task.exchangeNm())
+                            .userNm(task.userNm())
+                            .amount(task.amount())
+                            .state(ExchangeState.PROCESSING)
+                            .appliedAt(LocalDateTime.now())
+                            .bankTxnNo(txnNo)
+                            .build());
+                }
+                // 사용자 신청 건은 신청 때 원장에서 이미 확보했으므로 개별 승인(/process)과 같이 users.userMileage 는 건드리지 않는다
+                if (!task.fromPending() && userMapper.debitUserMileage(task.userNm(), task.amount()) != 1) {
+                    status.setRollbackOnly();
+                    return "보유 마일리지가 부족합니다";
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("❌ 일괄 환전 차감 실패 - userNm: {}, exchangeNm: {}", task.userNm(), task.exchangeNm(), e);
+            return result(task, "FAILED", "마일리지 차감 실패: " + e.getMessage(), null, elapsed(startedAt));
+        }
+        if (rejection != null) {
+            return result(task, "SKIPPED", rejection, null, elapsed(startedAt));
+        }
+
+        // 2) 은행 입금 (트랜잭션 밖)
+        try {
+            shinhanBankService.depositToAccount(user.getUserKey(), user.getAccountNm(), task.amount().longValue(),
+                    "마일리지 환전 (일괄 처리) - " + task.amount() + " 포인트", txnNo);
+        } catch (Exception e) {
+            if (!isDefinitelyNotDeposited(e)) {
+                log.error("❌ 일괄 환전 입금 결과 불명 - userNm: {}, exchangeNm: {}, txnNo: {}",
+                        task.userNm(), task.exchangeNm(), txnNo, e);
+                return result(task, "UNKNOWN", "입금 결과를 확인할 수 없습니다. 거래번호로 대사가 필요합니다", txnNo, elapsed(startedAt));
+            }
+            return compensate(task, txnNo, e, startedAt);
+        }
+
+        // 3) 완료 처리 + 알림
+        try {
+            itemTransaction.executeWithoutResult(status -> {
+                if (exchangeMapper.finishProcessing(task.exchangeNm(), task.userNm(), ExchangeState.APPROVED) == 1) {
+                    mileageLedgerService.record(task.userNm(), MileageLedgerEntryType.EXCHANGE_APPROVE, task.amount(),
+                            task.exchangeNm());
+                }
+                notificationService.sendExchangeCompletedNotification(task.userNm(), task.amount());
+            });
+        } catch (Exception e) {
+            log.error("❌ 일괄 환전 완료 기록 실패 (입금은 완료) - userNm: {}, exchangeNm: {}, txnNo: {}",
+                    task.userNm(), task.exchangeNm(), txnNo, e);
+            return result(task, "UNKNOWN", "입금은 완료되었으나 상태 기록에 실패했습니다", txnNo, elapsed(startedAt));
+        }
+        return result(task, "SETTLED", null, txnNo, elapsed(startedAt));
+    }
+
+    private ExchangeSettlementResult compensate(SettlementTask task, String txnNo, Exception cause, long startedAt) {
+        log.warn("⚠️ 일괄 환전 입금 실패, 차감 취소 - userNm: {}, exchangeNm: {}, error: {}",
+                task.userNm(), task.exchangeNm(), cause.getMessage());
+        try {
+            // 신청 건은 다시 대기 상태로, 관리자 직접 환전 건은 거절로 남긴다
+            ExchangeState next = task.fromPending() ? ExchangeState.PENDING : ExchangeState.REJECTED;
+            itemTransaction.executeWithoutResult(status -> {
+                // 다시 대기 상태가 된 신청은 대기 금액에 그대로 남는다
+                if (exchangeMapper.finishProcessing(task.exchangeNm(), task.userNm(), next) == 1 && !task.fromPending()) {
+                    userMapper.addUserMileage(task.userNm(), task.amount());
+                    mileageLedgerService.record(task.userNm(), MileageLedgerEntryType.EXCHANGE_RELEASE,
+                            task.amount(), task.exchangeNm());
+                }
+            });
+        } catch (Exception e) {
+            log.error("❌ 일괄 환전 차감 취소 실패 - userNm: {}, exchangeNm: {}", task.userNm(), task.exchangeNm(), e);
+            return result(task, "UNKNOWN", "입금 실패 후 차감 취소에 실패했습니다", txnNo, elapsed(startedAt));
+        }
+        return result(task, "FAILED", "계좌 입금 실패: " + rootMessage(cause), txnNo, elapsed(startedAt));
+    }
+
+    /**
+     * 은행에 요청이 반영되지 않은 것이 확실한 실패인지 (4xx 응답, 동시 호출 한도 초과로 보내지 않음)
+     */
+    static boolean isDefinitelyNotDeposited(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof HttpClientErrorException || t instanceof BankCallRejectedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ExchangeSettlementResult take(CompletionService<ExchangeSettlementResult> completion) {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일괄 환전 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            // settleOne 은 예외를 결과로 바꾸므로 여기까지 오지 않는다
+            throw new IllegalStateException("일괄 환전 처리 오류", e.getCause());
+        }
+    }
+
+    private static ExchangeSettlementResult result(SettlementTask task, String status, String message,
+                                                   String txnNo, long elapsedMillis) {
+        return ExchangeSettlementResult.builder()
+                .exchangeNm(task.exchangeNm())
+                .userNm(task.userNm())
+                .amount(task.amount())
+                .status(status)
+                .message(message)
+                .bankTxnNo(txnNo)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private static long elapsed(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    record SettlementTask(String exchangeNm, String userNm, Integer amount, boolean fromPending) {
+    }
+
+    private static final class SummaryCounter {
+        private int total;
+        private int settled;
+        private int failed;
+        private int unknown;
+        private int skipped;
+        private long settledAmount;
+        private boolean listenerFailed;
+
+        void emit(ExchangeSettlementResult result, Consumer<ExchangeSettlementResult> listener) {
+            total++;
+            switch (result.getStatus()) {
+                case "SETTLED" -> {
+                    settled++;
+                    settledAmount += result.getAmount();
+                }
+                case "FAILED" -> failed++;
+                case "UNKNOWN" -> unknown++;
+                default -> skipped++;
+            }
+            if (listenerFailed) {
+                return;
+            }
+            try {
+                listener.accept(result);
+            } catch (RuntimeException e) {
+                // 결과를 받는 쪽(응답 스트림)이 끊겨도 나머지 건은 끝까지 처리한다
+                listenerFailed = true;
+                log.warn("일괄 환전 결과 전달 중단: {}", e.getMessage());
+            }
+        }
+
+        SettlementSummary summary(long elapsedMillis) {
+            return new SettlementSummary(total, settled, failed, unknown, skipped, settledAmount, elapsedMillis);
+        }
+    }
+
+    /**
+     * 일괄 환전 집계 (unknown 은 PROCESSING 으로 남아 대사가 필요한 건수)
+     */
+    public record SettlementSummary(int total, int settled, int failed, int unknown, int skipped,
+                                    long settledAmount, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.ScheduledJob;
+import com.solsol.heycalendar.mapper.ScheduledJobMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 리스 기반 클러스터 단일 실행.
+ *
+ * 모든 레플리카가 같은 cron 으로 깨어나도 scheduled_job 행의 리스를 얻은 인스턴스만 작업을 실행한다.
+ * 리스는 작업이 끝나도 반납하지 않고 만료까지 두어 한 회차에 한 번만 실행되게 한다.
+ * 실행 시간은 scheduler.job{job, status} 타이머로도 기록한다 (리스를 얻지 못한 경우 status=SKIPPED).
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    private final ScheduledJobMapper scheduledJobMapper;
+    private final String owner;
+    private final Set<String> registeredJobs = ConcurrentHashMap.newKeySet();
+    private final MeterRegistry meterRegistry;
+
+    public JobLeaseService(ScheduledJobMapper scheduledJobMapper, MeterRegistry meterRegistry) {
+        this.scheduledJobMapper = scheduledJobMapper;
+        this.meterRegistry = meterRegistry;
+        this.owner = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 리스를 얻은 경우에만 작업 실행. 다른 인스턴스가 실행 중이거나 이번 회차를 이미 실행했으면 false
+     *
+     * 작업이 끝나도 리스는 만료 시각까지 유지되므로 lease 는 레플리카 간 기동 시각 차이보다 길고
+     * cron 주기보다 짧아야 한다.
+     */
+    public boolean runExclusive(String jobName, Duration lease, Runnable task) {
+        register(jobName);
+        if (scheduledJobMapper.tryAcquire(jobName, owner, lease.toSeconds()) != 1) {
+            log.info("다른 인스턴스가 실행 중인 작업 건너뜀 - job: {}", jobName);
+            jobTimer(jobName, "SKIPPED").record(0, TimeUnit.NANOSECONDS);
+            return false;
+        }
+
+        long startedAt = System.nanoTime();
+        String status = "SUCCESS";
+        String error = null;
+        try {
+            task.run();
+            return true;
+        } catch (RuntimeException e) {
+            status = "FAILED";
+            error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            long durationMs = elapsedNanos / 1_000_000;
+            jobTimer(jobName, status).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            scheduledJobMapper.release(jobName, owner, status, error, durationMs);
+            log.info("작업 종료 - job: {}, 상태: {}, {}ms, owner: {}", jobName, status, durationMs, owner);
+        }
+    }
+
+    /**
+     * 작업 레지스트리 조회
+     */
+    public List<ScheduledJob> getJobs() {
+        return scheduledJobMapper.findAll();
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private Timer jobTimer(String jobName, String status) {
+        return Timer.builder("scheduler.job")
+                .description("클러스터 단일 실행 작업 시간")
+                .tag("job", jobName)
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+
+    private void register(String jobName) {
+        if (registeredJobs.add(jobName)) {
+            scheduledJobMapper.register(jobName);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.MileageBalance;
+import com.solsol.heycalendar.domain.MileageLedgerEntry;
+import com.solsol.heycalendar.domain.MileageLedgerEntryType;
+import com.solsol.heycalendar.mapper.MileageLedgerMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+/**
+ * 마일리지 원장과 사용자별 잔액.
+ *
+ * 적립/환전 상태 변경마다 mileage_ledger 에 항목을 추가하고 mileage_balance 한 행을 증감한다.
+ * 호출자 트랜잭션 안에서 도메인 행(mileage, exchange)과 함께 커밋되므로 잔액 조회와 환전 신청 검증은
+ * 전체 내역을 읽지 않고 잔액 행 하나로 끝난다.
+ * 잔액 행이 없는 사용자(원장 도입 전 가입자)는 첫 변동 시 내역으로 초기화하고,
+ * 야간 대사 작업이 잔액을 내역 합계와 비교해 어긋난 행을 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MileageLedgerService {
+
+    static final String RECONCILE_JOB = "mileage-balance-reconcile";
+    static final int RECONCILE_PAGE_SIZE = 500;
+
+    private final MileageLedgerMapper ledgerMapper;
+    private final JobLeaseService jobLeaseService;
+
+    private final AtomicLong reconcileRuns = new AtomicLong();
+    private final AtomicLong repaired = new AtomicLong();
+    private final AtomicReference<ReconcileResult> lastRun = new AtomicReference<>();
+
+    /**
+     * 잔액 변동 기록. 도메인 행(mileage 추가, exchange 상태 변경)을 쓴 뒤 같은 트랜잭션에서 호출한다.
+     */
+    public void record(String userNm, MileageLedgerEntryType type, int amount, String refId) {
+        insertEntry(userNm, type, amount, refId);
+        if (ledgerMapper.applyDelta(userNm, type.totalDelta(amount), type.pendingDelta(amount),
+                type.approvedDelta(amount)) == 0) {
+            // 잔액 행이 없던 사용자 - 방금 쓴 도메인 행까지 포함한 내역으로 초기화
+            ledgerMapper.seedFromHistory(userNm);
+        }
+    }
+
+    /**
+     * 환전 신청 금액 확보. 사용 가능 잔액이 충분할 때만 대기 금액을 늘리며, 환전 행을 쓰기 전에 호출한다.
+     *
+     * @return 잔액 부족이면 false (아무것도 기록하지 않음)
+     */
+    public boolean tryHold(String userNm, int amount, String exchangeNm) {
+        if (!reserve(userNm, () -> ledgerMapper.holdIfAvailable(userNm, amount))) {
+            return false;
+        }
+        insertEntry(userNm, MileageLedgerEntryType.EXCHANGE_HOLD, amount, exchangeNm);
+        return true;
+    }
+
+    /**
+     * 관리자 직접 환전 지급. 사용 가능 잔액이 충분할 때만 승인 금액을 늘리며, 환전 행을 쓰기 전에 호출한다.
+     *
+     * @return 잔액 부족이면 false (아무것도 기록하지 않음)
+     */
+    public boolean tryPayout(String userNm, int amount, String exchangeNm) {
+        if (!reserve(userNm, () -> ledgerMapper.payoutIfAvailable(userNm, amount))) {
+            return false;
+        }
+        insertEntry(userNm, MileageLedgerEntryType.EXCHANGE_PAYOUT, amount, exchangeNm);
+        return true;
+    }
+
+    /**
+     * 사용자 잔액. 잔액 행이 없으면 내역으로 계산한 값 (저장하지 않음)
+     */
+    public MileageBalance getBalance(String userNm) {
+        MileageBalance balance = ledgerMapper.findBalance(userNm);
+        return balance != null ? balance : ledgerMapper.computeFromHistory(userNm);
+    }
+
+    /**
+     * 매일 새벽 잔액 대사 (클러스터에서 한 인스턴스만 실행)
+     */
+    @Scheduled(cron = "${mileage.reconcile.cron:0 30 3 * * *}")
+    public void reconcileNightly() {
+        try {
+            jobLeaseService.runExclusive(RECONCILE_JOB, Duration.ofHours(1), this::reconcile);
+        } catch (Exception e) {
+            log.error("마일리지 잔액 대사 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 잔액 행을 userNm 순으로 페이지씩 읽어 내역 합계와 비교하고, 어긋난 행은 내역 기준으로 다시 계산한다.
+     * 잔액과 내역은 같은 트랜잭션에서 바뀌므로 한 쿼리로 읽은 두 값이 다르면 원장을 거치지 않은 변경이다.
+     */
+    public ReconcileResult reconcile() {
+        long startedAt = System.nanoTime();
+        int checked = 0;
+        int drifted = 0;
+        String after = null;
+
+        List<MileageBalance> page;
+        do {
+            page = ledgerMapper.findBalancesWithHistory(after, RECONCILE_PAGE_SIZE);
+            List<String> matched = new ArrayList<>(page.size());
+            for (MileageBalance balance : page) {
+                if (balance.matchesHistory()) {
+                    matched.add(balance.getUserNm());
+                    continue;
+                }
+                drifted++;
+                log.warn("마일리지 잔액 불일치 - userNm: {}, 잔액(total/pending/approved): {}/{}/{}, 내역: {}/{}/{}",
+                        balance.getUserNm(), balance.getTotal(), balance.getPending(), balance.getApproved(),
+                        balance.getHistoryTotal(), balance.getHistoryPending(), balance.getHistoryApproved());
+                // 단일 UPDATE 로 다시 계산하므로 비교 이후 커밋된 변동도 반영된다
+                ledgerMapper.rebuildFromHistory(balance.getUserNm());
+                repaired.incrementAndGet();
+            }
+            if (!matched.isEmpty()) {
+                ledgerMapper.markReconciled(matched);
+            }
+            checked += page.size();
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getUserNm();
+            }
+        } while (page.size() == RECONCILE_PAGE_SIZE);
+
+        ReconcileResult result = new ReconcileResult(checked, drifted,
+                (System.nanoTime() - startedAt) / 1_000_000, LocalDateTime.now());
+        reconcileRuns.incrementAndGet();
+        lastRun.set(result);
+        log.info("마일리지 잔액 대사 완료 - 확인: {}명, 불일치: {}명, {}ms", checked, drifted, result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 대사 실행 통계
+     */
+    public ReconcileStats getStats() {
+        return new ReconcileStats(reconcileRuns.get(), repaired.get(), lastRun.get());
+    }
+
+    private boolean reserve(String userNm, IntSupplier conditionalUpdate) {
+        if (conditionalUpdate.getAsInt() == 1) {
+            return true;
+        }
+        // 잔액 행이 새로 만들어진 경우에만 다시 시도 (이미 있었다면 잔액 부족)
+        return ledgerMapper.seedFromHistory(userNm) == 1 && conditionalUpdate.getAsInt() == 1;
+    }
+
+    private void insertEntry(String userNm, MileageLedgerEntryType type, int amount, String refId) {
+        ledgerMapper.insertEntry(MileageLedgerEntry.builder()
+                .userNm(userNm)
+                .entryType(type)
+                .amount(amount)
+                .refId(refId)
+                .build());
+    }
+
+    public record ReconcileResult(int checked, int drifted, long elapsedMillis, LocalDateTime finishedAt) {
+    }
+
+    public record ReconcileStats(long runs, long repaired, ReconcileResult lastRun) {
+    }
+}
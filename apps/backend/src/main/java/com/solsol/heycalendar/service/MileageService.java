@@ -3,9 +3,12 @@ package com.solsol.heycalendar.service;
 import com.solsol.heycalendar.domain.Exchange;
 import com.solsol.heycalendar.domain.ExchangeState;
 import com.solsol.heycalendar.domain.Mileage;
+import com.solsol.heycalendar.domain.MileageBalance;
+import com.solsol.heycalendar.domain.MileageLedgerEntryType;
 import com.solsol.heycalendar.dto.request.ExchangeApprovalRequest;
 import com.solsol.heycalendar.dto.request.ExchangeRequest;
 import com.solsol.heycalendar.dto.request.MileageRequest;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
 import com.solsol.heycalendar.dto.response.ExchangeResponse;
 import com.solsol.heycalendar.dto.response.MileageResponse;
 import com.solsol.heycalendar.dto.response.UserMileageResponse;
@@ -17,9 +20,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -31,32 +35,100 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class MileageService {
 
+    static final int HISTORY_PAGE_DEFAULT_SIZE = 20;
+    static final int HISTORY_PAGE_MAX_SIZE = 100;
+
+
     private final MileageMapper mileageMapper;
     private final ExchangeMapper exchangeMapper;
     private final UserMapper userMapper;
+    private final MileageLedgerService mileageLedgerService;
+    private final ExchangeIdGenerator exchangeIdGenerator;
 
     /**
-     * Get user's complete mileage information
+     * Get user's mileage balances and the most recent history.
+     * 잔액은 mileage_balance 한 행에서 읽고, 내역은 최근 한 페이지만 담는다 (이후는 내역 페이지 API 로 조회).
      *
      * @param userNm User name
-     * @return User mileage response with balances and history
+     * @return User mileage response with balances and recent history
      */
     public UserMileageResponse getUserMileage(String userNm) {
-        List<Mileage> mileageHistory = mileageMapper.findByUserNm(userNm);
-        List<Exchange> exchangeHistory = exchangeMapper.findByUserNm(userNm);
-        
-        Integer totalMileage = calculateTotalMileage(mileageHistory);
-        Integer pendingExchange = calculatePendingExchange(exchangeHistory);
-        Integer approvedExchange = calculateApprovedExchange(exchangeHistory);
-        Integer availableMileage = totalMileage - pendingExchange - approvedExchange;
+        MileageBalance balance = mileageLedgerService.getBalance(userNm);
+        CursorPageResponse<MileageResponse> mileagePage = getMileageHistoryPage(userNm, null, HISTORY_PAGE_DEFAULT_SIZE);
+        CursorPageResponse<ExchangeResponse> exchangePage = getExchangeHistoryPage(userNm, null, HISTORY_PAGE_DEFAULT_SIZE);
 
         return UserMileageResponse.builder()
                 .userNm(userNm)
-                .totalMileage(totalMileage)
-                .availableMileage(Math.max(0, availableMileage))
-                .pendingExchange(pendingExchange)
-                .mileageHistory(convertMileageToResponse(mileageHistory))
-                .exchangeHistory(convertExchangeToResponse(exchangeHistory))
+                .totalMileage(balance.getTotal())
+                .availableMileage(balance.getAvailable())
+                .pendingExchange(balance.getPending())
+                .mileageHistory(mileagePage.getItems())
+                .exchangeHistory(exchangePage.getItems())
+                .mileageHistoryNextCursor(mileagePage.getNextCursor())
+                .exchangeHistoryNextCursor(exchangePage.getNextCursor())
+                .build();
+    }
+
+    /**
+     * 마일리지 적립 내역 최신순 keyset 페이지
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     */
+    public CursorPageResponse<MileageResponse> getMileageHistoryPage(String userNm, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        Long beforeKey = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                beforeKey = Long.valueOf(cursor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 읽는다
+        List<Mileage> rows = mileageMapper.findPageByUserNm(userNm, beforeKey, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        return CursorPageResponse.<MileageResponse>builder()
+                .items(convertMileageToResponse(rows))
+                .nextCursor(hasNext ? String.valueOf(rows.get(rows.size() - 1).getKey()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 환전 신청 내역 최신순 keyset 페이지
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     */
+    public CursorPageResponse<ExchangeResponse> getExchangeHistoryPage(String userNm, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        ExchangeHistoryCursor after = ExchangeHistoryCursor.decode(cursor);
+
+        List<Exchange> rows = exchangeMapper.findPageByUserNm(userNm,
+                after == null ? null : after.appliedAt(),
+                after == null ? null : after.exchangeNm(),
+                pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Exchange last = rows.get(rows.size() - 1);
+            nextCursor = new ExchangeHistoryCursor(last.getAppliedAt(), last.getExchangeNm()).encode();
+        }
+
+        return CursorPageResponse.<ExchangeResponse>builder()
+                .items(convertExchangeToResponse(rows))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
     }
 
@@ -79,6 +151,8 @@ public class MileageService {
                 .build();
 
         mileageMapper.insert(mileage);
+        mileageLedgerService.record(request.getUserNm(), MileageLedgerEntryType.EARN, request.getAmount(),
+                String.valueOf(mileage.getKey()));
         return convertMileageToResponse(mileage);
     }
     
@@ -110,6 +184,7 @@ public class MileageService {
                 .build();
 
         mileageMapper.insert(mileage);
+        mileageLedgerService.record(userNm, MileageLedgerEntryType.EARN, amount, String.valueOf(mileage.getKey()));
         return convertMileageToResponse(mileage);
     }
     
@@ -153,16 +228,15 @@ public class MileageService {
      */
     @Transactional
     public ExchangeResponse requestExchange(ExchangeRequest request) {
-        // Validate user has enough available mileage
-        UserMileageResponse userMileage = getUserMileage(request.getUserNm());
-        if (userMileage.getAvailableMileage() < request.getAmount()) {
+        // Reserve available mileage (조건부 UPDATE 로 동시 신청에도 잔액을 넘지 않는다)
+        String exchangeNm = exchangeIdGenerator.next();
+        if (!mileageLedgerService.tryHold(request.getUserNm(), request.getAmount(), exchangeNm)) {
             throw new IllegalArgumentException(
                 String.format("Insufficient mileage. Available: %d, Requested: %d", 
-                    userMileage.getAvailableMileage(), request.getAmount())
+                    mileageLedgerService.getBalance(request.getUserNm()).getAvailable(), request.getAmount())
             );
         }
 
-        String exchangeNm = generateExchangeId();
         Exchange exchange = Exchange.builder()
                 .exchangeNm(exchangeNm)
                 .userNm(request.getUserNm())
@@ -197,12 +271,7 @@ public class MileageService {
             throw new IllegalArgumentException("Exchange is not in pending state: " + exchangeNm);
         }
 
-        // Validate user still has enough mileage
-        UserMileageResponse userMileage = getUserMileage(exchange.getUserNm());
-        if (userMileage.getAvailableMileage() + exchange.getAmount() < exchange.getAmount()) {
-            throw new IllegalArgumentException("User no longer has sufficient mileage for this exchange");
-        }
-
+        // 신청 시 잔액을 확보해 두었으므로 대기 금액을 승인 금액으로 옮기기만 한다
         exchange.setState(ExchangeState.APPROVED);
         exchange.setProcessedAt(LocalDateTime.now());
         if (request.getReason() != null) {
@@ -210,6 +279,8 @@ public class MileageService {
         }
 
         exchangeMapper.update(exchange);
+        mileageLedgerService.record(exchange.getUserNm(), MileageLedgerEntryType.EXCHANGE_APPROVE,
+                exchange.getAmount(), exchangeNm);
         log.info("Approved exchange: {} for user: {}", exchangeNm, exchange.getUserNm());
 
         return convertExchangeToResponse(exchange);
@@ -240,6 +311,8 @@ public class MileageService {
         }
 
         exchangeMapper.update(exchange);
+        mileageLedgerService.record(exchange.getUserNm(), MileageLedgerEntryType.EXCHANGE_RELEASE,
+                exchange.getAmount(), exchangeNm);
         log.info("Rejected exchange: {} for user: {}", exchangeNm, exchange.getUserNm());
 
         return convertExchangeToResponse(exchange);
@@ -247,24 +320,8 @@ public class MileageService {
 
     // Private helper methods
 
-    private Integer calculateTotalMileage(List<Mileage> mileageHistory) {
-        return mileageHistory.stream()
-                .mapToInt(Mileage::getAmount)
-                .sum();
-    }
-
-    private Integer calculatePendingExchange(List<Exchange> exchangeHistory) {
-        return exchangeHistory.stream()
-                .filter(exchange -> exchange.getState() == ExchangeState.PENDING)
-                .mapToInt(Exchange::getAmount)
-                .sum();
-    }
-
-    private Integer calculateApprovedExchange(List<Exchange> exchangeHistory) {
-        return exchangeHistory.stream()
-                .filter(exchange -> exchange.getState() == ExchangeState.APPROVED)
-                .mapToInt(Exchange::getAmount)
-                .sum();
+    private static int pageSize(Integer size) {
+        return size == null || size <= 0 ? HISTORY_PAGE_DEFAULT_SIZE : Math.min(size, HISTORY_PAGE_MAX_SIZE);
     }
 
     private List<MileageResponse> convertMileageToResponse(List<Mileage> mileages) {
@@ -301,7 +358,25 @@ public class MileageService {
                 .build();
     }
 
-    private String generateExchangeId() {
-        return "EX" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    record ExchangeHistoryCursor(LocalDateTime appliedAt, String exchangeNm) {
+
+        String encode() {
+            String raw = (appliedAt == null ? "" : appliedAt.toString()) + "|" + exchangeNm;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ExchangeHistoryCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 2);
+                LocalDateTime appliedAt = parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]);
+                return new ExchangeHistoryCursor(appliedAt, String.valueOf(Long.parseLong(parts[1])));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
     }
 }
\ No newline at end of file
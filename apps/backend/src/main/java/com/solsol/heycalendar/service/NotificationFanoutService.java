@@ -0,0 +1,44 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 일괄 생성된 개인 알림의 실시간 전송.
+ *
+ * 청크 트랜잭션이 커밋된 알림만 받아 사용자 큐로 보내고, 바뀐 읽지 않은 알림 카운터를 함께 전송한다.
+ * 전체 사용자 대상 새 장학금 알림은 사용자별 행을 만들지 않고 BroadcastNotificationService 가 공지 한 건으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationFanoutService {
+
+    private final RealtimeMessenger realtimeMessenger;
+    private final NotificationUnreadCounter unreadCounter;
+
+    /**
+     * 이미 커밋된 알림들과 읽지 않은 알림 카운터를 notificationExecutor 에서 각 사용자 큐로 전송
+     */
+    @Async("notificationExecutor")
+    public void pushToUsersAsync(List<Notification> notifications) {
+        pushToUsers(notifications);
+    }
+
+    void pushToUsers(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            try {
+                realtimeMessenger.sendToUser(notification.getUserNm(), NotificationService.USER_QUEUE, notification);
+            } catch (Exception e) {
+                // 실시간 전송 실패해도 DB 저장은 끝났으므로 계속 진행
+                log.warn("실시간 알림 전송 실패 - 사용자: {}", notification.getUserNm(), e);
+            }
+        }
+        unreadCounter.pushCounts(notifications.stream().map(Notification::getUserNm).toList());
+    }
+}
@@ -0,0 +1,289 @@
+package com.solsol.heycalendar.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solsol.heycalendar.domain.NotificationOutbox;
+import com.solsol.heycalendar.mapper.NotificationOutboxMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 아웃박스 디스패처.
+ *
+ * enqueue() 는 호출자 트랜잭션 안에서 notification_outbox 에 행만 저장하고,
+ * 커밋 이후 notificationExecutor 에서 전송한다. 롤백된 트랜잭션의 메시지는 전송되지 않는다.
+ * 실패한 메시지는 지수 백오프로 재시도하고, 유실된 깨우기는 주기적 폴링으로 보완한다.
+ * 실제 전송은 RealtimeMessenger 가 브로커 모드(메모리/외부 중계/DB 버스)에 맞춰 처리한다.
+ * 전송 완료 행은 보존 기간이 지나면 배치 단위로 삭제한다.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxDispatcher {
+
+    static final int BATCH_SIZE = 200;
+    static final int MAX_ATTEMPTS = 8;
+    static final int PURGE_BATCH_SIZE = 1000;
+    private static final long MAX_BACKOFF_SECONDS = 300;
+
+    private final NotificationOutboxMapper outboxMapper;
+    private final RealtimeMessenger realtimeMessenger;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor notificationExecutor;
+    private final TransactionTemplate batchTransaction;
+    private final long sentRetentionHours;
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong latencySumMillis = new AtomicLong();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+    public NotificationOutboxDispatcher(NotificationOutboxMapper outboxMapper,
+                                        RealtimeMessenger realtimeMessenger,
+                                        ObjectMapper objectMapper,
+                                        @Qualifier("notificationExecutor") TaskExecutor notificationExecutor,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${notification.outbox.sent-retention-hours:24}") long sentRetentionHours) {
+        this.outboxMapper = outboxMapper;
+        this.realtimeMessenger = realtimeMessenger;
+        this.objectMapper = objectMapper;
+        this.notificationExecutor = notificationExecutor;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sentRetentionHours = sentRetentionHours;
+    }
+
+    /**
+     * 전송할 메시지를 아웃박스에 저장하고 커밋 후 전송을 예약
+     */
+    public void enqueue(String destination, Object payload) {
+        enqueue(destination, null, payload);
+    }
+
+    /**
+     * 사용자 목적지 메시지 (클라이언트는 /user{destination} 구독)
+     */
+    public void enqueueToUser(String userNm, String destination, Object payload) {
+        enqueue(destination, userNm, payload);
+    }
+
+    private void enqueue(String destination, String userNm, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 메시지 직렬화 실패: " + destination, e);
+        }
+
+        outboxMapper.insert(NotificationOutbox.builder()
+                .destination(destination)
+                .userNm(userNm)
+                .payload(json)
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 디스패치 작업을 실행기에 제출
+     */
+    public void wakeUp() {
+        try {
+            notificationExecutor.execute(this::drain);
+        } catch (Exception e) {
+            // 제출 실패 시 다음 폴링에서 전송된다
+            log.warn("알림 디스패치 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋 후 깨우기가 유실된 메시지와 재시도 대상 전송
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void poll() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.warn("알림 아웃박스 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 전송 완료 메시지 정리 (여러 인스턴스가 동시에 돌아도 남은 행을 나눠 지울 뿐이다)
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.purge-interval-ms:3600000}",
+            initialDelayString = "${notification.outbox.purge-interval-ms:3600000}")
+    public void purgeSent() {
+        try {
+            purgeSentBefore(LocalDateTime.now().minusHours(sentRetentionHours));
+        } catch (Exception e) {
+            log.warn("알림 아웃박스 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    int purgeSentBefore(LocalDateTime cutoff) {
+        int total = 0;
+        int deleted;
+        do {
+            // 배치마다 자동 커밋되어 행 잠금은 한 배치 동안만 유지된다
+            deleted = outboxMapper.deleteSentBefore(cutoff, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        if (total > 0) {
+            log.info("알림 아웃박스 정리 - 전송 완료 {}건 삭제 (기준: {})", total, cutoff);
+        }
+        return total;
+    }
+
+    void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            // 이미 실행 중이면 끝난 뒤 한 번 더 돌도록 표시
+            drainRequested.set(true);
+            return;
+        }
+        try {
+            do {
+                drainRequested.set(false);
+                while (drainBatch() == BATCH_SIZE) {
+                    // 가득 찬 배치면 남은 메시지가 있을 수 있으므로 계속
+                }
+            } while (drainRequested.get());
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private int drainBatch() {
+        Integer processed = batchTransaction.execute(status -> {
+            List<NotificationOutbox> due = outboxMapper.findDueForUpdate(BATCH_SIZE);
+            if (due.isEmpty()) {
+                return 0;
+            }
+
+            // 목적지(사용자 + 목적지)별로 묶어 순서대로 전송
+            Map<String, List<NotificationOutbox>> byDestination = new LinkedHashMap<>();
+            for (NotificationOutbox outbox : due) {
+                String key = outbox.getUserNm() == null ? outbox.getDestination() : outbox.getUserNm() + outbox.getDestination();
+                byDestination.computeIfAbsent(key, d -> new ArrayList<>()).add(outbox);
+            }
+
+            List<Long> sentIds = new ArrayList<>(due.size());
+            for (List<NotificationOutbox> messages : byDestination.values()) {
+                for (NotificationOutbox outbox : messages) {
+                    if (send(outbox)) {
+                        sentIds.add(outbox.getId());
+                    }
+                }
+            }
+
+            if (!sentIds.isEmpty()) {
+                outboxMapper.markSent(sentIds);
+            }
+            return due.size();
+        });
+        return processed == null ? 0 : processed;
+    }
+
+    private boolean send(NotificationOutbox outbox) {
+        try {
+            Object payload = objectMapper.readTree(outbox.getPayload());
+            if (outbox.getUserNm() != null) {
+                realtimeMessenger.sendToUser(outbox.getUserNm(), outbox.getDestination(), payload);
+            } else {
+                realtimeMessenger.send(outbox.getDestination(), payload);
+            }
+            recordDelivery(outbox.getCreatedAt());
+            return true;
+        } catch (Exception e) {
+            scheduleRetry(outbox, e);
+            return false;
+        }
+    }
+
+    private void scheduleRetry(NotificationOutbox outbox, Exception cause) {
+        int attempts = (outbox.getAttempts() == null ? 0 : outbox.getAttempts()) + 1;
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+
+        if (attempts >= MAX_ATTEMPTS) {
+            failed.incrementAndGet();
+            outboxMapper.markFailed(outbox.getId(), "FAILED", attempts, LocalDateTime.now(), error);
+            log.error("알림 전송 최종 실패 - id: {}, destination: {}, 시도: {}회", outbox.getId(), outbox.getDestination(), attempts);
+            return;
+        }
+
+        retried.incrementAndGet();
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds(attempts));
+        outboxMapper.markFailed(outbox.getId(), "PENDING", attempts, nextAttemptAt, error);
+        log.warn("알림 전송 실패, 재시도 예약 - id: {}, destination: {}, 시도: {}회, 다음 시도: {}",
+                outbox.getId(), outbox.getDestination(), attempts, nextAttemptAt);
+    }
+
+    /**
+     * 재시도 대기 시간: 2, 4, 8 ... 초, 최대 5분
+     */
+    static long backoffSeconds(int attempts) {
+        return Math.min(1L << Math.min(attempts, 20), MAX_BACKOFF_SECONDS);
+    }
+
+    private void recordDelivery(LocalDateTime createdAt) {
+        delivered.incrementAndGet();
+        if (createdAt == null) {
+            return;
+        }
+        long latency = Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toMillis());
+        latencySumMillis.addAndGet(latency);
+        maxLatencyMillis.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * 대기열 길이와 전송 지연 통계
+     */
+    public OutboxStats getStats() {
+        long deliveredCount = delivered.get();
+        return new OutboxStats(
+                outboxMapper.countPending(),
+                deliveredCount,
+                retried.get(),
+                failed.get(),
+                deliveredCount == 0 ? 0 : latencySumMillis.get() / deliveredCount,
+                maxLatencyMillis.get()
+        );
+    }
+
+    public record OutboxStats(int pending, long delivered, long retried, long failed,
+                              long avgLatencyMillis, long maxLatencyMillis) {
+    }
+}
@@ -0,0 +1,251 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.config.NotificationRetentionProperties;
+import com.solsol.heycalendar.domain.Notification;
+import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.domain.TableSize;
+import com.solsol.heycalendar.mapper.NotificationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 알림 보존 기간 정리.
+ *
+ * 타입별 정책(읽은/읽지 않은 알림 보존 일수)에 걸린 알림을 생성 시각 순으로 batchSize 건씩 잠그고,
+ * notification_archive 로 복사한 뒤 삭제한다. 배치마다 독립 트랜잭션이라 행 잠금은 한 배치 동안만 유지된다.
+ * 같은 장학금의 더 최신 마감임박 알림이 있는 이전 알림은 보존 일수와 별개로 정리한다.
+ * 삭제한 읽지 않은 알림은 같은 트랜잭션에서 카운터에서 빼고, 커밋 후 새 값을 전송한다.
+ * 노출 기간이 지난 전체 공지도 영수증과 함께 같은 배치 크기로 삭제한다.
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    static final String JOB_NAME = "notification-retention";
+    static final String BROADCAST_RULE = "BROADCAST:expired";
+
+    private final NotificationMapper notificationMapper;
+    private final NotificationUnreadCounter unreadCounter;
+    private final BroadcastNotificationService broadcastService;
+    private final NotificationRetentionProperties properties;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate batchTransaction;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong purged = new AtomicLong();
+    private final AtomicReference<RetentionRunResult> lastRun = new AtomicReference<>();
+
+    public NotificationRetentionService(NotificationMapper notificationMapper,
+                                        NotificationUnreadCounter unreadCounter,
+                                        BroadcastNotificationService broadcastService,
+                                        NotificationRetentionProperties properties,
+                                        JobLeaseService jobLeaseService,
+                                        PlatformTransactionManager transactionManager) {
+        this.notificationMapper = notificationMapper;
+        this.unreadCounter = unreadCounter;
+        this.broadcastService = broadcastService;
+        this.properties = properties;
+        this.jobLeaseService = jobLeaseService;
+        // 호출자 트랜잭션과 무관하게 배치마다 커밋한다
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 매일 새벽 알림 정리 (클러스터에서 한 인스턴스만 실행)
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 0 4 * * *}")
+    public void purgeNightly() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            jobLeaseService.runExclusive(JOB_NAME, Duration.ofHours(2), () -> run(LocalDateTime.now()));
+        } catch (Exception e) {
+            log.error("알림 보존 기간 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 기준 시각으로 모든 정책 적용
+     */
+    public RetentionRunResult run(LocalDateTime now) {
+        long startedAt = System.nanoTime();
+        Map<String, Integer> purgedByRule = new LinkedHashMap<>();
+
+        for (Rule rule : rules(now)) {
+            int count = purge(rule);
+            purgedByRule.put(rule.name(), count);
+        }
+        purgedByRule.put(BROADCAST_RULE, purgeBroadcasts(now));
+
+        int total = purgedByRule.values().stream().mapToInt(Integer::intValue).sum();
+        RetentionRunResult result = new RetentionRunResult(
+            purgedByRule,
+            total,
+            tableSizes(),
+            (System.nanoTime() - startedAt) / 1_000_000,
+            LocalDateTime.now()
+        );
+        runs.incrementAndGet();
+        purged.addAndGet(total);
+        lastRun.set(result);
+        log.info("알림 보존 기간 정리 완료 - 보관/삭제 {}건 {}, {}ms", total, purgedByRule, result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 정리 통계 (누적 삭제 건수, 마지막 실행 결과)
+     */
+    public RetentionStats getStats() {
+        return new RetentionStats(runs.get(), purged.get(), lastRun.get());
+    }
+
+    List<Rule> rules(LocalDateTime now) {
+        List<Rule> rules = new ArrayList<>();
+        properties.getPolicies().forEach((type, policy) -> {
+            if (policy.getReadDays() != null) {
+                rules.add(new Rule(type, true, now.minusDays(policy.getReadDays()), false));
+            }
+            if (policy.getUnreadDays() != null) {
+                rules.add(new Rule(type, false, now.minusDays(policy.getUnreadDays()), false));
+            }
+        });
+        if (properties.getCompactRemindersAfterDays() > 0) {
+            LocalDateTime cutoff = now.minusDays(properties.getCompactRemindersAfterDays());
+            rules.add(new Rule(NotificationType.DEADLINE_REMINDER, true, cutoff, true));
+            rules.add(new Rule(NotificationType.DEADLINE_REMINDER, false, cutoff, true));
+        }
+        return rules;
+    }
+
+    private int purge(Rule rule) {
+        int batchSize = properties.getBatchSize();
+        int count = 0;
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+
+        while (true) {
+            LocalDateTime cursorCreatedAt = afterCreatedAt;
+            Long cursorId = afterId;
+            Batch batch = batchTransaction.execute(status -> purgeBatch(rule, cursorCreatedAt, cursorId, batchSize));
+            if (batch == null || batch.rows().isEmpty()) {
+                break;
+            }
+
+            // execute() 가 반환되면 배치 트랜잭션은 커밋된 상태
+            unreadCounter.pushCounts(batch.unreadRemoved().keySet());
+
+            count += batch.rows().size();
+            Notification last = batch.rows().get(batch.rows().size() - 1);
+            afterCreatedAt = last.getCreatedAt();
+            afterId = last.getId();
+            if (batch.rows().size() < batchSize) {
+                break;
+            }
+            pause();
+        }
+        if (count > 0) {
+            log.info("알림 정리 - 규칙: {}, {}건", rule.name(), count);
+        }
+        return count;
+    }
+
+    private int purgeBroadcasts(LocalDateTime now) {
+        int batchSize = properties.getBatchSize();
+        int count = 0;
+        while (true) {
+            // 지워진 공지는 다음 조회에서 빠지므로 커서 없이 반복
+            Integer deleted = batchTransaction.execute(status -> broadcastService.purgeExpired(now, batchSize));
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            count += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+            pause();
+        }
+        if (count > 0) {
+            log.info("알림 정리 - 규칙: {}, {}건", BROADCAST_RULE, count);
+        }
+        return count;
+    }
+
+    private Batch purgeBatch(Rule rule, LocalDateTime afterCreatedAt, Long afterId, int batchSize) {
+        List<Notification> rows = notificationMapper.findRetentionBatchForUpdate(
+            rule.type(), rule.read(), rule.cutoff(), rule.supersededOnly(), afterCreatedAt, afterId, batchSize);
+        if (rows.isEmpty()) {
+            return new Batch(rows, Map.of());
+        }
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        Map<String, Integer> unreadRemoved = new HashMap<>();
+        for (Notification row : rows) {
+            ids.add(row.getId());
+            if (Boolean.FALSE.equals(row.getIsRead())) {
+                unreadRemoved.merge(row.getUserNm(), 1, Integer::sum);
+            }
+        }
+
+        notificationMapper.archiveByIds(ids);
+        notificationMapper.deleteByIds(ids);
+        unreadCounter.subtract(unreadRemoved);
+        return new Batch(rows, unreadRemoved);
+    }
+
+    private List<TableSize> tableSizes() {
+        try {
+            return notificationMapper.findTableSizes();
+        } catch (Exception e) {
+            log.warn("알림 테이블 크기 조회 실패", e);
+            return List.of();
+        }
+    }
+
+    private void pause() {
+        long pauseMs = properties.getBatchPauseMs();
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 정리 규칙 (타입 + 읽음 여부 + 기준 시각, supersededOnly 는 더 최신 같은 알림이 있는 행만)
+     */
+    record Rule(NotificationType type, boolean read, LocalDateTime cutoff, boolean supersededOnly) {
+
+        String name() {
+            return (supersededOnly ? "COMPACT_" : "") + type + (read ? ":read" : ":unread");
+        }
+    }
+
+    private record Batch(List<Notification> rows, Map<String, Integer> unreadRemoved) {
+    }
+
+    public record RetentionRunResult(Map<String, Integer> purgedByRule, int purged, List<TableSize> tables,
+                                     long elapsedMillis, LocalDateTime finishedAt) {
+    }
+
+    public record RetentionStats(long runs, long purged, RetentionRunResult lastRun) {
+    }
+}
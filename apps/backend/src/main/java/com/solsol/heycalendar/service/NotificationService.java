@@ -2,14 +2,19 @@ package com.solsol.heycalendar.service;
 
 import com.solsol.heycalendar.domain.Notification;
 import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
 import com.solsol.heycalendar.mapper.NotificationMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
 
 @Slf4j
@@ -17,8 +22,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationService {
     
+    static final int INBOX_PAGE_DEFAULT_SIZE = 20;
+    static final int INBOX_PAGE_MAX_SIZE = 100;
+    // 사용자 목적지 (클라이언트는 /user/queue/notifications 구독)
+    static final String USER_QUEUE = "/queue/notifications";
+    // 최신순, 같은 시각이면 개인 알림 먼저, 같은 흐름 안에서는 id 역순
+    private static final Comparator<Notification> INBOX_ORDER = Comparator
+            .comparing(Notification::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Notification::isBroadcast)
+            .thenComparing(Notification::getId, Comparator.reverseOrder());
+    
     private final NotificationMapper notificationMapper;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RealtimeMessenger realtimeMessenger;
+    private final NotificationOutboxDispatcher outboxDispatcher;
+    private final NotificationUnreadCounter unreadCounter;
+    private final BroadcastNotificationService broadcastService;
 
     /**
      * 알림 생성
@@ -26,7 +44,7 @@ public class NotificationService {
     @Transactional
     public void createNotification(String userNm, NotificationType type, String title, 
                                  String message, Long relatedId, String actionRoute) {
-        log.info("Creating notification - userNm: {}, type: {}, title: {}", userNm, type, title);
+        log.debug("Creating notification - userNm: {}, type: {}, title: {}", userNm, type, title);
         
         Notification notification = Notification.builder()
                 .userNm(userNm)
@@ -40,13 +58,7 @@ public class NotificationService {
                 .updatedAt(LocalDateTime.now())
                 .build();
                 
-        notificationMapper.insert(notification);
-        log.info("Notification created successfully - userNm: {}, type: {}", userNm, type);
-        
-        // WebSocket을 통해 실시간 알림 전송
-        log.info("About to send realtime notification for user: {}", userNm);
-        sendRealtimeNotification(userNm, notification);
-        log.info("Realtime notification sending completed for user: {}", userNm);
+        saveAndPublish(notification);
     }
 
     /**
@@ -77,11 +89,40 @@ public class NotificationService {
             return;
         }
         
-        String title = "신청 마감 임박";
-        String message = String.format("찜한 '%s' 신청 마감까지 %d일 남았습니다.", scholarshipName, daysLeft);
-        String actionRoute = String.format("/Scholarship/ScholarshipDetail?id=%d", scholarshipId);
-        
-        createNotification(userNm, NotificationType.DEADLINE_REMINDER, title, message, scholarshipId, actionRoute);
+        Notification notification = deadlineReminderNotification(userNm, scholarshipId, scholarshipName,
+                                                                  daysLeft, LocalDate.now());
+        saveAndPublish(notification);
+    }
+    
+    /**
+     * 마감임박 알림 객체 생성 (단건/일괄 생성 공용)
+     */
+    static Notification deadlineReminderNotification(String userNm, Long scholarshipId, String scholarshipName,
+                                                     int daysLeft, LocalDate today) {
+        LocalDateTime now = LocalDateTime.now();
+        return Notification.builder()
+                .userNm(userNm)
+                .type(NotificationType.DEADLINE_REMINDER)
+                .title("신청 마감 임박")
+                .message(String.format("찜한 '%s' 신청 마감까지 %d일 남았습니다.", scholarshipName, daysLeft))
+                .relatedId(scholarshipId)
+                .isRead(false)
+                .actionRoute(String.format("/Scholarship/ScholarshipDetail?id=%d", scholarshipId))
+                .dedupKey(deadlineReminderDedupKey(scholarshipId, today))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+    
+    /**
+     * 마감임박 알림 중복 방지 키 (장학금별 하루 1회)
+     */
+    static String deadlineReminderDedupKey(Long scholarshipId, LocalDate day) {
+        return NotificationType.DEADLINE_REMINDER.name() + ":" + scholarshipId + deadlineReminderDedupSuffix(day);
+    }
+    
+    static String deadlineReminderDedupSuffix(LocalDate day) {
+        return ":" + day;
     }
     
     /**
@@ -103,101 +144,224 @@ public class NotificationService {
             return;
         }
         
-        String title = "새로운 장학금이 등록되었습니다";
-        String message = String.format("%s (%d마일리지)이 새로 등록되었습니다. 지금 신청해보세요!", 
-                                      scholarshipName, amount);
-        String actionRoute = String.format("/Scholarship/ScholarshipDetail?id=%d", scholarshipId);
-        
-        createNotification(userNm, NotificationType.NEW_SCHOLARSHIP, title, message, scholarshipId, actionRoute);
+        Notification notification = newScholarshipNotification(userNm, scholarshipId, scholarshipName, amount);
+        saveAndPublish(notification);
     }
 
     /**
-     * 사용자별 알림 조회
+     * 새로운 장학금 알림 객체 생성 (단건/일괄 생성 공용)
+     */
+    static Notification newScholarshipNotification(String userNm, Long scholarshipId,
+                                                    String scholarshipName, int amount) {
+        LocalDateTime now = LocalDateTime.now();
+        return Notification.builder()
+                .userNm(userNm)
+                .type(NotificationType.NEW_SCHOLARSHIP)
+                .title("새로운 장학금이 등록되었습니다")
+                .message(String.format("%s (%d마일리지)이 새로 등록되었습니다. 지금 신청해보세요!", 
+                                      scholarshipName, amount))
+                .relatedId(scholarshipId)
+                .isRead(false)
+                .actionRoute(String.format("/Scholarship/ScholarshipDetail?id=%d", scholarshipId))
+                .dedupKey(newScholarshipDedupKey(scholarshipId))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 새로운 장학금 알림 중복 방지 키
+     */
+    static String newScholarshipDedupKey(Long scholarshipId) {
+        return NotificationType.NEW_SCHOLARSHIP.name() + ":" + scholarshipId;
+    }
+
+    /**
+     * 사용자별 알림 조회 (개인 알림 + 최근 공지, 최신순)
      */
     public List<Notification> getUserNotifications(String userNm) {
-        return notificationMapper.findByUser(userNm);
+        return mergeNewestFirst(notificationMapper.findByUser(userNm),
+                broadcastService.getPage(userNm, null, false, null, null, INBOX_PAGE_MAX_SIZE));
+    }
+
+    /**
+     * 알림함 최신순 keyset 페이지
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     * @param unreadOnly 읽지 않은 알림만 조회
+     */
+    public CursorPageResponse<Notification> getInbox(String userNm, String cursor, Integer size, boolean unreadOnly) {
+        int pageSize = size == null || size <= 0 ? INBOX_PAGE_DEFAULT_SIZE : Math.min(size, INBOX_PAGE_MAX_SIZE);
+        InboxCursor before = InboxCursor.decode(cursor);
+        LocalDateTime beforeCreatedAt = before == null ? null : before.createdAt();
+
+        // 같은 시각이면 개인 알림이 공지보다 앞선다 - 커서가 공지면 그 시각의 개인 알림은 이미 나갔고,
+        // 커서가 개인 알림이면 그 시각의 공지는 아직 하나도 나가지 않았다
+        Long personalBeforeId = before == null ? null : before.broadcast() ? 0L : before.id();
+        Long broadcastBeforeId = before == null ? null : before.broadcast() ? before.id() : Long.MAX_VALUE;
+
+        // 두 흐름에서 각각 1건 더 읽어 합친 뒤 다음 페이지 존재 여부를 정한다
+        List<Notification> rows = mergeNewestFirst(
+                notificationMapper.findInboxPage(userNm, unreadOnly, beforeCreatedAt, personalBeforeId, pageSize + 1),
+                broadcastService.getPage(userNm, null, unreadOnly, beforeCreatedAt, broadcastBeforeId, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Notification last = rows.get(rows.size() - 1);
+            nextCursor = new InboxCursor(last.getCreatedAt(), last.getId(), last.isBroadcast()).encode();
+        }
+
+        return CursorPageResponse.<Notification>builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
      * 사용자별 타입별 알림 조회
      */
     public List<Notification> getUserNotificationsByType(String userNm, NotificationType type) {
-        return notificationMapper.findByUserAndType(userNm, type);
+        return mergeNewestFirst(notificationMapper.findByUserAndType(userNm, type),
+                broadcastService.getPage(userNm, type, false, null, null, INBOX_PAGE_MAX_SIZE));
     }
 
     /**
      * 읽지 않은 알림 조회
      */
     public List<Notification> getUnreadNotifications(String userNm) {
-        return notificationMapper.findUnreadByUser(userNm);
+        return mergeNewestFirst(notificationMapper.findUnreadByUser(userNm),
+                broadcastService.getPage(userNm, null, true, null, null, INBOX_PAGE_MAX_SIZE));
+    }
+
+    /**
+     * 개인 알림과 공지를 최신순으로 합침 (같은 시각은 개인 알림 먼저, 각 흐름 안에서는 id 역순)
+     */
+    static List<Notification> mergeNewestFirst(List<Notification> personal, List<Notification> broadcasts) {
+        if (broadcasts.isEmpty()) {
+            return personal;
+        }
+        List<Notification> merged = new ArrayList<>(personal.size() + broadcasts.size());
+        merged.addAll(personal);
+        merged.addAll(broadcasts);
+        merged.sort(INBOX_ORDER);
+        return merged;
     }
 
     /**
-     * 알림 읽음 처리
+     * 알림 읽음 처리 (본인 알림이 아니면 false)
      */
     @Transactional
-    public void markAsRead(Long notificationId) {
-        log.info("Marking notification as read - id: {}", notificationId);
-        notificationMapper.markAsRead(notificationId);
+    public boolean markAsRead(String userNm, Long notificationId) {
+        log.debug("Marking notification as read - userNm: {}, id: {}", userNm, notificationId);
+        Notification notification = notificationMapper.findByIdForUpdate(notificationId, userNm);
+        if (notification == null) {
+            return false;
+        }
+        // 이미 읽은 알림이면 0건 - 카운터는 실제로 바뀐 경우에만 줄인다
+        if (notificationMapper.markAsRead(notificationId, userNm) == 1) {
+            unreadCounter.adjust(userNm, -1);
+        }
+        return true;
     }
 
     /**
-     * 모든 알림 읽음 처리
+     * 공지 알림 읽음 처리
+     */
+    @Transactional
+    public boolean markBroadcastAsRead(String userNm, Long broadcastId) {
+        if (!broadcastService.markAsRead(userNm, broadcastId)) {
+            return false;
+        }
+        unreadCounter.publish(userNm);
+        return true;
+    }
+
+    /**
+     * 공지 알림 숨김 (사용자 입장에서는 삭제)
+     */
+    @Transactional
+    public boolean hideBroadcast(String userNm, Long broadcastId) {
+        if (!broadcastService.hide(userNm, broadcastId)) {
+            return false;
+        }
+        unreadCounter.publish(userNm);
+        return true;
+    }
+
+    /**
+     * 모든 알림 읽음 처리 (공지는 읽음 워터마크 이동)
      */
     @Transactional
     public void markAllAsRead(String userNm) {
-        log.info("Marking all notifications as read for user: {}", userNm);
-        notificationMapper.markAllAsReadByUser(userNm);
+        log.debug("Marking all notifications as read for user: {}", userNm);
+        broadcastService.markAllAsRead(userNm);
+        // 0 으로 덮어쓰지 않고 바뀐 행 수만큼 줄여 동시에 생성된 알림을 잃지 않는다
+        int changed = notificationMapper.markAllAsReadByUser(userNm);
+        if (changed > 0) {
+            unreadCounter.adjust(userNm, -changed);
+        } else {
+            unreadCounter.publish(userNm);
+        }
     }
 
     /**
-     * 읽지 않은 알림 개수
+     * 읽지 않은 알림 개수 (카운터 행 + 읽지 않은 공지 수)
      */
     public int getUnreadCount(String userNm) {
-        return notificationMapper.countUnreadByUser(userNm);
+        return unreadCounter.get(userNm);
     }
 
     /**
-     * 알림 삭제
+     * 알림 삭제 (본인 알림이 아니면 false)
      */
     @Transactional
-    public void deleteNotification(Long notificationId) {
-        log.info("Deleting notification - id: {}", notificationId);
-        notificationMapper.delete(notificationId);
+    public boolean deleteNotification(String userNm, Long notificationId) {
+        log.debug("Deleting notification - userNm: {}, id: {}", userNm, notificationId);
+        Notification notification = notificationMapper.findByIdForUpdate(notificationId, userNm);
+        if (notification == null) {
+            return false;
+        }
+        if (notificationMapper.delete(notificationId, userNm) == 1 && Boolean.FALSE.equals(notification.getIsRead())) {
+            unreadCounter.adjust(userNm, -1);
+        }
+        return true;
     }
     
     /**
-     * WebSocket을 통한 실시간 알림 전송
+     * 알림 저장 + 읽지 않은 알림 카운터 증가 + 실시간 전송 등록 (모두 호출자 트랜잭션)
      */
-    private void sendRealtimeNotification(String userNm, Notification notification) {
-        log.info("Starting sendRealtimeNotification for user: {}, messagingTemplate: {}", userNm, messagingTemplate != null ? "AVAILABLE" : "NULL");
+    private void saveAndPublish(Notification notification) {
+        notificationMapper.insert(notification);
+        unreadCounter.adjust(notification.getUserNm(), 1);
         
-        try {
-            // 사용자별 개인 큐로 알림 전송
-            String destination = "/queue/notifications/" + userNm;
-            log.info("Sending notification to destination: {}", destination);
-            messagingTemplate.convertAndSend(destination, notification);
-            log.info("✅ Realtime notification sent to user: {} at destination: {}", userNm, destination);
-            
-            // 전체 토픽으로도 전송 (선택적)
-            if (notification.getType() == NotificationType.NEW_SCHOLARSHIP) {
-                log.info("Broadcasting new scholarship notification to all users");
-                messagingTemplate.convertAndSend("/topic/new-scholarships", notification);
-                log.info("✅ New scholarship notification broadcasted to all users");
-            }
-        } catch (Exception e) {
-            log.error("❌ Failed to send realtime notification to user: {}", userNm, e);
-            // 실시간 알림 실패해도 DB 저장은 성공했으므로 예외를 던지지 않음
-        }
+        // WebSocket 전송은 아웃박스에 저장하고 커밋 이후 디스패처가 처리
+        enqueueRealtimeNotification(notification.getUserNm(), notification);
+    }
+    
+    /**
+     * WebSocket 실시간 알림을 아웃박스에 등록 (커밋 후 전송)
+     */
+    private void enqueueRealtimeNotification(String userNm, Notification notification) {
+        // 사용자별 개인 큐로 알림 전송
+        outboxDispatcher.enqueueToUser(userNm, USER_QUEUE, notification);
         
-        log.info("Completed sendRealtimeNotification for user: {}", userNm);
+        // 전체 토픽으로도 전송 (선택적)
+        if (notification.getType() == NotificationType.NEW_SCHOLARSHIP) {
+            outboxDispatcher.enqueue("/topic/new-scholarships", notification);
+        }
     }
     
     /**
      * 환전 완료 알림 발송
      */
     public void sendExchangeCompletedNotification(String userNm, Integer amount) {
-        log.info("Sending exchange completed notification - userNm: {}, amount: {}", userNm, amount);
+        log.debug("Sending exchange completed notification - userNm: {}, amount: {}", userNm, amount);
         
         String title = "마일리지 환전이 완료되었습니다";
         String message = String.format("%d 마일리지가 성공적으로 계좌로 환전되었습니다.", amount);
@@ -210,7 +374,7 @@ public class NotificationService {
      * 환전 거절 알림 발송
      */
     public void sendExchangeRejectedNotification(String userNm, Integer amount) {
-        log.info("Sending exchange rejected notification - userNm: {}, amount: {}", userNm, amount);
+        log.debug("Sending exchange rejected notification - userNm: {}, amount: {}", userNm, amount);
         
         String title = "마일리지 환전이 거절되었습니다";
         String message = String.format("%d 마일리지 환전 신청이 거절되었습니다. 관리자에게 문의해주세요.", amount);
@@ -224,10 +388,39 @@ public class NotificationService {
      */
     public void broadcastNotification(Notification notification) {
         try {
-            messagingTemplate.convertAndSend("/topic/notifications", notification);
+            realtimeMessenger.send("/topic/notifications", notification);
             log.info("Broadcast notification sent to all users");
         } catch (Exception e) {
             log.error("Failed to broadcast notification", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 알림함 커서 (created_at 은 초 단위라 같은 시각 알림은 흐름(개인/공지)과 id 로 구분)
+     */
+    record InboxCursor(LocalDateTime createdAt, Long id, boolean broadcast) {
+
+        String encode() {
+            String raw = createdAt + "|" + id + "|" + (broadcast ? "B" : "P");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static InboxCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 3);
+                // 흐름 구분이 없는 이전 커서는 개인 알림 커서로 본다
+                boolean broadcast = parts.length == 3 && "B".equals(parts[2]);
+                if (parts.length == 3 && !broadcast && !"P".equals(parts[2])) {
+                    throw new IllegalArgumentException(parts[2]);
+                }
+                return new InboxCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]), broadcast);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
+}
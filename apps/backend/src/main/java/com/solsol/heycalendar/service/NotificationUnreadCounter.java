@@ -0,0 +1,112 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.NotificationUnreadCount;
+import com.solsol.heycalendar.mapper.NotificationMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 카운터.
+ *
+ * 알림 생성/읽음/삭제와 같은 트랜잭션에서 notification_unread_counter 한 행을 증감하므로
+ * 배지 조회는 알림 수와 관계없이 PK 조회 한 번으로 끝난다.
+ * 일괄 생성은 중복 무시된 행이 있을 수 있어 청크 사용자만 다시 계산한다.
+ * 전체 공지는 사용자별 행이 없으므로 조회 시점에 읽지 않은 공지 수를 더해 전송한다.
+ * 바뀐 값은 사용자 목적지 /user/queue/notifications/unread-count 로 전송한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private final NotificationMapper notificationMapper;
+    private final NotificationOutboxDispatcher outboxDispatcher;
+    private final RealtimeMessenger realtimeMessenger;
+    private final BroadcastNotificationService broadcastService;
+
+    static final String USER_QUEUE = "/queue/notifications/unread-count";
+
+    /**
+     * 읽지 않은 알림 수 = 개인 알림 카운터 + 읽지 않은 공지 수
+     */
+    public int get(String userNm) {
+        return getPersonal(userNm) + broadcastService.countUnread(userNm);
+    }
+
+    /**
+     * 개인 알림 카운터 (카운터 행이 없던 사용자는 알림 테이블에서 계산, 저장하지 않음)
+     */
+    public int getPersonal(String userNm) {
+        Integer count = notificationMapper.findUnreadCount(userNm);
+        return count != null ? count : notificationMapper.countUnreadByUser(userNm);
+    }
+
+    /**
+     * 호출자 트랜잭션 안에서 카운터를 증감하고, 새 값은 아웃박스에 넣어 커밋 후 전송한다.
+     */
+    public void adjust(String userNm, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        notificationMapper.adjustUnreadCount(userNm, delta);
+        publish(userNm);
+    }
+
+    /**
+     * 현재 값을 아웃박스에 넣어 커밋 후 전송 (공지 읽음처럼 카운터 행이 바뀌지 않는 경우)
+     */
+    public void publish(String userNm) {
+        outboxDispatcher.enqueueToUser(userNm, USER_QUEUE, new NotificationUnreadCount(userNm, get(userNm)));
+    }
+
+    /**
+     * 일괄 생성 청크 트랜잭션 안에서 해당 사용자 카운터를 다시 계산
+     */
+    public void refresh(Collection<String> userNms) {
+        if (!userNms.isEmpty()) {
+            notificationMapper.refreshUnreadCounts(new ArrayList<>(new LinkedHashSet<>(userNms)));
+        }
+    }
+
+    /**
+     * 정리 작업 트랜잭션 안에서 삭제된 읽지 않은 알림 수만큼 카운터를 줄인다 (전송은 커밋 후 pushCounts)
+     */
+    public void subtract(Map<String, Integer> removedByUser) {
+        removedByUser.forEach((userNm, removed) -> notificationMapper.adjustUnreadCount(userNm, -removed));
+    }
+
+    /**
+     * 커밋된 카운터를 사용자 큐로 바로 전송 (일괄 생성 후 전송 단계에서 호출)
+     */
+    public void pushCounts(Collection<String> userNms) {
+        if (userNms.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> totals = new LinkedHashMap<>();
+        try {
+            for (NotificationUnreadCount count : notificationMapper.findUnreadCounts(new ArrayList<>(new LinkedHashSet<>(userNms)))) {
+                totals.put(count.getUserNm(), count.getUnreadCount());
+            }
+            broadcastService.countUnread(userNms).forEach((userNm, unread) -> totals.merge(userNm, unread, Integer::sum));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 카운터 조회 실패 - {}명", userNms.size(), e);
+            return;
+        }
+        for (Map.Entry<String, Integer> total : totals.entrySet()) {
+            NotificationUnreadCount count = new NotificationUnreadCount(total.getKey(), total.getValue());
+            try {
+                realtimeMessenger.sendToUser(count.getUserNm(), USER_QUEUE, count);
+            } catch (Exception e) {
+                // 배지는 다음 조회 때 맞춰지므로 계속 진행
+                log.warn("읽지 않은 알림 카운터 전송 실패 - 사용자: {}", count.getUserNm(), e);
+            }
+        }
+    }
+}
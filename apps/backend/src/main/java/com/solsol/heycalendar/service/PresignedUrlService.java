@@ -0,0 +1,188 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.util.CryptoUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3 다운로드 Presigned URL 발급 + 캐시.
+ *
+ * URL 은 서명 유효 시간(기본 10분) 중 최소 잔여 시간(기본 2분)이 남아 있는 동안 같은 객체에 재사용한다.
+ * DB 에 저장된 암호화 객체 키(Base64 텍스트)를 그대로 캐시 키로 쓰므로, 캐시에 있으면 복호화도 서명도 하지 않는다.
+ * 목록 화면은 URL 을 미리 만들지 않고, 다운로드 요청 시 단건/일괄 API 로 발급한다.
+ * 항목 수는 maxEntries 로 제한하며, 가득 차면 만료 항목을 정리하고 그래도 가득 차면 저장하지 않는다.
+ */
+@Slf4j
+@Service
+public class PresignedUrlService {
+
+    private final S3Presigner s3Presigner;
+    private final CryptoUtil cryptoUtil;
+    private final String bucketName;
+    private final Duration signatureDuration;
+    private final long reuseMillis;
+    private final int maxEntries;
+    private final Timer presignTimer;
+
+    // 암호화 객체 키 -> URL / 평문 객체 키 -> URL
+    private final Map<String, CachedUrl> byEncryptedKey = new ConcurrentHashMap<>();
+    private final Map<String, CachedUrl> byObjectKey = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PresignedUrlService(S3Presigner s3Presigner,
+                               CryptoUtil cryptoUtil,
+                               MeterRegistry meterRegistry,
+                               @Value("${AWS_S3_BUCKET}") String bucketName,
+                               @Value("${s3.presign.ttl-minutes:10}") int ttlMinutes,
+                               @Value("${s3.presign.min-remaining-seconds:120}") int minRemainingSeconds,
+                               @Value("${s3.presign.cache-max-entries:10000}") int maxEntries) {
+        this.s3Presigner = s3Presigner;
+        this.cryptoUtil = cryptoUtil;
+        this.bucketName = bucketName;
+        this.signatureDuration = Duration.ofMinutes(ttlMinutes);
+        this.reuseMillis = Math.max(0, signatureDuration.toMillis() - minRemainingSeconds * 1000L);
+        this.maxEntries = maxEntries;
+        this.presignTimer = Timer.builder("s3.operation")
+                .description("S3 호출/presign 시간")
+                .tag("op", "presignGet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 암호화된 객체 키(DB 값)로 다운로드 URL 발급
+     */
+    public String presignGet(byte[] objectKeyEnc) {
+        String cacheKey = cacheKey(objectKeyEnc);
+        String cached = lookup(byEncryptedKey, cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        return store(byEncryptedKey, cacheKey, presign(cryptoUtil.decryptBytes(objectKeyEnc)));
+    }
+
+    /**
+     * 목록용 일괄 발급. 캐시에 없는 항목만 한 번에 복호화해 서명한다.
+     * 결과는 입력과 같은 순서/크기이며, null 이거나 복호화/서명에 실패한 항목은 null.
+     */
+    public List<String> presignGetAll(List<byte[]> objectKeyEncs) {
+        List<String> urls = new ArrayList<>(objectKeyEncs.size());
+        List<Integer> missIndexes = new ArrayList<>();
+        List<byte[]> missKeys = new ArrayList<>();
+        for (byte[] objectKeyEnc : objectKeyEncs) {
+            String cached = objectKeyEnc == null ? null : lookup(byEncryptedKey, cacheKey(objectKeyEnc));
+            urls.add(cached);
+            if (objectKeyEnc != null && cached == null) {
+                missIndexes.add(urls.size() - 1);
+                missKeys.add(objectKeyEnc);
+            }
+        }
+        if (missKeys.isEmpty()) {
+            return urls;
+        }
+
+        List<String> objectKeys = cryptoUtil.decryptAll(missKeys);
+        for (int i = 0; i < missKeys.size(); i++) {
+            String objectKey = objectKeys.get(i);
+            if (objectKey == null) {
+                continue;
+            }
+            try {
+                urls.set(missIndexes.get(i), store(byEncryptedKey, cacheKey(missKeys.get(i)), presign(objectKey)));
+            } catch (RuntimeException e) {
+                log.warn("Presigned URL 일괄 발급 중 실패 - {}번째 항목", missIndexes.get(i), e);
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * 평문 객체 키로 다운로드 URL 발급
+     */
+    public String presignGetForKey(String objectKey) {
+        String cached = lookup(byObjectKey, objectKey);
+        if (cached != null) {
+            return cached;
+        }
+        return store(byObjectKey, objectKey, presign(objectKey));
+    }
+
+    /**
+     * 삭제된 객체의 캐시 항목 제거
+     */
+    public void evict(byte[] objectKeyEnc) {
+        if (objectKeyEnc != null) {
+            byEncryptedKey.remove(cacheKey(objectKeyEnc));
+        }
+    }
+
+    /**
+     * 캐시 적중/발급 통계
+     */
+    public PresignStats getStats() {
+        return new PresignStats(hits.get(), misses.get(), byEncryptedKey.size() + byObjectKey.size(),
+                signatureDuration.toSeconds(), reuseMillis / 1000);
+    }
+
+    private String lookup(Map<String, CachedUrl> cache, String key) {
+        CachedUrl entry = cache.get(key);
+        if (entry != null && entry.reuseUntil() > System.currentTimeMillis()) {
+            hits.incrementAndGet();
+            return entry.url();
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private String store(Map<String, CachedUrl> cache, String key, String url) {
+        long now = System.currentTimeMillis();
+        if (reuseMillis == 0) {
+            return url;
+        }
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.reuseUntil() <= now);
+        }
+        // 정리 후에도 가득 차 있으면 저장하지 않는다 (메모리 상한)
+        if (cache.size() < maxEntries) {
+            cache.put(key, new CachedUrl(url, now + reuseMillis));
+        }
+        return url;
+    }
+
+    private String presign(String objectKey) {
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(signatureDuration)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(objectKey)
+                        .build())
+                .build();
+        return presignTimer.record(() -> s3Presigner.presignGetObject(presignRequest)).url().toString();
+    }
+
+    private static String cacheKey(byte[] objectKeyEnc) {
+        // 저장 형식이 Base64 텍스트라 그대로 문자열로 쓴다
+        return new String(objectKeyEnc, StandardCharsets.US_ASCII);
+    }
+
+    private record CachedUrl(String url, long reuseUntil) {
+    }
+
+    public record PresignStats(long hits, long misses, int entries, long ttlSeconds, long reuseSeconds) {
+    }
+}
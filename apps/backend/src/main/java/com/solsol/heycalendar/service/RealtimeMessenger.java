@@ -0,0 +1,222 @@
+package com.solsol.heycalendar.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solsol.heycalendar.config.WebSocketBrokerProperties;
+import com.solsol.heycalendar.domain.WebSocketBusMessage;
+import com.solsol.heycalendar.mapper.WebSocketBusMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 메시지 전송 창구.
+ *
+ * simple/relay 모드는 SimpMessagingTemplate 으로 바로 보낸다 (relay 는 외부 브로커가 모든 인스턴스에 전달).
+ * db-bus 모드는 websocket_bus_message 에 한 행을 쓰고, 모든 인스턴스가 버스를 폴링해 자기 세션에 전달한다.
+ * 버스 행은 여러 인스턴스의 트랜잭션에서 쓰여 작은 id 가 나중에 커밋될 수 있으므로, 폴링마다 최근 시간 창을
+ * 다시 읽고 이미 전달한 id 는 건너뛴다.
+ * 사용자 메시지는 convertAndSendToUser 로 보내 /user/queue/... 를 구독한 그 사용자의 세션에만 전달된다.
+ * 전송 시간은 websocket.send{kind=topic|user|bus-deliver} 타이머로 기록한다 (db-bus 발행은 버스 insert 시간).
+ */
+@Slf4j
+@Service
+public class RealtimeMessenger {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final WebSocketBusMapper busMapper;
+    private final ObjectMapper objectMapper;
+    private final WebSocketBrokerProperties properties;
+
+    // 이 인스턴스가 전달한 가장 큰 버스 메시지 ID (-1 이면 아직 시작 위치를 정하지 않음)
+    private final AtomicLong lastBusId = new AtomicLong(-1);
+    // 시작 위치 - 이 ID 이하는 시작 이전 메시지라 다시 읽지 않는다
+    private long busFloorId;
+    // 시간 창 안에서 이미 전달한 메시지 ID -> 전달 시각 (폴링 스레드만 접근)
+    private final Map<Long, Long> recentlyDelivered = new LinkedHashMap<>();
+    private final AtomicBoolean polling = new AtomicBoolean(false);
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private final Timer topicTimer;
+    private final Timer userTimer;
+    private final Timer busDeliverTimer;
+
+    public RealtimeMessenger(SimpMessagingTemplate messagingTemplate,
+                             SimpUserRegistry userRegistry,
+                             WebSocketBusMapper busMapper,
+                             ObjectMapper objectMapper,
+                             WebSocketBrokerProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.busMapper = busMapper;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.topicTimer = sendTimer(meterRegistry, "topic");
+        this.userTimer = sendTimer(meterRegistry, "user");
+        this.busDeliverTimer = sendTimer(meterRegistry, "bus-deliver");
+    }
+
+    /**
+     * 토픽 전송 (/topic/...)
+     */
+    public void send(String destination, Object payload) {
+        long startedAt = System.nanoTime();
+        try {
+            if (isBusMode()) {
+                publish(destination, null, payload);
+            } else {
+                messagingTemplate.convertAndSend(destination, payload);
+            }
+        } finally {
+            topicTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        published.incrementAndGet();
+    }
+
+    /**
+     * 사용자 목적지 전송 (클라이언트는 /user{destination} 구독)
+     */
+    public void sendToUser(String userNm, String destination, Object payload) {
+        long startedAt = System.nanoTime();
+        try {
+            if (isBusMode()) {
+                publish(destination, userNm, payload);
+            } else {
+                messagingTemplate.convertAndSendToUser(userNm, destination, payload);
+            }
+        } finally {
+            userTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        published.incrementAndGet();
+    }
+
+    /**
+     * db-bus 모드에서 다른 인스턴스가 발행한 메시지를 이 인스턴스 세션에 전달
+     */
+    @Scheduled(fixedDelayString = "${websocket.broker.bus.poll-ms:500}")
+    public void pollBus() {
+        if (!isBusMode() || !polling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (lastBusId.get() < 0) {
+                // 시작 이전 메시지는 이미 다른 인스턴스 세션에 전달된 것이므로 건너뛴다
+                busFloorId = busMapper.findMaxId();
+                lastBusId.set(busFloorId);
+                return;
+            }
+            int batchSize = properties.getBus().getBatchSize();
+            int windowSeconds = properties.getBus().getReorderWindowSeconds();
+            long now = System.currentTimeMillis();
+            long pageAfterId = busFloorId;
+            List<WebSocketBusMessage> messages;
+            do {
+                messages = busMapper.findAfterOrRecent(pageAfterId, lastBusId.get(), windowSeconds, batchSize);
+                for (WebSocketBusMessage message : messages) {
+                    pageAfterId = message.getId();
+                    if (recentlyDelivered.putIfAbsent(message.getId(), now) == null) {
+                        deliverLocally(message);
+                    }
+                    lastBusId.accumulateAndGet(message.getId(), Math::max);
+                }
+            } while (messages.size() == batchSize);
+            // 시간 창을 두 번 지난 ID 는 더 이상 다시 읽히지 않는다
+            long expiredBefore = now - windowSeconds * 2000L;
+            recentlyDelivered.values().removeIf(deliveredAt -> deliveredAt < expiredBefore);
+        } catch (Exception e) {
+            log.warn("WebSocket 버스 폴링 실패: {}", e.getMessage());
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    /**
+     * 모든 인스턴스가 읽었을 시간이 지난 버스 메시지 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void purgeBus() {
+        if (!isBusMode()) {
+            return;
+        }
+        try {
+            int batchSize = properties.getBus().getBatchSize();
+            while (busMapper.deleteOlderThan(properties.getBus().getRetentionSeconds(), batchSize) == batchSize) {
+                // 남은 행이 있으면 계속
+            }
+        } catch (Exception e) {
+            log.warn("WebSocket 버스 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 브로커 모드와 전송 통계 (접속 사용자 수는 이 인스턴스 기준, relay 모드는 클러스터 기준)
+     */
+    public MessengerStats getStats() {
+        return new MessengerStats(properties.getMode(), userRegistry.getUserCount(),
+                published.get(), delivered.get(), failed.get(), lastBusId.get());
+    }
+
+    void deliverLocally(WebSocketBusMessage message) {
+        long startedAt = System.nanoTime();
+        try {
+            Object payload = objectMapper.readTree(message.getPayload());
+            if (message.getUserNm() != null) {
+                messagingTemplate.convertAndSendToUser(message.getUserNm(), message.getDestination(), payload);
+            } else {
+                messagingTemplate.convertAndSend(message.getDestination(), payload);
+            }
+            delivered.incrementAndGet();
+        } catch (Exception e) {
+            // 버스는 재전송하지 않는다 - 클라이언트는 다음 조회 때 맞춰진다
+            failed.incrementAndGet();
+            log.warn("WebSocket 버스 메시지 전달 실패 - id: {}, destination: {}", message.getId(), message.getDestination(), e);
+        } finally {
+            busDeliverTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void publish(String destination, String userNm, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("WebSocket 메시지 직렬화 실패: " + destination, e);
+        }
+        busMapper.insert(WebSocketBusMessage.builder()
+                .destination(destination)
+                .userNm(userNm)
+                .payload(json)
+                .build());
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String kind) {
+        return Timer.builder("websocket.send")
+                .description("WebSocket 메시지 전송 시간")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    private boolean isBusMode() {
+        return properties.getMode() == WebSocketBrokerProperties.Mode.DB_BUS;
+    }
+
+    public record MessengerStats(WebSocketBrokerProperties.Mode mode, int connectedUsers,
+                                 long published, long delivered, long failed, long lastBusId) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Eligibility;
+import com.solsol.heycalendar.domain.Scholarship;
+import com.solsol.heycalendar.dto.response.ScholarshipResponse;
+import com.solsol.heycalendar.mapper.CacheVersionMapper;
+import com.solsol.heycalendar.mapper.EligibilityMapper;
+import com.solsol.heycalendar.mapper.ScholarshipMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 장학금 목록 인메모리 스냅샷 (read-through).
+ *
+ * 목록/필터 API 는 스냅샷에서 바로 응답하고, 요약 DTO 는 스냅샷을 만들 때 한 번만 계산한다.
+ * 장학금/기준/태그/공지 변경 시 cache_version 을 같은 트랜잭션에서 올리고 커밋 후 로컬 스냅샷을 버린다.
+ * 다른 인스턴스는 버전 행을 주기적으로 확인해 바뀌었으면 스냅샷을 버린다.
+ * 모집 상태가 오늘 날짜에 따라 달라지므로 날짜가 바뀌어도 다시 만든다.
+ * 자격 요건은 스냅샷을 만들 때 ScholarshipEligibilityIndex 로 컴파일해 함께 보관한다.
+ */
+@Slf4j
+@Service
+public class ScholarshipCatalogCache {
+
+    static final String CACHE_NAME = "scholarship_catalog";
+    // 권장 스냅샷 크기. 넘어도 보관하고 (버리면 요청마다 loadLock 아래에서 다시 로드한다) 처음 한 번만 경고한다
+    static final int WARN_ENTRIES = 5000;
+
+    private final ScholarshipMapper scholarshipMapper;
+    private final CacheVersionMapper cacheVersionMapper;
+    private final EligibilityMapper eligibilityMapper;
+    private final Object loadLock = new Object();
+
+    private volatile Snapshot snapshot;
+    // 로드 중에 무효화가 일어나면 로드 결과를 버리기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean sizeWarned = new AtomicBoolean();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile long lastLoadMillis;
+
+    public ScholarshipCatalogCache(ScholarshipMapper scholarshipMapper,
+                                   CacheVersionMapper cacheVersionMapper,
+                                   EligibilityMapper eligibilityMapper) {
+        this.scholarshipMapper = scholarshipMapper;
+        this.cacheVersionMapper = cacheVersionMapper;
+        this.eligibilityMapper = eligibilityMapper;
+    }
+
+    /**
+     * 현재 스냅샷 (없거나 날짜가 바뀌었으면 DB 에서 다시 만든다)
+     */
+    public Snapshot get() {
+        LocalDate today = LocalDate.now();
+        Snapshot current = snapshot;
+        if (current != null && current.builtOn().equals(today)) {
+            hits.incrementAndGet();
+            return current;
+        }
+
+        misses.incrementAndGet();
+        synchronized (loadLock) {
+            current = snapshot;
+            if (current != null && current.builtOn().equals(today)) {
+                return current;
+            }
+            long loadGeneration = generation.get();
+            Snapshot loaded = load(today);
+            if (loaded.size() > WARN_ENTRIES && sizeWarned.compareAndSet(false, true)) {
+                log.warn("장학금 카탈로그 스냅샷이 {}건으로 권장 크기({}건)를 넘었습니다", loaded.size(), WARN_ENTRIES);
+            }
+            if (generation.get() == loadGeneration) {
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * 장학금 목록 변경 알림. 호출한 쓰기 트랜잭션 안에서 버전을 올리고, 커밋 후 로컬 스냅샷을 버린다.
+     */
+    public void invalidate() {
+        cacheVersionMapper.bump(CACHE_NAME);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal();
+                }
+            });
+        } else {
+            evictLocal();
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 올린 버전 확인 (PK 조회 1회)
+     */
+    @Scheduled(fixedDelayString = "${catalog.cache.version-poll-ms:2000}")
+    public void pollVersion() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        try {
+            if (currentVersion() != current.version()) {
+                log.debug("장학금 카탈로그 버전 변경 감지 - 로컬 스냅샷 폐기 (v{})", current.version());
+                evictLocal();
+            }
+        } catch (Exception e) {
+            log.warn("장학금 카탈로그 버전 확인 실패", e);
+        }
+    }
+
+    public CacheStats getStats() {
+        Snapshot current = snapshot;
+        return new CacheStats(
+            hits.get(),
+            misses.get(),
+            loads.get(),
+            invalidations.get(),
+            current == null ? 0 : current.size(),
+            current == null ? -1 : current.version(),
+            lastLoadMillis
+        );
+    }
+
+    private void evictLocal() {
+        generation.incrementAndGet();
+        snapshot = null;
+        invalidations.incrementAndGet();
+    }
+
+    private Snapshot load(LocalDate today) {
+        long startedAt = System.nanoTime();
+        // 버전을 먼저 읽어야 로드 도중의 변경이 다음 폴링에서 감지된다
+        long version = currentVersion();
+        List<Scholarship> rows = scholarshipMapper.findAllForCatalog();
+
+        List<Entry> byCreatedAt = new ArrayList<>(rows.size());
+        for (Scholarship s : rows) {
+            byCreatedAt.add(new Entry(s, ScholarshipService.toSummaryResponse(s, today)));
+        }
+
+        // findByFilters 와 같은 정렬: 마감일 오름차순(NULL 먼저), id 내림차순
+        List<Entry> byEndDate = new ArrayList<>(byCreatedAt);
+        byEndDate.sort(Comparator
+            .comparing((Entry e) -> e.scholarship().getRecruitmentEndDate(), Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(e -> e.scholarship().getId(), Comparator.reverseOrder()));
+
+        Map<Long, List<Eligibility>> eligibilities = eligibilityMapper.findAll().stream()
+            .filter(e -> e.getScholarshipNm() != null)
+            .collect(Collectors.groupingBy(Eligibility::getScholarshipNm));
+        ScholarshipEligibilityIndex eligibilityIndex = ScholarshipEligibilityIndex.compile(
+            byEndDate.stream().map(Entry::scholarship).toList(), eligibilities, today);
+
+        Snapshot loaded = new Snapshot(
+            version,
+            today,
+            List.copyOf(byCreatedAt),
+            List.copyOf(byEndDate),
+            byCreatedAt.stream().map(Entry::summary).toList(),
+            eligibilityIndex
+        );
+
+        loads.incrementAndGet();
+        lastLoadMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("장학금 카탈로그 스냅샷 로드 - {}건, v{}, {}ms", loaded.size(), version, lastLoadMillis);
+        return loaded;
+    }
+
+    private long currentVersion() {
+        Long version = cacheVersionMapper.findVersion(CACHE_NAME);
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * 장학금 행과 미리 만든 요약 DTO
+     */
+    public record Entry(Scholarship scholarship, ScholarshipResponse summary) {
+    }
+
+    /**
+     * 불변 카탈로그 스냅샷. byCreatedAt 은 목록 API, byEndDate 는 필터 API 정렬 순서이며
+     * eligibilityIndex 의 비트 위치는 byEndDate 인덱스와 같다.
+     */
+    public record Snapshot(long version, LocalDate builtOn,
+                           List<Entry> byCreatedAt, List<Entry> byEndDate,
+                           List<ScholarshipResponse> summaries,
+                           ScholarshipEligibilityIndex eligibilityIndex) {
+
+        public int size() {
+            return byCreatedAt.size();
+        }
+    }
+
+    /**
+     * 캐시 적중/미스와 로드 통계
+     */
+    public record CacheStats(long hits, long misses, long loads, long invalidations,
+                             int size, long version, long lastLoadMillis) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Eligibility;
+import com.solsol.heycalendar.domain.EligibilityOperator;
+import com.solsol.heycalendar.domain.RecruitmentStatus;
+import com.solsol.heycalendar.domain.Scholarship;
+import com.solsol.heycalendar.domain.State;
+import com.solsol.heycalendar.dto.response.UserEligibilityProfile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 카탈로그 스냅샷용 자격/필터 비트셋 인덱스.
+ *
+ * 스냅샷을 만들 때 장학금별 학년/전공 제한, 최소 평점, eligibility 행을 한 번 파싱해
+ * 학년, 평점 구간, 학적 상태, 학과명, 모집 상태, 카테고리별 BitSet 으로 만들어 둔다.
+ * 조회 시에는 사용자 값에 해당하는 BitSet 들을 AND 하므로 비용이 카탈로그 크기가 아니라
+ * 비트 연산(워드 단위)과 결과 건수에 비례한다. 비트 위치는 스냅샷의 byEndDate 순서와 같다.
+ */
+@Slf4j
+public final class ScholarshipEligibilityIndex {
+
+    static final int MAX_GRADE = 6;
+    private static final Pattern GRADE_DIGIT = Pattern.compile("[1-" + MAX_GRADE + "]");
+    private static final Pattern GRADE_RANGE = Pattern.compile("([1-" + MAX_GRADE + "])\\s*학?년?\\s*[~\\-]\\s*([1-" + MAX_GRADE + "])");
+    private static final Pattern MAJOR_SEPARATOR = Pattern.compile("\\s*[,/·|]\\s*|\\s+및\\s+");
+
+    private final int size;
+    private final BitSet all;
+    // 학년 0 은 학년 정보가 없는 사용자 (학년 제한 없는 장학금만)
+    private final BitSet[] byGrade = new BitSet[MAX_GRADE + 1];
+    // 평점 경계값과 경계로 나뉜 구간: (-inf, b0), [b0], (b0, b1), [b1], ... , (bk, +inf)
+    private final double[] gpaBreakpoints;
+    private final BitSet[] byGpaBand;
+    private final Map<State, BitSet> byState = new EnumMap<>(State.class);
+    private final BitSet stateUnrestricted;
+    private final BitSet majorUnrestricted;
+    private final Map<String, BitSet> byMajor = new HashMap<>();
+    private final BitSet open;
+    private final BitSet closed;
+    private final Map<RecruitmentStatus, BitSet> byStoredStatus = new EnumMap<>(RecruitmentStatus.class);
+    private final Map<String, BitSet> byCategory = new HashMap<>();
+
+    private ScholarshipEligibilityIndex(int size, double[] gpaBreakpoints) {
+        this.size = size;
+        this.all = new BitSet(size);
+        this.all.set(0, size);
+        for (int g = 0; g <= MAX_GRADE; g++) {
+            byGrade[g] = new BitSet(size);
+        }
+        this.gpaBreakpoints = gpaBreakpoints;
+        this.byGpaBand = new BitSet[gpaBreakpoints.length * 2 + 1];
+        for (int b = 0; b < byGpaBand.length; b++) {
+            byGpaBand[b] = new BitSet(size);
+        }
+        for (State state : State.values()) {
+            byState.put(state, new BitSet(size));
+        }
+        this.stateUnrestricted = new BitSet(size);
+        this.majorUnrestricted = new BitSet(size);
+        this.open = new BitSet(size);
+        this.closed = new BitSet(size);
+        for (RecruitmentStatus status : RecruitmentStatus.values()) {
+            byStoredStatus.put(status, new BitSet(size));
+        }
+    }
+
+    /**
+     * 정렬된 장학금 목록과 장학금별 eligibility 행으로 인덱스 생성
+     */
+    public static ScholarshipEligibilityIndex compile(List<Scholarship> scholarships,
+                                                      Map<Long, List<Eligibility>> eligibilities,
+                                                      LocalDate today) {
+        List<Rule> rules = new ArrayList<>(scholarships.size());
+        TreeSet<Double> breakpoints = new TreeSet<>();
+        for (Scholarship s : scholarships) {
+            Rule rule = Rule.compile(s, eligibilities.getOrDefault(s.getId(), List.of()));
+            for (GpaBound bound : rule.gpaBounds()) {
+                breakpoints.add(bound.value());
+            }
+            rules.add(rule);
+        }
+
+        double[] points = breakpoints.stream().mapToDouble(Double::doubleValue).toArray();
+        ScholarshipEligibilityIndex index = new ScholarshipEligibilityIndex(scholarships.size(), points);
+        for (int i = 0; i < scholarships.size(); i++) {
+            index.add(i, scholarships.get(i), rules.get(i), today);
+        }
+        return index;
+    }
+
+    private void add(int bit, Scholarship s, Rule rule, LocalDate today) {
+        for (int g = 0; g <= MAX_GRADE; g++) {
+            if ((rule.gradeMask() & (1 << g)) != 0) {
+                byGrade[g].set(bit);
+            }
+        }
+
+        // 각 구간의 대표값으로 평점 조건 평가
+        for (int band = 0; band < byGpaBand.length; band++) {
+            if (rule.acceptsGpa(bandRepresentative(band))) {
+                byGpaBand[band].set(bit);
+            }
+        }
+
+        if (rule.states() == null) {
+            stateUnrestricted.set(bit);
+            byState.values().forEach(bits -> bits.set(bit));
+        } else {
+            rule.states().forEach(state -> byState.get(state).set(bit));
+        }
+
+        if (rule.majors() == null) {
+            majorUnrestricted.set(bit);
+        } else {
+            for (String major : rule.majors()) {
+                byMajor.computeIfAbsent(major, k -> new BitSet(size)).set(bit);
+            }
+        }
+
+        LocalDate endDate = s.getRecruitmentEndDate();
+        if (endDate != null) {
+            (endDate.isBefore(today) ? closed : open).set(bit);
+        }
+        if (s.getRecruitmentStatus() != null) {
+            byStoredStatus.get(s.getRecruitmentStatus()).set(bit);
+        }
+        if (s.getCategory() != null) {
+            byCategory.computeIfAbsent(s.getCategory(), k -> new BitSet(size)).set(bit);
+        }
+        byCategory.computeIfAbsent(ScholarshipService.getTypeLabelFromEnum(s.getType()), k -> new BitSet(size)).set(bit);
+    }
+
+    /**
+     * 상태/카테고리 필터와 사용자 자격을 모두 만족하는 비트 (profile 이 null 이면 자격 판정 생략).
+     * 결과 BitSet 하나만 새로 만들고 나머지는 제자리 AND.
+     */
+    public BitSet match(String status, String category, UserEligibilityProfile profile) {
+        BitSet result = (BitSet) all.clone();
+
+        if (status != null) {
+            result.and(statusBits(status));
+        }
+        if (category != null) {
+            BitSet categoryBits = byCategory.get(category);
+            if (categoryBits == null) {
+                return new BitSet();
+            }
+            result.and(categoryBits);
+        }
+        if (profile != null && !result.isEmpty()) {
+            andEligible(result, profile);
+        }
+        return result;
+    }
+
+    private BitSet statusBits(String status) {
+        switch (status) {
+            case "OPEN":
+                return open;
+            case "CLOSED":
+                return closed;
+            default:
+                try {
+                    return byStoredStatus.get(RecruitmentStatus.valueOf(status));
+                } catch (IllegalArgumentException e) {
+                    return new BitSet();
+                }
+        }
+    }
+
+    private void andEligible(BitSet result, UserEligibilityProfile profile) {
+        Integer grade = profile.getGrade();
+        result.and(byGrade[grade == null || grade < 1 || grade > MAX_GRADE ? 0 : grade]);
+
+        // 평점 정보가 없는 사용자는 평점 조건을 건너뛴다 (기존 동작)
+        if (profile.getGpa() != null) {
+            result.and(byGpaBand[gpaBand(profile.getGpa().doubleValue())]);
+        }
+
+        result.and(profile.getState() == null ? stateUnrestricted : byState.get(profile.getState()));
+
+        // 전공 제한: 제한 없음 + 사용자 학과명/단과대명과 일치하는 장학금
+        BitSet majorBits = byMajor.isEmpty() ? majorUnrestricted : (BitSet) majorUnrestricted.clone();
+        orMajor(majorBits, profile.getDepartmentName());
+        orMajor(majorBits, profile.getCollegeName());
+        result.and(majorBits);
+    }
+
+    private void orMajor(BitSet target, String name) {
+        if (name == null) {
+            return;
+        }
+        BitSet bits = byMajor.get(name.trim());
+        if (bits != null) {
+            target.or(bits);
+        }
+    }
+
+    int gpaBand(double gpa) {
+        int low = 0;
+        int high = gpaBreakpoints.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Double.compare(gpaBreakpoints[mid], gpa);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid * 2 + 1;
+            }
+        }
+        return low * 2;
+    }
+
+    private double bandRepresentative(int band) {
+        int k = gpaBreakpoints.length;
+        if (band % 2 == 1) {
+            return gpaBreakpoints[band / 2];
+        }
+        int upper = band / 2;
+        if (k == 0) {
+            return 0;
+        }
+        if (upper == 0) {
+            return gpaBreakpoints[0] - 1;
+        }
+        if (upper == k) {
+            return gpaBreakpoints[k - 1] + 1;
+        }
+        return (gpaBreakpoints[upper - 1] + gpaBreakpoints[upper]) / 2;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 평점 조건 하나 (value 와 연산자)
+     */
+    record GpaBound(EligibilityOperator operator, double value) {
+
+        boolean accepts(double gpa) {
+            return compare(operator, Double.compare(gpa, value));
+        }
+    }
+
+    /**
+     * 장학금 한 건의 컴파일된 자격 규칙. states/majors 가 null 이면 제한 없음.
+     */
+    record Rule(int gradeMask, List<GpaBound> gpaBounds, List<State> states, List<String> majors) {
+
+        private static final int ALL_GRADES = (1 << (MAX_GRADE + 1)) - 1;
+        private static final int KNOWN_GRADES = ALL_GRADES & ~1;
+
+        boolean acceptsGpa(double gpa) {
+            for (GpaBound bound : gpaBounds) {
+                if (!bound.accepts(gpa)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static Rule compile(Scholarship s, List<Eligibility> eligibilities) {
+            int gradeMask = parseGradeRestriction(s.getGradeRestriction());
+            List<GpaBound> gpaBounds = new ArrayList<>();
+            if (s.getMinGpa() != null) {
+                gpaBounds.add(new GpaBound(EligibilityOperator.GREATER_THAN_OR_EQUAL, s.getMinGpa().doubleValue()));
+            }
+            List<State> states = null;
+
+            for (Eligibility e : eligibilities) {
+                if (e.getField() == null || e.getOperator() == null
+                    || e.getOperator() == EligibilityOperator.OTHER || e.getValue() == null) {
+                    continue;
+                }
+                try {
+                    switch (e.getField()) {
+                        case GRADE -> gradeMask &= gradeMask(e.getOperator(), Integer.parseInt(e.getValue().trim()));
+                        case GPA -> gpaBounds.add(new GpaBound(e.getOperator(), Double.parseDouble(e.getValue().trim())));
+                        case STATE -> {
+                            if (e.getOperator() == EligibilityOperator.EQUAL) {
+                                State state = State.valueOf(e.getValue().trim().toUpperCase());
+                                states = states == null ? new ArrayList<>(List.of(state))
+                                    : (states.contains(state) ? List.of(state) : List.of());
+                            }
+                        }
+                    }
+                } catch (IllegalArgumentException ex) {
+                    // 해석할 수 없는 규칙은 무시 (제한 없음으로 취급)
+                    log.warn("자격요건 해석 실패 - 장학금ID: {}, 요건ID: {}, {} {} {}",
+                        s.getId(), e.getEligibilityNm(), e.getField(), e.getOperator(), e.getValue());
+                }
+            }
+
+            return new Rule(gradeMask, List.copyOf(gpaBounds), states, parseMajorRestriction(s.getMajorRestriction()));
+        }
+
+        /**
+         * "전체", "1학년 이상", "4학년만", "2~3학년", "1, 2학년" 형식의 학년 제한을 비트마스크로
+         */
+        static int parseGradeRestriction(String restriction) {
+            if (isUnrestricted(restriction)) {
+                return ALL_GRADES;
+            }
+            Matcher range = GRADE_RANGE.matcher(restriction);
+            if (range.find()) {
+                return gradeRangeMask(Integer.parseInt(range.group(1)), Integer.parseInt(range.group(2)));
+            }
+
+            int min = MAX_GRADE + 1;
+            int max = 0;
+            int mask = 0;
+            Matcher digit = GRADE_DIGIT.matcher(restriction);
+            while (digit.find()) {
+                int grade = Integer.parseInt(digit.group());
+                mask |= 1 << grade;
+                min = Math.min(min, grade);
+                max = Math.max(max, grade);
+            }
+            if (mask == 0) {
+                // 학년 숫자가 없는 문구는 제한 없음으로 취급
+                return ALL_GRADES;
+            }
+            if (restriction.contains("이상")) {
+                return gradeRangeMask(min, MAX_GRADE);
+            }
+            if (restriction.contains("이하")) {
+                return gradeRangeMask(1, max);
+            }
+            return mask;
+        }
+
+        private static int gradeMask(EligibilityOperator operator, int value) {
+            int mask = 0;
+            for (int g = 1; g <= MAX_GRADE; g++) {
+                if (compare(operator, Integer.compare(g, value))) {
+                    mask |= 1 << g;
+                }
+            }
+            return mask;
+        }
+
+        private static int gradeRangeMask(int from, int to) {
+            int mask = 0;
+            for (int g = Math.min(from, to); g <= Math.max(from, to); g++) {
+                mask |= 1 << g;
+            }
+            return mask & KNOWN_GRADES;
+        }
+
+        /**
+         * "컴퓨터공학과, 소프트웨어학과" 형식의 전공 제한을 학과/단과대명 목록으로
+         */
+        static List<String> parseMajorRestriction(String restriction) {
+            if (isUnrestricted(restriction)) {
+                return null;
+            }
+            List<String> majors = new ArrayList<>();
+            for (String token : MAJOR_SEPARATOR.split(restriction.trim())) {
+                if (!token.isBlank()) {
+                    majors.add(token.trim());
+                }
+            }
+            return majors.isEmpty() ? null : List.copyOf(majors);
+        }
+
+        private static boolean isUnrestricted(String restriction) {
+            if (restriction == null) {
+                return true;
+            }
+            String trimmed = restriction.trim();
+            return trimmed.isEmpty() || trimmed.equals("전체") || trimmed.equals("제한없음");
+        }
+    }
+
+    private static boolean compare(EligibilityOperator operator, int cmp) {
+        switch (operator) {
+            case GREATER_THAN_OR_EQUAL:
+                return cmp >= 0;
+            case LESS_THAN_OR_EQUAL:
+                return cmp <= 0;
+            case EQUAL:
+                return cmp == 0;
+            case GREATER_THAN:
+                return cmp > 0;
+            case LESS_THAN:
+                return cmp < 0;
+            default:
+                return true;
+        }
+    }
+}
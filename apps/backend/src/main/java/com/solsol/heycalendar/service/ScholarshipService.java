@@ -19,25 +19,30 @@ import com.solsol.heycalendar.mapper.ScholarshipMapper;
 import com.solsol.heycalendar.mapper.UserMapper;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import com.solsol.heycalendar.dto.request.*;
 import com.solsol.heycalendar.dto.response.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScholarshipService {
 
 	private final ScholarshipMapper mapper;
-	private final NotificationService notificationService;
+	private final BroadcastNotificationService broadcastNotificationService;
 	private final UserMapper userMapper;
 	private final ObjectMapper objectMapper = new ObjectMapper();
 	private final ApplicationMapper applicationMapper;
+	private final ScholarshipCatalogCache catalogCache;
 
-	/* 목록 */
-	@Transactional(readOnly = true)
+	/* 목록 (카탈로그 스냅샷에서 응답) */
 	public List<ScholarshipResponse> getAllScholarships() {
-		return mapper.findAll().stream()
-				.map(this::toSummaryResponse)
-				.collect(Collectors.toList());
+		return catalogCache.get().summaries();
+	}
+
+	/* 카탈로그 캐시 통계 */
+	public ScholarshipCatalogCache.CacheStats getCatalogCacheStats() {
+		return catalogCache.getStats();
 	}
 
 	/* 상세 */
@@ -122,6 +127,7 @@ public class ScholarshipService {
 			mapper.upsertNotice(n);
 		}
 
+		catalogCache.invalidate();
 		ScholarshipResponse createdScholarship = getScholarshipById(s.getId());
 		
 		// 새 장학금 알림 생성 - 모든 활성 사용자에게 발송
@@ -205,6 +211,7 @@ public class ScholarshipService {
 			mapper.deleteNoticeByScholarshipId(id);
 		}
 
+		catalogCache.invalidate();
 		return getScholarshipById(id);
 	}
 
@@ -218,6 +225,7 @@ public class ScholarshipService {
 		mapper.deleteTagsByScholarshipId(id);
 		mapper.deleteNoticeByScholarshipId(id);
 		mapper.delete(id);
+		catalogCache.invalidate();
 	}
 
 	/* 유효성 */
@@ -249,7 +257,7 @@ public class ScholarshipService {
 		}
 	}
 
-	private List<ScholarshipResponse.RequiredDocumentDto> parseRequiredDocuments(String documentsJson) {
+	List<ScholarshipResponse.RequiredDocumentDto> parseRequiredDocuments(String documentsJson) {
 		if (documentsJson == null || documentsJson.trim().isEmpty()) {
 			return new ArrayList<>();
 		}
@@ -269,9 +277,9 @@ public class ScholarshipService {
 		}
 	}
 
-	private ScholarshipResponse toSummaryResponse(Scholarship s) {
+	static ScholarshipResponse toSummaryResponse(Scholarship s, LocalDate today) {
 		// 실제 마감일 확인해서 모집상태 업데이트
-		RecruitmentStatus actualStatus = getActualRecruitmentStatus(s);
+		RecruitmentStatus actualStatus = getActualRecruitmentStatus(s, today);
 		
 		return ScholarshipResponse.builder()
 				.id(s.getId())
@@ -291,12 +299,11 @@ public class ScholarshipService {
 				.build();
 	}
 	
-	private RecruitmentStatus getActualRecruitmentStatus(Scholarship s) {
+	private static RecruitmentStatus getActualRecruitmentStatus(Scholarship s, LocalDate today) {
 		if (s.getRecruitmentEndDate() == null) {
 			return s.getRecruitmentStatus(); 
 		}
 		
-		LocalDate today = LocalDate.now();
 		LocalDate endDate = s.getRecruitmentEndDate();
 		
 		// 마감일이 지난 경우 CLOSED로 설정
@@ -376,6 +383,7 @@ public class ScholarshipService {
 				.weightPercent(req.getWeight())
 				.build();
 		mapper.insertSingleCriteria(c);
+		catalogCache.invalidate();
 		return CriteriaResponse.builder()
 				.id(c.getId()).name(c.getName()).stdPoint(c.getStdPoint())
 				.weightPercent(c.getWeightPercent()).build();
@@ -389,6 +397,7 @@ public class ScholarshipService {
 		curr.setStdPoint(req.getStd());
 		curr.setWeightPercent(req.getWeight());
 		mapper.updateCriteria(curr);
+		catalogCache.invalidate();
 		return CriteriaResponse.builder()
 				.id(curr.getId()).name(curr.getName()).stdPoint(curr.getStdPoint())
 				.weightPercent(curr.getWeightPercent()).build();
@@ -397,6 +406,7 @@ public class ScholarshipService {
 	@Transactional
 	public void deleteCriteria(Long criteriaId){
 		mapper.deleteCriteria(criteriaId);
+		catalogCache.invalidate();
 	}
 
 
@@ -417,11 +427,15 @@ public class ScholarshipService {
 			mapper.insertTag(t);
 			out.add(TagResponse.builder().id(t.getId()).tag(t.getTag()).build());
 		}
+		catalogCache.invalidate();
 		return out;
 	}
 
 	@Transactional
-	public void deleteTag(Long tagId){ mapper.deleteTag(tagId); }
+	public void deleteTag(Long tagId){
+		mapper.deleteTag(tagId);
+		catalogCache.invalidate();
+	}
 
 
 	/* Notice */
@@ -442,6 +456,7 @@ public class ScholarshipService {
 				.content(req.getContent()).imageUrl(req.getImageUrl())
 				.build();
 		mapper.insertNotice(n);
+		catalogCache.invalidate();
 		return NoticeResponse.builder()
 				.id(n.getId()).title(n.getTitle()).content(n.getContent())
 				.imageUrl(n.getImageUrl()).createdAt(n.getCreatedAt()).build();
@@ -453,6 +468,7 @@ public class ScholarshipService {
 		if(n==null) throw new RuntimeException("Notice not found: "+noticeId);
 		n.setTitle(req.getTitle()); n.setContent(req.getContent()); n.setImageUrl(req.getImageUrl());
 		mapper.updateNotice(n);
+		catalogCache.invalidate();
 		return NoticeResponse.builder()
 				.id(n.getId()).title(n.getTitle()).content(n.getContent())
 				.imageUrl(n.getImageUrl()).createdAt(n.getCreatedAt())
@@ -460,7 +476,10 @@ public class ScholarshipService {
 	}
 
 	@Transactional
-	public void deleteNotice(Long noticeId){ mapper.deleteNotice(noticeId); }
+	public void deleteNotice(Long noticeId){
+		mapper.deleteNotice(noticeId);
+		catalogCache.invalidate();
+	}
 
 	/* 전체 공지사항 조회 */
 	@Transactional(readOnly = true)
@@ -503,37 +522,12 @@ public class ScholarshipService {
 	}
 
 	/**
-	 * 새 장학금 등록 시 모든 활성 사용자에게 알림 생성
+	 * 새 장학금 등록 시 전체 사용자 공지 생성
+	 * 사용자 수와 관계없이 공지 한 행만 쓰므로 장학금 생성 트랜잭션 안에서 함께 커밋된다
 	 */
-	@Transactional
 	public void createNewScholarshipNotifications(ScholarshipResponse scholarship) {
-		try {
-			// 모든 활성 사용자 조회
-			List<String> activeUsers = userMapper.findAllActiveUserNames();
-			
-			// 각 활성 사용자에게 알림 생성
-			for (String userNm : activeUsers) {
-				try {
-					notificationService.createNewScholarshipNotification(
-						userNm,
-						scholarship.getId(),
-						scholarship.getScholarshipName(),
-						scholarship.getAmount()
-					);
-				} catch (Exception e) {
-					// 개별 사용자 알림 생성 실패 시 로그만 남기고 계속 진행
-					System.err.println("새 장학금 알림 생성 실패 - 사용자: " + userNm + 
-						", 장학금: " + scholarship.getScholarshipName() + ", 오류: " + e.getMessage());
-				}
-			}
-			
-			System.out.println("새 장학금 알림 생성 완료 - " + scholarship.getScholarshipName() + 
-				" (대상 사용자: " + activeUsers.size() + "명)");
-				
-		} catch (Exception e) {
-			// 전체 프로세스 실패 시에도 장학금 생성은 성공으로 처리
-			System.err.println("새 장학금 알림 생성 프로세스 실패: " + e.getMessage());
-		}
+		broadcastNotificationService.publishNewScholarship(
+			scholarship.getId(), scholarship.getScholarshipName(), scholarship.getAmount());
 	}
 
 	/**
@@ -618,12 +612,26 @@ public class ScholarshipService {
 		final String normalizedStatus = normalizeStatus(status);
 		final String normalizedCategory = normalizeCategory(category);
 
-		List<Scholarship> filtered = mapper.findByFilters(normalizedStatus, normalizedCategory);
+		// 1) 사용자 자격 정보 조회 (학년/평점/학적/소속)
+		UserEligibilityProfile profile = null;
+		try {
+			profile = userMapper.findEligibilityProfile(userNm);
+		} catch (Exception e) {
+			log.warn("사용자 자격 정보 조회 실패 - 사용자: {}", userNm, e);
+		}
+
+		// 2) 카탈로그 스냅샷의 컴파일된 인덱스로 상태/카테고리/자격을 한 번에 판정
+		ScholarshipCatalogCache.Snapshot catalog = catalogCache.get();
+		BitSet matched = catalog.eligibilityIndex().match(normalizedStatus, normalizedCategory, profile);
+		if (matched.isEmpty()) return List.of();
 
-		if (filtered.isEmpty()) return List.of();
+		List<ScholarshipCatalogCache.Entry> filtered = new ArrayList<>(matched.cardinality());
+		for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+			filtered.add(catalog.byEndDate().get(i));
+		}
 
-		// 1) 지원 상태 일괄 조회 (N+1 방지)
-		List<Long> ids = filtered.stream().map(Scholarship::getId).toList();
+		// 3) 지원 상태 일괄 조회 (N+1 방지)
+		List<Long> ids = filtered.stream().map(e -> e.scholarship().getId()).toList();
 
 		Map<Long, ApplicationStatus> statusMap = applicationMapper
 			.findStatusesByUserAndScholarshipIds(userNm, ids)
@@ -633,35 +641,12 @@ public class ScholarshipService {
 				ApplicationStatusRow::getState
 			));
 
-		// 2) 사용자 정보 조회 (자격 요건 체크용)
-		User user = null;
-		try {
-			user = userMapper.findByUserNm(userNm).orElse(null);
-		} catch (Exception e) {
-			System.err.println("❌ 사용자 정보 조회 실패: " + e.getMessage());
-		}
-		final User finalUser = user;
-
-		// 3) 필터링 및 DTO 매핑
+		// 4) 이미 승인된 장학금은 제외 (신청 가능 목록에서) 후 DTO 매핑
 		return filtered.stream()
-			.filter(s -> {
-				ApplicationStatus applicationStatus = statusMap.getOrDefault(s.getId(), ApplicationStatus.NONE);
-				
-				// 이미 승인된 장학금은 제외 (신청 가능 목록에서)
-				if (applicationStatus == ApplicationStatus.APPROVED) {
-					return false;
-				}
-				
-				// 사용자 자격 요건 체크 (사용자 정보가 있는 경우에만)
-				if (finalUser != null && !isEligibleForUser(s, finalUser)) {
-					return false;
-				}
-				
-				return true;
-			})
-			.map(s -> ScholarshipWithStateResponse.builder()
-				.scholarship(toSummaryResponse(s))
-				.state(statusMap.getOrDefault(s.getId(), ApplicationStatus.NONE))
+			.filter(e -> statusMap.get(e.scholarship().getId()) != ApplicationStatus.APPROVED)
+			.map(e -> ScholarshipWithStateResponse.builder()
+				.scholarship(e.summary())
+				.state(statusMap.getOrDefault(e.scholarship().getId(), ApplicationStatus.NONE))
 				.build())
 			.toList();
 	}
@@ -669,7 +654,7 @@ public class ScholarshipService {
 	/**
 	 * 장학금 타입 enum을 한글 라벨로 변환
 	 */
-	private String getTypeLabelFromEnum(ScholarshipType type) {
+	static String getTypeLabelFromEnum(ScholarshipType type) {
 		if (type == null) return "기타";
 		
 		switch (type) {
@@ -685,44 +670,6 @@ public class ScholarshipService {
 		}
 	}
 
-	/**
-	 * 사용자가 해당 장학금에 지원 가능한지 확인
-	 */
-	private boolean isEligibleForUser(Scholarship scholarship, User user) {
-		try {
-			// 학년 제한 확인
-			if (scholarship.getGradeRestriction() != null && !scholarship.getGradeRestriction().isEmpty()) {
-				if (!scholarship.getGradeRestriction().equals("전체") && 
-					!scholarship.getGradeRestriction().contains(String.valueOf(user.getGrade()))) {
-					return false;
-				}
-			}
-			
-			// 최소 평점 확인 (사용자 GPA가 있는 경우)
-			if (user.getGpa() != null && scholarship.getMinGpa() != null) {
-				if (user.getGpa().compareTo(scholarship.getMinGpa()) < 0) {
-					return false;
-				}
-			}
-			
-			// 전공 제한 확인 (향후 구현 - 현재는 기본적으로 통과)
-			if (scholarship.getMajorRestriction() != null && !scholarship.getMajorRestriction().isEmpty()) {
-				// 전공 제한 로직은 User 도메인에 전공 정보가 추가된 후 구현
-				// 현재는 "전체" 또는 빈 값인 경우만 통과
-				if (!scholarship.getMajorRestriction().equals("전체") && !scholarship.getMajorRestriction().equals("제한없음")) {
-					// 추후 사용자 전공 정보와 비교 로직 추가
-				}
-			}
-			
-			return true;
-			
-		} catch (Exception e) {
-			// 필터링 오류 시 기본적으로 포함
-			System.err.println("장학금 자격 확인 오류: " + e.getMessage());
-			return true;
-		}
-	}
-
 	/**
 	 * 카테고리 목록 조회 (장학금 타입 기반)
 	 */
@@ -736,11 +683,10 @@ public class ScholarshipService {
 				"공로/활동",    // ACTIVITY
 				"기타"         // OTHER
 			);
-			
-			System.out.println("📋 Available categories: " + categories);
+
 			return categories;
 		} catch (Exception e) {
-			System.err.println("❌ 카테고리 조회 실패: " + e.getMessage());
+			log.error("카테고리 조회 실패", e);
 			return Arrays.asList("성적우수", "생활지원", "공로/활동", "기타");
 		}
 	}
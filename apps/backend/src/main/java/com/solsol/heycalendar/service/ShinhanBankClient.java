@@ -0,0 +1,256 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.config.ShinhanClientProperties;
+import com.solsol.heycalendar.exception.BankCallRejectedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 신한은행 API 전용 HTTP 클라이언트.
+ *
+ * keep-alive 커넥션 풀을 공유하고, API 별 응답 타임아웃과 동시 호출 제한(bulkhead)을 둔다.
+ * 은행 응답이 느려도 대기 스레드 수가 maxConcurrentCalls 를 넘지 않고, 한도를 넘는 호출은 바로 실패한다.
+ * 입금처럼 멱등하지 않은 호출이 있으므로 자동 재시도는 하지 않는다.
+ * 호출 시간은 shinhan.api{api, outcome} 타이머로, 풀/동시 호출 현황은 shinhan.client.* 게이지로 노출한다.
+ */
+@Slf4j
+@Component
+public class ShinhanBankClient implements DisposableBean {
+
+    /**
+     * 호출하는 신한은행 API (apiName 은 타임아웃 설정과 통계의 키)
+     */
+    @Getter
+    public enum BankApi {
+        MEMBER("member", "/ssafy/api/v1/member/"),
+        MEMBER_SEARCH("memberSearch", "/ssafy/api/v1/member/search"),
+        CREATE_ACCOUNT("createDemandDepositAccount", "/ssafy/api/v1/edu/demandDeposit/createDemandDepositAccount"),
+        BALANCE("inquireDemandDepositAccountBalance", "/ssafy/api/v1/edu/demandDeposit/inquireDemandDepositAccountBalance"),
+        TRANSACTION_HISTORY("inquireTransactionHistoryList", "/ssafy/api/v1/edu/demandDeposit/inquireTransactionHistoryList"),
+        DEPOSIT("updateDemandDepositAccountDeposit", "/ssafy/api/v1/edu/demandDeposit/updateDemandDepositAccountDeposit");
+
+        private final String apiName;
+        private final String path;
+
+        BankApi(String apiName, String path) {
+            this.apiName = apiName;
+            this.path = path;
+        }
+    }
+
+    private static final Map<String, BankApi> BY_PATH = Arrays.stream(BankApi.values())
+            .collect(Collectors.toMap(BankApi::getPath, Function.identity()));
+
+    private final ShinhanClientProperties props;
+    private final String baseUrl;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final Semaphore bulkhead;
+    private final Map<BankApi, ApiMetrics> metrics = new EnumMap<>(BankApi.class);
+    private final MeterRegistry meterRegistry;
+
+    public ShinhanBankClient(ShinhanClientProperties props, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.props = props;
+        this.baseUrl = props.getBaseUrl().endsWith("/")
+                ? props.getBaseUrl().substring(0, props.getBaseUrl().length() - 1)
+                : props.getBaseUrl();
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(props.getMaxConnections())
+                .setMaxConnPerRoute(props.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(props.getConnectTimeoutMs()))
+                        // 오래 쉰 커넥션은 재사용 전에 확인 (은행 측에서 끊은 keep-alive 커넥션 대비)
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(props.getIdleEvictSeconds()))
+                .disableAutomaticRetries()
+                .build();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        // API 별 응답 타임아웃은 요청마다 RequestConfig 로 지정
+        factory.setHttpContextFactory((method, uri) -> {
+            BankApi api = BY_PATH.get(uri.getPath());
+            int readTimeoutMs = api == null ? props.getReadTimeoutMs() : props.readTimeoutFor(api.getApiName());
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(props.getConnectionRequestTimeoutMs()))
+                    .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                    .build());
+            return context;
+        });
+        this.restTemplate = new RestTemplate(factory);
+
+        this.bulkhead = new Semaphore(props.getMaxConcurrentCalls());
+        for (BankApi api : BankApi.values()) {
+            metrics.put(api, new ApiMetrics());
+        }
+
+        Gauge.builder("shinhan.client.connections.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .register(meterRegistry);
+        Gauge.builder("shinhan.client.connections.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                .register(meterRegistry);
+        Gauge.builder("shinhan.client.calls.in-flight", bulkhead, b -> props.getMaxConcurrentCalls() - b.availablePermits())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 신한은행 API POST 호출. 동시 호출 한도를 넘으면 보내지 않고 BankCallRejectedException,
+     * HTTP 오류/타임아웃은 RestTemplate 예외 그대로 던진다.
+     */
+    public <T> ResponseEntity<T> post(BankApi api, HttpEntity<?> entity, Class<T> responseType) {
+        ApiMetrics apiMetrics = metrics.get(api);
+        try {
+            acquire(api, apiMetrics);
+        } catch (RuntimeException e) {
+            timer(api, "REJECTED").record(0, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+
+        long startedAt = System.nanoTime();
+        String outcome = "SUCCESS";
+        try {
+            return restTemplate.postForEntity(url(api), entity, responseType);
+        } catch (ResourceAccessException e) {
+            // 커넥션/풀 대기/응답 타임아웃은 모두 InterruptedIOException 계열
+            if (e.getCause() instanceof InterruptedIOException) {
+                apiMetrics.timeouts.increment();
+                outcome = "TIMEOUT";
+                log.warn("신한은행 API 타임아웃 - api: {}, {}", api.getApiName(), e.getMessage());
+            } else {
+                outcome = "ERROR";
+            }
+            apiMetrics.failures.increment();
+            throw e;
+        } catch (RuntimeException e) {
+            apiMetrics.failures.increment();
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            apiMetrics.record(elapsedNanos / 1_000_000);
+            timer(api, outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            bulkhead.release();
+        }
+    }
+
+    private Timer timer(BankApi api, String outcome) {
+        return Timer.builder("shinhan.api")
+                .description("신한은행 API 호출 시간")
+                .tag("api", api.getApiName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public String url(BankApi api) {
+        return baseUrl + api.getPath();
+    }
+
+    public Stats getStats() {
+        PoolStats pool = connectionManager.getTotalStats();
+        List<ApiStats> apis = Arrays.stream(BankApi.values())
+                .map(api -> metrics.get(api).snapshot(api.getApiName()))
+                .toList();
+        return new Stats(
+                new ConnectionStats(pool.getLeased(), pool.getAvailable(), pool.getPending(), pool.getMax(),
+                        props.getMaxConcurrentCalls() - bulkhead.availablePermits(), props.getMaxConcurrentCalls()),
+                apis
+        );
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        httpClient.close();
+    }
+
+    private void acquire(BankApi api, ApiMetrics apiMetrics) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(props.getBulkheadWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BankCallRejectedException("신한은행 API 호출 대기 중 인터럽트: " + api.getApiName(), e);
+        }
+        if (!acquired) {
+            apiMetrics.rejected.increment();
+            log.warn("신한은행 API 동시 호출 한도 초과 - api: {}, 한도: {}", api.getApiName(), props.getMaxConcurrentCalls());
+            throw new BankCallRejectedException("신한은행 API 동시 호출 한도를 초과했습니다: " + api.getApiName());
+        }
+    }
+
+    private static final class ApiMetrics {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+
+        void record(long elapsedMillis) {
+            calls.increment();
+            totalMillis.add(elapsedMillis);
+            maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+        }
+
+        ApiStats snapshot(String apiName) {
+            long count = calls.sum();
+            return new ApiStats(apiName, count, failures.sum(), timeouts.sum(), rejected.sum(),
+                    count == 0 ? 0 : totalMillis.sum() / count, maxMillis.get());
+        }
+    }
+
+    /**
+     * API 별 호출 통계 (rejected 는 동시 호출 한도로 보내지 못한 건수, calls 에 포함되지 않음)
+     */
+    public record ApiStats(String apiName, long calls, long failures, long timeouts, long rejected,
+                           long avgMillis, long maxMillis) {
+    }
+
+    /**
+     * 커넥션 풀과 동시 호출 현황
+     */
+    public record ConnectionStats(int leased, int available, int pending, int maxConnections,
+                                  int inFlight, int maxConcurrentCalls) {
+    }
+
+    public record Stats(ConnectionStats pool, List<ApiStats> apis) {
+    }
+}
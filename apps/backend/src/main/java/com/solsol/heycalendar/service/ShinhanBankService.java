@@ -3,7 +3,7 @@ package com.solsol.heycalendar.service;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.solsol.heycalendar.mapper.UserMapper;
+import com.solsol.heycalendar.service.ShinhanBankClient.BankApi;
 import lombok.Builder;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +17,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
 import java.security.SecureRandom;
 import java.time.LocalDate;
@@ -32,8 +31,7 @@ import java.util.Random;
 @Transactional
 public class ShinhanBankService {
 
-    private final UserMapper userMapper;
-    private final RestTemplate restTemplate;
+    private final ShinhanBankClient bankClient;
     private final ObjectMapper objectMapper;
 
     @Value("${shinhan.api.key}")
@@ -42,12 +40,6 @@ public class ShinhanBankService {
     @Value("${shinhan.account.type.unique.no}")
     private String accountTypeUniqueNo;
 
-    private static final String MEMBER_API_URL = "https://finopenapi.ssafy.io/ssafy/api/v1/member/";
-    private static final String ACCOUNT_API_URL = "https://finopenapi.ssafy.io/ssafy/api/v1/edu/demandDeposit/createDemandDepositAccount";
-    private static final String BALANCE_API_URL = "https://finopenapi.ssafy.io/ssafy/api/v1/edu/demandDeposit/inquireDemandDepositAccountBalance";
-    private static final String TRANSACTION_API_URL = "https://finopenapi.ssafy.io/ssafy/api/v1/edu/demandDeposit/inquireTransactionHistoryList";
-    private static final String DEPOSIT_API_URL = "https://finopenapi.ssafy.io/ssafy/api/v1/edu/demandDeposit/updateDemandDepositAccountDeposit";
-
     @Data
     @Builder
     public static class MemberCreationRequest {
@@ -214,40 +206,12 @@ public class ShinhanBankService {
     }
 
 
-    public void createMemberAndAccount(String userId, String userNm) {
-        log.info("===== Shinhan Bank 통합 시작: userId={} =====", userId);
-        log.info("🔧 환경설정 확인 - API Key: {}, Account Type: {}", 
-            apiKey != null ? "설정됨" : "❌ 미설정", 
-            accountTypeUniqueNo != null ? "설정됨" : "❌ 미설정");
-        
-        String userKey = null;
-        String accountNo = null;
-
-        try {
-            log.info("-> Member 생성 시도: userId={}", userId);
-            userKey = createMember(userId);
-            log.info("✅ Member 생성 성공: userId={}, userKey={}", userId, userKey);
-
-        } catch (Exception e) {
-            log.error("❌ Member 생성 실패: userId={}", userId, e);
-            throw e;
-        }
-
-        try {
-            log.info("-> Account 생성 시도: userKey={}", userKey);
-            accountNo = createAccount(userKey);
-            log.info("✅ Account 생성 성공: userKey={}, accountNo={}", userKey, accountNo);
-
-        } catch (Exception e) {
-            log.error("❌ Account 생성 실패: userKey={}", userKey, e);
-            throw e;
-        }
-
-        // DB 업데이트를 별도 트랜잭션에서 처리
-        updateUserBankInfo(userId, userKey, accountNo);
-    }
-
-    private String createMember(String userId) {
+    /**
+     * 신한은행 회원 생성. 이미 가입된 사용자(E4002)면 기존 userKey 를 조회해 반환하므로 재시도해도 안전하다.
+     * 외부 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String createMember(String userId) {
         // 이메일 형식 검증
         if (!isValidEmail(userId)) {
             log.error("❌ 잘못된 이메일 형식: {}", userId);
@@ -264,9 +228,12 @@ public class ShinhanBankService {
         HttpEntity<MemberCreationRequest> entity = new HttpEntity<>(request, headers);
 
         try {
-            log.info("📡 Member API 호출 시도: URL={}", MEMBER_API_URL);
-            log.debug("Member API 호출: URL={}, request={}", MEMBER_API_URL, objectMapper.writeValueAsString(request));
-            ResponseEntity<MemberCreationResponse> response = restTemplate.postForEntity(MEMBER_API_URL, entity, MemberCreationResponse.class);
+            log.info("📡 Member API 호출 시도: URL={}", bankClient.url(BankApi.MEMBER));
+            if (log.isDebugEnabled()) {
+                // 요청 본문 직렬화는 debug 일 때만 (apiKey 는 로그 출력 단계에서 마스킹)
+                log.debug("Member API 호출: URL={}, request={}", bankClient.url(BankApi.MEMBER), objectMapper.writeValueAsString(request));
+            }
+            ResponseEntity<MemberCreationResponse> response = bankClient.post(BankApi.MEMBER, entity, MemberCreationResponse.class);
             MemberCreationResponse body = response.getBody();
 
             if (body == null || body.getUserKey() == null) {
@@ -280,8 +247,8 @@ public class ShinhanBankService {
             String resp = e.getResponseBodyAsString();
             log.error("❌ Member API 오류: userId={}, response={}", userId, resp);
             if (resp != null && resp.contains("E4002")) {
-                log.warn("User 이미 존재: userId={}", userId);
-                throw new RuntimeException("User already exists", e);
+                log.warn("User 이미 존재, 기존 userKey 조회: userId={}", userId);
+                return searchMember(userId);
             }
             throw new RuntimeException("Member creation failed", e);
         } catch (Exception e) {
@@ -290,7 +257,38 @@ public class ShinhanBankService {
         }
     }
 
-    private String createAccount(String userKey) {
+    private String searchMember(String userId) {
+        MemberCreationRequest request = MemberCreationRequest.builder()
+                .apiKey(apiKey)
+                .userId(userId)
+                .build();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<MemberCreationRequest> entity = new HttpEntity<>(request, headers);
+
+        try {
+            ResponseEntity<MemberCreationResponse> response = bankClient.post(BankApi.MEMBER_SEARCH, entity, MemberCreationResponse.class);
+            MemberCreationResponse body = response.getBody();
+
+            if (body == null || body.getUserKey() == null) {
+                log.warn("⚠️ Member 조회 API 응답 이상: userId={}", userId);
+                throw new RuntimeException("Invalid response from Shinhan Bank member search API");
+            }
+
+            return body.getUserKey();
+
+        } catch (Exception e) {
+            log.error("❌ Member 조회 예외: userId={}", userId, e);
+            throw new RuntimeException("Member search failed", e);
+        }
+    }
+
+    /**
+     * 수시입출금 계좌 생성 (트랜잭션 밖에서 실행)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String createAccount(String userKey) {
         String currentDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         String currentTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
         String txnNo = generateInstitutionTransactionUniqueNo();
@@ -317,9 +315,12 @@ public class ShinhanBankService {
         HttpEntity<AccountCreationRequest> entity = new HttpEntity<>(request, headers);
 
         try {
-            log.info("📡 Account API 호출 시도: URL={}", ACCOUNT_API_URL);
-            log.debug("Account API 호출: URL={}, request={}", ACCOUNT_API_URL, objectMapper.writeValueAsString(request));
-            ResponseEntity<AccountCreationResponse> response = restTemplate.postForEntity(ACCOUNT_API_URL, entity, AccountCreationResponse.class);
+            log.info("📡 Account API 호출 시도: URL={}", bankClient.url(BankApi.CREATE_ACCOUNT));
+            if (log.isDebugEnabled()) {
+                // 요청 본문 직렬화는 debug 일 때만 (apiKey 는 로그 출력 단계에서 마스킹)
+                log.debug("Account API 호출: URL={}, request={}", bankClient.url(BankApi.CREATE_ACCOUNT), objectMapper.writeValueAsString(request));
+            }
+            ResponseEntity<AccountCreationResponse> response = bankClient.post(BankApi.CREATE_ACCOUNT, entity, AccountCreationResponse.class);
             AccountCreationResponse body = response.getBody();
 
             if (body == null || body.getRec() == null || body.getRec().getAccountNo() == null) {
@@ -335,32 +336,16 @@ public class ShinhanBankService {
         }
     }
 
-    private String generateInstitutionTransactionUniqueNo() {
+    /**
+     * 기관거래고유번호 (20자리 숫자). 입금처럼 결과를 대사해야 하는 호출은 미리 만들어 저장해 두고 넘긴다.
+     */
+    public String generateInstitutionTransactionUniqueNo() {
         SecureRandom random = new SecureRandom();
         StringBuilder sb = new StringBuilder(20);
         for (int i = 0; i < 20; i++) sb.append(random.nextInt(10));
         return sb.toString();
     }
     
-    /**
-     * 사용자 은행 정보 업데이트 (별도 트랜잭션)
-     */
-    @Transactional
-    private void updateUserBankInfo(String userId, String userKey, String accountNo) {
-        try {
-            int updated = userMapper.updateUserKeyAndAccountByUserId(userId, userKey, accountNo);
-            if (updated != 1) {
-                log.error("❌ DB 업데이트 실패: userId={}, userKey={}, accountNo={}", userId, userKey, accountNo);
-                throw new IllegalStateException("Failed to update user with userKey and accountNo");
-            }
-            log.info("===== Shinhan Bank 통합 완료: userId={}, userKey={}, accountNo={} =====", userId, userKey, accountNo);
-
-        } catch (Exception e) {
-            log.error("❌ DB 저장 실패: userId={}", userId, e);
-            throw e;
-        }
-    }
-
     /**
      * 계좌 잔액 조회
      */
@@ -393,8 +378,8 @@ public class ShinhanBankService {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<BalanceInquiryRequest> entity = new HttpEntity<>(request, headers);
 
-            ResponseEntity<BalanceInquiryResponse> response = restTemplate.postForEntity(
-                    BALANCE_API_URL, entity, BalanceInquiryResponse.class);
+            ResponseEntity<BalanceInquiryResponse> response = bankClient.post(
+                    BankApi.BALANCE, entity, BalanceInquiryResponse.class);
 
             log.info("✅ 신한은행 계좌 잔액 조회 성공 - accountNo: {}", accountNo);
             return response.getBody();
@@ -442,8 +427,8 @@ public class ShinhanBankService {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<TransactionHistoryRequest> entity = new HttpEntity<>(request, headers);
 
-            ResponseEntity<TransactionHistoryResponse> response = restTemplate.postForEntity(
-                    TRANSACTION_API_URL, entity, TransactionHistoryResponse.class);
+            ResponseEntity<TransactionHistoryResponse> response = bankClient.post(
+                    BankApi.TRANSACTION_HISTORY, entity, TransactionHistoryResponse.class);
 
             TransactionHistoryResponse body = response.getBody();
             log.info("✅ 신한은행 거래 내역 조회 성공 - accountNo: {}, 조회건수: {}", 
@@ -460,13 +445,20 @@ public class ShinhanBankService {
      * 계좌 입금 (관리자용)
      */
     public DepositResponse depositToAccount(String userKey, String accountNo, Long amount, String summary) {
+        return depositToAccount(userKey, accountNo, amount, summary, generateInstitutionTransactionUniqueNo());
+    }
+
+    /**
+     * 계좌 입금 - 호출자가 저장해 둔 기관거래고유번호 사용 (일괄 환전용, 트랜잭션 밖에서 실행)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DepositResponse depositToAccount(String userKey, String accountNo, Long amount, String summary, String txnNo) {
         try {
             log.info("🏦 신한은행 계좌 입금 요청 - userKey: {}, accountNo: {}, amount: {}", 
                     userKey, accountNo, amount);
             
             String currentDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
             String currentTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
-            String txnNo = generateInstitutionTransactionUniqueNo();
 
             Header header = Header.builder()
                     .apiName("updateDemandDepositAccountDeposit")
@@ -491,8 +483,8 @@ public class ShinhanBankService {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<DepositRequest> entity = new HttpEntity<>(request, headers);
 
-            ResponseEntity<DepositResponse> response = restTemplate.postForEntity(
-                    DEPOSIT_API_URL, entity, DepositResponse.class);
+            ResponseEntity<DepositResponse> response = bankClient.post(
+                    BankApi.DEPOSIT, entity, DepositResponse.class);
 
             log.info("✅ 신한은행 계좌 입금 성공 - accountNo: {}, amount: {}", accountNo, amount);
             return response.getBody();
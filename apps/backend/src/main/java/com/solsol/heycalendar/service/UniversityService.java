@@ -18,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -28,6 +29,8 @@ import java.util.stream.Collectors;
  * 
  * Handles business logic for university, college, and department management.
  * Provides hierarchical data management and cascade operations.
+ * Read operations are served from the in-memory {@link AffiliationDirectory} snapshot;
+ * every write invalidates it within the same transaction.
  */
 @Slf4j
 @Service
@@ -38,15 +41,17 @@ public class UniversityService {
     private final UniversityMapper universityMapper;
     private final CollegeMapper collegeMapper;
     private final DepartmentMapper departmentMapper;
+    private final AffiliationDirectory affiliationDirectory;
     
     /**
      * Get all universities
      * 
      * @return List of university responses
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<UniversityResponse> getAllUniversities() {
         log.debug("Fetching all universities");
-        List<University> universities = universityMapper.findAll();
+        List<University> universities = affiliationDirectory.get().universities();
         return universities.stream()
                 .map(this::convertToUniversityResponse)
                 .collect(Collectors.toList());
@@ -59,9 +64,10 @@ public class UniversityService {
      * @return University response
      * @throws IllegalArgumentException if university not found
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UniversityResponse getUniversityById(String univNm) {
         log.debug("Fetching university with ID: {}", univNm);
-        University university = findUniversityByIdOrThrow(univNm);
+        University university = requireCachedUniversity(affiliationDirectory.get(), univNm);
         return convertToUniversityResponse(university);
     }
     
@@ -72,14 +78,16 @@ public class UniversityService {
      * @return University hierarchy response
      * @throws IllegalArgumentException if university not found
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UniversityHierarchyResponse getUniversityHierarchy(String univNm) {
         log.debug("Fetching university hierarchy for ID: {}", univNm);
-        University university = findUniversityByIdOrThrow(univNm);
-        List<College> colleges = collegeMapper.findByUniversityId(univNm);
+        AffiliationDirectory.Snapshot directory = affiliationDirectory.get();
+        University university = requireCachedUniversity(directory, univNm);
+        List<College> colleges = directory.colleges(univNm);
         
         List<UniversityHierarchyResponse.CollegeWithDepartments> collegeResponses = 
             colleges.stream().map(college -> {
-                List<Department> departments = departmentMapper.findByCollegeId(college.getCollegeNm(), univNm);
+                List<Department> departments = directory.departments(univNm, college.getCollegeNm());
                 List<DepartmentResponse> departmentResponses = departments.stream()
                         .map(this::convertToDepartmentResponse)
                         .collect(Collectors.toList());
@@ -121,6 +129,7 @@ public class UniversityService {
                 .build();
         
         universityMapper.insert(university);
+        affiliationDirectory.invalidate();
         log.info("Successfully created university: {}", request.getUnivNm());
         return convertToUniversityResponse(university);
     }
@@ -146,6 +155,7 @@ public class UniversityService {
                 .build();
         
         universityMapper.update(university);
+        affiliationDirectory.invalidate();
         log.info("Successfully updated university: {}", univNm);
         return convertToUniversityResponse(university);
     }
@@ -166,6 +176,7 @@ public class UniversityService {
         departmentMapper.deleteByUniversityId(univNm);
         collegeMapper.deleteByUniversityId(univNm);
         universityMapper.deleteById(univNm);
+        affiliationDirectory.invalidate();
         
         log.info("Successfully deleted university with cascade: {}", univNm);
     }
@@ -177,11 +188,13 @@ public class UniversityService {
      * @return List of college responses
      * @throws IllegalArgumentException if university not found
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CollegeResponse> getCollegesByUniversity(String univNm) {
         log.debug("Fetching colleges for university: {}", univNm);
         
-        findUniversityByIdOrThrow(univNm);
-        List<College> colleges = collegeMapper.findByUniversityId(univNm);
+        AffiliationDirectory.Snapshot directory = affiliationDirectory.get();
+        requireCachedUniversity(directory, univNm);
+        List<College> colleges = directory.colleges(univNm);
         
         return colleges.stream()
                 .map(this::convertToCollegeResponse)
@@ -213,6 +226,7 @@ public class UniversityService {
                 .build();
         
         collegeMapper.insert(college);
+        affiliationDirectory.invalidate();
         log.info("Successfully created college: {} in university: {}", request.getCollegeNm(), univNm);
         return convertToCollegeResponse(college);
     }
@@ -225,13 +239,17 @@ public class UniversityService {
      * @return List of department responses
      * @throws IllegalArgumentException if university or college not found
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<DepartmentResponse> getDepartmentsByCollege(String univNm, String collegeNm) {
         log.debug("Fetching departments for college: {} in university: {}", collegeNm, univNm);
         
-        findUniversityByIdOrThrow(univNm);
-        findCollegeByIdOrThrow(collegeNm, univNm);
+        AffiliationDirectory.Snapshot directory = affiliationDirectory.get();
+        requireCachedUniversity(directory, univNm);
+        if (directory.college(univNm, collegeNm) == null) {
+            throw new IllegalArgumentException("College with ID '" + collegeNm + "' not found in university '" + univNm + "'");
+        }
         
-        List<Department> departments = departmentMapper.findByCollegeId(collegeNm, univNm);
+        List<Department> departments = directory.departments(univNm, collegeNm);
         
         return departments.stream()
                 .map(this::convertToDepartmentResponse)
@@ -266,12 +284,21 @@ public class UniversityService {
                 .build();
         
         departmentMapper.insert(department);
+        affiliationDirectory.invalidate();
         log.info("Successfully created department: {} in college: {} in university: {}", request.getDeptNm(), collegeNm, univNm);
         return convertToDepartmentResponse(department);
     }
     
     // Helper methods
     
+    private University requireCachedUniversity(AffiliationDirectory.Snapshot directory, String univNm) {
+        University university = directory.university(univNm);
+        if (university == null) {
+            throw new IllegalArgumentException("university with ID '" + univNm + "' not found");
+        }
+        return university;
+    }
+    
     private University findUniversityByIdOrThrow(String univNm) {
         University university = universityMapper.findById(univNm);
         if (university == null) {
@@ -11,6 +11,7 @@ import com.solsol.heycalendar.dto.request.PasswordChangeRequest;
 import com.solsol.heycalendar.dto.request.UserInfoUpdateRequest;
 import com.solsol.heycalendar.dto.response.UserInfoResponse;
 import com.solsol.heycalendar.mapper.UserMapper;
+import com.solsol.heycalendar.security.PrincipalCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,7 @@ public class UserService {
 
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     /**
      * 사용자 정보 조회
@@ -57,6 +59,7 @@ public class UserService {
         if (updated != 1) {
             throw new IllegalStateException("Failed to update user info");
         }
+        principalCache.evict(user.getUserNm());
 
         // 수정된 정보 다시 조회해서 반환
         return getUserInfo(userId);
@@ -82,6 +85,7 @@ public class UserService {
         if (updated != 1) {
             throw new IllegalStateException("Failed to update password");
         }
+        principalCache.evict(user.getUserNm());
 
         log.info("Password changed for user: {}", userId);
     }
@@ -0,0 +1,211 @@
+package com.solsol.heycalendar.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일시스템 대체 저장소 (storage.mode=local, S3 없이 개발/테스트할 때).
+ *
+ * 객체는 root/{key} 에, 진행 중인 멀티파트 파트는 root/.multipart/{uploadId}/{partNumber} 에 둔다.
+ * ETag 는 S3 와 같은 규칙(단일: 본문 MD5, 멀티파트: 파트 MD5 를 이어 붙인 값의 MD5 + "-파트 수")으로 만든다.
+ * headObject 는 크기만 알려 주고 ETag 는 null 이다.
+ */
+@Slf4j
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String MULTIPART_DIR = ".multipart";
+
+    private final Path root;
+    private final Path multipartRoot;
+
+    public LocalObjectStorage(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.multipartRoot = this.root.resolve(MULTIPART_DIR);
+        try {
+            Files.createDirectories(multipartRoot);
+        } catch (IOException e) {
+            throw new IllegalStateException("로컬 저장소 디렉터리를 만들 수 없습니다: " + this.root, e);
+        }
+    }
+
+    @Override
+    public long minPartSize() {
+        return 1;
+    }
+
+    @Override
+    public String putObject(String key, String contentType, ByteBuffer body) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(multipartRoot, "put-", ".tmp");
+            write(temp, body);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return HexFormat.of().formatHex(md5(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 쓰기 실패 - key: " + key, e);
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) {
+        resolve(key);
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(multipartRoot.resolve(uploadId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("멀티파트 업로드 시작 실패 - key: " + key, e);
+        }
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, ByteBuffer body) {
+        try {
+            write(uploadDir(uploadId).resolve(String.valueOf(partNumber)), body);
+            return HexFormat.of().formatHex(md5(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException("파트 업로드 실패 - key: " + key + ", part: " + partNumber, e);
+        }
+    }
+
+    @Override
+    public String completeMultipartUpload(String key, String uploadId, List<String> partETags) {
+        Path target = resolve(key);
+        Path uploadDir = uploadDir(uploadId);
+        MessageDigest etagDigest = md5Digest();
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = uploadDir.resolve("complete.tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                for (int partNumber = 1; partNumber <= partETags.size(); partNumber++) {
+                    try (FileChannel in = FileChannel.open(uploadDir.resolve(String.valueOf(partNumber)), StandardOpenOption.READ)) {
+                        long size = in.size();
+                        long position = 0;
+                        while (position < size) {
+                            position += in.transferTo(position, size - position, out);
+                        }
+                    }
+                    etagDigest.update(HexFormat.of().parseHex(partETags.get(partNumber - 1)));
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("멀티파트 업로드 완료 실패 - key: " + key, e);
+        }
+        deleteRecursively(uploadDir);
+        return HexFormat.of().formatHex(etagDigest.digest()) + "-" + partETags.size();
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        Path dir = multipartRoot.resolve(uploadId).normalize();
+        if (multipartRoot.equals(dir.getParent())) {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> headObject(String key) {
+        Path path = resolve(key);
+        try {
+            return Files.isRegularFile(path) ? Optional.of(new StoredObject(key, Files.size(path), null)) : Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 조회 실패 - key: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream getObject(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("객체를 찾을 수 없습니다: " + key, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 읽기 실패 - key: " + key, e);
+        }
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 삭제 실패 - key: " + key, e);
+        }
+    }
+
+    /**
+     * 객체 키를 root 아래 경로로 변환 (root 밖이나 멀티파트 작업 디렉터리를 가리키는 키는 거부)
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.startsWith(multipartRoot)) {
+            throw new IllegalArgumentException("잘못된 객체 키입니다: " + key);
+        }
+        return path;
+    }
+
+    private Path uploadDir(String uploadId) {
+        Path dir = multipartRoot.resolve(uploadId).normalize();
+        if (!dir.getParent().equals(multipartRoot) || !Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("진행 중인 멀티파트 업로드가 없습니다: " + uploadId);
+        }
+        return dir;
+    }
+
+    private static void write(Path path, ByteBuffer body) throws IOException {
+        ByteBuffer view = body.duplicate();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+        }
+    }
+
+    private static byte[] md5(ByteBuffer body) {
+        MessageDigest digest = md5Digest();
+        digest.update(body.duplicate());
+        return digest.digest();
+    }
+
+    private static MessageDigest md5Digest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("로컬 저장소 임시 파일 삭제 실패 - {}", path, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("로컬 저장소 임시 디렉터리 삭제 실패 - {}", dir, e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.solsol.heycalendar.storage;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 서류 객체 저장소 (S3 또는 로컬 파일시스템 대체 저장소).
+ *
+ * 업로드 프록시는 고정 크기 버퍼 단위로 멀티파트 업로드하고, 다운로드 프록시는 스트림으로 읽는다.
+ * 전달받은 ByteBuffer 의 position/limit 은 바꾸지 않는다 (호출 측이 버퍼를 재사용한다).
+ * 반환하는 ETag 는 따옴표를 뺀 값이다.
+ */
+public interface ObjectStorage {
+
+    /**
+     * 마지막 파트를 제외한 멀티파트 최소 크기
+     */
+    long minPartSize();
+
+    /**
+     * 단일 요청 업로드 후 ETag 반환
+     */
+    String putObject(String key, String contentType, ByteBuffer body);
+
+    /**
+     * 멀티파트 업로드 시작 후 uploadId 반환
+     */
+    String createMultipartUpload(String key, String contentType);
+
+    /**
+     * 파트 업로드 후 파트 ETag 반환 (partNumber 는 1부터)
+     */
+    String uploadPart(String key, String uploadId, int partNumber, ByteBuffer body);
+
+    /**
+     * 파트 ETag 목록(파트 번호 순)으로 업로드를 마치고 객체 ETag 반환
+     */
+    String completeMultipartUpload(String key, String uploadId, List<String> partETags);
+
+    /**
+     * 진행 중인 멀티파트 업로드 취소 (실패해도 예외를 던지지 않는다)
+     */
+    void abortMultipartUpload(String key, String uploadId);
+
+    /**
+     * 저장소가 확인한 객체 크기/ETag (없으면 empty)
+     */
+    Optional<StoredObject> headObject(String key);
+
+    /**
+     * 객체 본문 스트림 (호출 측이 닫는다)
+     */
+    InputStream getObject(String key);
+
+    void deleteObject(String key);
+
+    record StoredObject(String key, long sizeBytes, String etag) {
+    }
+}
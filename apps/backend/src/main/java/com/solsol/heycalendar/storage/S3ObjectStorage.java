@@ -0,0 +1,143 @@
+package com.solsol.heycalendar.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 객체 저장소
+ */
+@Slf4j
+public class S3ObjectStorage implements ObjectStorage {
+
+    // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucketName;
+
+    public S3ObjectStorage(S3Client s3Client, String bucketName) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public long minPartSize() {
+        return MIN_PART_SIZE;
+    }
+
+    @Override
+    public String putObject(String key, String contentType, ByteBuffer body) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+        return unquote(s3Client.putObject(request, requestBody(body, contentType)).eTag());
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) {
+        CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+        return s3Client.createMultipartUpload(request).uploadId();
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, ByteBuffer body) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) body.remaining())
+                .build();
+        return unquote(s3Client.uploadPart(request, requestBody(body, null)).eTag());
+    }
+
+    @Override
+    public String completeMultipartUpload(String key, String uploadId, List<String> partETags) {
+        List<CompletedPart> parts = new ArrayList<>(partETags.size());
+        for (int i = 0; i < partETags.size(); i++) {
+            parts.add(CompletedPart.builder().partNumber(i + 1).eTag(partETags.get(i)).build());
+        }
+        CompleteMultipartUploadRequest request = CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build();
+        return unquote(s3Client.completeMultipartUpload(request).eTag());
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            // 남은 파트는 버킷 수명 주기 규칙(미완료 멀티파트 정리)이 치운다
+            log.warn("멀티파트 업로드 취소 실패 - key: {}, uploadId: {}", key, uploadId, e);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> headObject(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return Optional.of(new StoredObject(key, response.contentLength(), unquote(response.eTag())));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream getObject(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    /**
+     * 버퍼를 복사하지 않고 읽는 요청 본문. 재시도 때마다 처음부터 다시 읽도록 매번 새 view 를 준다.
+     */
+    private static RequestBody requestBody(ByteBuffer body, String contentType) {
+        ByteBuffer view = body.duplicate();
+        return RequestBody.fromContentProvider(() -> new ByteBufferInputStream(view.duplicate()),
+                view.remaining(), contentType != null ? contentType : "application/octet-stream");
+    }
+
+    private static String unquote(String etag) {
+        return etag == null ? null : etag.replace("\"", "");
+    }
+}
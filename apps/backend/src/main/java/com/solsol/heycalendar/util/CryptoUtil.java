@@ -1,5 +1,7 @@
 package com.solsol.heycalendar.util;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -7,76 +9,161 @@ import org.springframework.stereotype.Component;
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * AES-GCM 암복호화.
+ *
+ * Cipher 는 스레드마다 한 번만 만들어 재사용하고, IV 는 블로킹되지 않는 DRBG 로 만든다.
+ * 저장 형식은 기존과 같은 Base64(IV + 암호문) 텍스트이며, DB 컬럼(VARBINARY)에는 그 바이트를 그대로 저장한다.
+ * 처리 시간은 crypto.operation{op} 타이머로 기록한다 (decryptAll 은 목록 한 번을 한 건으로 센다).
+ */
 @Component
 @Slf4j
 public class CryptoUtil {
 
     private final SecretKeySpec secretKey;
+    private final Timer encryptTimer;
+    private final Timer decryptTimer;
+    private final Timer decryptAllTimer;
     private static final String ALGORITHM = "AES";
     private static final String TRANSFORMATION = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 16;
 
-    public CryptoUtil(@Value("${solsol.crypto.secret-key-base64}") String secretKeyBase64) {
+    // getInstanceStrong() 은 엔트로피 풀 상태에 따라 블로킹될 수 있어 DRBG 를 공유해서 쓴다 (스레드 안전)
+    private static final SecureRandom IV_RANDOM = createIvRandom();
+
+    // 매 호출 Cipher.getInstance 대신 스레드별 인스턴스를 init 만 다시 해서 사용
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cipher 생성 실패: " + TRANSFORMATION, e);
+        }
+    });
+
+    public CryptoUtil(@Value("${solsol.crypto.secret-key-base64}") String secretKeyBase64, MeterRegistry meterRegistry) {
         byte[] keyBytes = Base64.getDecoder().decode(secretKeyBase64);
         this.secretKey = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.encryptTimer = timer(meterRegistry, "encrypt");
+        this.decryptTimer = timer(meterRegistry, "decrypt");
+        this.decryptAllTimer = timer(meterRegistry, "decryptAll");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String op) {
+        return Timer.builder("crypto.operation")
+                .description("AES-GCM 암복호화 시간")
+                .tag("op", op)
+                .register(meterRegistry);
     }
 
     /**
      * 문자열 암호화
      */
     public String encrypt(String plainText) {
+        return new String(encryptToBytes(plainText), StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 문자열 복호화
+     */
+    public String decrypt(String encryptedText) {
+        return decryptBytes(encryptedText.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 문자열 암호화 - VARBINARY 컬럼에 그대로 저장할 바이트 반환
+     */
+    public byte[] encryptToBytes(String plainText) {
+        long startedAt = System.nanoTime();
         try {
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            
             byte[] iv = new byte[GCM_IV_LENGTH];
-            SecureRandom.getInstanceStrong().nextBytes(iv);
-            
-            GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, gcmSpec);
-            
-            byte[] cipherText = cipher.doFinal(plainText.getBytes("UTF-8"));
-            
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(cipherText);
-            
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
-            
+            IV_RANDOM.nextBytes(iv);
+
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv));
+
+            byte[] input = plainText.getBytes(StandardCharsets.UTF_8);
+            byte[] output = new byte[GCM_IV_LENGTH + cipher.getOutputSize(input.length)];
+            System.arraycopy(iv, 0, output, 0, GCM_IV_LENGTH);
+            cipher.doFinal(input, 0, input.length, output, GCM_IV_LENGTH);
+
+            return Base64.getEncoder().encode(output);
+
         } catch (Exception e) {
+            // 실패한 Cipher 상태가 다음 호출에 남지 않도록 버린다
+            CIPHER.remove();
             log.error("암호화 실패", e);
             throw new RuntimeException("암호화 중 오류가 발생했습니다.", e);
+        } finally {
+            encryptTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
     }
 
     /**
-     * 문자열 복호화
+     * VARBINARY 컬럼 값 복호화
      */
-    public String decrypt(String encryptedText) {
+    public String decryptBytes(byte[] encrypted) {
+        long startedAt = System.nanoTime();
         try {
-            byte[] decodedData = Base64.getDecoder().decode(encryptedText);
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decodedData);
-            
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
-            
-            byte[] cipherText = new byte[byteBuffer.remaining()];
-            byteBuffer.get(cipherText);
-            
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, gcmSpec);
-            
-            byte[] plainText = cipher.doFinal(cipherText);
-            return new String(plainText, "UTF-8");
-            
+            return doDecrypt(encrypted);
         } catch (Exception e) {
+            CIPHER.remove();
             log.error("복호화 실패", e);
             throw new RuntimeException("복호화 중 오류가 발생했습니다.", e);
+        } finally {
+            decryptTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 목록 조회용 일괄 복호화. 같은 스레드의 Cipher 하나로 처리하며,
+     * null 이거나 복호화에 실패한 항목은 결과에서 null 로 둔다 (입력과 같은 순서/크기).
+     */
+    public List<String> decryptAll(List<byte[]> encrypted) {
+        long startedAt = System.nanoTime();
+        List<String> result = new ArrayList<>(encrypted.size());
+        int failures = 0;
+        for (byte[] value : encrypted) {
+            if (value == null) {
+                result.add(null);
+                continue;
+            }
+            try {
+                result.add(doDecrypt(value));
+            } catch (Exception e) {
+                CIPHER.remove();
+                failures++;
+                result.add(null);
+            }
+        }
+        if (failures > 0) {
+            log.warn("일괄 복호화 중 {}건 실패 (전체 {}건)", failures, encrypted.size());
+        }
+        decryptAllTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private String doDecrypt(byte[] encrypted) throws Exception {
+        byte[] decoded = Base64.getDecoder().decode(encrypted);
+        Cipher cipher = CIPHER.get();
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH * 8, decoded, 0, GCM_IV_LENGTH));
+        return new String(cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH), StandardCharsets.UTF_8);
+    }
+
+    private static SecureRandom createIvRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            log.warn("DRBG 를 사용할 수 없어 기본 SecureRandom 으로 IV 생성");
+            return new SecureRandom();
         }
     }
-}
\ No newline at end of file
+}
@@ -20,6 +20,8 @@ CREATE TABLE users (
                        univNm      BIGINT                                                         NOT NULL
 );
 
+CREATE INDEX idx_users_univ_role_state ON users (univNm, role, state);
+
 -- =========================
 -- 2) UNIVERSITY / COLLEGE / DEPARTMENT
 -- =========================
@@ -151,6 +153,9 @@ CREATE TABLE application (
                              PRIMARY KEY (userNm, scholarshipNm)
 );
 
+-- 관리자 신청 목록 keyset 페이지 (applied_at DESC, userNm DESC, scholarshipNm DESC)
+CREATE INDEX idx_application_applied ON application (applied_at, userNm, scholarshipNm);
+
 -- =========================
 -- 5) APPLICATIONDOCUMENT (ALTER 반영본)
 --     - file_url / original_file_name 제거
@@ -168,6 +173,7 @@ CREATE TABLE applicationdocument (
                                      object_key_enc        BLOB                                NULL,
                                      file_name_enc         BLOB                                NULL,
                                      checksum_sha256       VARCHAR(64)                         NULL,
+                                     blob_id               BIGINT                              NULL,
                                      CONSTRAINT fk_appdoc_application
                                          FOREIGN KEY (userNm, scholarshipNm)
                                              REFERENCES application (userNm, scholarshipNm)
@@ -200,12 +206,23 @@ CREATE TABLE exchange (
                           exchangeNm   BIGINT                                   NOT NULL,
                           userNm       VARCHAR(20)                                   NOT NULL,
                           amount       INT                                      NULL,
-                          state        ENUM ('PENDING', 'APPROVED', 'REJECTED') NULL,
+                          state        ENUM ('PENDING', 'PROCESSING', 'APPROVED', 'REJECTED') NULL,
                           applied_at   TIMESTAMP                                NULL,
                           processed_at TIMESTAMP                                NULL,
+                          bank_txn_no  VARCHAR(20)                              NULL,
                           PRIMARY KEY (exchangeNm, userNm)
 );
 
+CREATE INDEX idx_exchange_state_applied ON exchange (state, applied_at);
+CREATE INDEX idx_exchange_user_applied ON exchange (userNm, applied_at, exchangeNm);
+
+-- exchange_id_sequence (환전 번호 발급 블록 카운터, 단일 행)
+CREATE TABLE exchange_id_sequence (
+    id               TINYINT NOT NULL PRIMARY KEY,
+    next_exchange_nm BIGINT  NOT NULL
+);
+INSERT INTO exchange_id_sequence (id, next_exchange_nm) VALUES (1, 1);
+
 -- mileage: ALTER 반영 (scholarshipNm/created_at/reason & unique(userNm,scholarshipNm))
 CREATE TABLE mileage (
                          `Key`          BIGINT AUTO_INCREMENT,
@@ -218,6 +235,19 @@ CREATE TABLE mileage (
                          CONSTRAINT unique_user_scholarship_mileage UNIQUE (userNm, scholarshipNm)
 );
 
+CREATE TABLE document_blob (
+                               id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+                               user_nm         VARCHAR(20)                        NOT NULL,
+                               checksum_sha256 CHAR(64)                           NULL,
+                               object_key_enc  VARBINARY(512)                     NOT NULL,
+                               size_bytes      BIGINT                             NULL,
+                               s3_etag         VARCHAR(80)                        NULL,
+                               ref_count       INT      DEFAULT 0                 NOT NULL,
+                               created_at      DATETIME DEFAULT CURRENT_TIMESTAMP NULL,
+                               updated_at      DATETIME DEFAULT CURRENT_TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+                               CONSTRAINT uk_document_blob_checksum UNIQUE (user_nm, checksum_sha256)
+);
+
 CREATE TABLE mybox (
                        id              BIGINT AUTO_INCREMENT PRIMARY KEY,
                        userNm          VARCHAR(20)                        NOT NULL,
@@ -226,6 +256,7 @@ CREATE TABLE mybox (
                        content_type    VARCHAR(100)                       NULL,
                        size_bytes      BIGINT                             NULL,
                        checksum_sha256 CHAR(64)                           NULL,
+                       blob_id         BIGINT                             NULL,
                        created_at      DATETIME DEFAULT CURRENT_TIMESTAMP NULL,
                        updated_at      DATETIME DEFAULT CURRENT_TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP
 );
@@ -234,7 +265,7 @@ CREATE TABLE mybox_audit (
                              id              BIGINT AUTO_INCREMENT PRIMARY KEY,
                              mybox_id        BIGINT                                           NOT NULL,
                              actor_userNm    VARCHAR(20)                                      NULL,
-                             action          ENUM ('CREATE', 'DOWNLOAD_URL_ISSUED', 'DELETE') NULL,
+                             action          ENUM ('CREATE', 'DOWNLOAD_URL_ISSUED', 'DOWNLOAD', 'DELETE') NULL,
                              object_key_enc  VARBINARY(512)                                   NULL,
                              file_name_enc   VARBINARY(512)                                   NULL,
                              size_bytes      BIGINT                                           NULL,
@@ -256,15 +287,150 @@ CREATE TABLE notification (
                               related_id   BIGINT UNSIGNED                                                                 NULL,
                               is_read      TINYINT(1) DEFAULT 0                                                            NULL,
                               action_route VARCHAR(255)                                                                    NULL,
+                              dedup_key    VARCHAR(100)                                                                    NULL,
                               created_at   DATETIME DEFAULT CURRENT_TIMESTAMP                                              NULL,
                               updated_at   DATETIME DEFAULT CURRENT_TIMESTAMP                                              NULL ON UPDATE CURRENT_TIMESTAMP
 ) CHARSET = utf8mb4;
 
-CREATE INDEX idx_user_nm    ON notification (user_nm);
-CREATE INDEX idx_type       ON notification (type);
-CREATE INDEX idx_is_read    ON notification (is_read);
+CREATE UNIQUE INDEX uk_notification_dedup ON notification (user_nm, dedup_key);
+CREATE INDEX idx_notification_user_created      ON notification (user_nm, created_at, id);
+CREATE INDEX idx_notification_user_read_created ON notification (user_nm, is_read, created_at, id);
+CREATE INDEX idx_notification_type_read_created ON notification (type, is_read, created_at);
 CREATE INDEX idx_created_at ON notification (created_at);
 
+CREATE TABLE notification_archive (
+                                      id           BIGINT UNSIGNED                                                                 NOT NULL PRIMARY KEY,
+                                      user_nm      VARCHAR(20)                                                                     NOT NULL,
+                                      type         ENUM('SCHOLARSHIP_RESULT', 'DEADLINE_REMINDER', 'NEW_SCHOLARSHIP', 'SCHEDULE')  NOT NULL,
+                                      title        VARCHAR(255)                                                                    NOT NULL,
+                                      message      TEXT                                                                            NOT NULL,
+                                      related_id   BIGINT UNSIGNED                                                                 NULL,
+                                      is_read      TINYINT(1)                                                                      NULL,
+                                      action_route VARCHAR(255)                                                                    NULL,
+                                      dedup_key    VARCHAR(100)                                                                    NULL,
+                                      created_at   DATETIME                                                                        NULL,
+                                      updated_at   DATETIME                                                                        NULL,
+                                      archived_at  DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)                                        NOT NULL
+) CHARSET = utf8mb4 ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+
+CREATE INDEX idx_notification_archive_user ON notification_archive (user_nm, created_at);
+
+CREATE TABLE broadcast_notification (
+                                      id           BIGINT UNSIGNED AUTO_INCREMENT                                                  PRIMARY KEY,
+                                      type         ENUM('SCHOLARSHIP_RESULT', 'DEADLINE_REMINDER', 'NEW_SCHOLARSHIP', 'SCHEDULE')  NOT NULL,
+                                      title        VARCHAR(255)                                                                    NOT NULL,
+                                      message      TEXT                                                                            NOT NULL,
+                                      related_id   BIGINT UNSIGNED                                                                 NULL,
+                                      action_route VARCHAR(255)                                                                    NULL,
+                                      dedup_key    VARCHAR(100)                                                                    NOT NULL,
+                                      created_at   DATETIME DEFAULT CURRENT_TIMESTAMP                                              NOT NULL,
+                                      CONSTRAINT uk_broadcast_dedup_key UNIQUE (dedup_key)
+) CHARSET = utf8mb4;
+
+CREATE INDEX idx_broadcast_created ON broadcast_notification (created_at, id);
+
+CREATE TABLE broadcast_read_watermark (
+                                      user_nm      VARCHAR(20)     NOT NULL PRIMARY KEY,
+                                      last_read_id BIGINT UNSIGNED NOT NULL DEFAULT 0
+) CHARSET = utf8mb4;
+
+CREATE TABLE broadcast_receipt (
+                                      user_nm      VARCHAR(20)                              NOT NULL,
+                                      broadcast_id BIGINT UNSIGNED                          NOT NULL,
+                                      hidden       TINYINT(1) DEFAULT 0                     NOT NULL,
+                                      created_at   DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL,
+                                      PRIMARY KEY (user_nm, broadcast_id)
+) CHARSET = utf8mb4;
+
+CREATE INDEX idx_broadcast_receipt_broadcast ON broadcast_receipt (broadcast_id);
+
+CREATE TABLE notification_unread_counter (
+                                             user_nm      VARCHAR(20) NOT NULL PRIMARY KEY,
+                                             unread_count INT         NOT NULL DEFAULT 0,
+                                             updated_at   DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3)
+) CHARSET = utf8mb4;
+
+CREATE TABLE notification_outbox (
+                                     id              BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+                                     destination     VARCHAR(255)                             NOT NULL,
+                                     user_nm         VARCHAR(20)                              NULL,
+                                     payload         TEXT                                     NOT NULL,
+                                     status          ENUM('PENDING', 'SENT', 'FAILED')        NOT NULL DEFAULT 'PENDING',
+                                     attempts        INT                                      NOT NULL DEFAULT 0,
+                                     next_attempt_at DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL,
+                                     last_error      VARCHAR(500)                             NULL,
+                                     created_at      DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL,
+                                     sent_at         DATETIME(3)                              NULL
+) CHARSET = utf8mb4;
+
+CREATE INDEX idx_outbox_status_next ON notification_outbox (status, next_attempt_at);
+
+CREATE TABLE websocket_bus_message (
+                                       id          BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+                                       destination VARCHAR(255)                             NOT NULL,
+                                       user_nm     VARCHAR(20)                              NULL,
+                                       payload     TEXT                                     NOT NULL,
+                                       created_at  DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL
+) CHARSET = utf8mb4;
+
+CREATE INDEX idx_websocket_bus_created ON websocket_bus_message (created_at);
+
+CREATE TABLE scheduled_job (
+                               job_name         VARCHAR(100) NOT NULL PRIMARY KEY,
+                               owner            VARCHAR(100) NULL,
+                               lease_until      DATETIME(3)  NULL,
+                               last_started_at  DATETIME(3)  NULL,
+                               last_finished_at DATETIME(3)  NULL,
+                               last_status      VARCHAR(20)  NULL,
+                               last_error       VARCHAR(500) NULL,
+                               last_duration_ms BIGINT       NULL
+) CHARSET = utf8mb4;
+
+CREATE TABLE cache_version (
+                               cache_name VARCHAR(50) NOT NULL PRIMARY KEY,
+                               version    BIGINT      NOT NULL DEFAULT 0,
+                               updated_at DATETIME(3) NOT NULL
+) CHARSET = utf8mb4;
+
+CREATE TABLE bank_provisioning_job (
+                                       id              BIGINT UNSIGNED AUTO_INCREMENT               NOT NULL PRIMARY KEY,
+                                       user_nm         VARCHAR(20)                                  NOT NULL,
+                                       user_id         VARCHAR(100)                                 NOT NULL,
+                                       status          ENUM('PENDING', 'RUNNING', 'DONE', 'FAILED') NOT NULL DEFAULT 'PENDING',
+                                       attempts        INT                                          NOT NULL DEFAULT 0,
+                                       next_attempt_at DATETIME(3)                                  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+                                       lease_until     DATETIME(3)                                  NULL,
+                                       user_key        VARCHAR(100)                                 NULL,
+                                       account_no      VARCHAR(50)                                  NULL,
+                                       last_error      VARCHAR(500)                                 NULL,
+                                       created_at      DATETIME(3)                                  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+                                       finished_at     DATETIME(3)                                  NULL,
+                                       CONSTRAINT uk_bank_provisioning_user UNIQUE (user_nm)
+) CHARSET = utf8mb4;
+
+CREATE INDEX idx_bank_provisioning_status_next ON bank_provisioning_job (status, next_attempt_at);
+
+CREATE TABLE mileage_ledger (
+                                id         BIGINT UNSIGNED AUTO_INCREMENT                                                            NOT NULL PRIMARY KEY,
+                                user_nm    VARCHAR(20)                                                                               NOT NULL,
+                                entry_type ENUM('EARN', 'EXCHANGE_HOLD', 'EXCHANGE_APPROVE', 'EXCHANGE_RELEASE', 'EXCHANGE_PAYOUT') NOT NULL,
+                                amount     INT                                                                                       NOT NULL,
+                                ref_id     VARCHAR(40)                                                                               NOT NULL,
+                                created_at DATETIME(3)                                                                               NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+                                CONSTRAINT uk_mileage_ledger_ref UNIQUE (entry_type, ref_id, user_nm)
+) CHARSET = utf8mb4;
+
+CREATE INDEX idx_mileage_ledger_user ON mileage_ledger (user_nm, id);
+
+CREATE TABLE mileage_balance (
+                                 user_nm       VARCHAR(20) NOT NULL PRIMARY KEY,
+                                 total         INT         NOT NULL DEFAULT 0,
+                                 pending       INT         NOT NULL DEFAULT 0,
+                                 approved      INT         NOT NULL DEFAULT 0,
+                                 updated_at    DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+                                 reconciled_at DATETIME(3) NULL
+) CHARSET = utf8mb4;
+
 CREATE TABLE personalschedule (
                                   id             BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
                                   student_no     VARCHAR(20)                                NOT NULL,
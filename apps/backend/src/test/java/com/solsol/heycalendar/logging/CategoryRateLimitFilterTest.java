@@ -0,0 +1,60 @@
+package com.solsol.heycalendar.logging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CategoryRateLimitFilter 단위 테스트
+ */
+class CategoryRateLimitFilterTest {
+
+	LoggerContext context;
+	CategoryRateLimitFilter filter;
+	long now;
+
+	@BeforeEach
+	void setUp() {
+		context = new LoggerContext();
+		context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+		filter = new CategoryRateLimitFilter();
+		filter.addLimit("com.solsol.heycalendar.service=5");
+		filter.addLimit("com.solsol.heycalendar.service.NotificationService=2");
+		filter.setClock(() -> now);
+		filter.start();
+		now = 10_000;
+	}
+
+	@Test
+	@DisplayName("가장 긴 접두사 한도를 초 단위로 적용하고, WARN 이상과 꺼진 레벨, 한도 없는 로거는 세지 않는다")
+	void decide_limitsPerCategoryPerSecond() {
+		Logger notification = context.getLogger("com.solsol.heycalendar.service.NotificationService");
+		Logger other = context.getLogger("com.solsol.heycalendar.controller.UserController");
+		long dropped = CategoryRateLimitFilter.droppedCount();
+
+		assertThat(decide(notification, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+		assertThat(decide(notification, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+		assertThat(decide(notification, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+		assertThat(decide(notification, Level.INFO)).isEqualTo(FilterReply.DENY);
+		assertThat(decide(notification, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+		assertThat(filter.decide(null, notification, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+		for (int i = 0; i < 10; i++) {
+			assertThat(decide(other, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+		}
+		assertThat(CategoryRateLimitFilter.droppedCount() - dropped).isEqualTo(1);
+
+		now += 1_000;
+		assertThat(decide(notification, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+	}
+
+	private FilterReply decide(Logger logger, Level level) {
+		return filter.decide(null, logger, level, "message {}", new Object[] {1}, null);
+	}
+}
@@ -0,0 +1,46 @@
+package com.solsol.heycalendar.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogRedactor 마스킹 규칙 단위 테스트
+ */
+class LogRedactorTest {
+
+	@Test
+	@DisplayName("계좌번호는 끝 4자리만 남기고, 키/토큰/presigned 서명 값은 통째로 가린다")
+	void redact_masksAccountsAndSecrets() {
+		assertThat(LogRedactor.redact("계좌 입금 성공 - accountNo: 0016174648358792, amount: 50000"))
+			.isEqualTo("계좌 입금 성공 - accountNo: ****8792, amount: 50000");
+		assertThat(LogRedactor.redact("계좌: 110-123-456789"))
+			.isEqualTo("계좌: ****6789");
+		assertThat(LogRedactor.redact("body={\"accountNo\":\"0016174648358792\"}, 입금 계좌번호=1102345678901"))
+			.isEqualTo("body={\"accountNo\":\"****8792\"}, 입금 계좌번호=****8901");
+		assertThat(LogRedactor.redact("request={\"apiKey\":\"abc123\",\"userId\":\"s1@x.com\"}"))
+			.isEqualTo("request={\"apiKey\":\"****\",\"userId\":\"s1@x.com\"}");
+		assertThat(LogRedactor.redact("조회 - userKey: 8f1c-22aa, Authorization: Bearer eyJhbGci.x.y"))
+			.isEqualTo("조회 - userKey: ****, Authorization: Bearer ****");
+		assertThat(LogRedactor.redact("url=https://b.s3/k?X-Amz-Credential=AKIA%2F1&X-Amz-Signature=deadbeef"))
+			.isEqualTo("url=https://b.s3/k?X-Amz-Credential=****&X-Amz-Signature=****");
+	}
+
+	@Test
+	@DisplayName("날짜/ID 처럼 짧은 숫자와 가릴 값이 없는 메시지는 그대로 둔다")
+	void redact_keepsOrdinaryMessages() {
+		String message = "작업 종료 - job: notification-retention, 2025-09-01, id: 123456789, 42ms";
+
+		assertThat(LogRedactor.redact(message)).isSameAs(message);
+		assertThat(LogRedactor.redact(null)).isNull();
+	}
+
+	@Test
+	@DisplayName("계좌 키가 없는 긴 숫자(exchangeNm, 타임스탬프)는 계좌로 보지 않고 그대로 둔다")
+	void redact_keepsExchangeNmAndTimestamps() {
+		String message = "환전 승인 완료 - exchangeNm: 1726123456789001, userNm: s1, at: 1726123456789";
+
+		assertThat(LogRedactor.redact(message)).isSameAs(message);
+	}
+}
@@ -108,6 +108,32 @@ class JwtUtilTest {
 		assertThat(jwtUtil.isTokenExpired(token)).isFalse();
 	}
 
+	@Test
+	@DisplayName("parseAccessToken: 한 번 파싱한 클레임으로 사용자 정보 생성, 리프레시 토큰은 거부")
+	void parseAccessToken_buildsPrincipalFromClaims() {
+		AffiliationService aff = mock(AffiliationService.class);
+		when(aff.getDepartmentName(UNIV_ID, COLLEGE_ID, DEPT_ID)).thenReturn(DEPT_NAME);
+		AuthTokenService tokenService = new AuthTokenService(jwtUtil, props, aff);
+
+		String access = tokenService.createAccessToken(
+			"20250001", "alice", "ADMIN", "홍길동",
+			DEPT_ID, COLLEGE_ID, UNIV_ID, 4
+		);
+		String refresh = tokenService.createRefreshToken("20250001", "jti-1");
+
+		CustomUserPrincipal principal = CustomUserPrincipal.fromClaims(jwtUtil.parseAccessToken(access));
+
+		assertThat(principal.getUserNm()).isEqualTo("20250001");
+		assertThat(principal.getUserId()).isEqualTo("alice");
+		assertThat(principal).extracting("userName").isEqualTo("홍길동");
+		assertThat(principal.getGrade()).isEqualTo(4);
+		assertThat(principal.getDeptName()).isEqualTo(DEPT_NAME);
+		assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+
+		assertThat(jwtUtil.parseAccessToken(refresh)).isNull();
+		assertThat(jwtUtil.parseAccessToken(access + "x")).isNull();
+	}
+
 	@Test
 	@DisplayName("subjectUserNm: Subject를 정확히 반환")
 	void subjectUserNm_returns_subject() {
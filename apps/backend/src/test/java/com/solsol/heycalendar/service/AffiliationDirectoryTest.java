@@ -0,0 +1,94 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.College;
+import com.solsol.heycalendar.domain.Department;
+import com.solsol.heycalendar.domain.University;
+import com.solsol.heycalendar.mapper.CacheVersionMapper;
+import com.solsol.heycalendar.mapper.CollegeMapper;
+import com.solsol.heycalendar.mapper.DepartmentMapper;
+import com.solsol.heycalendar.mapper.UniversityMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AffiliationDirectory 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class AffiliationDirectoryTest {
+
+	@Mock UniversityMapper universityMapper;
+	@Mock CollegeMapper collegeMapper;
+	@Mock DepartmentMapper departmentMapper;
+	@Mock CacheVersionMapper cacheVersionMapper;
+
+	AffiliationDirectory directory;
+
+	@BeforeEach
+	void setUp() {
+		directory = new AffiliationDirectory(universityMapper, collegeMapper, departmentMapper, cacheVersionMapper);
+		when(cacheVersionMapper.findVersion(AffiliationDirectory.CACHE_NAME)).thenReturn(2L);
+		when(universityMapper.findAll()).thenReturn(List.of(
+			University.builder().univNm("1").univName("서울대학교").build()));
+		when(collegeMapper.findAll()).thenReturn(List.of(
+			College.builder().univNm("1").collegeNm("10").name("공과대학").build(),
+			College.builder().univNm("1").collegeNm("20").name("자연과학대학").build()));
+		when(departmentMapper.findAll()).thenReturn(List.of(
+			department("10", "100", "기계공학과"),
+			department("10", "101", "컴퓨터공학과"),
+			department("20", "200", "수학과"),
+			department("10", "300", "화학공학과"),
+			department("20", "300", "화학과")));
+	}
+
+	@Test
+	@DisplayName("테이블마다 한 번씩만 읽어 계층과 이름을 스냅샷에서 응답하고, 무효화 후 다시 읽는다")
+	void get_loadsEachTableOnceAndInvalidates() {
+		AffiliationDirectory.Snapshot first = directory.get();
+
+		assertThat(directory.get()).isSameAs(first);
+		assertThat(first.version()).isEqualTo(2L);
+		assertThat(first.colleges("1")).extracting(College::getName).containsExactly("공과대학", "자연과학대학");
+		assertThat(first.departments("1", "10")).extracting(Department::getDeptNm).containsExactly("100", "101", "300");
+		assertThat(directory.getUniversityName(1L)).isEqualTo("서울대학교");
+		assertThat(directory.getCollegeName(1L, 20L)).isEqualTo("자연과학대학");
+		assertThat(directory.getDepartmentName(1L, 10L, 101L)).isEqualTo("컴퓨터공학과");
+		assertThat(directory.getDepartmentName(1L, 20L, 101L)).isNull();
+		verify(departmentMapper, times(1)).findAll();
+		verify(departmentMapper, never()).findByCollegeId(anyString(), anyString());
+
+		directory.invalidate();
+		directory.get();
+
+		verify(cacheVersionMapper).bump(AffiliationDirectory.CACHE_NAME);
+		verify(universityMapper, times(2)).findAll();
+		assertThat(directory.getStats().invalidations()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("회원가입 학과는 대학 안에서 하나로 정해질 때만 단과대를 결정하고, 없거나 모호하면 거부한다")
+	void resolveDepartment_validatesAgainstSnapshot() {
+		assertThat(directory.resolveDepartment(1L, 101L).getCollegeNm()).isEqualTo("10");
+
+		assertThatThrownBy(() -> directory.resolveDepartment(2L, 101L))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> directory.resolveDepartment(1L, 999L))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> directory.resolveDepartment(1L, 300L))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("ambiguous");
+		verify(departmentMapper, times(1)).findAll();
+	}
+
+	private Department department(String collegeNm, String deptNm, String name) {
+		return Department.builder().univNm("1").collegeNm(collegeNm).deptNm(deptNm).name(name).build();
+	}
+}
@@ -0,0 +1,146 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.dto.response.AdminApplicationRow;
+import com.solsol.heycalendar.dto.response.ApplicationResponse;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
+import com.solsol.heycalendar.domain.DocumentBlob;
+import com.solsol.heycalendar.entity.Application;
+import com.solsol.heycalendar.entity.ApplicationDocument;
+import com.solsol.heycalendar.entity.ApplicationState;
+import com.solsol.heycalendar.mapper.ApplicationDocumentMapper;
+import com.solsol.heycalendar.mapper.ApplicationMapper;
+import com.solsol.heycalendar.mapper.DocumentBlobMapper;
+import com.solsol.heycalendar.storage.ObjectStorage;
+import com.solsol.heycalendar.util.CryptoUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ApplicationService 관리자 신청 목록 페이지 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationServiceTest {
+
+	private static final LocalDateTime T1 = LocalDateTime.of(2025, 3, 2, 10, 0);
+	private static final LocalDateTime T2 = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+	@Mock ApplicationMapper applicationMapper;
+	@Mock ApplicationDocumentMapper applicationDocumentMapper;
+	@Mock MileageService mileageService;
+	@Mock NotificationService notificationService;
+	@Mock PresignedUrlService presignedUrlService;
+	@Mock DocumentBlobMapper blobMapper;
+	@Mock ObjectStorage objectStorage;
+
+	CryptoUtil cryptoUtil;
+	ApplicationService service;
+
+	@BeforeEach
+	void setUp() {
+		byte[] key = new byte[32];
+		Arrays.fill(key, (byte) 3);
+		cryptoUtil = new CryptoUtil(Base64.getEncoder().encodeToString(key), new SimpleMeterRegistry());
+		service = new ApplicationService(applicationMapper, applicationDocumentMapper, presignedUrlService, mileageService, cryptoUtil,
+			notificationService, new DocumentBlobService(blobMapper, objectStorage, cryptoUtil));
+	}
+
+	@Test
+	@DisplayName("조인 행을 신청 단위로 묶고 파일명을 일괄 복호화하며, 신청별 추가 조회 없이 다음 커서를 만든다")
+	void getApplicationsPage_groupsRowsAndBuildsCursor() {
+		stream(List.of(
+			row("20250001", 1L, T1, true, "11", cryptoUtil.encryptToBytes("성적증명서.pdf")),
+			row("20250001", 1L, T1, true, "10", cryptoUtil.encryptToBytes("재학증명서.pdf")),
+			row("20250002", 1L, T2, false, null, null),
+			// size + 1 번째 행 - 다음 페이지 존재 확인용
+			row("20250003", 2L, T2.minusDays(1), false, "12", cryptoUtil.encryptToBytes("x.pdf"))
+		));
+
+		CursorPageResponse<ApplicationResponse> page = service.getApplicationsPage(null, 2);
+
+		verify(applicationMapper).streamAdminApplicationPage(isNull(), isNull(), isNull(), eq(3), any());
+		verifyNoInteractions(applicationDocumentMapper, mileageService);
+
+		assertThat(page.isHasNext()).isTrue();
+		assertThat(page.getItems()).extracting(ApplicationResponse::getUserNm).containsExactly("20250001", "20250002");
+		ApplicationResponse first = page.getItems().get(0);
+		assertThat(first.getMileagePaid()).isTrue();
+		assertThat(first.getDocuments()).extracting("originalFileName").containsExactly("성적증명서.pdf", "재학증명서.pdf");
+		assertThat(page.getItems().get(1).getDocuments()).isEmpty();
+
+		ApplicationService.AdminApplicationCursor cursor = ApplicationService.AdminApplicationCursor.decode(page.getNextCursor());
+		assertThat(cursor).isEqualTo(new ApplicationService.AdminApplicationCursor(T2, "20250002", 1L));
+	}
+
+	@Test
+	@DisplayName("잘못된 커서는 IllegalArgumentException")
+	void getApplicationsPage_rejectsInvalidCursor() {
+		assertThatThrownBy(() -> service.getApplicationsPage("not-a-cursor", 10))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("신청 취소 시 CASCADE 삭제 전에 서류별 blob 참조를 반납하고, 마지막 참조인 객체만 지운다")
+	void deleteApplication_releasesDocumentBlobs() {
+		byte[] sharedKey = cryptoUtil.encryptToBytes("documents/shared.pdf");
+		byte[] ownKey = cryptoUtil.encryptToBytes("documents/own.pdf");
+		when(applicationMapper.findApplicationByUserAndScholarship("20250001", "1"))
+			.thenReturn(Application.builder().userNm("20250001").scholarshipNm("1").state(ApplicationState.PENDING).build());
+		when(applicationDocumentMapper.findDocumentsByUserAndScholarship("20250001", "1")).thenReturn(List.of(
+			ApplicationDocument.builder().applicationDocumentNm("10").objectKeyEnc(sharedKey).blobId(7L).build(),
+			ApplicationDocument.builder().applicationDocumentNm("11").objectKeyEnc(ownKey).blobId(8L).build(),
+			// 참조 집계 이전 업로드
+			ApplicationDocument.builder().applicationDocumentNm("12").build()));
+		// 7 은 MyBox 원본과 공유 중, 8 은 이 신청서만 참조
+		when(blobMapper.findByIdForUpdate(7L)).thenReturn(DocumentBlob.builder().id(7L).objectKeyEnc(sharedKey).refCount(2).build());
+		when(blobMapper.findByIdForUpdate(8L)).thenReturn(DocumentBlob.builder().id(8L).objectKeyEnc(ownKey).refCount(1).build());
+
+		service.deleteApplication("20250001", "1");
+
+		verify(blobMapper).decrementRef(7L);
+		verify(blobMapper, never()).delete(7L);
+		verify(blobMapper).delete(8L);
+		verify(objectStorage).deleteObject("documents/own.pdf");
+		verify(presignedUrlService).evict(ownKey);
+		verifyNoMoreInteractions(objectStorage, presignedUrlService);
+		InOrder order = inOrder(blobMapper, applicationMapper);
+		order.verify(blobMapper).delete(8L);
+		order.verify(applicationMapper).deleteApplication("20250001", "1");
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stream(List<AdminApplicationRow> rows) {
+		doAnswer(invocation -> {
+			ResultHandler<AdminApplicationRow> handler = invocation.getArgument(4);
+			DefaultResultContext<AdminApplicationRow> context = new DefaultResultContext<>();
+			for (AdminApplicationRow row : rows) {
+				context.nextResultObject(row);
+				handler.handleResult(context);
+			}
+			return null;
+		}).when(applicationMapper).streamAdminApplicationPage(any(), any(), any(), anyInt(), any(ResultHandler.class));
+	}
+
+	private AdminApplicationRow row(String userNm, Long scholarshipNm, LocalDateTime appliedAt,
+									boolean mileagePaid, String documentNm, byte[] fileNameEnc) {
+		return new AdminApplicationRow(userNm, scholarshipNm, "장학금" + scholarshipNm, 100000, "ACADEMIC", null,
+			"이름" + userNm, null, null, null, ApplicationState.PENDING, appliedAt, null, mileagePaid,
+			documentNm, fileNameEnc, "application/pdf", 2048L, appliedAt);
+	}
+}
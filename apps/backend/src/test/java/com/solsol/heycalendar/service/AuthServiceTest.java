@@ -10,6 +10,7 @@ import com.solsol.heycalendar.mapper.UserMapper;
 import com.solsol.heycalendar.security.AuthTokenService;
 import com.solsol.heycalendar.security.CustomUserPrincipal;
 import com.solsol.heycalendar.security.JwtUtil;
+import com.solsol.heycalendar.security.PrincipalCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import org.junit.jupiter.api.*;
@@ -43,6 +44,7 @@ class AuthServiceTest {
 	@Mock UserMapper userMapper;
 	@Mock RefreshTokenMapper refreshTokenMapper;
 	@Mock PasswordEncoder passwordEncoder;
+	@Mock PrincipalCache principalCache;
 
 	@InjectMocks AuthService authService;
 
@@ -246,12 +248,14 @@ class AuthServiceTest {
 		@SuppressWarnings("unchecked") Jws<Claims> jws = (Jws<Claims>) mock(Jws.class);
 		Claims claims = mock(Claims.class);
 		when(claims.getId()).thenReturn(jti);
+		when(claims.getSubject()).thenReturn("20250001");
 		when(jws.getPayload()).thenReturn(claims);
 		when(jwtUtil.parse(refresh)).thenReturn(jws);
 
 		authService.logout(req);
 
 		verify(refreshTokenMapper).revokeByToken(jti);
+		verify(principalCache).evict("20250001");
 	}
 
 	@Test
@@ -0,0 +1,100 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.BankProvisioningJob;
+import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.mapper.BankProvisioningJobMapper;
+import com.solsol.heycalendar.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BankProvisioningService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BankProvisioningServiceTest {
+
+	@Mock BankProvisioningJobMapper jobMapper;
+	@Mock UserMapper userMapper;
+	@Mock ShinhanBankService shinhanBankService;
+	@Mock NotificationService notificationService;
+	@Mock PlatformTransactionManager transactionManager;
+
+	BankProvisioningService provisioningService;
+
+	@BeforeEach
+	void setUp() {
+		// 제출한 작업을 호출 스레드에서 바로 실행
+		provisioningService = new BankProvisioningService(jobMapper, userMapper, shinhanBankService,
+			notificationService, Runnable::run, transactionManager, 2);
+	}
+
+	@Test
+	@DisplayName("회원 생성이 끝난 작업은 계좌 생성부터 이어서 처리하고 완료 알림 전송")
+	void process_resumesFromSavedStep() {
+		BankProvisioningJob job = job(1L, "abc-key", null, 2);
+		when(jobMapper.findDueForUpdate(2)).thenReturn(List.of(job)).thenReturn(List.of());
+		when(shinhanBankService.createAccount("abc-key")).thenReturn("0880123456789");
+		when(userMapper.updateUserKeyAndAccountByUserId("s1@ssafy.co.kr", "abc-key", "0880123456789")).thenReturn(1);
+
+		provisioningService.drain();
+
+		verify(shinhanBankService, never()).createMember(anyString());
+		verify(jobMapper).markRunning(eq(List.of(1L)), any(LocalDateTime.class));
+		verify(jobMapper).saveAccountNo(1L, "0880123456789");
+		verify(jobMapper).markDone(1L);
+		verify(notificationService).createNotification(eq("20240001"), eq(NotificationType.SCHEDULE),
+			eq("계좌 개설이 완료되었습니다"), anyString(), isNull(), eq(BankProvisioningService.ACCOUNT_ROUTE));
+		assertThat(provisioningService.getStats().completed()).isEqualTo(1);
+		assertThat(provisioningService.getStats().inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("은행 호출 실패 시 저장한 단계는 유지하고 백오프 후 재시도, 최대 횟수를 넘으면 실패 처리")
+	void process_retriesWithBackoffThenFails() {
+		BankProvisioningJob first = job(1L, null, null, 0);
+		when(shinhanBankService.createMember("s1@ssafy.co.kr")).thenReturn("abc-key");
+		when(shinhanBankService.createAccount("abc-key")).thenThrow(new RuntimeException("Account creation failed"));
+
+		provisioningService.process(first);
+
+		verify(jobMapper).saveUserKey(1L, "abc-key");
+		ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(jobMapper).markFailed(eq(1L), eq("PENDING"), nextAttemptAt.capture(), contains("Account creation failed"));
+		assertThat(nextAttemptAt.getValue()).isAfter(LocalDateTime.now());
+
+		BankProvisioningJob last = job(1L, "abc-key", null, BankProvisioningService.MAX_ATTEMPTS - 1);
+		provisioningService.process(last);
+
+		verify(jobMapper).markFailed(eq(1L), eq("FAILED"), any(LocalDateTime.class), anyString());
+		verify(notificationService).createNotification(eq("20240001"), eq(NotificationType.SCHEDULE),
+			eq("계좌 개설에 실패했습니다"), anyString(), isNull(), anyString());
+		verify(userMapper, never()).updateUserKeyAndAccountByUserId(anyString(), anyString(), anyString());
+		assertThat(provisioningService.getStats().retried()).isEqualTo(1);
+		assertThat(provisioningService.getStats().failed()).isEqualTo(1);
+	}
+
+	private BankProvisioningJob job(Long id, String userKey, String accountNo, int attempts) {
+		return BankProvisioningJob.builder()
+			.id(id)
+			.userNm("20240001")
+			.userId("s1@ssafy.co.kr")
+			.status("RUNNING")
+			.attempts(attempts)
+			.userKey(userKey)
+			.accountNo(accountNo)
+			.build();
+	}
+}
@@ -0,0 +1,69 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Notification;
+import com.solsol.heycalendar.domain.NotificationUnreadCount;
+import com.solsol.heycalendar.mapper.BroadcastNotificationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BroadcastNotificationService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BroadcastNotificationServiceTest {
+
+	@Mock BroadcastNotificationMapper broadcastMapper;
+	@Mock NotificationOutboxDispatcher outboxDispatcher;
+
+	BroadcastNotificationService broadcastService;
+
+	@BeforeEach
+	void setUp() {
+		broadcastService = new BroadcastNotificationService(broadcastMapper, outboxDispatcher, 90);
+	}
+
+	@Test
+	@DisplayName("새 장학금 공지는 사용자 수와 관계없이 한 행과 토픽 메시지 하나만 쓰고, 이미 있으면 건너뛴다")
+	void publishNewScholarship_writesSingleRow() {
+		when(broadcastMapper.existsByDedupKey("NEW_SCHOLARSHIP:7")).thenReturn(false).thenReturn(true);
+
+		assertThat(broadcastService.publishNewScholarship(7L, "성적우수", 500)).isTrue();
+		assertThat(broadcastService.publishNewScholarship(7L, "성적우수", 500)).isFalse();
+
+		ArgumentCaptor<Notification> row = ArgumentCaptor.forClass(Notification.class);
+		verify(broadcastMapper, times(1)).insert(row.capture());
+		assertThat(row.getValue().getUserNm()).isNull();
+		assertThat(row.getValue().getRelatedId()).isEqualTo(7L);
+		verify(outboxDispatcher, times(1)).enqueue(eq(BroadcastNotificationService.NEW_SCHOLARSHIP_TOPIC), any());
+	}
+
+	@Test
+	@DisplayName("읽지 않은 공지 수와 영수증은 노출 기간 안의 공지만 대상으로 한다")
+	void countsAndReceiptsUseVisibleWindow() {
+		when(broadcastMapper.countUnreadForUsers(eq(List.of("a", "b")), any()))
+			.thenReturn(List.of(new NotificationUnreadCount("a", 3)));
+		when(broadcastMapper.findVisibleById(eq(1L), any())).thenReturn(Notification.builder().id(1L).build());
+
+		assertThat(broadcastService.countUnread(List.of("a", "b", "a"))).containsExactly(entry("a", 3));
+		assertThat(broadcastService.markAsRead("a", 1L)).isTrue();
+		assertThat(broadcastService.hide("a", 2L)).isFalse();
+
+		verify(broadcastMapper).upsertReceipt("a", 1L, false);
+		verify(broadcastMapper, never()).upsertReceipt(eq("a"), eq(2L), anyBoolean());
+		ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(broadcastMapper).findVisibleById(eq(1L), since.capture());
+		assertThat(since.getValue()).isBefore(LocalDateTime.now().minusDays(89));
+	}
+}
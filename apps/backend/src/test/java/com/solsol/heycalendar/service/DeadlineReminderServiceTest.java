@@ -0,0 +1,82 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Notification;
+import com.solsol.heycalendar.dto.response.DeadlineReminderTarget;
+import com.solsol.heycalendar.mapper.NotificationMapper;
+import com.solsol.heycalendar.mapper.ScholarshipBookmarkMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DeadlineReminderService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class DeadlineReminderServiceTest {
+
+	@Mock ScholarshipBookmarkMapper scholarshipBookmarkMapper;
+	@Mock NotificationMapper notificationMapper;
+	@Mock NotificationFanoutService notificationFanoutService;
+	@Mock NotificationUnreadCounter unreadCounter;
+	@Mock JobLeaseService jobLeaseService;
+	@Mock PlatformTransactionManager transactionManager;
+
+	DeadlineReminderService deadlineReminderService;
+
+	@BeforeEach
+	void setUp() {
+		deadlineReminderService = new DeadlineReminderService(
+			scholarshipBookmarkMapper, notificationMapper, notificationFanoutService, unreadCounter, jobLeaseService,
+			transactionManager);
+	}
+
+	@Test
+	@DisplayName("D-3, D-1 대상을 한 번에 조회해 일자별 중복 방지 키로 일괄 생성")
+	void runReminders_bulkInsertsWithDailyDedupKey() {
+		LocalDate today = LocalDate.of(2025, 9, 1);
+		when(scholarshipBookmarkMapper.findDeadlineReminderTargets(
+			eq(List.of(LocalDate.of(2025, 9, 4), LocalDate.of(2025, 9, 2))), eq(":2025-09-01")))
+			.thenReturn(List.of(
+				new DeadlineReminderTarget("20250001", 10L, "성적우수", LocalDate.of(2025, 9, 4)),
+				new DeadlineReminderTarget("20250002", 11L, "생활지원", LocalDate.of(2025, 9, 2))
+			));
+
+		DeadlineReminderService.ReminderRunResult result = deadlineReminderService.runReminders(today);
+
+		assertThat(result.targets()).isEqualTo(2);
+		assertThat(result.created()).isEqualTo(2);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Notification>> batch = ArgumentCaptor.forClass(List.class);
+		verify(notificationMapper).insertBatch(batch.capture());
+		assertThat(batch.getValue())
+			.extracting(Notification::getDedupKey)
+			.containsExactly("DEADLINE_REMINDER:10:2025-09-01", "DEADLINE_REMINDER:11:2025-09-01");
+		assertThat(batch.getValue().get(0).getMessage()).contains("3일");
+		assertThat(batch.getValue().get(1).getMessage()).contains("1일");
+		verify(notificationFanoutService).pushToUsersAsync(batch.getValue());
+	}
+
+	@Test
+	@DisplayName("대상이 없으면 INSERT 하지 않음")
+	void runReminders_noTargets() {
+		when(scholarshipBookmarkMapper.findDeadlineReminderTargets(anyList(), anyString())).thenReturn(List.of());
+
+		DeadlineReminderService.ReminderRunResult result = deadlineReminderService.runReminders(LocalDate.now());
+
+		assertThat(result.created()).isZero();
+		verify(notificationMapper, never()).insertBatch(anyList());
+	}
+}
@@ -0,0 +1,91 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.DocumentBlob;
+import com.solsol.heycalendar.mapper.DocumentBlobMapper;
+import com.solsol.heycalendar.storage.ObjectStorage;
+import com.solsol.heycalendar.util.CryptoUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DocumentBlobService 중복 제거/참조 집계 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class DocumentBlobServiceTest {
+
+	static final String SHA = "a".repeat(64);
+
+	@Mock DocumentBlobMapper blobMapper;
+	@Mock ObjectStorage objectStorage;
+
+	CryptoUtil cryptoUtil;
+	DocumentBlobService blobService;
+
+	@BeforeEach
+	void setUp() {
+		byte[] key = new byte[32];
+		cryptoUtil = new CryptoUtil(Base64.getEncoder().encodeToString(key), new SimpleMeterRegistry());
+		blobService = new DocumentBlobService(blobMapper, objectStorage, cryptoUtil);
+	}
+
+	@Test
+	@DisplayName("같은 사용자의 같은 체크섬이 있으면 새 행 없이 참조만 늘리고, 없으면 참조 1 로 등록한다")
+	void registerVerified_reusesSameContent() {
+		DocumentBlob existing = DocumentBlob.builder().id(7L).userNm("s1").checksumSha256(SHA).sizeBytes(1000L).refCount(1).build();
+		when(blobMapper.findByChecksumForUpdate("s1", SHA)).thenReturn(existing).thenReturn(null);
+
+		DocumentBlobService.Registration reused = blobService.registerVerified("s1", SHA, new byte[]{1}, 1000, "etag");
+		DocumentBlobService.Registration created = blobService.registerVerified("s1", SHA, new byte[]{2}, 1000, "etag");
+
+		assertThat(reused.deduplicated()).isTrue();
+		assertThat(reused.blob().getId()).isEqualTo(7L);
+		verify(blobMapper).incrementRef(7L);
+		assertThat(created.deduplicated()).isFalse();
+		ArgumentCaptor<DocumentBlob> inserted = ArgumentCaptor.forClass(DocumentBlob.class);
+		verify(blobMapper).insert(inserted.capture());
+		assertThat(inserted.getValue().getRefCount()).isEqualTo(1);
+		assertThat(inserted.getValue().getObjectKeyEnc()).containsExactly(2);
+		assertThat(blobService.getStats().dedupHits()).isEqualTo(1);
+		assertThat(blobService.getStats().dedupBytes()).isEqualTo(1000);
+	}
+
+	@Test
+	@DisplayName("참조가 남아 있으면 S3 객체를 지우지 않고, 마지막 참조를 해제할 때만 행과 객체를 지운다")
+	void release_deletesObjectOnlyAtZero() {
+		byte[] objectKeyEnc = cryptoUtil.encryptToBytes("documents/a.pdf");
+		when(blobMapper.findByIdForUpdate(7L))
+			.thenReturn(DocumentBlob.builder().id(7L).objectKeyEnc(objectKeyEnc).refCount(2).build())
+			.thenReturn(DocumentBlob.builder().id(7L).objectKeyEnc(objectKeyEnc).refCount(1).build());
+
+		assertThat(blobService.release(7L)).isFalse();
+		verify(blobMapper).decrementRef(7L);
+		verifyNoInteractions(objectStorage);
+
+		assertThat(blobService.release(7L)).isTrue();
+		verify(blobMapper).delete(7L);
+		verify(objectStorage).deleteObject("documents/a.pdf");
+		assertThat(blobService.getStats().objectsDeleted()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("이미 지워진 blob 은 재사용하지 않는다")
+	void retain_rejectsDeletedBlob() {
+		when(blobMapper.incrementRef(7L)).thenReturn(0);
+
+		assertThatThrownBy(() -> blobService.retain(DocumentBlob.builder().id(7L).build()))
+			.isInstanceOf(IllegalStateException.class);
+		verify(blobMapper, never()).insert(any());
+	}
+}
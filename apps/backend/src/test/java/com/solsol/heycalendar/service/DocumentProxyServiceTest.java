@@ -0,0 +1,101 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.config.StorageProperties;
+import com.solsol.heycalendar.storage.LocalObjectStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DocumentProxyService 스트리밍 업로드/다운로드 단위 테스트 (로컬 대체 저장소 사용)
+ */
+class DocumentProxyServiceTest {
+
+	@TempDir Path root;
+
+	LocalObjectStorage storage;
+	DocumentProxyService proxyService;
+
+	@BeforeEach
+	void setUp() {
+		StorageProperties properties = new StorageProperties();
+		properties.getProxy().setPartSize(DataSize.ofBytes(1024));
+		properties.getProxy().setBuffers(1);
+		properties.getProxy().setBufferWaitMs(10);
+		storage = new LocalObjectStorage(root);
+		proxyService = new DocumentProxyService(storage, properties, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("파트 크기보다 큰 본문은 멀티파트로 올리고, 서버가 계산한 크기/SHA-256 과 멀티파트 ETag 를 돌려준다")
+	void upload_multipartWithServerChecksum() throws Exception {
+		byte[] content = randomBytes(2500);
+
+		DocumentProxyService.UploadResult result = proxyService.upload("documents/a.pdf", "application/pdf",
+			new ByteArrayInputStream(content), 10_000);
+
+		assertThat(result.parts()).isEqualTo(3);
+		assertThat(result.sizeBytes()).isEqualTo(2500);
+		assertThat(result.checksumSha256()).isEqualTo(sha256(content));
+		assertThat(result.etag()).endsWith("-3");
+		assertThat(Files.readAllBytes(root.resolve("documents/a.pdf"))).isEqualTo(content);
+		assertThat(storage.headObject("documents/a.pdf")).hasValueSatisfying(o -> assertThat(o.sizeBytes()).isEqualTo(2500));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThat(proxyService.download("documents/a.pdf", out)).isEqualTo(2500);
+		assertThat(out.toByteArray()).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("첫 버퍼 안에서 끝나는 본문은 멀티파트 없이 한 번에 올리고, 버퍼는 풀로 돌아간다")
+	void upload_smallBodyUsesSinglePut() throws Exception {
+		byte[] content = randomBytes(300);
+
+		DocumentProxyService.UploadResult result = proxyService.upload("documents/b.png", "image/png",
+			new ByteArrayInputStream(content), 10_000);
+
+		assertThat(result.parts()).isEqualTo(1);
+		assertThat(result.etag()).doesNotContain("-");
+		assertThat(result.checksumSha256()).isEqualTo(sha256(content));
+		assertThat(proxyService.getStats().availableBuffers()).isEqualTo(1);
+		assertThat(proxyService.getStats().pooledBuffers()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 멀티파트 업로드를 취소하고 객체도 파트도 남기지 않는다")
+	void upload_overLimitAbortsMultipart() throws Exception {
+		assertThatThrownBy(() -> proxyService.upload("documents/c.pdf", "application/pdf",
+			new ByteArrayInputStream(randomBytes(5000)), 3000))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(storage.headObject("documents/c.pdf")).isEmpty();
+		try (Stream<Path> pending = Files.list(root.resolve(".multipart"))) {
+			assertThat(pending).isEmpty();
+		}
+		assertThat(proxyService.getStats().availableBuffers()).isEqualTo(1);
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+	private static String sha256(byte[] content) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+	}
+}
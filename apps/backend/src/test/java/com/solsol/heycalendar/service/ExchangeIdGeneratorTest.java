@@ -0,0 +1,58 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.mapper.ExchangeMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ExchangeIdGenerator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ExchangeIdGeneratorTest {
+
+	@Mock ExchangeMapper exchangeMapper;
+	@Mock PlatformTransactionManager transactionManager;
+
+	@Test
+	@DisplayName("블록을 다 쓸 때만 새 블록을 예약하고, 예약한 범위 안의 번호를 차례로 발급한다")
+	void next_reservesBlocksFromSequence() {
+		when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+		when(exchangeMapper.reserveExchangeNms(ExchangeIdGenerator.BLOCK_SIZE)).thenReturn(1);
+		when(exchangeMapper.findLastInsertId()).thenReturn(1_000_100L, 5_000_100L);
+		ExchangeIdGenerator generator = new ExchangeIdGenerator(exchangeMapper, transactionManager);
+
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i <= ExchangeIdGenerator.BLOCK_SIZE; i++) {
+			ids.add(generator.next());
+		}
+
+		assertThat(ids.get(0)).isEqualTo("1000000");
+		assertThat(ids.get(ExchangeIdGenerator.BLOCK_SIZE - 1)).isEqualTo("1000099");
+		assertThat(ids.get(ExchangeIdGenerator.BLOCK_SIZE)).isEqualTo("5000000");
+		assertThat(ids).doesNotHaveDuplicates();
+		verify(exchangeMapper, times(2)).reserveExchangeNms(ExchangeIdGenerator.BLOCK_SIZE);
+	}
+
+	@Test
+	@DisplayName("시퀀스 행이 없으면 번호를 만들지 않고 실패한다")
+	void next_failsWithoutSequenceRow() {
+		when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+		when(exchangeMapper.reserveExchangeNms(anyInt())).thenReturn(0);
+		ExchangeIdGenerator generator = new ExchangeIdGenerator(exchangeMapper, transactionManager);
+
+		assertThatThrownBy(generator::next).isInstanceOf(IllegalStateException.class);
+		verify(exchangeMapper, never()).findLastInsertId();
+	}
+}
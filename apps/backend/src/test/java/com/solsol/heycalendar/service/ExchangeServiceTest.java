@@ -0,0 +1,85 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.User;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
+import com.solsol.heycalendar.dto.response.UniversityMileageRow;
+import com.solsol.heycalendar.mapper.ExchangeMapper;
+import com.solsol.heycalendar.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ExchangeService 관리자 대학 마일리지 현황 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ExchangeServiceTest {
+
+	@Mock ExchangeMapper exchangeMapper;
+	@Mock UserMapper userMapper;
+	@Mock ShinhanBankService shinhanBankService;
+	@Mock MileageLedgerService mileageLedgerService;
+	@Mock NotificationService notificationService;
+	@Mock ExchangeIdGenerator exchangeIdGenerator;
+
+	ExchangeService exchangeService;
+
+	@BeforeEach
+	void setUp() {
+		exchangeService = new ExchangeService(exchangeMapper, userMapper, shinhanBankService,
+			mileageLedgerService, notificationService, exchangeIdGenerator);
+	}
+
+	@Test
+	@DisplayName("999번 대학 관리자는 대학 조건 없이, 그 외 관리자는 소속 대학으로 조회한다")
+	void resolveAdminScope_allUniversitiesFor999() {
+		when(userMapper.findByUserNm("admin999")).thenReturn(Optional.of(User.builder().userNm("admin999").univNm(999L).build()));
+		when(userMapper.findByUserNm("admin1")).thenReturn(Optional.of(User.builder().userNm("admin1").univNm(1L).build()));
+
+		ExchangeService.AdminUniversityScope all = exchangeService.resolveAdminScope("admin999");
+		ExchangeService.AdminUniversityScope one = exchangeService.resolveAdminScope("admin1");
+
+		assertThat(all.allUniversities()).isTrue();
+		assertThat(all.filterUnivNm()).isNull();
+		assertThat(one.allUniversities()).isFalse();
+		assertThat(one.filterUnivNm()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("페이지는 1건 더 읽어 다음 페이지 여부를 정하고, 커서로 사용 가능 마일리지와 학번을 이어 받는다")
+	void getUniversityUsersMileagePage_keysetByAvailableMileage() {
+		ExchangeService.AdminUniversityScope scope = new ExchangeService.AdminUniversityScope(1L, false);
+		when(userMapper.findUniversityStudentMileagePage(1L, "available", null, null, 3)).thenReturn(List.of(
+			row("s1", 900), row("s2", 500), row("s3", 500)));
+
+		CursorPageResponse<UniversityMileageRow> first = exchangeService.getUniversityUsersMileagePage(scope, null, 2, null);
+
+		assertThat(first.getItems()).extracting(UniversityMileageRow::getUserNm).containsExactly("s1", "s2");
+		assertThat(first.isHasNext()).isTrue();
+
+		when(userMapper.findUniversityStudentMileagePage(1L, "available", 500, "s2", 3)).thenReturn(List.of(row("s3", 500)));
+		CursorPageResponse<UniversityMileageRow> second =
+			exchangeService.getUniversityUsersMileagePage(scope, first.getNextCursor(), 2, null);
+
+		assertThat(second.getItems()).extracting(UniversityMileageRow::getUserNm).containsExactly("s3");
+		assertThat(second.isHasNext()).isFalse();
+		assertThat(second.getNextCursor()).isNull();
+		assertThatThrownBy(() -> exchangeService.getUniversityUsersMileagePage(scope, null, 2, "balance"))
+			.isInstanceOf(IllegalArgumentException.class);
+		verify(userMapper, never()).findUniversityStudentMileagePage(any(), eq("balance"), any(), any(), anyInt());
+	}
+
+	private UniversityMileageRow row(String userNm, int available) {
+		return new UniversityMileageRow(userNm, "학생-" + userNm, userNm + "@ssafy.co.kr", available, available, 0);
+	}
+}
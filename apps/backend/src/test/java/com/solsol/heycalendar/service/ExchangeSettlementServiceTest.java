@@ -0,0 +1,205 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Exchange;
+import com.solsol.heycalendar.domain.ExchangeState;
+import com.solsol.heycalendar.domain.MileageLedgerEntryType;
+import com.solsol.heycalendar.domain.User;
+import com.solsol.heycalendar.dto.request.ExchangeSettlementRequest;
+import com.solsol.heycalendar.dto.response.ExchangeSettlementResult;
+import com.solsol.heycalendar.exception.BankCallRejectedException;
+import com.solsol.heycalendar.mapper.ExchangeMapper;
+import com.solsol.heycalendar.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ExchangeSettlementService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ExchangeSettlementServiceTest {
+
+	@Mock ExchangeMapper exchangeMapper;
+	@Mock UserMapper userMapper;
+	@Mock ShinhanBankService shinhanBankService;
+	@Mock NotificationService notificationService;
+	@Mock MileageLedgerService mileageLedgerService;
+	@Mock ExchangeIdGenerator exchangeIdGenerator;
+	@Mock PlatformTransactionManager transactionManager;
+
+	ExchangeSettlementService settlementService;
+
+	@BeforeEach
+	void setUp() {
+		// 제출한 작업을 호출 스레드에서 바로 실행
+		settlementService = new ExchangeSettlementService(exchangeMapper, userMapper, shinhanBankService,
+			notificationService, mileageLedgerService, exchangeIdGenerator, Runnable::run, transactionManager);
+	}
+
+	@Test
+	@DisplayName("건별로 차감 후 입금하고, 확실한 실패만 차감을 되돌리며 결과 불명 건은 PROCESSING 으로 남긴다")
+	void settle_classifiesEachItem() {
+		stubAdmin();
+		when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+		when(userMapper.findByUserNms(anyList())).thenReturn(List.of(
+			user("ok"), user("poor"), user("rejected"), user("timeout"), User.builder().userNm("noaccount").build()));
+		when(exchangeIdGenerator.next()).thenReturn("1001", "1002", "1003", "1004", "1005");
+		when(shinhanBankService.generateInstitutionTransactionUniqueNo()).thenReturn("00000000000000000001");
+		when(mileageLedgerService.tryHold(anyString(), anyInt(), anyString())).thenReturn(true);
+		when(userMapper.debitUserMileage(anyString(), anyInt())).thenReturn(1);
+		when(userMapper.debitUserMileage("poor", 300)).thenReturn(0);
+		when(exchangeMapper.finishProcessing(anyString(), anyString(), any())).thenReturn(1);
+		when(shinhanBankService.depositToAccount(eq("key-ok"), anyString(), anyLong(), anyString(), anyString()))
+			.thenReturn(new ShinhanBankService.DepositResponse());
+		when(shinhanBankService.depositToAccount(eq("key-rejected"), anyString(), anyLong(), anyString(), anyString()))
+			.thenThrow(new RuntimeException("계좌 입금에 실패했습니다",
+				HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null)));
+		when(shinhanBankService.depositToAccount(eq("key-timeout"), anyString(), anyLong(), anyString(), anyString()))
+			.thenThrow(new RuntimeException("계좌 입금에 실패했습니다",
+				new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out"))));
+
+		List<ExchangeSettlementResult> streamed = new ArrayList<>();
+		ExchangeSettlementService.SettlementSummary summary = settlementService.settle(
+			ExchangeSettlementRequest.builder()
+				.items(List.of(
+					new ExchangeSettlementRequest.Item("ok", 100),
+					new ExchangeSettlementRequest.Item("poor", 300),
+					new ExchangeSettlementRequest.Item("rejected", 200),
+					new ExchangeSettlementRequest.Item("timeout", 400),
+					new ExchangeSettlementRequest.Item("noaccount", 50)))
+				.build(),
+			"admin", streamed::add);
+
+		assertThat(streamed).extracting(ExchangeSettlementResult::getUserNm, ExchangeSettlementResult::getStatus)
+			.containsExactlyInAnyOrder(
+				tuple("ok", "SETTLED"), tuple("poor", "SKIPPED"), tuple("rejected", "FAILED"),
+				tuple("timeout", "UNKNOWN"), tuple("noaccount", "SKIPPED"));
+		assertThat(summary.settled()).isEqualTo(1);
+		assertThat(summary.failed()).isEqualTo(1);
+		assertThat(summary.unknown()).isEqualTo(1);
+		assertThat(summary.skipped()).isEqualTo(2);
+		assertThat(summary.settledAmount()).isEqualTo(100);
+
+		// 4xx 실패만 거절 처리 + 마일리지 환원, 타임아웃 건은 건드리지 않는다
+		verify(exchangeMapper).finishProcessing(anyString(), eq("rejected"), eq(ExchangeState.REJECTED));
+		verify(userMapper).addUserMileage("rejected", 200);
+		verify(mileageLedgerService).record(eq("rejected"), eq(MileageLedgerEntryType.EXCHANGE_RELEASE), eq(200), anyString());
+		verify(mileageLedgerService).record(eq("ok"), eq(MileageLedgerEntryType.EXCHANGE_APPROVE), eq(100), anyString());
+		verify(exchangeMapper, never()).finishProcessing(anyString(), eq("timeout"), any());
+		verify(userMapper, never()).addUserMileage(eq("timeout"), anyInt());
+		verify(notificationService).sendExchangeCompletedNotification("ok", 100);
+		verify(shinhanBankService, never()).depositToAccount(eq("key-poor"), anyString(), anyLong(), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("이미 다른 실행이 가져간 대기 신청은 입금하지 않는다")
+	void settle_skipsPendingTakenByAnotherRun() {
+		stubAdmin();
+		when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+		when(exchangeMapper.findPendingForSettlement(ExchangeSettlementService.DEFAULT_PENDING_LIMIT)).thenReturn(List.of(
+			Exchange.builder().exchangeNm("1").userNm("ok").amount(100).state(ExchangeState.PENDING).build()));
+		when(userMapper.findByUserNms(List.of("ok"))).thenReturn(List.of(user("ok")));
+		when(exchangeMapper.claimPending(eq("1"), eq("ok"), any())).thenReturn(0);
+
+		ExchangeSettlementService.SettlementSummary summary = settlementService.settle(
+			ExchangeSettlementRequest.builder().allPending(true).build(), "admin", r -> { });
+
+		assertThat(summary.skipped()).isEqualTo(1);
+		verify(userMapper, never()).debitUserMileage(anyString(), anyInt());
+		verify(shinhanBankService, never()).depositToAccount(anyString(), anyString(), anyLong(), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("사용자 신청 건은 개별 승인과 같이 users.userMileage 를 차감하지 않고 대기 금액을 승인으로 옮긴다")
+	void settle_pendingDoesNotDebitUserMileage() {
+		stubAdmin();
+		when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+		when(exchangeMapper.findPendingForSettlement(ExchangeSettlementService.DEFAULT_PENDING_LIMIT)).thenReturn(List.of(
+			Exchange.builder().exchangeNm("1").userNm("ok").amount(100).state(ExchangeState.PENDING).build()));
+		when(userMapper.findByUserNms(List.of("ok"))).thenReturn(List.of(user("ok")));
+		when(shinhanBankService.generateInstitutionTransactionUniqueNo()).thenReturn("00000000000000000001");
+		when(exchangeMapper.claimPending(eq("1"), eq("ok"), any())).thenReturn(1);
+		when(exchangeMapper.finishProcessing("1", "ok", ExchangeState.APPROVED)).thenReturn(1);
+
+		ExchangeSettlementService.SettlementSummary summary = settlementService.settle(
+			ExchangeSettlementRequest.builder().allPending(true).build(), "admin", r -> { });
+
+		assertThat(summary.settled()).isEqualTo(1);
+		verify(userMapper, never()).debitUserMileage(anyString(), anyInt());
+		verify(mileageLedgerService).record("ok", MileageLedgerEntryType.EXCHANGE_APPROVE, 100, "1");
+		verify(mileageLedgerService, never()).record(anyString(), eq(MileageLedgerEntryType.EXCHANGE_HOLD), anyInt(), anyString());
+	}
+
+	@Test
+	@DisplayName("관리자 입력 건은 원장의 사용 가능 잔액에서 확보하지 못하면 환전 행도 차감도 없이 건너뛴다")
+	void settle_skipsAdminItemWithoutLedgerAvailability() {
+		stubAdmin();
+		when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+		when(userMapper.findByUserNms(List.of("held"))).thenReturn(List.of(user("held")));
+		when(exchangeIdGenerator.next()).thenReturn("1001");
+		when(shinhanBankService.generateInstitutionTransactionUniqueNo()).thenReturn("00000000000000000001");
+		when(mileageLedgerService.tryHold(eq("held"), eq(500), anyString())).thenReturn(false);
+
+		List<ExchangeSettlementResult> streamed = new ArrayList<>();
+		settlementService.settle(
+			ExchangeSettlementRequest.builder().items(List.of(new ExchangeSettlementRequest.Item("held", 500))).build(),
+			"admin", streamed::add);
+
+		assertThat(streamed).extracting(ExchangeSettlementResult::getStatus).containsExactly("SKIPPED");
+		verify(exchangeMapper, never()).insert(any());
+		verify(userMapper, never()).debitUserMileage(anyString(), anyInt());
+		verify(shinhanBankService, never()).depositToAccount(anyString(), anyString(), anyLong(), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("관리자를 찾을 수 없으면 대학 범위를 확인할 수 없으므로 대상 조회 전에 배치 전체를 거절한다")
+	void settle_rejectsUnknownAdmin() {
+		when(userMapper.findByUserNm("ghost")).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> settlementService.settle(
+			ExchangeSettlementRequest.builder().allPending(true).build(), "ghost", r -> { }))
+			.isInstanceOf(IllegalArgumentException.class);
+		verifyNoInteractions(exchangeMapper, shinhanBankService);
+		verify(userMapper, never()).findByUserNms(anyList());
+	}
+
+	private void stubAdmin() {
+		when(userMapper.findByUserNm("admin")).thenReturn(Optional.of(User.builder().userNm("admin").univNm(999L).build()));
+	}
+
+	private User user(String userNm) {
+		return User.builder()
+			.userNm(userNm)
+			.userKey("key-" + userNm)
+			.accountNm("0880" + userNm)
+			.build();
+	}
+
+	@Test
+	@DisplayName("보내지 않은 호출(BankCallRejectedException)과 4xx 응답만 확실한 미입금으로 보고, 그 밖의 IllegalStateException 은 결과 불명으로 둔다")
+	void isDefinitelyNotDeposited_onlyRejectedCallsAndClientErrors() {
+		assertThat(ExchangeSettlementService.isDefinitelyNotDeposited(
+			new RuntimeException("계좌 입금에 실패했습니다", new BankCallRejectedException("신한은행 API 동시 호출 한도를 초과했습니다: deposit")))).isTrue();
+		assertThat(ExchangeSettlementService.isDefinitelyNotDeposited(
+			HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null))).isTrue();
+		assertThat(ExchangeSettlementService.isDefinitelyNotDeposited(
+			new RuntimeException("계좌 입금에 실패했습니다", new IllegalStateException("응답 본문이 비어 있습니다")))).isFalse();
+	}
+}
@@ -0,0 +1,117 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.MileageBalance;
+import com.solsol.heycalendar.domain.MileageLedgerEntry;
+import com.solsol.heycalendar.domain.MileageLedgerEntryType;
+import com.solsol.heycalendar.mapper.MileageLedgerMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MileageLedgerService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MileageLedgerServiceTest {
+
+	@Mock MileageLedgerMapper ledgerMapper;
+	@Mock JobLeaseService jobLeaseService;
+
+	MileageLedgerService ledgerService;
+
+	@BeforeEach
+	void setUp() {
+		ledgerService = new MileageLedgerService(ledgerMapper, jobLeaseService);
+	}
+
+	@Test
+	@DisplayName("환전 신청은 잔액 행 조건부 UPDATE 로 확보하고, 행이 없던 사용자는 내역으로 초기화 후 한 번 더 시도한다")
+	void tryHold_seedsMissingBalanceOnce() {
+		when(ledgerMapper.holdIfAvailable("new", 300)).thenReturn(0).thenReturn(1);
+		when(ledgerMapper.seedFromHistory("new")).thenReturn(1);
+		when(ledgerMapper.holdIfAvailable("poor", 300)).thenReturn(0);
+		when(ledgerMapper.seedFromHistory("poor")).thenReturn(0);
+
+		assertThat(ledgerService.tryHold("new", 300, "1001")).isTrue();
+		assertThat(ledgerService.tryHold("poor", 300, "1002")).isFalse();
+
+		ArgumentCaptor<MileageLedgerEntry> entry = ArgumentCaptor.forClass(MileageLedgerEntry.class);
+		verify(ledgerMapper).insertEntry(entry.capture());
+		assertThat(entry.getValue().getUserNm()).isEqualTo("new");
+		assertThat(entry.getValue().getEntryType()).isEqualTo(MileageLedgerEntryType.EXCHANGE_HOLD);
+		assertThat(entry.getValue().getRefId()).isEqualTo("1001");
+		verify(ledgerMapper, times(1)).holdIfAvailable("poor", 300);
+	}
+
+	@Test
+	@DisplayName("관리자 직접 지급도 사용 가능 잔액 안에서만 승인 금액을 늘리고, 부족하면 아무것도 기록하지 않는다")
+	void tryPayout_checksAvailableBalance() {
+		when(ledgerMapper.payoutIfAvailable("s1", 500)).thenReturn(1);
+		when(ledgerMapper.payoutIfAvailable("held", 500)).thenReturn(0);
+		when(ledgerMapper.seedFromHistory("held")).thenReturn(0);
+
+		assertThat(ledgerService.tryPayout("s1", 500, "2001")).isTrue();
+		assertThat(ledgerService.tryPayout("held", 500, "2002")).isFalse();
+
+		ArgumentCaptor<MileageLedgerEntry> entry = ArgumentCaptor.forClass(MileageLedgerEntry.class);
+		verify(ledgerMapper).insertEntry(entry.capture());
+		assertThat(entry.getValue().getEntryType()).isEqualTo(MileageLedgerEntryType.EXCHANGE_PAYOUT);
+		assertThat(entry.getValue().getRefId()).isEqualTo("2001");
+		verify(ledgerMapper, never()).applyDelta(anyString(), anyInt(), anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("승인은 대기 금액을 승인 금액으로 옮기고, 잔액 행이 없으면 증감 대신 내역으로 초기화한다")
+	void record_appliesDeltaOrSeeds() {
+		when(ledgerMapper.applyDelta("s1", 0, -500, 500)).thenReturn(1);
+		when(ledgerMapper.applyDelta("s2", 200, 0, 0)).thenReturn(0);
+
+		ledgerService.record("s1", MileageLedgerEntryType.EXCHANGE_APPROVE, 500, "1001");
+		ledgerService.record("s2", MileageLedgerEntryType.EARN, 200, "42");
+
+		verify(ledgerMapper, never()).seedFromHistory("s1");
+		verify(ledgerMapper).seedFromHistory("s2");
+		verify(ledgerMapper, times(2)).insertEntry(any());
+	}
+
+	@Test
+	@DisplayName("대사는 userNm 순으로 페이지를 넘기며 내역과 다른 잔액만 다시 계산한다")
+	void reconcile_rebuildsOnlyDriftedBalances() {
+		List<MileageBalance> firstPage = new ArrayList<>();
+		for (int i = 0; i < MileageLedgerService.RECONCILE_PAGE_SIZE; i++) {
+			firstPage.add(balance(String.format("u%04d", i), 100, 100));
+		}
+		firstPage.set(7, balance("u0007", 100, 80));
+		when(ledgerMapper.findBalancesWithHistory(null, MileageLedgerService.RECONCILE_PAGE_SIZE)).thenReturn(firstPage);
+		when(ledgerMapper.findBalancesWithHistory("u0499", MileageLedgerService.RECONCILE_PAGE_SIZE))
+			.thenReturn(List.of(balance("u0500", 50, 50)));
+
+		MileageLedgerService.ReconcileResult result = ledgerService.reconcile();
+
+		assertThat(result.checked()).isEqualTo(MileageLedgerService.RECONCILE_PAGE_SIZE + 1);
+		assertThat(result.drifted()).isEqualTo(1);
+		verify(ledgerMapper).rebuildFromHistory("u0007");
+		verify(ledgerMapper, times(1)).rebuildFromHistory(anyString());
+		verify(ledgerMapper, times(2)).markReconciled(anyList());
+		assertThat(ledgerService.getStats().repaired()).isEqualTo(1);
+	}
+
+	private MileageBalance balance(String userNm, int total, int historyTotal) {
+		return MileageBalance.builder()
+			.userNm(userNm)
+			.total(total).pending(0).approved(0)
+			.historyTotal(historyTotal).historyPending(0).historyApproved(0)
+			.build();
+	}
+}
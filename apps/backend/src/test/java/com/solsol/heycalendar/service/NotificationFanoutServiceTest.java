@@ -0,0 +1,45 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Notification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationFanoutService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationFanoutServiceTest {
+
+	@Mock RealtimeMessenger realtimeMessenger;
+	@Mock NotificationUnreadCounter unreadCounter;
+
+	NotificationFanoutService fanoutService;
+
+	@BeforeEach
+	void setUp() {
+		fanoutService = new NotificationFanoutService(realtimeMessenger, unreadCounter);
+	}
+
+	@Test
+	@DisplayName("한 사용자 전송이 실패해도 나머지를 보내고 카운터를 함께 전송")
+	void pushToUsers_continuesAfterFailure() {
+		Notification first = Notification.builder().id(1L).userNm("u1").build();
+		Notification second = Notification.builder().id(2L).userNm("u2").build();
+		doThrow(new IllegalStateException("broker down"))
+			.when(realtimeMessenger).sendToUser(eq("u1"), eq(NotificationService.USER_QUEUE), any());
+
+		fanoutService.pushToUsers(List.of(first, second));
+
+		verify(realtimeMessenger).sendToUser("u2", NotificationService.USER_QUEUE, second);
+		verify(unreadCounter).pushCounts(List.of("u1", "u2"));
+	}
+}
@@ -0,0 +1,57 @@
+package com.solsol.heycalendar.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solsol.heycalendar.mapper.NotificationOutboxMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationOutboxDispatcher 전송 완료 행 정리 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+
+	@Mock NotificationOutboxMapper outboxMapper;
+	@Mock RealtimeMessenger realtimeMessenger;
+	@Mock TaskExecutor notificationExecutor;
+	@Mock PlatformTransactionManager transactionManager;
+
+	NotificationOutboxDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		dispatcher = new NotificationOutboxDispatcher(outboxMapper, realtimeMessenger, new ObjectMapper(),
+			notificationExecutor, transactionManager, 24);
+	}
+
+	@Test
+	@DisplayName("가득 찬 배치가 나오는 동안 같은 기준 시각으로 반복 삭제하고, 덜 찬 배치에서 멈춘다")
+	void purgeSentBefore_deletesInBatchesUntilShortBatch() {
+		LocalDateTime cutoff = LocalDateTime.of(2025, 3, 1, 0, 0);
+		int full = NotificationOutboxDispatcher.PURGE_BATCH_SIZE;
+		when(outboxMapper.deleteSentBefore(cutoff, full)).thenReturn(full, full, 7);
+
+		assertThat(dispatcher.purgeSentBefore(cutoff)).isEqualTo(full * 2 + 7);
+		verify(outboxMapper, times(3)).deleteSentBefore(cutoff, full);
+	}
+
+	@Test
+	@DisplayName("지울 행이 없으면 한 번만 조회한다")
+	void purgeSentBefore_stopsWhenNothingToDelete() {
+		LocalDateTime cutoff = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+		assertThat(dispatcher.purgeSentBefore(cutoff)).isZero();
+		verify(outboxMapper).deleteSentBefore(cutoff, NotificationOutboxDispatcher.PURGE_BATCH_SIZE);
+	}
+}
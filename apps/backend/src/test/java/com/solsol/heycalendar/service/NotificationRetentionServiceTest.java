@@ -0,0 +1,107 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.config.NotificationRetentionProperties;
+import com.solsol.heycalendar.domain.Notification;
+import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.mapper.NotificationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationRetentionService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceTest {
+
+	@Mock NotificationMapper notificationMapper;
+	@Mock NotificationUnreadCounter unreadCounter;
+	@Mock BroadcastNotificationService broadcastService;
+	@Mock JobLeaseService jobLeaseService;
+	@Mock PlatformTransactionManager transactionManager;
+
+	NotificationRetentionProperties properties;
+	NotificationRetentionService retentionService;
+
+	@BeforeEach
+	void setUp() {
+		properties = new NotificationRetentionProperties();
+		properties.setBatchSize(2);
+		properties.setBatchPauseMs(0);
+		properties.setCompactRemindersAfterDays(0);
+		NotificationRetentionProperties.Policy policy = new NotificationRetentionProperties.Policy();
+		policy.setReadDays(90);
+		policy.setUnreadDays(180);
+		properties.getPolicies().put(NotificationType.NEW_SCHOLARSHIP, policy);
+		retentionService = new NotificationRetentionService(notificationMapper, unreadCounter, broadcastService, properties,
+			jobLeaseService, transactionManager);
+	}
+
+	@Test
+	@DisplayName("배치마다 보관 후 삭제하고 (created_at, id) 커서로 이어 가며, 지운 읽지 않은 알림만 카운터에서 뺀다")
+	void run_archivesAndDeletesInBatches() {
+		when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+		LocalDateTime now = LocalDateTime.of(2025, 12, 1, 4, 0);
+		LocalDateTime old = now.minusDays(200);
+		when(notificationMapper.findRetentionBatchForUpdate(NotificationType.NEW_SCHOLARSHIP, true, now.minusDays(90),
+			false, null, null, 2)).thenReturn(List.of(row(1L, "a", true, old), row(2L, "b", true, old)));
+		when(notificationMapper.findRetentionBatchForUpdate(NotificationType.NEW_SCHOLARSHIP, true, now.minusDays(90),
+			false, old, 2L, 2)).thenReturn(List.of(row(3L, "a", true, old)));
+		when(notificationMapper.findRetentionBatchForUpdate(NotificationType.NEW_SCHOLARSHIP, false, now.minusDays(180),
+			false, null, null, 2)).thenReturn(List.of(row(4L, "a", false, old), row(5L, "a", false, old)));
+		when(notificationMapper.findRetentionBatchForUpdate(NotificationType.NEW_SCHOLARSHIP, false, now.minusDays(180),
+			false, old, 5L, 2)).thenReturn(List.of());
+
+		NotificationRetentionService.RetentionRunResult result = retentionService.run(now);
+
+		assertThat(result.purged()).isEqualTo(5);
+		assertThat(result.purgedByRule()).containsEntry("NEW_SCHOLARSHIP:read", 3).containsEntry("NEW_SCHOLARSHIP:unread", 2);
+		verify(notificationMapper).archiveByIds(List.of(1L, 2L));
+		verify(notificationMapper).deleteByIds(List.of(1L, 2L));
+		verify(notificationMapper).deleteByIds(List.of(4L, 5L));
+		verify(unreadCounter).subtract(Map.of("a", 2));
+		verify(unreadCounter, times(2)).subtract(Map.of());
+		assertThat(result.purgedByRule()).containsEntry(NotificationRetentionService.BROADCAST_RULE, 0);
+		verify(broadcastService).purgeExpired(now, 2);
+		verify(transactionManager, times(5)).commit(any());
+		assertThat(retentionService.getStats().purged()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("마감임박 알림 정리는 더 최신 알림이 있는 행만 읽음/읽지 않음 각각 대상으로 한다")
+	void rules_includeReminderCompaction() {
+		properties.setCompactRemindersAfterDays(3);
+		LocalDateTime now = LocalDateTime.of(2025, 12, 1, 4, 0);
+
+		List<NotificationRetentionService.Rule> rules = retentionService.rules(now);
+
+		assertThat(rules).extracting(NotificationRetentionService.Rule::name)
+			.containsExactly("NEW_SCHOLARSHIP:read", "NEW_SCHOLARSHIP:unread",
+				"COMPACT_DEADLINE_REMINDER:read", "COMPACT_DEADLINE_REMINDER:unread");
+		assertThat(rules.get(2).cutoff()).isEqualTo(now.minusDays(3));
+		assertThat(rules.get(2).supersededOnly()).isTrue();
+	}
+
+	private Notification row(Long id, String userNm, boolean read, LocalDateTime createdAt) {
+		return Notification.builder()
+			.id(id)
+			.userNm(userNm)
+			.type(NotificationType.NEW_SCHOLARSHIP)
+			.isRead(read)
+			.createdAt(createdAt)
+			.build();
+	}
+}
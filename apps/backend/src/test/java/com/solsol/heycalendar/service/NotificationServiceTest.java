@@ -0,0 +1,142 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Notification;
+import com.solsol.heycalendar.domain.NotificationType;
+import com.solsol.heycalendar.dto.response.CursorPageResponse;
+import com.solsol.heycalendar.mapper.NotificationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationService 알림함/읽지 않은 알림 카운터 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+	@Mock NotificationMapper notificationMapper;
+	@Mock RealtimeMessenger realtimeMessenger;
+	@Mock NotificationOutboxDispatcher outboxDispatcher;
+	@Mock NotificationUnreadCounter unreadCounter;
+	@Mock BroadcastNotificationService broadcastService;
+
+	NotificationService notificationService;
+
+	@BeforeEach
+	void setUp() {
+		notificationService = new NotificationService(notificationMapper, realtimeMessenger, outboxDispatcher, unreadCounter,
+			broadcastService);
+	}
+
+	@Test
+	@DisplayName("알림함은 1건 더 읽어 다음 페이지 여부를 정하고, 같은 시각 알림은 id 로 이어 받는다")
+	void getInbox_keysetByCreatedAtAndId() {
+		LocalDateTime at = LocalDateTime.of(2025, 9, 1, 9, 0);
+		when(notificationMapper.findInboxPage("s1", true, null, null, 3))
+			.thenReturn(List.of(notification(30L, at, false), notification(29L, at, false), notification(28L, at, false)));
+
+		CursorPageResponse<Notification> first = notificationService.getInbox("s1", null, 2, true);
+
+		assertThat(first.getItems()).extracting(Notification::getId).containsExactly(30L, 29L);
+		assertThat(first.isHasNext()).isTrue();
+
+		when(notificationMapper.findInboxPage("s1", true, at, 29L, 3)).thenReturn(List.of(notification(28L, at, false)));
+		CursorPageResponse<Notification> second = notificationService.getInbox("s1", first.getNextCursor(), 2, true);
+
+		assertThat(second.getItems()).extracting(Notification::getId).containsExactly(28L);
+		assertThat(second.getNextCursor()).isNull();
+		assertThatThrownBy(() -> notificationService.getInbox("s1", "not-a-cursor", 2, true))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("개인 알림과 공지를 최신순으로 합치고, 같은 시각에서 끊긴 커서는 흐름별로 이어 받는다")
+	void getInbox_mergesBroadcastStream() {
+		LocalDateTime at = LocalDateTime.of(2025, 9, 1, 9, 0);
+		when(notificationMapper.findInboxPage("s1", false, null, null, 3))
+			.thenReturn(List.of(notification(5L, at, false), notification(4L, at.minusHours(1), true)));
+		when(broadcastService.getPage("s1", null, false, null, null, 3))
+			.thenReturn(List.of(broadcast(9L, at.plusHours(1)), broadcast(8L, at)));
+
+		CursorPageResponse<Notification> first = notificationService.getInbox("s1", null, 2, false);
+
+		assertThat(first.getItems()).extracting(Notification::getId).containsExactly(9L, 5L);
+		assertThat(first.getItems()).extracting(Notification::isBroadcast).containsExactly(true, false);
+
+		// 마지막 항목이 개인 알림이면 같은 시각의 공지는 아직 나가지 않았다
+		when(notificationMapper.findInboxPage("s1", false, at, 5L, 3))
+			.thenReturn(List.of(notification(4L, at.minusHours(1), true)));
+		when(broadcastService.getPage("s1", null, false, at, Long.MAX_VALUE, 3))
+			.thenReturn(List.of(broadcast(8L, at)));
+		CursorPageResponse<Notification> second = notificationService.getInbox("s1", first.getNextCursor(), 2, false);
+
+		assertThat(second.getItems()).extracting(Notification::getId).containsExactly(8L, 4L);
+		assertThat(second.isHasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("카운터는 실제로 상태가 바뀐 알림 수만큼만 증감한다")
+	void counterFollowsActualChanges() {
+		when(notificationMapper.findByIdForUpdate(1L, "s1")).thenReturn(notification(1L, LocalDateTime.now(), false));
+		when(notificationMapper.markAsRead(1L, "s1")).thenReturn(1).thenReturn(0);
+		when(notificationMapper.findByIdForUpdate(2L, "s1")).thenReturn(notification(2L, LocalDateTime.now(), true));
+		when(notificationMapper.delete(2L, "s1")).thenReturn(1);
+		when(notificationMapper.markAllAsReadByUser("s1")).thenReturn(4);
+
+		notificationService.createNotification("s1", NotificationType.SCHEDULE, "제목", "내용", null, "/");
+		notificationService.markAsRead("s1", 1L);
+		notificationService.markAsRead("s1", 1L);
+		notificationService.deleteNotification("s1", 2L);
+		notificationService.markAllAsRead("s1");
+
+		verify(outboxDispatcher).enqueueToUser(eq("s1"), eq(NotificationService.USER_QUEUE), any(Notification.class));
+		verify(unreadCounter).adjust("s1", 1);
+		verify(unreadCounter, times(1)).adjust("s1", -1);
+		verify(unreadCounter).adjust("s1", -4);
+		verify(notificationMapper, never()).countUnreadByUser(anyString());
+		verify(broadcastService).markAllAsRead("s1");
+	}
+
+	@Test
+	@DisplayName("다른 사용자의 알림 id 로는 읽음 처리나 삭제를 할 수 없다")
+	void markAsReadAndDelete_areScopedToOwner() {
+		assertThat(notificationService.markAsRead("s2", 1L)).isFalse();
+		assertThat(notificationService.deleteNotification("s2", 1L)).isFalse();
+
+		verify(notificationMapper, times(2)).findByIdForUpdate(1L, "s2");
+		verify(notificationMapper, never()).markAsRead(anyLong(), anyString());
+		verify(notificationMapper, never()).delete(anyLong(), anyString());
+		verifyNoInteractions(unreadCounter);
+	}
+
+	private Notification broadcast(Long id, LocalDateTime createdAt) {
+		return Notification.builder()
+			.id(id)
+			.userNm("s1")
+			.type(NotificationType.NEW_SCHOLARSHIP)
+			.isRead(false)
+			.broadcast(true)
+			.createdAt(createdAt)
+			.build();
+	}
+
+	private Notification notification(Long id, LocalDateTime createdAt, boolean read) {
+		return Notification.builder()
+			.id(id)
+			.userNm("s1")
+			.type(NotificationType.SCHEDULE)
+			.isRead(read)
+			.createdAt(createdAt)
+			.build();
+	}
+}
@@ -0,0 +1,103 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.util.CryptoUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PresignedUrlService 캐시/일괄 발급 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PresignedUrlServiceTest {
+
+	@Mock S3Presigner s3Presigner;
+
+	CryptoUtil cryptoUtil;
+	SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		byte[] key = new byte[32];
+		Arrays.fill(key, (byte) 5);
+		meterRegistry = new SimpleMeterRegistry();
+		cryptoUtil = spy(new CryptoUtil(Base64.getEncoder().encodeToString(key), meterRegistry));
+		when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenAnswer(inv -> {
+			GetObjectPresignRequest request = inv.getArgument(0);
+			PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+			when(presigned.url()).thenReturn(new URL("https://bucket.s3/" + request.getObjectRequest().key() + "?X-Amz-Signature=x"));
+			return presigned;
+		});
+	}
+
+	@Test
+	@DisplayName("재사용 기간 안에서는 같은 암호화 키에 복호화/서명 없이 캐시된 URL 을 돌려준다")
+	void presignGet_reusesUrlWithoutDecrypt() {
+		PresignedUrlService service = service(10, 120);
+		byte[] enc = cryptoUtil.encryptToBytes("documents/a.pdf");
+
+		String first = service.presignGet(enc);
+		String second = service.presignGet(enc.clone());
+
+		assertThat(second).isEqualTo(first).startsWith("https://bucket.s3/documents/a.pdf");
+		verify(cryptoUtil, times(1)).decryptBytes(any());
+		verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+		assertThat(service.getStats().hits()).isEqualTo(1);
+
+		service.evict(enc);
+		service.presignGet(enc);
+		verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+	}
+
+	@Test
+	@DisplayName("일괄 발급은 캐시에 없는 항목만 한 번에 복호화하고, null/복호화 실패 항목은 null 로 둔다")
+	void presignGetAll_decryptsOnlyMisses() {
+		PresignedUrlService service = service(10, 120);
+		byte[] a = cryptoUtil.encryptToBytes("documents/a.pdf");
+		byte[] b = cryptoUtil.encryptToBytes("documents/b.pdf");
+		service.presignGet(a);
+
+		List<String> urls = service.presignGetAll(Arrays.asList(a, null, b, "broken".getBytes()));
+
+		assertThat(urls).hasSize(4);
+		assertThat(urls.get(0)).contains("a.pdf");
+		assertThat(urls.get(1)).isNull();
+		assertThat(urls.get(2)).contains("b.pdf");
+		assertThat(urls.get(3)).isNull();
+		verify(cryptoUtil).decryptAll(argThat(list -> list.size() == 2));
+		verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+	}
+
+	@Test
+	@DisplayName("최소 잔여 시간이 유효 시간 이상이면 캐시하지 않는다")
+	void presignGet_noReuseWindowAlwaysSigns() {
+		PresignedUrlService service = service(1, 60);
+		byte[] enc = cryptoUtil.encryptToBytes("documents/a.pdf");
+
+		service.presignGet(enc);
+		service.presignGet(enc);
+
+		verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+		assertThat(service.getStats().entries()).isZero();
+	}
+
+	private PresignedUrlService service(int ttlMinutes, int minRemainingSeconds) {
+		return new PresignedUrlService(s3Presigner, cryptoUtil, meterRegistry, "bucket", ttlMinutes, minRemainingSeconds, 100);
+	}
+}
@@ -0,0 +1,103 @@
+package com.solsol.heycalendar.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solsol.heycalendar.config.WebSocketBrokerProperties;
+import com.solsol.heycalendar.domain.WebSocketBusMessage;
+import com.solsol.heycalendar.mapper.WebSocketBusMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RealtimeMessenger 브로커 모드 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RealtimeMessengerTest {
+
+	@Mock SimpMessagingTemplate messagingTemplate;
+	@Mock SimpUserRegistry userRegistry;
+	@Mock WebSocketBusMapper busMapper;
+
+	WebSocketBrokerProperties properties;
+	SimpleMeterRegistry meterRegistry;
+	RealtimeMessenger messenger;
+
+	@BeforeEach
+	void setUp() {
+		properties = new WebSocketBrokerProperties();
+		meterRegistry = new SimpleMeterRegistry();
+		messenger = new RealtimeMessenger(messagingTemplate, userRegistry, busMapper, new ObjectMapper(), properties,
+			meterRegistry);
+	}
+
+	@Test
+	@DisplayName("메모리/중계 모드는 사용자 메시지를 convertAndSendToUser 로 바로 보내고 버스를 쓰지 않는다")
+	void simpleMode_sendsToUserDestination() {
+		messenger.sendToUser("s1", NotificationService.USER_QUEUE, Map.of("id", 1));
+		messenger.pollBus();
+
+		verify(messagingTemplate).convertAndSendToUser("s1", NotificationService.USER_QUEUE, Map.of("id", 1));
+		verifyNoInteractions(busMapper);
+		assertThat(meterRegistry.get("websocket.send").tag("kind", "user").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("db-bus 모드는 버스에 발행하고, 시작 위치 이후 메시지만 id 순으로 자기 세션에 전달한다")
+	void busMode_publishesAndDeliversAfterStartPosition() {
+		properties.setMode(WebSocketBrokerProperties.Mode.DB_BUS);
+		when(busMapper.findMaxId()).thenReturn(10L);
+		when(busMapper.findAfterOrRecent(10L, 10L, 10, 500)).thenReturn(List.of(
+			WebSocketBusMessage.builder().id(11L).destination("/topic/new-scholarships").payload("{\"id\":7}").build(),
+			WebSocketBusMessage.builder().id(12L).destination(NotificationService.USER_QUEUE).userNm("s1").payload("{\"id\":8}").build()));
+
+		messenger.sendToUser("s1", NotificationService.USER_QUEUE, Map.of("id", 8));
+		messenger.pollBus();
+		messenger.pollBus();
+
+		ArgumentCaptor<WebSocketBusMessage> published = ArgumentCaptor.forClass(WebSocketBusMessage.class);
+		verify(busMapper).insert(published.capture());
+		assertThat(published.getValue().getUserNm()).isEqualTo("s1");
+		assertThat(published.getValue().getPayload()).isEqualTo("{\"id\":8}");
+		verify(messagingTemplate).convertAndSend(eq("/topic/new-scholarships"), any(JsonNode.class));
+		verify(messagingTemplate).convertAndSendToUser(eq("s1"), eq(NotificationService.USER_QUEUE), any(JsonNode.class));
+		assertThat(messenger.getStats().lastBusId()).isEqualTo(12L);
+	}
+
+	@Test
+	@DisplayName("커서보다 작은 id 가 늦게 커밋되어도 시간 창 재조회로 한 번만 전달한다")
+	void busMode_deliversLateCommittedLowerIdOnce() {
+		properties.setMode(WebSocketBrokerProperties.Mode.DB_BUS);
+		WebSocketBusMessage m11 = WebSocketBusMessage.builder().id(11L).destination("/topic/a").payload("{\"id\":11}").build();
+		WebSocketBusMessage m12 = WebSocketBusMessage.builder().id(12L).destination("/topic/a").payload("{\"id\":12}").build();
+		WebSocketBusMessage m13 = WebSocketBusMessage.builder().id(13L).destination("/topic/a").payload("{\"id\":13}").build();
+		when(busMapper.findMaxId()).thenReturn(10L);
+		// 첫 폴링: 11 은 아직 커밋 전이라 12, 13 만 보인다
+		when(busMapper.findAfterOrRecent(10L, 10L, 10, 500)).thenReturn(List.of(m12, m13));
+		// 두 번째 폴링: 11 이 커밋되어 시간 창 안에서 함께 읽힌다
+		when(busMapper.findAfterOrRecent(10L, 13L, 10, 500)).thenReturn(List.of(m11, m12, m13));
+
+		messenger.pollBus();
+		messenger.pollBus();
+		messenger.pollBus();
+
+		ArgumentCaptor<JsonNode> payloads = ArgumentCaptor.forClass(JsonNode.class);
+		verify(messagingTemplate, times(3)).convertAndSend(eq("/topic/a"), payloads.capture());
+		assertThat(payloads.getAllValues()).extracting(node -> node.get("id").asInt()).containsExactly(12, 13, 11);
+		assertThat(messenger.getStats().lastBusId()).isEqualTo(13L);
+	}
+}
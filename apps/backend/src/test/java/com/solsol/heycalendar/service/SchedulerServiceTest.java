@@ -0,0 +1,41 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Scholarship;
+import com.solsol.heycalendar.mapper.ScholarshipMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SchedulerService 누락 공지 보완 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SchedulerServiceTest {
+
+	@Mock ScholarshipMapper scholarshipMapper;
+	@Mock BroadcastNotificationService broadcastNotificationService;
+
+	@InjectMocks SchedulerService schedulerService;
+
+	@Test
+	@DisplayName("어제 등록된 장학금마다 공지 한 건만 보장하고 사용자 수만큼 쓰지 않는다")
+	void checkMissed_publishesOneBroadcastPerScholarship() {
+		when(scholarshipMapper.findScholarshipsCreatedBetween(anyString(), anyString())).thenReturn(List.of(
+			Scholarship.builder().id(7L).scholarshipName("성적우수").amount(500).build(),
+			Scholarship.builder().id(8L).scholarshipName("봉사").amount(300).build()));
+		when(broadcastNotificationService.publishNewScholarship(7L, "성적우수", 500)).thenReturn(false);
+		when(broadcastNotificationService.publishNewScholarship(8L, "봉사", 300)).thenReturn(true);
+
+		schedulerService.checkMissedNewScholarshipNotifications();
+
+		verify(broadcastNotificationService, times(2)).publishNewScholarship(anyLong(), anyString(), anyInt());
+	}
+}
@@ -0,0 +1,109 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.RecruitmentStatus;
+import com.solsol.heycalendar.domain.Scholarship;
+import com.solsol.heycalendar.mapper.CacheVersionMapper;
+import com.solsol.heycalendar.mapper.EligibilityMapper;
+import com.solsol.heycalendar.mapper.ScholarshipMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ScholarshipCatalogCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ScholarshipCatalogCacheTest {
+
+	@Mock ScholarshipMapper scholarshipMapper;
+	@Mock CacheVersionMapper cacheVersionMapper;
+	@Mock EligibilityMapper eligibilityMapper;
+
+	ScholarshipCatalogCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new ScholarshipCatalogCache(scholarshipMapper, cacheVersionMapper, eligibilityMapper);
+	}
+
+	@Test
+	@DisplayName("첫 조회만 DB 에서 로드하고 이후는 스냅샷에서 응답하며, 무효화 후 다시 로드")
+	void get_readsThroughAndInvalidates() {
+		LocalDate today = LocalDate.now();
+		when(cacheVersionMapper.findVersion(ScholarshipCatalogCache.CACHE_NAME)).thenReturn(3L);
+		when(scholarshipMapper.findAllForCatalog()).thenReturn(List.of(
+			scholarship(1L, today.plusDays(5)),
+			scholarship(2L, today.minusDays(1)),
+			scholarship(3L, null)
+		));
+
+		ScholarshipCatalogCache.Snapshot first = cache.get();
+		ScholarshipCatalogCache.Snapshot second = cache.get();
+
+		assertThat(second).isSameAs(first);
+		assertThat(first.version()).isEqualTo(3L);
+		assertThat(first.summaries()).extracting("id").containsExactly(1L, 2L, 3L);
+		// 마감일 오름차순(NULL 먼저) 정렬, 마감 지난 장학금은 CLOSED 로 요약
+		assertThat(first.byEndDate()).extracting(e -> e.scholarship().getId()).containsExactly(3L, 2L, 1L);
+		assertThat(first.summaries().get(1).getRecruitmentStatus()).isEqualTo(RecruitmentStatus.CLOSED);
+
+		cache.invalidate();
+		cache.get();
+
+		verify(cacheVersionMapper).bump(ScholarshipCatalogCache.CACHE_NAME);
+		verify(scholarshipMapper, times(2)).findAllForCatalog();
+		ScholarshipCatalogCache.CacheStats stats = cache.getStats();
+		assertThat(stats.hits()).isEqualTo(1);
+		assertThat(stats.misses()).isEqualTo(2);
+		assertThat(stats.invalidations()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 버전을 올리면 폴링 시 로컬 스냅샷 폐기")
+	void pollVersion_evictsOnRemoteChange() {
+		when(cacheVersionMapper.findVersion(ScholarshipCatalogCache.CACHE_NAME)).thenReturn(1L, 1L, 2L);
+		when(scholarshipMapper.findAllForCatalog()).thenReturn(List.of(scholarship(1L, LocalDate.now())));
+
+		cache.get();
+		cache.pollVersion();
+		assertThat(cache.getStats().size()).isEqualTo(1);
+
+		cache.pollVersion();
+		assertThat(cache.getStats().size()).isZero();
+	}
+
+	@Test
+	@DisplayName("권장 크기를 넘는 카탈로그도 스냅샷으로 보관해 요청마다 다시 로드하지 않는다")
+	void get_keepsSnapshotAboveWarnSize() {
+		LocalDate today = LocalDate.now();
+		when(cacheVersionMapper.findVersion(ScholarshipCatalogCache.CACHE_NAME)).thenReturn(1L);
+		when(scholarshipMapper.findAllForCatalog()).thenReturn(LongStream.rangeClosed(1, ScholarshipCatalogCache.WARN_ENTRIES + 1)
+			.mapToObj(id -> scholarship(id, today))
+			.toList());
+
+		ScholarshipCatalogCache.Snapshot first = cache.get();
+
+		assertThat(cache.get()).isSameAs(first);
+		verify(scholarshipMapper).findAllForCatalog();
+		assertThat(cache.getStats().size()).isEqualTo(ScholarshipCatalogCache.WARN_ENTRIES + 1);
+	}
+
+	private Scholarship scholarship(Long id, LocalDate endDate) {
+		return Scholarship.builder()
+			.id(id)
+			.scholarshipName("장학금" + id)
+			.recruitmentEndDate(endDate)
+			.recruitmentStatus(RecruitmentStatus.OPEN)
+			.build();
+	}
+}
@@ -0,0 +1,106 @@
+package com.solsol.heycalendar.service;
+
+import com.solsol.heycalendar.domain.Eligibility;
+import com.solsol.heycalendar.domain.EligibilityField;
+import com.solsol.heycalendar.domain.EligibilityOperator;
+import com.solsol.heycalendar.domain.RecruitmentStatus;
+import com.solsol.heycalendar.domain.Scholarship;
+import com.solsol.heycalendar.domain.ScholarshipType;
+import com.solsol.heycalendar.domain.State;
+import com.solsol.heycalendar.dto.response.UserEligibilityProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ScholarshipEligibilityIndex 단위 테스트
+ */
+class ScholarshipEligibilityIndexTest {
+
+	static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+	@Test
+	@DisplayName("학년 제한 문구를 비트마스크로 해석")
+	void parseGradeRestriction() {
+		assertThat(grades("전체")).containsExactly(0, 1, 2, 3, 4, 5, 6);
+		assertThat(grades("2학년 이상")).containsExactly(2, 3, 4, 5, 6);
+		assertThat(grades("4학년만")).containsExactly(4);
+		assertThat(grades("2~3학년")).containsExactly(2, 3);
+		assertThat(grades("1, 2학년")).containsExactly(1, 2);
+	}
+
+	@Test
+	@DisplayName("학년/평점/학적/전공 제한과 eligibility 행을 모두 만족하는 장학금만 선택")
+	void match_appliesAllRestrictions() {
+		List<Scholarship> catalog = List.of(
+			scholarship(1L, "전체", null, null, ScholarshipType.ACADEMIC),
+			scholarship(2L, "3학년 이상", null, new BigDecimal("3.50"), ScholarshipType.ACADEMIC),
+			scholarship(3L, null, "컴퓨터공학과, 소프트웨어학과", null, ScholarshipType.FINANCIAL_AID),
+			scholarship(4L, null, "공과대학", null, ScholarshipType.ACTIVITY),
+			scholarship(5L, null, null, null, ScholarshipType.OTHER)
+		);
+		Map<Long, List<Eligibility>> rules = Map.of(5L, List.of(
+			eligibility(5L, EligibilityField.STATE, EligibilityOperator.EQUAL, "ENROLLED"),
+			eligibility(5L, EligibilityField.GPA, EligibilityOperator.GREATER_THAN, "3.0")
+		));
+		ScholarshipEligibilityIndex index = ScholarshipEligibilityIndex.compile(catalog, rules, TODAY);
+
+		UserEligibilityProfile user = profile(3, "3.50", State.ENROLLED, "소프트웨어학과", "공과대학");
+		assertThat(ids(index.match(null, null, user), catalog)).containsExactly(1L, 2L, 3L, 4L, 5L);
+
+		// 평점 경계값 3.0 은 '>' 조건을 통과하지 못함
+		UserEligibilityProfile lowGpa = profile(2, "3.00", State.LEAVE_OF_ABSENCE, "경영학과", "경영대학");
+		assertThat(ids(index.match(null, null, lowGpa), catalog)).containsExactly(1L);
+
+		// 상태/카테고리 필터와 함께
+		assertThat(ids(index.match("OPEN", "생활지원", user), catalog)).containsExactly(3L);
+		assertThat(ids(index.match(null, "없는카테고리", user), catalog)).isEmpty();
+	}
+
+	private List<Integer> grades(String restriction) {
+		int mask = ScholarshipEligibilityIndex.Rule.parseGradeRestriction(restriction);
+		return BitSet.valueOf(new long[] {mask}).stream().boxed().toList();
+	}
+
+	private List<Long> ids(BitSet bits, List<Scholarship> catalog) {
+		return bits.stream().mapToObj(i -> catalog.get(i).getId()).toList();
+	}
+
+	private Scholarship scholarship(Long id, String grade, String major, BigDecimal minGpa, ScholarshipType type) {
+		return Scholarship.builder()
+			.id(id)
+			.type(type)
+			.gradeRestriction(grade)
+			.majorRestriction(major)
+			.minGpa(minGpa)
+			.recruitmentEndDate(TODAY.plusDays(id))
+			.recruitmentStatus(RecruitmentStatus.OPEN)
+			.build();
+	}
+
+	private Eligibility eligibility(Long scholarshipId, EligibilityField field, EligibilityOperator operator, String value) {
+		return Eligibility.builder()
+			.scholarshipNm(scholarshipId)
+			.field(field)
+			.operator(operator)
+			.value(value)
+			.build();
+	}
+
+	private UserEligibilityProfile profile(int grade, String gpa, State state, String department, String college) {
+		return UserEligibilityProfile.builder()
+			.grade(grade)
+			.gpa(new BigDecimal(gpa))
+			.state(state)
+			.departmentName(department)
+			.collegeName(college)
+			.build();
+	}
+}
@@ -0,0 +1,134 @@
+package com.solsol.heycalendar.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.solsol.heycalendar.config.ShinhanClientProperties;
+import com.solsol.heycalendar.exception.BankCallRejectedException;
+import com.solsol.heycalendar.service.ShinhanBankClient.BankApi;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ShinhanBankClient 단위 테스트 (로컬 스텁 서버 대상)
+ */
+class ShinhanBankClientTest {
+
+	HttpServer server;
+	CountDownLatch release = new CountDownLatch(1);
+	ShinhanClientProperties props;
+	ShinhanBankClient client;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		respond(BankApi.BALANCE.getPath(), "{\"REC\":{\"accountBalance\":\"1000\"}}");
+		// 응답 타임아웃 확인용 - release 전까지 응답하지 않음
+		server.createContext(BankApi.DEPOSIT.getPath(), exchange -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException ignored) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		server.start();
+
+		props = new ShinhanClientProperties();
+		props.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+		props.setReadTimeoutMs(2000);
+		props.setReadTimeouts(Map.of(BankApi.DEPOSIT.getApiName(), 200));
+		props.setMaxConcurrentCalls(1);
+		props.setBulkheadWaitMs(50);
+		client = new ShinhanBankClient(props, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		release.countDown();
+		client.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	@DisplayName("같은 커넥션 풀로 호출하고 API 별 통계를 남긴다")
+	void post_usesPoolAndRecordsStats() {
+		for (int i = 0; i < 3; i++) {
+			Map<?, ?> body = client.post(BankApi.BALANCE, jsonEntity(), Map.class).getBody();
+			assertThat(body.containsKey("REC")).isTrue();
+		}
+
+		ShinhanBankClient.Stats stats = client.getStats();
+		assertThat(stats.pool().leased()).isZero();
+		assertThat(stats.pool().available()).isEqualTo(1);
+		assertThat(stats.apis()).filteredOn(a -> a.apiName().equals(BankApi.BALANCE.getApiName()))
+			.singleElement()
+			.satisfies(a -> {
+				assertThat(a.calls()).isEqualTo(3);
+				assertThat(a.failures()).isZero();
+			});
+	}
+
+	@Test
+	@DisplayName("API 별 응답 타임아웃을 넘기면 실패하고, 진행 중인 호출이 한도를 채우면 다른 호출은 바로 거절")
+	void post_timesOutAndRejectsOverBulkhead() throws Exception {
+		assertThatThrownBy(() -> client.post(BankApi.DEPOSIT, jsonEntity(), Map.class))
+			.isInstanceOf(ResourceAccessException.class);
+
+		Thread slow = new Thread(() -> {
+			try {
+				client.post(BankApi.DEPOSIT, jsonEntity(), Map.class);
+			} catch (RuntimeException ignored) {
+			}
+		});
+		slow.start();
+		// 느린 호출이 자리를 잡을 때까지 대기
+		long deadline = System.currentTimeMillis() + 1000;
+		while (client.getStats().pool().inFlight() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+
+		assertThatThrownBy(() -> client.post(BankApi.BALANCE, jsonEntity(), Map.class))
+			.isInstanceOf(BankCallRejectedException.class);
+		slow.join();
+
+		Map<String, ShinhanBankClient.ApiStats> byName = new HashMap<>();
+		client.getStats().apis().forEach(a -> byName.put(a.apiName(), a));
+		assertThat(byName.get(BankApi.DEPOSIT.getApiName()).timeouts()).isEqualTo(2);
+		assertThat(byName.get(BankApi.BALANCE.getApiName()).rejected()).isEqualTo(1);
+		assertThat(byName.get(BankApi.BALANCE.getApiName()).calls()).isZero();
+	}
+
+	private void respond(String path, String json) {
+		server.createContext(path, exchange -> {
+			byte[] body = json.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+	}
+
+	private HttpEntity<Map<String, String>> jsonEntity() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		return new HttpEntity<>(Map.of("accountNo", "0011"), headers);
+	}
+}
@@ -0,0 +1,58 @@
+package com.solsol.heycalendar.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CryptoUtil 단위 테스트
+ */
+class CryptoUtilTest {
+
+	CryptoUtil cryptoUtil;
+
+	@BeforeEach
+	void setUp() {
+		byte[] key = new byte[32];
+		Arrays.fill(key, (byte) 7);
+		cryptoUtil = new CryptoUtil(Base64.getEncoder().encodeToString(key), new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("바이트 API 와 문자열 API 는 같은 저장 형식을 쓴다 (기존 VARBINARY 값 호환)")
+	void bytesAndStringFormatsAreCompatible() {
+		String plain = "documents/20250001/7/성적증명서.pdf";
+
+		byte[] stored = cryptoUtil.encryptToBytes(plain);
+		String legacy = cryptoUtil.encrypt(plain);
+
+		assertThat(cryptoUtil.decrypt(new String(stored, StandardCharsets.US_ASCII))).isEqualTo(plain);
+		assertThat(cryptoUtil.decryptBytes(legacy.getBytes())).isEqualTo(plain);
+		// IV 가 매번 달라 같은 평문이어도 암호문이 다르다
+		assertThat(cryptoUtil.encryptToBytes(plain)).isNotEqualTo(stored);
+	}
+
+	@Test
+	@DisplayName("일괄 복호화는 순서를 유지하고 null/손상된 항목은 null 로 둔다")
+	void decryptAll_keepsOrderAndSkipsBroken() {
+		byte[] broken = cryptoUtil.encryptToBytes("c");
+		// 마지막 문자는 패딩 비트만 바뀔 수 있으므로 가운데 문자를 바꾼다
+		int mid = broken.length / 2;
+		broken[mid] = (byte) (broken[mid] == 'A' ? 'B' : 'A');
+
+		List<String> result = cryptoUtil.decryptAll(Arrays.asList(
+			cryptoUtil.encryptToBytes("a"), null, broken, cryptoUtil.encryptToBytes("d")));
+
+		assertThat(result).containsExactly("a", null, null, "d");
+		// 실패 후에도 같은 스레드에서 계속 사용할 수 있다
+		assertThat(cryptoUtil.decryptBytes(cryptoUtil.encryptToBytes("e"))).isEqualTo("e");
+	}
+}
@@ -328,10 +328,20 @@ export default function DocumentApproval(){
     }
   }
 
+  // 목록 응답에는 URL 이 없으므로 열 때 presigned URL 을 발급받는다
+  const resolveFileUrl = async (doc) => {
+    if (doc.fileUrl) return doc.fileUrl
+    if (!doc.userNm || !doc.scholarshipNm || !doc.applicationDocumentNm) return null
+
+    const response = await api.get(`/applications/admin/documents/download-url?userNm=${doc.userNm}&scholarshipNm=${doc.scholarshipNm}&documentNm=${doc.applicationDocumentNm}`)
+    return response.success ? response.data : null
+  }
+
   const handleViewFile = async (doc) => {
     try {
-      if (doc.fileUrl) {
-        window.open(doc.fileUrl, '_blank')
+      const fileUrl = await resolveFileUrl(doc)
+      if (fileUrl) {
+        window.open(fileUrl, '_blank')
       } else {
         alert('파일을 불러올 수 없습니다.')
       }
@@ -343,9 +353,10 @@ export default function DocumentApproval(){
 
   const handleDownloadFile = async (doc) => {
     try {
-      if (doc.fileUrl) {
+      const fileUrl = await resolveFileUrl(doc)
+      if (fileUrl) {
         const link = document.createElement('a')
-        link.href = doc.fileUrl
+        link.href = fileUrl
         link.download = doc.originalFileName || `document_${doc.applicationDocumentNm}`
         link.target = '_blank'
         document.body.appendChild(link)
@@ -139,13 +139,13 @@ export default function NotificationsPage() {
       console.log(`🗑️ Auto-deleting notification: ${id}`);
       
       // 백엔드에서 알림 삭제
-      await notificationApi.deleteNotification(id);
+      await notificationApi.deleteNotification(id, notification.broadcast);
       
       // WebSocket 컨텍스트에서도 삭제
       deleteRealtimeNotification(id);
       
       // 로컬 상태에서 제거
-      setNotifications(prev => prev.filter(n => n.id !== id));
+      setNotifications(prev => prev.filter(n => n !== notification));
       
       console.log(`✅ Auto-deleted notification after reading: ${id}`);
     } catch (error) {
@@ -157,16 +157,17 @@ export default function NotificationsPage() {
   const handleSwipeDelete = async (notificationId: string) => {
     try {
       const id = parseInt(notificationId);
+      const notification = notifications.find(n => n.id === id);
       console.log(`🗑️ Swiping to delete notification: ${id}`);
       
       // 백엔드에서 알림 삭제
-      await notificationApi.deleteNotification(id);
+      await notificationApi.deleteNotification(id, notification?.broadcast);
       
       // WebSocket 컨텍스트에서도 삭제
       deleteRealtimeNotification(id);
       
       // 로컬 상태에서 제거
-      setNotifications(prev => prev.filter(n => n.id !== id));
+      setNotifications(prev => prev.filter(n => notification ? n !== notification : n.id !== id));
       
       console.log(`✅ Swipe deleted notification: ${id}`);
     } catch (error) {
@@ -185,13 +186,13 @@ export default function NotificationsPage() {
         // 먼저 읽지 않은 알림이면 읽음 처리 (unreadCount 감소)
         const notification = notifications.find(n => n.id === id);
         if (notification && !notification.isRead) {
-          await notificationApi.markAsRead(id);
+          await notificationApi.markAsRead(id, notification.broadcast);
           markRealtimeAsRead(id);
           console.log(`✅ Marked notification ${id} as read before deletion`);
         }
         
         // 백엔드에서 알림 삭제
-        await notificationApi.deleteNotification(id);
+        await notificationApi.deleteNotification(id, notification?.broadcast);
         console.log(`✅ Backend deleteNotification successful for: ${id}`);
         
         // WebSocket 컨텍스트에서도 삭제 처리
@@ -200,7 +201,7 @@ export default function NotificationsPage() {
         
         // 로컬 상태에서 제거
         setNotifications(prev => {
-          const updated = prev.filter(notification => notification.id !== id);
+          const updated = prev.filter(n => notification ? n !== notification : n.id !== id);
           console.log(`📝 Local state updated - removed notification ${id}, remaining: ${updated.length}`);
           return updated;
         });
@@ -236,7 +237,7 @@ export default function NotificationsPage() {
       
       for (const notification of apiUnreadNotifications) {
         try {
-          await notificationApi.markAsRead(notification.id);
+          await notificationApi.markAsRead(notification.id, notification.broadcast);
           console.log(`✅ API: Marked notification ${notification.id} as read`);
         } catch (error) {
           console.warn(`⚠️ Failed to mark API notification ${notification.id} as read:`, error);
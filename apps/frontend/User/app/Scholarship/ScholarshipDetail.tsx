@@ -45,7 +45,7 @@ export default function ScholarshipDetail() {
       // 각각의 알림을 읽음 처리
       for (const notification of unreadRelatedNotifications) {
         try {
-          await notificationApi.markAsRead(notification.id);
+          await notificationApi.markAsRead(notification.id, notification.broadcast);
           markAsRead(notification.id);
           console.log(`✅ Marked notification ${notification.id} as read`);
         } catch (error) {
@@ -11,6 +11,7 @@ export interface Notification {
   actionRoute?: string;
   createdAt: string;
   updatedAt?: string;
+  broadcast?: boolean; // 전체 공지 (id 는 broadcast_notification 기준이라 개인 알림 id 와 겹칠 수 있음)
 }
 
 export enum NotificationType {
@@ -70,8 +71,12 @@ export const notificationApi = {
     return response.data.data;
   },
 
-  // 알림 읽음 처리
-  async markAsRead(notificationId: number): Promise<void> {
+  // 알림 읽음 처리 (공지는 공지 전용 경로)
+  async markAsRead(notificationId: number, broadcast = false): Promise<void> {
+    if (broadcast) {
+      await apiClient.put(`/notifications/broadcasts/${notificationId}/read`);
+      return;
+    }
     await apiClient.put(`/notifications/${notificationId}/read`);
   },
 
@@ -80,8 +85,12 @@ export const notificationApi = {
     await apiClient.put('/notifications/read-all');
   },
 
-  // 알림 삭제
-  async deleteNotification(notificationId: number): Promise<void> {
+  // 알림 삭제 (공지는 사용자 목록에서 숨김)
+  async deleteNotification(notificationId: number, broadcast = false): Promise<void> {
+    if (broadcast) {
+      await apiClient.delete(`/notifications/broadcasts/${notificationId}`);
+      return;
+    }
     await apiClient.delete(`/notifications/${notificationId}`);
   }
 };
\ No newline at end of file
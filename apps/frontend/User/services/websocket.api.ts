@@ -1,4 +1,4 @@
-import { getAuthToken } from '../utils/tokenManager';
+import tokenManager from '../utils/tokenManager';
 import { BASE_URL } from './api';
 import { Platform } from 'react-native';
 
@@ -72,12 +72,15 @@ class WebSocketService {
     }
   }
 
-  private sendStompConnect(): void {
+  private async sendStompConnect(): Promise<void> {
+    // 서버는 CONNECT 의 토큰으로 세션 사용자를 정해 /user/queue/... 로 개인 알림을 보낸다
+    const token = await tokenManager.getAccessToken();
     if (this.ws && this.ws.readyState === WebSocket.OPEN) {
       const connectFrame = [
         'CONNECT',
         'accept-version:1.0,1.1,2.0',
         'heart-beat:10000,10000',
+        ...(token ? [`Authorization:Bearer ${token}`] : []),
         '',
         '\x00'
       ].join('\n');
@@ -159,7 +162,7 @@ class WebSocketService {
 
   private subscribeToUserNotifications(): void {
     if (this.ws && this.ws.readyState === WebSocket.OPEN && this.userNm) {
-      const destination = `/queue/notifications/${this.userNm}`;
+      const destination = '/user/queue/notifications';
       const subscribeFrame = [
         'SUBSCRIBE',
         `destination:${destination}`,
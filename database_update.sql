@@ -35,4 +35,325 @@ UNIQUE (userNm, scholarshipNm);
 -- 외래키 제약조건 추가 (선택사항 - 데이터 무결성 강화)
 -- ALTER TABLE mileage 
 -- ADD CONSTRAINT fk_mileage_scholarship 
--- FOREIGN KEY (scholarshipNm) REFERENCES scholarship(id);
\ No newline at end of file
+-- FOREIGN KEY (scholarshipNm) REFERENCES scholarship(id);
+-- =====================================================
+-- 알림 테이블 수정: 일괄 생성 시 중복 방지 키
+-- =====================================================
+
+-- 같은 사용자에게 같은 알림이 두 번 생성되지 않도록 dedup_key 추가
+-- (예: 'NEW_SCHOLARSHIP:12'. NULL 이면 중복 체크 대상이 아님)
+ALTER TABLE notification
+ADD COLUMN dedup_key VARCHAR(100) NULL COMMENT '중복 방지 키' AFTER action_route;
+
+-- 기존 새 장학금 알림에 키 채우기 (중복 행이 있으면 가장 오래된 것만 키를 가짐)
+UPDATE notification n
+JOIN (
+    SELECT MIN(id) AS id
+    FROM notification
+    WHERE type = 'NEW_SCHOLARSHIP' AND related_id IS NOT NULL
+    GROUP BY user_nm, related_id
+) first_row ON n.id = first_row.id
+SET n.dedup_key = CONCAT('NEW_SCHOLARSHIP:', n.related_id);
+
+ALTER TABLE notification
+ADD CONSTRAINT uk_notification_dedup
+UNIQUE (user_nm, dedup_key);
+
+-- =====================================================
+-- 알림 아웃박스: 커밋 이후 WebSocket 전송
+-- =====================================================
+
+-- 알림과 같은 트랜잭션에서 저장하고 디스패처가 커밋 후 전송/재시도
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id              BIGINT UNSIGNED AUTO_INCREMENT            NOT NULL PRIMARY KEY,
+    destination     VARCHAR(255)                              NOT NULL COMMENT 'STOMP 목적지',
+    payload         TEXT                                      NOT NULL COMMENT 'JSON 메시지',
+    status          ENUM('PENDING', 'SENT', 'FAILED')         NOT NULL DEFAULT 'PENDING',
+    attempts        INT                                       NOT NULL DEFAULT 0 COMMENT '전송 시도 횟수',
+    next_attempt_at DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL COMMENT '다음 전송 시각',
+    last_error      VARCHAR(500)                              NULL,
+    created_at      DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL,
+    sent_at         DATETIME(3)                               NULL,
+    INDEX idx_outbox_status_next (status, next_attempt_at)
+) CHARSET = utf8mb4;
+
+-- 기존 마감임박 알림에 일자별 중복 방지 키 채우기 ('DEADLINE_REMINDER:{장학금ID}:{yyyy-MM-dd}')
+UPDATE notification n
+JOIN (
+    SELECT MIN(id) AS id
+    FROM notification
+    WHERE type = 'DEADLINE_REMINDER' AND related_id IS NOT NULL AND dedup_key IS NULL
+    GROUP BY user_nm, related_id, DATE(created_at)
+) first_row ON n.id = first_row.id
+SET n.dedup_key = CONCAT('DEADLINE_REMINDER:', n.related_id, ':', DATE(n.created_at));
+
+-- =====================================================
+-- 스케줄러 클러스터 단일 실행: 리스 + 작업 레지스트리
+-- =====================================================
+
+-- 레플리카가 여러 대여도 리스를 얻은 인스턴스만 작업 실행
+CREATE TABLE IF NOT EXISTS scheduled_job (
+    job_name         VARCHAR(100) NOT NULL PRIMARY KEY,
+    owner            VARCHAR(100) NULL COMMENT '리스 보유 인스턴스',
+    lease_until      DATETIME(3)  NULL COMMENT '리스 만료 시각 (DB 시간 기준)',
+    last_started_at  DATETIME(3)  NULL,
+    last_finished_at DATETIME(3)  NULL,
+    last_status      VARCHAR(20)  NULL COMMENT 'RUNNING, SUCCESS, FAILED',
+    last_error       VARCHAR(500) NULL,
+    last_duration_ms BIGINT       NULL
+) CHARSET = utf8mb4;
+
+-- =====================================================
+-- 장학금 목록 캐시 버전 (인스턴스 간 무효화)
+-- =====================================================
+
+-- 장학금/기준/태그/공지 변경 시 버전을 올리고, 각 인스턴스는 주기적으로 확인해 로컬 스냅샷을 버림
+CREATE TABLE IF NOT EXISTS cache_version (
+    cache_name VARCHAR(50) NOT NULL PRIMARY KEY,
+    version    BIGINT      NOT NULL DEFAULT 0,
+    updated_at DATETIME(3) NOT NULL
+) CHARSET = utf8mb4;
+
+-- =====================================================
+-- 관리자 신청 목록 keyset 페이지 인덱스
+-- =====================================================
+
+-- 신청일시 내림차순 커서 페이지
+CREATE INDEX idx_application_applied ON application (applied_at, userNm, scholarshipNm);
+
+-- 페이지 신청별 제출서류 조인 (static/schema.sql 로 만든 DB 에는 이미 있음)
+-- CREATE INDEX idx_ad_app ON applicationdocument (userNm, scholarshipNm);
+
+-- =====================================================
+-- 회원가입 후 신한은행 회원/계좌 생성 작업 큐
+-- =====================================================
+
+-- 단계별 결과(user_key, account_no)를 저장해 재시도 시 끝난 단계는 다시 호출하지 않음
+CREATE TABLE IF NOT EXISTS bank_provisioning_job (
+    id              BIGINT UNSIGNED AUTO_INCREMENT               NOT NULL PRIMARY KEY,
+    user_nm         VARCHAR(20)                                  NOT NULL,
+    user_id         VARCHAR(100)                                 NOT NULL,
+    status          ENUM('PENDING', 'RUNNING', 'DONE', 'FAILED') NOT NULL DEFAULT 'PENDING',
+    attempts        INT                                          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(3)                                  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    lease_until     DATETIME(3)                                  NULL,
+    user_key        VARCHAR(100)                                 NULL,
+    account_no      VARCHAR(50)                                  NULL,
+    last_error      VARCHAR(500)                                 NULL,
+    created_at      DATETIME(3)                                  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    finished_at     DATETIME(3)                                  NULL,
+    UNIQUE KEY uk_bank_provisioning_user (user_nm),
+    INDEX idx_bank_provisioning_status_next (status, next_attempt_at)
+) CHARSET = utf8mb4;
+
+-- =====================================================
+-- 마일리지 일괄 환전 (입금 진행 상태 / 멱등 키)
+-- =====================================================
+
+-- PROCESSING: 마일리지 차감 후 은행 입금 결과를 기다리는 상태
+ALTER TABLE exchange
+    MODIFY COLUMN state ENUM ('PENDING', 'PROCESSING', 'APPROVED', 'REJECTED') NULL;
+
+-- 입금 요청에 사용한 기관거래고유번호 (결과 불명 시 대사에 사용)
+ALTER TABLE exchange
+    ADD COLUMN bank_txn_no VARCHAR(20) NULL AFTER processed_at;
+
+CREATE INDEX idx_exchange_state_applied ON exchange (state, applied_at);
+
+-- =====================================================
+-- 마일리지 원장 / 사용자별 잔액
+-- =====================================================
+
+-- 마일리지 변동 원장 (추가만 함, 같은 원천 건은 유형별로 한 번만 기록)
+CREATE TABLE IF NOT EXISTS mileage_ledger (
+    id         BIGINT UNSIGNED AUTO_INCREMENT                                                            NOT NULL PRIMARY KEY,
+    user_nm    VARCHAR(20)                                                                               NOT NULL,
+    entry_type ENUM('EARN', 'EXCHANGE_HOLD', 'EXCHANGE_APPROVE', 'EXCHANGE_RELEASE', 'EXCHANGE_PAYOUT') NOT NULL,
+    amount     INT                                                                                       NOT NULL,
+    ref_id     VARCHAR(40)                                                                               NOT NULL,
+    created_at DATETIME(3)                                                                               NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    UNIQUE KEY uk_mileage_ledger_ref (entry_type, ref_id, user_nm),
+    INDEX idx_mileage_ledger_user (user_nm, id)
+) CHARSET = utf8mb4;
+
+-- 사용자별 잔액 (원장 기록과 같은 트랜잭션에서 갱신)
+CREATE TABLE IF NOT EXISTS mileage_balance (
+    user_nm       VARCHAR(20) NOT NULL PRIMARY KEY,
+    total         INT         NOT NULL DEFAULT 0,
+    pending       INT         NOT NULL DEFAULT 0,
+    approved      INT         NOT NULL DEFAULT 0,
+    updated_at    DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+    reconciled_at DATETIME(3) NULL
+) CHARSET = utf8mb4;
+
+-- 사용자별 환전 내역 조회/대사용
+CREATE INDEX idx_exchange_user_applied ON exchange (userNm, applied_at, exchangeNm);
+
+-- 기존 내역으로 잔액 초기화 (행이 없는 사용자는 첫 변동 시 내역에서 다시 계산됨)
+INSERT IGNORE INTO mileage_balance (user_nm, total, pending, approved)
+SELECT u.userNm,
+       COALESCE(m.total, 0),
+       COALESCE(e.pending, 0),
+       COALESCE(e.approved, 0)
+FROM users u
+LEFT JOIN (SELECT userNm, SUM(amount) AS total FROM mileage GROUP BY userNm) m ON m.userNm = u.userNm
+LEFT JOIN (SELECT userNm,
+                  SUM(CASE WHEN state IN ('PENDING', 'PROCESSING') THEN amount ELSE 0 END) AS pending,
+                  SUM(CASE WHEN state = 'APPROVED' THEN amount ELSE 0 END) AS approved
+           FROM exchange GROUP BY userNm) e ON e.userNm = u.userNm;
+
+-- =====================================================
+-- 관리자 대학 마일리지 현황 집계 인덱스
+-- =====================================================
+
+-- 대학별 재학 중인 학생 조회 (환전 대기 합계는 idx_exchange_state_applied 로 대기 건만 읽음)
+CREATE INDEX idx_users_univ_role_state ON users (univNm, role, state);
+
+-- =====================================================
+-- 알림함 keyset 페이지 + 읽지 않은 알림 카운터
+-- =====================================================
+
+-- 사용자별 알림함 (created_at DESC, id DESC) / 읽지 않은 알림만 보기
+CREATE INDEX idx_notification_user_created ON notification (user_nm, created_at, id);
+CREATE INDEX idx_notification_user_read_created ON notification (user_nm, is_read, created_at, id);
+
+-- 위 복합 인덱스와 uk_notification_dedup 이 대신하는 단일 컬럼 인덱스
+DROP INDEX idx_user_nm ON notification;
+DROP INDEX idx_is_read ON notification;
+
+-- 사용자별 읽지 않은 알림 수 (배지 조회는 이 행 하나만 읽음)
+CREATE TABLE IF NOT EXISTS notification_unread_counter (
+    user_nm      VARCHAR(20) NOT NULL PRIMARY KEY,
+    unread_count INT         NOT NULL DEFAULT 0,
+    updated_at   DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3)
+) CHARSET = utf8mb4;
+
+-- 기존 알림으로 카운터 초기화
+INSERT IGNORE INTO notification_unread_counter (user_nm, unread_count)
+SELECT user_nm, COUNT(*)
+FROM notification
+WHERE is_read = FALSE
+GROUP BY user_nm;
+
+-- =====================================================
+-- 알림 보존 기간 정리 / 보관
+-- =====================================================
+
+-- 타입별 보존 정책 대상 조회 (타입 + 읽음 여부 + 생성 시각 범위)
+CREATE INDEX idx_notification_type_read_created ON notification (type, is_read, created_at);
+DROP INDEX idx_type ON notification;
+
+-- 보존 기간이 지난 알림 보관 (압축 행 형식, 조회 경로에서 제외)
+CREATE TABLE IF NOT EXISTS notification_archive (
+    id            BIGINT UNSIGNED                           NOT NULL PRIMARY KEY,
+    user_nm       VARCHAR(20)                               NOT NULL,
+    type          ENUM('SCHOLARSHIP_RESULT', 'DEADLINE_REMINDER', 'NEW_SCHOLARSHIP', 'SCHOLARSHIP', 'SCHEDULE') NOT NULL,
+    title         VARCHAR(255)                              NOT NULL,
+    message       TEXT                                      NOT NULL,
+    related_id    BIGINT UNSIGNED                           NULL,
+    is_read       BOOLEAN                                   NULL,
+    action_route  VARCHAR(255)                              NULL,
+    dedup_key     VARCHAR(100)                              NULL,
+    created_at    DATETIME                                  NOT NULL,
+    updated_at    DATETIME                                  NULL,
+    archived_at   DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL,
+    INDEX idx_notification_archive_user (user_nm, created_at)
+) CHARSET = utf8mb4 ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+
+-- =====================================================
+-- 전체 공지 알림 (fan-out-on-read)
+-- =====================================================
+
+-- 새 장학금 공지는 장학금당 한 행 (사용자별 notification 행을 만들지 않음)
+CREATE TABLE IF NOT EXISTS broadcast_notification (
+    id            BIGINT UNSIGNED AUTO_INCREMENT            NOT NULL PRIMARY KEY,
+    type          ENUM('SCHOLARSHIP_RESULT', 'DEADLINE_REMINDER', 'NEW_SCHOLARSHIP', 'SCHOLARSHIP', 'SCHEDULE') NOT NULL,
+    title         VARCHAR(255)                              NOT NULL,
+    message       TEXT                                      NOT NULL,
+    related_id    BIGINT UNSIGNED                           NULL,
+    action_route  VARCHAR(255)                              NULL,
+    dedup_key     VARCHAR(100)                              NOT NULL,
+    created_at    DATETIME DEFAULT CURRENT_TIMESTAMP        NOT NULL,
+    UNIQUE KEY uk_broadcast_dedup_key (dedup_key),
+    INDEX idx_broadcast_created (created_at, id)
+) CHARSET = utf8mb4;
+
+-- 사용자별 모두 읽음 워터마크
+CREATE TABLE IF NOT EXISTS broadcast_read_watermark (
+    user_nm       VARCHAR(20)     NOT NULL PRIMARY KEY,
+    last_read_id  BIGINT UNSIGNED NOT NULL DEFAULT 0
+) CHARSET = utf8mb4;
+
+-- 워터마크 위 공지의 개별 읽음/숨김
+CREATE TABLE IF NOT EXISTS broadcast_receipt (
+    user_nm       VARCHAR(20)                               NOT NULL,
+    broadcast_id  BIGINT UNSIGNED                           NOT NULL,
+    hidden        BOOLEAN DEFAULT FALSE                     NOT NULL,
+    created_at    DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL,
+    PRIMARY KEY (user_nm, broadcast_id),
+    INDEX idx_broadcast_receipt_broadcast (broadcast_id)
+) CHARSET = utf8mb4;
+
+-- 기존 사용자별 NEW_SCHOLARSHIP 알림은 옮기지 않고 보존 기간 정리 작업으로 자연 소멸시킨다
+
+-- 사용자 구간 샤드 스윕이 없어졌으므로 샤드 테이블 제거
+DROP TABLE IF EXISTS scheduled_job_shard;
+
+-- =====================================================
+-- WebSocket 브로커 모드 / 사용자 목적지
+-- =====================================================
+
+-- 아웃박스 사용자 목적지 (convertAndSendToUser, 클라이언트는 /user/queue/notifications 구독)
+ALTER TABLE notification_outbox ADD COLUMN user_nm VARCHAR(20) NULL AFTER destination;
+
+-- db-bus 모드 인스턴스 간 메시지 버스 (외부 STOMP 브로커 대체용)
+CREATE TABLE IF NOT EXISTS websocket_bus_message (
+    id              BIGINT UNSIGNED AUTO_INCREMENT            NOT NULL PRIMARY KEY,
+    destination     VARCHAR(255)                              NOT NULL,
+    user_nm         VARCHAR(20)                               NULL,
+    payload         TEXT                                      NOT NULL,
+    created_at      DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3)  NOT NULL,
+    INDEX idx_websocket_bus_created (created_at)
+) CHARSET = utf8mb4;
+
+-- =====================================================
+-- 서류 업로드/다운로드 서버 프록시
+-- =====================================================
+
+-- 프록시 다운로드 감사 로그 (CREATE 행에는 서버가 확인한 size_bytes / checksum_sha256 / s3_etag 를 남긴다)
+ALTER TABLE mybox_audit MODIFY COLUMN action ENUM ('CREATE', 'DOWNLOAD_URL_ISSUED', 'DOWNLOAD', 'DELETE') NULL;
+
+-- =====================================================
+-- 서류 내용 기반 중복 제거 (document_blob 참조 집계)
+-- =====================================================
+
+-- MyBox/신청 서류가 공유하는 저장소 객체. 참조 수가 0 이 되면 객체를 지운다.
+-- checksum_sha256 은 서버가 직접 계산한 경우(프록시 업로드)에만 채우며, 같은 사용자의 같은 내용은 업로드 없이 재사용한다.
+CREATE TABLE IF NOT EXISTS document_blob (
+    id              BIGINT AUTO_INCREMENT                  NOT NULL PRIMARY KEY,
+    user_nm         VARCHAR(20)                            NOT NULL,
+    checksum_sha256 CHAR(64)                               NULL,
+    object_key_enc  VARBINARY(512)                         NOT NULL,
+    size_bytes      BIGINT                                 NULL,
+    s3_etag         VARCHAR(80)                            NULL,
+    ref_count       INT DEFAULT 0                          NOT NULL,
+    created_at      DATETIME DEFAULT CURRENT_TIMESTAMP     NOT NULL,
+    updated_at      DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NULL,
+    UNIQUE KEY uk_document_blob_checksum (user_nm, checksum_sha256)
+) CHARSET = utf8mb4;
+
+-- 기존 행은 NULL 로 두고, MyBox 서류를 신청서로 복사할 때 blob 으로 옮긴다
+ALTER TABLE mybox ADD COLUMN blob_id BIGINT NULL AFTER checksum_sha256;
+ALTER TABLE applicationdocument ADD COLUMN blob_id BIGINT NULL AFTER checksum_sha256;
+
+-- =====================================================
+-- 환전 번호 발급 (인스턴스 간 충돌 없는 블록 카운터)
+-- =====================================================
+
+-- 기존 시각 기반 번호보다 큰 값부터 발급한다
+CREATE TABLE IF NOT EXISTS exchange_id_sequence (
+    id               TINYINT NOT NULL PRIMARY KEY,
+    next_exchange_nm BIGINT  NOT NULL
+);
+INSERT IGNORE INTO exchange_id_sequence (id, next_exchange_nm)
+SELECT 1, COALESCE(MAX(exchangeNm), 0) + 1 FROM exchange;